@@ -12,9 +12,16 @@ import org.uma.jmetal.util.solutionattribute.impl.Fitness;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * This class implements the IBEA algorithm
+ *
+ * The indicator values of each pair of solutions are stored in a matrix of doubles, and the
+ * solutions removed from the archive are skipped by means of an array with the rows of the
+ * remaining ones, so the matrix is not modified when removing solutions. The indicator values
+ * and the fitness of the solutions can be computed concurrently, in which case the results are
+ * the same as those of the sequential computation.
  */
 @SuppressWarnings("serial")
 public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
@@ -22,9 +29,17 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
   public static final int TOURNAMENTS_ROUNDS = 1;
 
-  protected List<List<Double>> indicatorValues;
+  /* Indicator values of the pairs of solutions, stored by rows */
+  protected double[] indicatorValues;
+  protected int indicatorMatrixSize;
   protected double maxIndicatorValue;
 
+  /* Rows in the matrix of indicator values of the solutions of the list, and their fitness values */
+  protected int[] indicatorRows;
+  protected double[] fitnessValues;
+
+  private boolean parallelFitnessComputation;
+
   protected int populationSize;
   protected int archiveSize;
   protected int maxEvaluations;
@@ -36,6 +51,7 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   protected SelectionOperator<List<S>, S> selectionOperator;
 
   protected Fitness<S> solutionFitness = new Fitness<S>();
+  protected DominanceComparator<S> dominanceComparator = new DominanceComparator<S>();
 
   /**
    * Constructor
@@ -168,42 +184,73 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
    */
   public void computeIndicatorValuesHD(List<S> solutionSet, double[] maximumValues,
       double[] minimumValues) {
-    List<S> A, B;
+    int size = solutionSet.size();
+
     // Initialize the structures
-    indicatorValues = new ArrayList<List<Double>>();
-    maxIndicatorValue = -Double.MAX_VALUE;
-
-    for (int j = 0; j < solutionSet.size(); j++) {
-      A = new ArrayList<>(1);
-      A.add(solutionSet.get(j));
-
-      List<Double> aux = new ArrayList<Double>();
-      for (S solution : solutionSet) {
-        B = new ArrayList<>(1);
-        B.add(solution);
-
-        int flag = (new DominanceComparator<S>()).compare(A.get(0), B.get(0));
-
-        double value;
-        if (flag == -1) {
-          value =
-              -calculateHypervolumeIndicator(A.get(0), B.get(0), problem.getNumberOfObjectives(),
-                  maximumValues, minimumValues);
-        } else {
-          value = calculateHypervolumeIndicator(B.get(0), A.get(0), problem.getNumberOfObjectives(),
-              maximumValues, minimumValues);
-        }
+    if ((indicatorValues == null) || (indicatorValues.length < size * size)) {
+      indicatorValues = new double[size * size];
+    }
+    indicatorMatrixSize = size;
+    indicatorRows = new int[size];
+    for (int i = 0; i < size; i++) {
+      indicatorRows[i] = i;
+    }
+    fitnessValues = new double[size];
 
-        //Update the max value of the indicator
-        if (Math.abs(value) > maxIndicatorValue) {
-          maxIndicatorValue = Math.abs(value);
-        }
-        aux.add(value);
+    if (parallelFitnessComputation) {
+      maxIndicatorValue = IntStream.range(0, size).parallel()
+          .mapToDouble(j -> computeIndicatorValuesHD(solutionSet, j, maximumValues, minimumValues))
+          .reduce(-Double.MAX_VALUE, Math::max);
+    } else {
+      maxIndicatorValue = -Double.MAX_VALUE;
+      for (int j = 0; j < size; j++) {
+        maxIndicatorValue = Math.max(maxIndicatorValue,
+            computeIndicatorValuesHD(solutionSet, j, maximumValues, minimumValues));
       }
-      indicatorValues.add(aux);
     }
   }
 
+  /**
+   * Computes the row of the matrix of indicator values of a solution
+   *
+   * @return The maximum absolute value of the row
+   */
+  private double computeIndicatorValuesHD(List<S> solutionSet, int row, double[] maximumValues,
+      double[] minimumValues) {
+    S solutionA = solutionSet.get(row);
+    int offset = row * indicatorMatrixSize;
+    double maxValue = -Double.MAX_VALUE;
+
+    for (int i = 0; i < solutionSet.size(); i++) {
+      S solutionB = solutionSet.get(i);
+      int flag = dominanceComparator.compare(solutionA, solutionB);
+
+      double value;
+      if (flag == -1) {
+        value = -calculateHypervolumeIndicator(solutionA, solutionB,
+            problem.getNumberOfObjectives(), maximumValues, minimumValues);
+      } else {
+        value = calculateHypervolumeIndicator(solutionB, solutionA,
+            problem.getNumberOfObjectives(), maximumValues, minimumValues);
+      }
+
+      //Update the max value of the indicator
+      if (Math.abs(value) > maxValue) {
+        maxValue = Math.abs(value);
+      }
+      indicatorValues[offset + i] = value;
+    }
+
+    return maxValue;
+  }
+
+  /**
+   * Indicator value of the solutions at positions i and j of the solution list
+   */
+  protected double getIndicatorValue(int i, int j) {
+    return indicatorValues[indicatorRows[i] * indicatorMatrixSize + indicatorRows[j]];
+  }
+
   /**
    * Calculate the fitness for the individual at position pos
    */
@@ -213,9 +260,10 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
 
     for (int i = 0; i < solutionSet.size(); i++) {
       if (i != pos) {
-        fitness += Math.exp((-1 * indicatorValues.get(i).get(pos) / maxIndicatorValue) / kappa);
+        fitness += Math.exp((-1 * getIndicatorValue(i, pos) / maxIndicatorValue) / kappa);
       }
     }
+    fitnessValues[indicatorRows[pos]] = fitness;
     solutionFitness.setAttribute(solutionSet.get(pos), fitness);
   }
 
@@ -245,8 +293,37 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     }
 
     computeIndicatorValuesHD(solutionSet, maximumValues, minimumValues);
-    for (int pos = 0; pos < solutionSet.size(); pos++) {
-      fitness(solutionSet, pos);
+
+    // The fitness values are accumulated row by row, in the same order as in fitness()
+    int size = solutionSet.size();
+    if (parallelFitnessComputation) {
+      int blocks = Math.min(size, 4 * Runtime.getRuntime().availableProcessors());
+      IntStream.range(0, blocks).parallel().forEach(block ->
+          accumulateFitness((int) ((long) size * block / blocks),
+              (int) ((long) size * (block + 1) / blocks)));
+    } else {
+      accumulateFitness(0, size);
+    }
+
+    for (int pos = 0; pos < size; pos++) {
+      solutionFitness.setAttribute(solutionSet.get(pos), fitnessValues[pos]);
+    }
+  }
+
+  /**
+   * Computes the fitness of the solutions at positions [from, to)
+   */
+  private void accumulateFitness(int from, int to) {
+    double kappa = 0.05;
+    int size = indicatorMatrixSize;
+
+    for (int i = 0; i < size; i++) {
+      int offset = i * size;
+      for (int pos = from; pos < to; pos++) {
+        if (i != pos) {
+          fitnessValues[pos] += Math.exp((-1 * indicatorValues[offset + pos] / maxIndicatorValue) / kappa);
+        }
+      }
     }
   }
 
@@ -256,35 +333,45 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   public void removeWorst(List<S> solutionSet) {
 
     // Find the worst;
-    double worst = (double) solutionFitness.getAttribute(solutionSet.get(0));
+    double worst = fitnessValues[indicatorRows[0]];
     int worstIndex = 0;
     double kappa = 0.05;
 
     for (int i = 1; i < solutionSet.size(); i++) {
-      if ((double) solutionFitness.getAttribute(solutionSet.get(i)) > worst) {
-        worst = (double) solutionFitness.getAttribute(solutionSet.get(i));
+      if (fitnessValues[indicatorRows[i]] > worst) {
+        worst = fitnessValues[indicatorRows[i]];
         worstIndex = i;
       }
     }
 
     // Update the population
+    int offset = indicatorRows[worstIndex] * indicatorMatrixSize;
     for (int i = 0; i < solutionSet.size(); i++) {
       if (i != worstIndex) {
-        double fitness = (double) solutionFitness.getAttribute(solutionSet.get(i));
-        fitness -= Math.exp((-indicatorValues.get(worstIndex).get(i) / maxIndicatorValue) / kappa);
-        solutionFitness.setAttribute(solutionSet.get(i), fitness);
+        int row = indicatorRows[i];
+        fitnessValues[row] -= Math.exp((-indicatorValues[offset + row] / maxIndicatorValue) / kappa);
+        solutionFitness.setAttribute(solutionSet.get(i), fitnessValues[row]);
       }
     }
 
-    // remove worst from the indicatorValues list
-    indicatorValues.remove(worstIndex);
-    for (List<Double> anIndicatorValues_ : indicatorValues) {
-      anIndicatorValues_.remove(worstIndex);
-    }
+    // remove worst from the rows of the indicator values
+    System.arraycopy(indicatorRows, worstIndex + 1, indicatorRows, worstIndex,
+        solutionSet.size() - worstIndex - 1);
 
     solutionSet.remove(worstIndex);
   }
 
+  /**
+   * Enables or disables the concurrent computation of the indicator values and of the fitness
+   */
+  public void setParallelFitnessComputation(boolean parallelFitnessComputation) {
+    this.parallelFitnessComputation = parallelFitnessComputation;
+  }
+
+  public boolean isParallelFitnessComputation() {
+    return parallelFitnessComputation;
+  }
+
   @Override public String getName() {
     return "IBEA" ;
   }
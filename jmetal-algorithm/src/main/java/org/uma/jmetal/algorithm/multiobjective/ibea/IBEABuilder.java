@@ -24,6 +24,7 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
   private CrossoverOperator<DoubleSolution> crossover;
   private MutationOperator<DoubleSolution> mutation;
   private SelectionOperator<List<DoubleSolution>, DoubleSolution> selection;
+  private boolean parallelFitnessComputation;
 
   /**
    * Constructor
@@ -44,6 +45,8 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
 
     selection = new BinaryTournamentSelection<DoubleSolution>();
+
+    parallelFitnessComputation = false;
   }
 
   /* Getters */
@@ -71,6 +74,10 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     return selection;
   }
 
+  public boolean isParallelFitnessComputation() {
+    return parallelFitnessComputation;
+  }
+
   /* Setters */
   public IBEABuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
@@ -108,8 +115,17 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     return this;
   }
 
+  public IBEABuilder setParallelFitnessComputation(boolean parallelFitnessComputation) {
+    this.parallelFitnessComputation = parallelFitnessComputation;
+
+    return this;
+  }
+
   public IBEA<DoubleSolution> build() {
-    return new IBEA<DoubleSolution>(problem, populationSize, archiveSize, maxEvaluations, selection, crossover,
-        mutation);
+    IBEA<DoubleSolution> algorithm = new IBEA<DoubleSolution>(problem, populationSize, archiveSize,
+        maxEvaluations, selection, crossover, mutation);
+    algorithm.setParallelFitnessComputation(parallelFitnessComputation);
+
+    return algorithm;
   }
 }
@@ -2,12 +2,16 @@ package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.WeightVectorGenerator;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.WeightVectorIndex;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.termination.TerminationCondition;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -63,6 +67,9 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   protected CrossoverOperator<S> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
 
+  protected TerminationCondition terminationCondition ;
+  protected transient Checkpoint checkpoint ;
+
   public AbstractMOEAD(Problem<S> problem, int populationSize, int resultPopulationSize,
       int maxEvaluations, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutation,
       FunctionType functionType, String dataDirectory, double neighborhoodSelectionProbability,
@@ -90,7 +97,84 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   }
 
   /**
-   * Initialize weight vectors
+   * Sets a condition to stop the algorithm in addition to the maximum number of evaluations
+   * @param terminationCondition Termination condition; if it is null, only the maximum number of
+   *                             evaluations is used
+   */
+  public void setTerminationCondition(TerminationCondition terminationCondition) {
+    this.terminationCondition = terminationCondition ;
+  }
+
+  public TerminationCondition getTerminationCondition() {
+    return terminationCondition ;
+  }
+
+  /**
+   * Sets an object saving the state of the algorithm at the end of the generations, so that the run
+   * can be continued with {@link #resume()} after restoring the algorithm with
+   * {@link Checkpoint#restore(java.nio.file.Path)}. It is not saved with the algorithm
+   * @param checkpoint Checkpoint; if it is null, the state is not saved
+   */
+  public void setCheckpoint(Checkpoint checkpoint) {
+    this.checkpoint = checkpoint ;
+  }
+
+  public Checkpoint getCheckpoint() {
+    return checkpoint ;
+  }
+
+  /**
+   * Starts the termination condition, if any. Called at the beginning of the run() method
+   */
+  protected void startTerminationCondition() {
+    if (terminationCondition != null) {
+      terminationCondition.start();
+    }
+  }
+
+  /**
+   * @return True if there is a termination condition and it is met
+   */
+  protected boolean isTerminationConditionMet() {
+    return (terminationCondition != null) && terminationCondition.isMet(this, evaluations) ;
+  }
+
+  /**
+   * Notifies the end of a generation to the checkpoint, if any
+   */
+  protected void saveCheckpoint() {
+    if (checkpoint != null) {
+      checkpoint.update(this);
+    }
+  }
+
+  /**
+   * Performs a generation of the algorithm. The algorithms supporting {@link #resume()} call this
+   * method from their main loop
+   */
+  protected void evolve() {
+    throw new JMetalException(getName() + " cannot be resumed") ;
+  }
+
+  /**
+   * Continues a run of the algorithm restored from a checkpoint. The termination condition, if
+   * any, is started again, keeping the number of evaluations
+   */
+  public void resume() {
+    if (evaluations == 0) {
+      throw new JMetalException("The algorithm has not been started") ;
+    }
+    startTerminationCondition();
+    while ((evaluations < maxEvaluations) && !isTerminationConditionMet()) {
+      evolve();
+      saveCheckpoint();
+    }
+  }
+
+  /**
+   * Initialize weight vectors. The vectors are read from the file W{M}D_{N}.dat of the data
+   * directory if it exists and, otherwise, they are generated with a simplex-lattice or two-layer
+   * design by {@link WeightVectorGenerator}, which requires N to be the size of one of them
    */
   protected void initializeUniformWeight() {
     if ((problem.getNumberOfObjectives() == 2) && (populationSize <= 300)) {
@@ -104,8 +188,14 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
       dataFileName = "W" + problem.getNumberOfObjectives() + "D_" +
           populationSize + ".dat";
 
+      InputStream in = getClass().getResourceAsStream("/" + dataDirectory + "/" + dataFileName);
+      if (in == null) {
+        double[][] weights = WeightVectorGenerator.generate(problem.getNumberOfObjectives(), populationSize) ;
+        System.arraycopy(weights, 0, lambda, 0, populationSize);
+        return ;
+      }
+
       try {
-        InputStream in = getClass().getResourceAsStream("/" + dataDirectory + "/" + dataFileName);
         InputStreamReader isr = new InputStreamReader(in);
         BufferedReader br = new BufferedReader(isr);
 
@@ -132,23 +222,14 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   }
 
   /**
-   * Initialize neighborhoods
+   * Initialize neighborhoods. The nearest weight vectors are found with a {@link WeightVectorIndex}
    */
   protected void initializeNeighborhood() {
-    double[] x = new double[populationSize];
-    int[] idx = new int[populationSize];
+    WeightVectorIndex index = new WeightVectorIndex(lambda) ;
 
     for (int i = 0; i < populationSize; i++) {
-      // calculate the distances based on weight vectors
-      for (int j = 0; j < populationSize; j++) {
-        x[j] = MOEADUtils.distVector(lambda[i], lambda[j]);
-        idx[j] = j;
-      }
-
       // find 'niche' nearest neighboring subproblems
-      MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
-
-      System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
+      System.arraycopy(index.nearestNeighbors(i, neighborSize), 0, neighborhood[i], 0, neighborSize);
     }
   }
 
@@ -45,6 +45,7 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
   }
 
   @Override public void run() {
+    startTerminationCondition();
     initializeUniformWeight();
     initializeNeighborhood();
     initializePopulation();
@@ -55,33 +56,37 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
     evaluations = populationSize ;
 
     do {
-      int[] permutation = new int[populationSize];
-      MOEADUtils.randomPermutation(permutation, populationSize);
+      evolve();
+      saveCheckpoint();
+    } while ((evaluations < maxEvaluations) && !isTerminationConditionMet());
+  }
 
-      for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
+  @Override protected void evolve() {
+    int[] permutation = new int[populationSize];
+    MOEADUtils.randomPermutation(permutation, populationSize);
 
-        NeighborType neighborType = chooseNeighborType() ;
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
+    for (int i = 0; i < populationSize; i++) {
+      int subProblemId = permutation[i];
 
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+      NeighborType neighborType = chooseNeighborType() ;
+      List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
 
-        DoubleSolution child = children.get(0) ;
-        mutationOperator.execute(child);
-        problem.evaluate(child);
-        if (problem instanceof ConstrainedProblem) {
-          ((ConstrainedProblem<DoubleSolution>) problem).evaluateConstraints(child);
-        }
-        evaluations++;
+      differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+      List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-        updateIdealPoint(child);
-        updateNeighborhood(child, subProblemId, neighborType);
+      DoubleSolution child = children.get(0) ;
+      mutationOperator.execute(child);
+      problem.evaluate(child);
+      if (problem instanceof ConstrainedProblem) {
+        ((ConstrainedProblem<DoubleSolution>) problem).evaluateConstraints(child);
       }
+      evaluations++;
 
-      violationThresholdComparator.updateThreshold(population);
+      updateIdealPoint(child);
+      updateNeighborhood(child, subProblemId, neighborType);
+    }
 
-    } while (evaluations < maxEvaluations);
+    violationThresholdComparator.updateThreshold(population);
   }
 
   public void initializePopulation() {
@@ -42,6 +42,7 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
   }
 
   @Override public void run() {
+    startTerminationCondition();
     initializePopulation() ;
     initializeUniformWeight();
     initializeNeighborhood();
@@ -49,29 +50,33 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
 
     evaluations = populationSize ;
     do {
-      int[] permutation = new int[populationSize];
-      MOEADUtils.randomPermutation(permutation, populationSize);
+      evolve();
+      saveCheckpoint();
+    } while ((evaluations < maxEvaluations) && !isTerminationConditionMet());
+  }
 
-      for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
+  @Override protected void evolve() {
+    int[] permutation = new int[populationSize];
+    MOEADUtils.randomPermutation(permutation, populationSize);
 
-        NeighborType neighborType = chooseNeighborType() ;
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
+    for (int i = 0; i < populationSize; i++) {
+      int subProblemId = permutation[i];
 
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+      NeighborType neighborType = chooseNeighborType() ;
+      List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
 
-        DoubleSolution child = children.get(0) ;
-        mutationOperator.execute(child);
-        problem.evaluate(child);
+      differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+      List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-        evaluations++;
+      DoubleSolution child = children.get(0) ;
+      mutationOperator.execute(child);
+      problem.evaluate(child);
 
-        updateIdealPoint(child);
-        updateNeighborhood(child, subProblemId, neighborType);
-      }
-    } while (evaluations < maxEvaluations);
+      evaluations++;
 
+      updateIdealPoint(child);
+      updateNeighborhood(child, subProblemId, neighborType);
+    }
   }
 
   protected void initializePopulation() {
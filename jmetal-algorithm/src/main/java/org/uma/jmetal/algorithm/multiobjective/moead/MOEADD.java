@@ -9,14 +9,17 @@ import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
   protected Ranking ranking;
-  protected int[][] rankIdx;      // index matrix for the non-domination levels
-  protected int[][] subregionIdx;    // index matrix for subregion record
-  protected double[][] subregionDist;  // distance matrix for perpendicular distance
+  protected List<BitSet> rankIdx;      // solutions of each non-domination level
+  protected int[] regionIdx;           // subregion of each solution
+  protected int[][] subregionIdx;      // solutions of each subregion, in increasing order
+  protected int[] subregionSize;       // number of solutions of each subregion
   protected int numRanks;
 
   public MOEADD(Problem<S> problem,
@@ -35,7 +38,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
   @Override
   public void run() {
-
+    startTerminationCondition();
     evaluations = 0;
     population = new ArrayList(populationSize);
 
@@ -45,9 +48,10 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     idealPoint = new double[problem.getNumberOfObjectives()]; // ideal point for Pareto-based population
     nadirPoint = new double[problem.getNumberOfObjectives()]; // nadir point for Pareto-based population
 
-    rankIdx = new int[populationSize][populationSize];
-    subregionIdx = new int[populationSize][populationSize];
-    subregionDist = new double[populationSize][populationSize];
+    rankIdx = new ArrayList<>();
+    regionIdx = new int[populationSize];
+    subregionIdx = new int[populationSize][];
+    subregionSize = new int[populationSize];
 
     // STEP 1. Initialization
     initializeUniformWeight();
@@ -56,10 +60,12 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     initializeIdealPoint();
     initializeNadirPoint();
 
-    // initialize the distance
+    // normalize the weight vectors
     for (int i = 0; i < populationSize; i++) {
-      double distance = calculateDistance2(population.get(i), lambda[i], idealPoint, nadirPoint);
-      subregionDist[i][i] = distance;
+      double nd = norm_vector(lambda[i]);
+      for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+        lambda[i][j] = lambda[i][j] / nd;
+      }
     }
 
     ranking = computeRanking(population);
@@ -67,42 +73,48 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       List<S> front = ranking.getSubfront(curRank);
       for (S s : front) {
         int position = this.population.indexOf(s);
-        rankIdx[curRank][position] = 1;
+        rankMembers(curRank).set(position);
       }
     }
 
     // main procedure
     do {
-      int[] permutation = new int[populationSize];
-      MOEADUtils.randomPermutation(permutation, populationSize);
+      evolve();
+      saveCheckpoint();
+    } while ((evaluations < maxEvaluations) && !isTerminationConditionMet());
+  }
 
-      for (int i = 0; i < populationSize; i++) {
-        int cid = permutation[i];
-        int type;
-        double rnd = randomGenerator.nextDouble();
+  @Override
+  protected void evolve() {
+    int[] permutation = new int[populationSize];
+    MOEADUtils.randomPermutation(permutation, populationSize);
 
-        // mating selection style
-        if (rnd < neighborhoodSelectionProbability) {
-          type = 1; // neighborhood
-        } else {
-          type = 2; // whole population
-        }
-        List<S> parents = matingSelection(cid, type);
+    for (int i = 0; i < populationSize; i++) {
+      int cid = permutation[i];
+      int type;
+      double rnd = randomGenerator.nextDouble();
+
+      // mating selection style
+      if (rnd < neighborhoodSelectionProbability) {
+        type = 1; // neighborhood
+      } else {
+        type = 2; // whole population
+      }
+      List<S> parents = matingSelection(cid, type);
 
-        List<S> children = crossoverOperator.execute(parents);
+      List<S> children = crossoverOperator.execute(parents);
 
-        S child = children.get(0);
-        mutationOperator.execute(child);
-        problem.evaluate(child);
+      S child = children.get(0);
+      mutationOperator.execute(child);
+      problem.evaluate(child);
 
-        evaluations++;
+      evaluations++;
 
-        updateIdealPoint(child);
-        updateNadirPoint(child);
-        updateArchive(child);
-        //System.out.println(evaluations);
-      } // for
-    } while (evaluations < maxEvaluations);
+      updateIdealPoint(child);
+      updateNadirPoint(child);
+      updateArchive(child);
+      //System.out.println(evaluations);
+    } // for
   }
 
   /**
@@ -114,7 +126,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       problem.evaluate(newSolution);
       evaluations++;
       population.add(newSolution);
-      subregionIdx[i][i] = 1;
+      addToSubregion(i, i);
     }
   } // initPopulation
 
@@ -143,77 +155,32 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     if (type == 1) {
       for (int i = 0; i < nLength; i++) {
         int idx = neighborhood[cid][i];
-        for (int j = 0; j < populationSize; j++) {
-          if (subregionIdx[idx][j] == 1) {
-            activeList.add(idx);
-            break;
-          }
-        }
-      }
-      if (activeList.size() < 2) {
-        activeList.clear();
-        for (int i = 0; i < populationSize; i++) {
-          for (int j = 0; j < populationSize; j++) {
-            if (subregionIdx[i][j] == 1) {
-              activeList.add(i);
-              break;
-            }
-          }
-        }
-      }
-      int activeSize = activeList.size();
-      rnd1 = randomGenerator.nextInt(0, activeSize - 1);
-      do {
-        rnd2 = randomGenerator.nextInt(0, activeSize - 1);
-      } while (rnd1 == rnd2);  // in a very extreme case, this will be a dead loop
-      ArrayList<Integer> list1 = new ArrayList<>();
-      ArrayList<Integer> list2 = new ArrayList<>();
-      int id1 = activeList.get(rnd1);
-      int id2 = activeList.get(rnd2);
-      for (int i = 0; i < populationSize; i++) {
-        if (subregionIdx[id1][i] == 1) {
-          list1.add(i);
-        }
-        if (subregionIdx[id2][i] == 1) {
-          list2.add(i);
-        }
-      }
-      int p1 = randomGenerator.nextInt(0, list1.size() - 1);
-      int p2 = randomGenerator.nextInt(0, list2.size() - 1);
-      parents.add(population.get(list1.get(p1)));
-      parents.add(population.get(list2.get(p2)));
-    } else {
-      for (int i = 0; i < populationSize; i++) {
-        for (int j = 0; j < populationSize; j++) {
-          if (subregionIdx[i][j] == 1) {
-            activeList.add(i);
-            break;
-          }
+        if (subregionSize[idx] > 0) {
+          activeList.add(idx);
         }
       }
-      int activeSize = activeList.size();
-      rnd1 = randomGenerator.nextInt(0, activeSize - 1);
-      do {
-        rnd2 = randomGenerator.nextInt(0, activeSize - 1);
-      } while (rnd1 == rnd2);  // in a very extreme case, this will be a dead loop
-      ArrayList<Integer> list1 = new ArrayList<>();
-      ArrayList<Integer> list2 = new ArrayList<>();
-      int id1 = activeList.get(rnd1);
-      int id2 = activeList.get(rnd2);
+    }
+    if (activeList.size() < 2) {
+      activeList.clear();
       for (int i = 0; i < populationSize; i++) {
-        if (subregionIdx[id1][i] == 1) {
-          list1.add(i);
-        }
-        if (subregionIdx[id2][i] == 1) {
-          list2.add(i);
+        if (subregionSize[i] > 0) {
+          activeList.add(i);
         }
       }
-      int p1 = randomGenerator.nextInt(0, list1.size() - 1);
-      int p2 = randomGenerator.nextInt(0, list2.size() - 1);
-      parents.add(population.get(list1.get(p1)));
-      parents.add(population.get(list2.get(p2)));
     }
 
+    int activeSize = activeList.size();
+    rnd1 = randomGenerator.nextInt(0, activeSize - 1);
+    do {
+      rnd2 = randomGenerator.nextInt(0, activeSize - 1);
+    } while (rnd1 == rnd2);  // in a very extreme case, this will be a dead loop
+    int id1 = activeList.get(rnd1);
+    int id2 = activeList.get(rnd2);
+    int p1 = randomGenerator.nextInt(0, subregionSize[id1] - 1);
+    int p2 = randomGenerator.nextInt(0, subregionSize[id2] - 1);
+    parents.add(population.get(subregionIdx[id1][p1]));
+    parents.add(population.get(subregionIdx[id2][p2]));
+
     return parents;
   } // matingSelection
 
@@ -237,10 +204,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         frontSize++;
         lastFront.add(indiv);
       } else {
-        for (int i = 0; i < populationSize; i++) {
-          if (rankIdx[numRanks - 1][i] == 1) {
-            lastFront.add((S) population.get(i));
-          }
+        for (int i = rankMembers(numRanks - 1).nextSetBit(0); i >= 0; i = rankMembers(numRanks - 1).nextSetBit(i + 1)) {
+          lastFront.add((S) population.get(i));
         }
         if (((int) indiv.getAttribute(ranking.getAttributeIdentifier())) == (numRanks - 1)) {
 //        if (rankSolution.getOrDefault(indiv, 0) == (numRanks - 1)) {
@@ -269,14 +234,12 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         } else {  // the subregion contains some other solutions, drop solution 'targetIdx'
           int indivRank = (int) indiv.getAttribute(ranking.getAttributeIdentifier());
           int targetRank = (int) population.get(targetIdx).getAttribute(ranking.getAttributeIdentifier());
-          rankIdx[targetRank][targetIdx] = 0;
-          rankIdx[indivRank][targetIdx] = 1;
+          moveToRank(targetIdx, targetRank, indivRank);
 
           S targetSol = population.get(targetIdx);
 
           replace(targetIdx, indiv);
-          subregionIdx[parentLocation][targetIdx] = 0;
-          subregionIdx[location][targetIdx] = 1;
+          moveToSubregion(targetIdx, parentLocation, location);
 
           // update the non-domination level structure
           nondominated_sorting_delete(targetSol);
@@ -389,14 +352,12 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
                 //int targetRank = ((DoubleSolution) population.get(idxArray[targetIdx])).getRank();
                 int targetRank = (int) population.get(idxArray[targetIdx]).getAttribute(ranking.getAttributeIdentifier());
 
-                rankIdx[targetRank][idxArray[targetIdx]] = 0;
-                rankIdx[indivRank][idxArray[targetIdx]] = 1;
+                moveToRank(idxArray[targetIdx], targetRank, indivRank);
 
                 S targetSol = population.get(idxArray[targetIdx]);
 
                 replace(idxArray[targetIdx], indiv);
-                subregionIdx[crowdIdx][idxArray[targetIdx]] = 0;
-                subregionIdx[location][idxArray[targetIdx]] = 1;
+                moveToSubregion(idxArray[targetIdx], crowdIdx, location);
 
                 // update the non-domination level structure
                 nondominated_sorting_delete(targetSol);
@@ -420,34 +381,29 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     ArrayList<Integer> curLevel = new ArrayList<>();  // used to keep the solutions in the current non-domination level
     ArrayList<Integer> dominateList = new ArrayList<>();  // used to keep the solutions need to be moved
 
-    for (int i = 0; i < populationSize; i++) {
-      if (rankIdx[indivRank][i] == 1) {
-        curLevel.add(i);
-      }
+    for (int i = rankMembers(indivRank).nextSetBit(0); i >= 0; i = rankMembers(indivRank).nextSetBit(i + 1)) {
+      curLevel.add(i);
     }
 
     int flag;
     // find the solutions belonging to the 'indivRank+1'th level and are dominated by 'indiv'
     int investigateRank = indivRank + 1;
     if (investigateRank < numRanks) {
-      for (int i = 0; i < populationSize; i++) {
-        if (rankIdx[investigateRank][i] == 1) {
-          flag = 0;
-          if (checkDominance(indiv, population.get(i)) == 1) {
-            for (int j = 0; j < curLevel.size(); j++) {
-              if (checkDominance(population.get(i), population.get(curLevel.get(j))) == -1) {
-                flag = 1;
-                break;
-              }
-            }
-            if (flag == 0) {  // the ith solution can move to the prior level
-              dominateList.add(i);
-              rankIdx[investigateRank][i] = 0;
-              rankIdx[investigateRank - 1][i] = 1;
-              //((DoubleSolution) population.get(i)).setRank(investigateRank - 1);
-              population.get(i).setAttribute(ranking.getAttributeIdentifier(), investigateRank - 1);
+      for (int i = rankMembers(investigateRank).nextSetBit(0); i >= 0; i = rankMembers(investigateRank).nextSetBit(i + 1)) {
+        flag = 0;
+        if (checkDominance(indiv, population.get(i)) == 1) {
+          for (int j = 0; j < curLevel.size(); j++) {
+            if (checkDominance(population.get(i), population.get(curLevel.get(j))) == -1) {
+              flag = 1;
+              break;
             }
           }
+          if (flag == 0) {  // the ith solution can move to the prior level
+            dominateList.add(i);
+            moveToRank(i, investigateRank, investigateRank - 1);
+            //((DoubleSolution) population.get(i)).setRank(investigateRank - 1);
+            population.get(i).setAttribute(ranking.getAttributeIdentifier(), investigateRank - 1);
+          }
         }
       }
     }
@@ -456,37 +412,29 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     int curListSize = dominateList.size();
     while (curListSize != 0) {
       curLevel.clear();
-      for (int i = 0; i < populationSize; i++) {
-        if (rankIdx[investigateRank][i] == 1) {
-          curLevel.add(i);
-        }
+      for (int i = rankMembers(investigateRank).nextSetBit(0); i >= 0; i = rankMembers(investigateRank).nextSetBit(i + 1)) {
+        curLevel.add(i);
       }
       investigateRank = investigateRank + 1;
 
       if (investigateRank < numRanks) {
         for (int i = 0; i < curListSize; i++) {
           curIdx = dominateList.get(i);
-          for (int j = 0; j < populationSize; j++) {
-            if (j == populationSize) {
-              System.err.println("There are problems");
-            }
-            if (rankIdx[investigateRank][j] == 1) {
-              flag = 0;
-              if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                for (int k = 0; k < curLevel.size(); k++) {
-                  if (checkDominance(population.get(j), population.get(curLevel.get(k))) == -1) {
-                    flag = 1;
-                    break;
-                  }
-                }
-                if (flag == 0) {
-                  dominateList.add(j);
-                  rankIdx[investigateRank][j] = 0;
-                  rankIdx[investigateRank - 1][j] = 1;
-                  //((DoubleSolution) population.get(j)).setRank(investigateRank - 1);
-                  population.get(j).setAttribute(ranking.getAttributeIdentifier(), investigateRank - 1);
+          for (int j = rankMembers(investigateRank).nextSetBit(0); j >= 0; j = rankMembers(investigateRank).nextSetBit(j + 1)) {
+            flag = 0;
+            if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
+              for (int k = 0; k < curLevel.size(); k++) {
+                if (checkDominance(population.get(j), population.get(curLevel.get(k))) == -1) {
+                  flag = 1;
+                  break;
                 }
               }
+              if (flag == 0) {
+                dominateList.add(j);
+                moveToRank(j, investigateRank, investigateRank - 1);
+                //((DoubleSolution) population.get(j)).setRank(investigateRank - 1);
+                population.get(j).setAttribute(ranking.getAttributeIdentifier(), investigateRank - 1);
+              }
             }
           }
         }
@@ -540,21 +488,18 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         int curListSize = dominateList.size();
         for (int j = 0; j < curListSize; j++) {
           curIdx = dominateList.get(j);
-          rankIdx[prevRank][curIdx] = 0;
-          rankIdx[newRank][curIdx] = 1;
+          moveToRank(curIdx, prevRank, newRank);
           //((DoubleSolution) population.get(curIdx)).setRank(newRank);
           population.get(curIdx).setAttribute(ranking.getAttributeIdentifier(), newRank);
         }
-        for (int j = 0; j < populationSize; j++) {
-          if (rankIdx[newRank][j] == 1) {
-            for (int k = 0; k < curListSize; k++) {
-              curIdx = dominateList.get(k);
-              if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                dominateList.add(j);
-                break;
-              }
-
+        for (int j = rankMembers(newRank).nextSetBit(0); j >= 0; j = rankMembers(newRank).nextSetBit(j + 1)) {
+          for (int k = 0; k < curListSize; k++) {
+            curIdx = dominateList.get(k);
+            if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
+              dominateList.add(j);
+              break;
             }
+
           }
         }
         for (int j = 0; j < curListSize; j++) {
@@ -572,19 +517,16 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
           do {
             for (int j = 0; j < curListSize; j++) {
               curIdx = dominateList.get(j);
-              rankIdx[prevRank][curIdx] = 0;
-              rankIdx[newRank][curIdx] = 1;
+              moveToRank(curIdx, prevRank, newRank);
               //((DoubleSolution) population.get(curIdx)).setRank(newRank);
               population.get(curIdx).setAttribute(ranking.getAttributeIdentifier(), newRank);
             }
-            for (int j = 0; j < populationSize; j++) {
-              if (rankIdx[newRank][j] == 1) {
-                for (int k = 0; k < curListSize; k++) {
-                  curIdx = dominateList.get(k);
-                  if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                    dominateList.add(j);
-                    break;
-                  }
+            for (int j = rankMembers(newRank).nextSetBit(0); j >= 0; j = rankMembers(newRank).nextSetBit(j + 1)) {
+              for (int k = 0; k < curListSize; k++) {
+                curIdx = dominateList.get(k);
+                if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
+                  dominateList.add(j);
+                  break;
                 }
               }
             }
@@ -605,24 +547,17 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
           if (allFlag == 1) {  // move the solutions after the 'prevRank'th level to their next levels
             int remainSize = num_ranks - prevRank;
-            int[][] tempRecord = new int[remainSize][populationSize];
+            int[][] tempRecord = new int[remainSize][];
 
-            int tempIdx = 0;
+            tempRecord[0] = new int[Math.max(dominateList.size(), frontSize.get(prevRank))];
             for (int j = 0; j < dominateList.size(); j++) {
-              tempRecord[0][tempIdx] = dominateList.get(j);
-              tempIdx++;
+              tempRecord[0][j] = dominateList.get(j);
             }
 
             int k = 1;
             int curRank = prevRank + 1;
             while (curRank < num_ranks) {
-              tempIdx = 0;
-              for (int j = 0; j < populationSize; j++) {
-                if (rankIdx[curRank][j] == 1) {
-                  tempRecord[k][tempIdx] = j;
-                  tempIdx++;
-                }
-              }
+              tempRecord[k] = rankMembersArray(curRank, frontSize.get(curRank));
               curRank++;
               k++;
             }
@@ -640,8 +575,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
                 newRank = tempRank + 1;
                 //((DoubleSolution) population.get(curIdx)).setRank(newRank);
                 population.get(curIdx).setAttribute(ranking.getAttributeIdentifier(), newRank);
-                rankIdx[tempRank][curIdx] = 0;
-                rankIdx[newRank][curIdx] = 1;
+                moveToRank(curIdx, tempRank, newRank);
               }
               curRank++;
               k++;
@@ -657,36 +591,34 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         }
       } else if (flag == 3 || flag == 0) {  // if 'indiv' is dominated by some solutions in the ith level, skip it, and term to the next level
         flag1 = flag2 = flag3 = 0;
-        for (int j = 0; j < populationSize; j++) {
-          if (rankIdx[i][j] == 1) {
-            switch (checkDominance(indiv, population.get(j))) {
-              case 1: {
-                flag1 = 1;
-                dominateList.add(j);
-                break;
-              }
-              case 0: {
-                flag2 = 1;
-                break;
-              }
-              case -1: {
-                flag3 = 1;
-                break;
-              }
+        for (int j = rankMembers(i).nextSetBit(0); j >= 0; j = rankMembers(i).nextSetBit(j + 1)) {
+          switch (checkDominance(indiv, population.get(j))) {
+            case 1: {
+              flag1 = 1;
+              dominateList.add(j);
+              break;
             }
-
-            if (flag3 == 1) {
-              flag = 3;
+            case 0: {
+              flag2 = 1;
+              break;
+            }
+            case -1: {
+              flag3 = 1;
               break;
-            } else if (flag1 == 0 && flag2 == 1) {
-              flag = 1;
-            } else if (flag1 == 1 && flag2 == 1) {
-              flag = 2;
-            } else if (flag1 == 1 && flag2 == 0) {
-              flag = 4;
-            } else {
             }
           }
+
+          if (flag3 == 1) {
+            flag = 3;
+            break;
+          } else if (flag1 == 0 && flag2 == 1) {
+            flag = 1;
+          } else if (flag1 == 1 && flag2 == 1) {
+            flag = 2;
+          } else if (flag1 == 1 && flag2 == 0) {
+            flag = 4;
+          } else {
+          }
         }
 
       } else {  // (flag == 4) if 'indiv' dominates all solutions in the ith level, solutions in the current level and beyond move their current next levels
@@ -694,17 +626,11 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         indiv.setAttribute(ranking.getAttributeIdentifier(), i - 1);
         i = i - 1;
         int remainSize = num_ranks - i;
-        int[][] tempRecord = new int[remainSize][populationSize];
+        int[][] tempRecord = new int[remainSize][];
 
         int k = 0;
         while (i < num_ranks) {
-          int tempIdx = 0;
-          for (int j = 0; j < populationSize; j++) {
-            if (rankIdx[i][j] == 1) {
-              tempRecord[k][tempIdx] = j;
-              tempIdx++;
-            }
-          }
+          tempRecord[k] = rankMembersArray(i, frontSize.get(i));
           i++;
           k++;
         }
@@ -725,8 +651,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
             //((DoubleSolution) population.get(curIdx)).setRank(newRank);
             population.get(curIdx).setAttribute(ranking.getAttributeIdentifier(), newRank);
 
-            rankIdx[curRank][curIdx] = 0;
-            rankIdx[newRank][curIdx] = 1;
+            moveToRank(curIdx, curRank, newRank);
           }
           i++;
           k++;
@@ -752,8 +677,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
           //((DoubleSolution) population.get(curIdx)).setRank(level + 1);
           population.get(curIdx).setAttribute(ranking.getAttributeIdentifier(), level + 1);
 
-          rankIdx[level][curIdx] = 0;
-          rankIdx[level + 1][curIdx] = 1;
+          moveToRank(curIdx, level, level + 1);
         }
         num_ranks++;
         break;
@@ -765,14 +689,11 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       default:
         //indiv.setRank(level);
         indiv.setAttribute(ranking.getAttributeIdentifier(), level);
-        for (int i = 0; i < populationSize; i++) {
-          if (rankIdx[level][i] == 1) {
-            //((DoubleSolution) population.get(i)).setRank(level + 1);
+        for (int i = rankMembers(level).nextSetBit(0); i >= 0; i = rankMembers(level).nextSetBit(i + 1)) {
+          //((DoubleSolution) population.get(i)).setRank(level + 1);
 
-            population.get(i).setAttribute(ranking.getAttributeIdentifier(), level + 1);
-            rankIdx[level][i] = 0;
-            rankIdx[level + 1][i] = 1;
-          }
+          population.get(i).setAttribute(ranking.getAttributeIdentifier(), level + 1);
+          moveToRank(i, level, level + 1);
         }
         num_ranks++;
         break;
@@ -822,10 +743,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within the 'crowdIdx' subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i = 0; i < subregionSize[crowdIdx]; i++) {
+      indList.add(subregionIdx[crowdIdx][i]);
     }
 
     // find the solution with the largest rank
@@ -862,14 +781,12 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     int indivRank = (int) indiv.getAttribute(ranking.getAttributeIdentifier());
     //int targetRank = ((DoubleSolution) population.get(targetIdx)).getRank();
     int targetRank = (int) population.get(targetIdx).getAttribute(ranking.getAttributeIdentifier());
-    rankIdx[targetRank][targetIdx] = 0;
-    rankIdx[indivRank][targetIdx] = 1;
+    moveToRank(targetIdx, targetRank, indivRank);
 
     S targetSol = population.get(targetIdx);
 
     replace(targetIdx, indiv);
-    subregionIdx[crowdIdx][targetIdx] = 0;
-    subregionIdx[location][targetIdx] = 1;
+    moveToSubregion(targetIdx, crowdIdx, location);
 
     // update the non-domination level structure
     nondominated_sorting_delete(targetSol);
@@ -931,10 +848,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within the 'crowdIdx' subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i = 0; i < subregionSize[crowdIdx]; i++) {
+      indList.add(subregionIdx[crowdIdx][i]);
     }
     if (crowdIdx == location) {
       int temp = -1;
@@ -997,14 +912,12 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       int indivRank = (int) indiv.getAttribute(ranking.getAttributeIdentifier());
       //int targetRank = ((DoubleSolution) population.get(targetIdx)).getRank();
       int targetRank = (int) population.get(targetIdx).getAttribute(ranking.getAttributeIdentifier());
-      rankIdx[targetRank][targetIdx] = 0;
-      rankIdx[indivRank][targetIdx] = 1;
+      moveToRank(targetIdx, targetRank, indivRank);
 
       S targetSol = population.get(targetIdx);
 
       replace(targetIdx, indiv);
-      subregionIdx[crowdIdx][targetIdx] = 0;
-      subregionIdx[location][targetIdx] = 1;
+      moveToSubregion(targetIdx, crowdIdx, location);
 
       // update the non-domination level structure of the population
       nondominated_sorting_delete(targetSol);
@@ -1070,12 +983,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         break;
       case 1:
         // if every subregion only contains one solution, delete the worst from indiv's subregion
-        int targetIdx;
-        for (targetIdx = 0; targetIdx < populationSize; targetIdx++) {
-          if (subregionIdx[location][targetIdx] == 1) {
-            break;
-          }
-        }
+        int targetIdx = subregionIdx[location][0];
         double prev_func = fitnessFunction(population.get(targetIdx), lambda[location]);
         if (indivFitness < prev_func) {
           replace(targetIdx, indiv);
@@ -1116,10 +1024,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
   public double sumFitness(int location) {
 
     double sum = 0;
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[location][i] == 1) {
-        sum = sum + fitnessFunction(population.get(i), lambda[location]);
-      }
+    for (int i = 0; i < subregionSize[location]; i++) {
+      sum = sum + fitnessFunction(population.get(subregionIdx[location][i]), lambda[location]);
     }
 
     return sum;
@@ -1133,10 +1039,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within this crowdIdx subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i = 0; i < subregionSize[crowdIdx]; i++) {
+      indList.add(subregionIdx[crowdIdx][i]);
     }
 
     // find the solution with the worst fitness value
@@ -1166,10 +1070,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within this crowdIdx subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i = 0; i < subregionSize[crowdIdx]; i++) {
+      indList.add(subregionIdx[crowdIdx][i]);
     }
 
     // find the solution with the worst fitness value
@@ -1186,8 +1088,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // use indiv to replace the worst one
     replace(worstIdx, indiv);
-    subregionIdx[crowdIdx][worstIdx] = 0;
-    subregionIdx[curLocation][worstIdx] = 1;
+    moveToSubregion(worstIdx, crowdIdx, curLocation);
 
   }
 
@@ -1195,30 +1096,18 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
    * Count the number of 1s in the 'location'th subregion
    */
   public int countOnes(int location) {
-
-    int count = 0;
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[location][i] == 1) {
-        count++;
-      }
-    }
-
-    return count;
+    return subregionSize[location];
   }
 
   /**
    * count the number of 1s in a row of rank matrix
    */
   public int countRankOnes(int location) {
-
-    int count = 0;
-    for (int i = 0; i < populationSize; i++) {
-      if (rankIdx[location][i] == 1) {
-        count++;
-      }
+    if (location < rankIdx.size()) {
+      return rankIdx.get(location).cardinality();
+    } else {
+      return 0;
     }
-
-    return count;
   }
 
   /**
@@ -1239,14 +1128,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
    * find the subregion of the 'idx'th solution in the population
    */
   public int findRegion(int idx) {
-
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[i][idx] == 1) {
-        return i;
-      }
-    }
-
-    return -1;
+    return regionIdx[idx];
   }
 
   /**
@@ -1396,11 +1278,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     int sum = 0;
     for (int i = 0; i < populationSize; i++) {
-      for (int j = 0; j < populationSize; j++) {
-        if (subregionIdx[i][j] == 1) {
-          sum++;
-        }
-      }
+      sum += subregionSize[i];
     }
 
     return sum;
@@ -1426,6 +1304,76 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     }
   }
 
+  /**
+   * Returns the solutions of a non-domination level, creating the level if it does not exist
+   */
+  protected BitSet rankMembers(int rank) {
+    while (rankIdx.size() <= rank) {
+      rankIdx.add(new BitSet());
+    }
+
+    return rankIdx.get(rank);
+  }
+
+  /**
+   * Returns the solutions of a non-domination level in increasing order. The array is padded with
+   * zeros up to a minimum length
+   */
+  protected int[] rankMembersArray(int rank, int minLength) {
+    BitSet members = rankMembers(rank);
+    int[] array = new int[Math.max(minLength, members.cardinality())];
+    int k = 0;
+    for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+      array[k++] = i;
+    }
+
+    return array;
+  }
+
+  /**
+   * Moves the 'idx'th solution of the population from a non-domination level to another one
+   */
+  protected void moveToRank(int idx, int from, int to) {
+    rankMembers(from).clear(idx);
+    rankMembers(to).set(idx);
+  }
+
+  /**
+   * Adds the 'idx'th solution of the population to a subregion, keeping its solutions sorted
+   */
+  protected void addToSubregion(int idx, int region) {
+    int size = subregionSize[region];
+    if (subregionIdx[region] == null) {
+      subregionIdx[region] = new int[2];
+    } else if (size == subregionIdx[region].length) {
+      subregionIdx[region] = Arrays.copyOf(subregionIdx[region], 2 * size);
+    }
+
+    int[] members = subregionIdx[region];
+    int position = size;
+    while ((position > 0) && (members[position - 1] > idx)) {
+      members[position] = members[position - 1];
+      position--;
+    }
+    members[position] = idx;
+    subregionSize[region]++;
+    regionIdx[idx] = region;
+  }
+
+  /**
+   * Moves the 'idx'th solution of the population from a subregion to another one
+   */
+  protected void moveToSubregion(int idx, int from, int to) {
+    int[] members = subregionIdx[from];
+    int position = Arrays.binarySearch(members, 0, subregionSize[from], idx);
+    if (position >= 0) {
+      System.arraycopy(members, position + 1, members, position, subregionSize[from] - position - 1);
+      subregionSize[from]--;
+    }
+
+    addToSubregion(idx, to);
+  }
+
   protected Ranking<S> computeRanking(List<S> solutionList) {
     Ranking<S> ranking = new DominanceRanking<>();
     ranking.computeRanking(solutionList);
@@ -29,6 +29,7 @@ public class MOEADDRA extends AbstractMOEAD<DoubleSolution> {
   protected DoubleSolution[] savedValues;
   protected double[] utility;
   protected int[] frequency;
+  protected int generation ;
 
   JMetalRandom randomGenerator ;
 
@@ -54,44 +55,48 @@ public class MOEADDRA extends AbstractMOEAD<DoubleSolution> {
   }
 
   @Override public void run() {
+    startTerminationCondition();
     initializePopulation() ;
     initializeUniformWeight();
     initializeNeighborhood();
     initializeIdealPoint() ;
 
-    int generation = 0 ;
+    generation = 0 ;
     evaluations = populationSize ;
     do {
-      int[] permutation = new int[populationSize];
-      MOEADUtils.randomPermutation(permutation, populationSize);
+      evolve();
+      saveCheckpoint();
+    } while ((evaluations < maxEvaluations) && !isTerminationConditionMet());
+  }
 
-      for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
-        frequency[subProblemId]++;
+  @Override protected void evolve() {
+    int[] permutation = new int[populationSize];
+    MOEADUtils.randomPermutation(permutation, populationSize);
 
-        NeighborType neighborType = chooseNeighborType() ;
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
+    for (int i = 0; i < populationSize; i++) {
+      int subProblemId = permutation[i];
+      frequency[subProblemId]++;
 
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+      NeighborType neighborType = chooseNeighborType() ;
+      List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
 
-        DoubleSolution child = children.get(0) ;
-        mutationOperator.execute(child);
-        problem.evaluate(child);
+      differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+      List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-        evaluations++;
+      DoubleSolution child = children.get(0) ;
+      mutationOperator.execute(child);
+      problem.evaluate(child);
 
-        updateIdealPoint(child);
-        updateNeighborhood(child, subProblemId, neighborType);
-      }
+      evaluations++;
 
-      generation++;
-      if (generation % 30 == 0) {
-        utilityFunction();
-      }
-
-    } while (evaluations < maxEvaluations);
+      updateIdealPoint(child);
+      updateNeighborhood(child, subProblemId, neighborType);
+    }
 
+    generation++;
+    if (generation % 30 == 0) {
+      utilityFunction();
+    }
   }
 
   protected void initializePopulation() {
@@ -29,6 +29,7 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
 	protected DoubleSolution[] savedValues;
 	protected double[] utility;
 	protected int[] frequency;
+	protected int generation;
 
 	JMetalRandom randomGenerator;
 
@@ -54,57 +55,62 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
 
 	@Override
 	public void run() {
+		startTerminationCondition();
 		initializePopulation();
 		initializeUniformWeight();
 		initializeNeighborhood();
 		initializeIdealPoint();
 		initializeNadirPoint();
 
-		int generation = 0;
+		generation = 0;
 		evaluations = populationSize;
 		do {
-			int[] permutation = new int[populationSize];
-			MOEADUtils.randomPermutation(permutation, populationSize);
-			offspringPopulation.clear();
-
-			for (int i = 0; i < populationSize; i++) {
-				int subProblemId = permutation[i];
-				frequency[subProblemId]++;
+			evolve();
+			saveCheckpoint();
+		} while ((evaluations < maxEvaluations) && !isTerminationConditionMet());
+	}
 
-				NeighborType neighborType = chooseNeighborType();
-				List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+	@Override
+	protected void evolve() {
+		int[] permutation = new int[populationSize];
+		MOEADUtils.randomPermutation(permutation, populationSize);
+		offspringPopulation.clear();
 
-				differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-				List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+		for (int i = 0; i < populationSize; i++) {
+			int subProblemId = permutation[i];
+			frequency[subProblemId]++;
 
-				DoubleSolution child = children.get(0);
-				mutationOperator.execute(child);
-				problem.evaluate(child);
+			NeighborType neighborType = chooseNeighborType();
+			List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
 
-				evaluations++;
+			differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+			List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-				updateIdealPoint(child);
-				updateNadirPoint(child);
-				updateNeighborhood(child, subProblemId, neighborType);
+			DoubleSolution child = children.get(0);
+			mutationOperator.execute(child);
+			problem.evaluate(child);
 
-				offspringPopulation.add(child);
-			}
+			evaluations++;
 
-			// Combine the parent and the current offspring populations
-			jointPopulation.clear();
-			jointPopulation.addAll(population);
-			jointPopulation.addAll(offspringPopulation);
+			updateIdealPoint(child);
+			updateNadirPoint(child);
+			updateNeighborhood(child, subProblemId, neighborType);
 
-			// selection process
-			stmSelection();
+			offspringPopulation.add(child);
+		}
 
-			generation++;
-			if (generation % 30 == 0) {
-				utilityFunction();
-			}
+		// Combine the parent and the current offspring populations
+		jointPopulation.clear();
+		jointPopulation.addAll(population);
+		jointPopulation.addAll(offspringPopulation);
 
-		} while (evaluations < maxEvaluations);
+		// selection process
+		stmSelection();
 
+		generation++;
+		if (generation % 30 == 0) {
+			utilityFunction();
+		}
 	}
 
 	protected void initializePopulation() {
@@ -0,0 +1,186 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+/**
+ * Generates the weight vectors of MOEA/D in memory with the simplex-lattice design of Das and
+ * Dennis, in which the components of the vectors are the multiples of 1/H adding up to 1, and with
+ * the two-layer design of Deb and Jain, which adds a second lattice shrunk towards the center of
+ * the simplex to an outer one. A simplex-lattice design with H divisions has C(H+M-1, M-1)
+ * vectors for M objectives.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class WeightVectorGenerator {
+  private static final double INNER_LAYER_SCALE = 0.5 ;
+
+  private WeightVectorGenerator() {
+  }
+
+  /**
+   * Generates a given number of weight vectors, using a simplex-lattice design if the number of
+   * vectors is the size of one or, otherwise, the two-layer design with the smallest outer layer
+   * having that size
+   *
+   * @param numberOfObjectives Number of components of the vectors
+   * @param numberOfVectors Number of vectors
+   * @return The weight vectors
+   */
+  public static double[][] generate(int numberOfObjectives, int numberOfVectors) {
+    checkNumberOfObjectives(numberOfObjectives);
+    if (numberOfVectors < 1) {
+      throw new JMetalException("The number of vectors is lower than 1: " + numberOfVectors) ;
+    }
+
+    for (int divisions = 1; ; divisions++) {
+      long size = numberOfLatticeVectors(numberOfObjectives, divisions) ;
+      if (size == numberOfVectors) {
+        return simplexLattice(numberOfObjectives, divisions) ;
+      } else if (size > numberOfVectors) {
+        break ;
+      }
+    }
+
+    for (int outerDivisions = 1; ; outerDivisions++) {
+      long outerSize = numberOfLatticeVectors(numberOfObjectives, outerDivisions) ;
+      if (outerSize >= numberOfVectors) {
+        break ;
+      }
+
+      for (int innerDivisions = 1; innerDivisions <= outerDivisions; innerDivisions++) {
+        long size = outerSize + numberOfLatticeVectors(numberOfObjectives, innerDivisions) ;
+        if (size == numberOfVectors) {
+          return twoLayer(numberOfObjectives, outerDivisions, innerDivisions) ;
+        } else if (size > numberOfVectors) {
+          break ;
+        }
+      }
+    }
+
+    throw new JMetalException("There is no simplex-lattice or two-layer design of "
+        + numberOfVectors + " weight vectors for " + numberOfObjectives + " objectives") ;
+  }
+
+  /**
+   * Generates the vectors of a simplex-lattice design, in lexicographic order of their components
+   *
+   * @param numberOfObjectives Number of components of the vectors
+   * @param divisions Number of divisions of each component (H)
+   * @return The weight vectors
+   */
+  public static double[][] simplexLattice(int numberOfObjectives, int divisions) {
+    checkNumberOfObjectives(numberOfObjectives);
+    checkDivisions(divisions);
+
+    double[][] weights = new double[checkedSize(numberOfObjectives, divisions)][] ;
+    fillSimplexLattice(weights, 0, numberOfObjectives, divisions, 1.0, 0.0);
+
+    return weights ;
+  }
+
+  /**
+   * Generates the vectors of a two-layer design: the vectors of the outer simplex-lattice are
+   * followed by those of the inner one, whose components v are replaced by v/2 + 1/(2M)
+   *
+   * @param numberOfObjectives Number of components of the vectors
+   * @param outerDivisions Number of divisions of the outer layer
+   * @param innerDivisions Number of divisions of the inner layer
+   * @return The weight vectors
+   */
+  public static double[][] twoLayer(int numberOfObjectives, int outerDivisions, int innerDivisions) {
+    checkNumberOfObjectives(numberOfObjectives);
+    checkDivisions(outerDivisions);
+    checkDivisions(innerDivisions);
+
+    int outerSize = checkedSize(numberOfObjectives, outerDivisions) ;
+    int innerSize = checkedSize(numberOfObjectives, innerDivisions) ;
+    if ((long)outerSize + innerSize > Integer.MAX_VALUE) {
+      throw new JMetalException("The two-layer design has too many vectors") ;
+    }
+
+    double[][] weights = new double[outerSize + innerSize][] ;
+    fillSimplexLattice(weights, 0, numberOfObjectives, outerDivisions, 1.0, 0.0);
+    fillSimplexLattice(weights, outerSize, numberOfObjectives, innerDivisions, INNER_LAYER_SCALE,
+        (1.0 - INNER_LAYER_SCALE) / numberOfObjectives);
+
+    return weights ;
+  }
+
+  /**
+   * Number of vectors of a simplex-lattice design, C(H+M-1, M-1). Values greater than
+   * Integer.MAX_VALUE are returned as Integer.MAX_VALUE + 1
+   *
+   * @param numberOfObjectives Number of components of the vectors (M)
+   * @param divisions Number of divisions of each component (H)
+   */
+  public static long numberOfLatticeVectors(int numberOfObjectives, int divisions) {
+    long size = 1 ;
+    for (int i = 1; i < numberOfObjectives; i++) {
+      size = size * (divisions + i) / i ;
+      if (size > Integer.MAX_VALUE) {
+        return Integer.MAX_VALUE + 1L ;
+      }
+    }
+
+    return size ;
+  }
+
+  /**
+   * Stores from a position of an array the vectors of a simplex-lattice design, with their
+   * components multiplied by a scale and increased by an offset. The first M-1 components are
+   * enumerated as an odometer whose digits add up to at most H, the last one taking the rest.
+   */
+  private static void fillSimplexLattice(double[][] weights, int from, int numberOfObjectives,
+      int divisions, double scale, double offset) {
+    int[] counts = new int[numberOfObjectives] ;
+    int sum = 0 ;
+    int position = from ;
+
+    while (true) {
+      double[] vector = new double[numberOfObjectives] ;
+      for (int j = 0; j < numberOfObjectives - 1; j++) {
+        vector[j] = scale * counts[j] / divisions + offset ;
+      }
+      vector[numberOfObjectives - 1] = scale * (divisions - sum) / divisions + offset ;
+      weights[position++] = vector ;
+
+      if (sum < divisions) {
+        counts[numberOfObjectives - 2]++ ;
+        sum++ ;
+      } else {
+        int last = numberOfObjectives - 2 ;
+        while (counts[last] == 0) {
+          last-- ;
+        }
+        if (last == 0) {
+          break ;
+        }
+        sum -= counts[last] - 1 ;
+        counts[last] = 0 ;
+        counts[last - 1]++ ;
+      }
+    }
+  }
+
+  private static int checkedSize(int numberOfObjectives, int divisions) {
+    long size = numberOfLatticeVectors(numberOfObjectives, divisions) ;
+    if (size > Integer.MAX_VALUE) {
+      throw new JMetalException("The simplex-lattice design of " + divisions + " divisions for "
+          + numberOfObjectives + " objectives has too many vectors") ;
+    }
+
+    return (int) size ;
+  }
+
+  private static void checkNumberOfObjectives(int numberOfObjectives) {
+    if (numberOfObjectives < 2) {
+      throw new JMetalException("The number of objectives is lower than 2: " + numberOfObjectives) ;
+    }
+  }
+
+  private static void checkDivisions(int divisions) {
+    if (divisions < 1) {
+      throw new JMetalException("The number of divisions is lower than 1: " + divisions) ;
+    }
+  }
+}
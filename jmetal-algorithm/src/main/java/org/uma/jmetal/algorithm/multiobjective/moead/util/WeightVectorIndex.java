@@ -0,0 +1,336 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+
+/**
+ * k-d tree of the weight vectors of MOEA/D, which finds the T nearest neighbors of each vector
+ * without computing the distances to all the other ones.
+ *
+ * The tree is stored implicitly in an array of vector indices as in
+ * {@link org.uma.jmetal.util.front.util.FrontIndex}. A search first finds the squared distance to
+ * the T-th nearest vector keeping the T best ones in a heap, and then collects all the vectors
+ * that are not farther than it. The distances to these candidates are computed with
+ * {@link MOEADUtils#distVector(double[], double[])} and sorted with
+ * {@link MOEADUtils#minFastSort(double[], int[], int, int)} in the order of their indices, so the
+ * neighborhoods, including the order of the neighbors at the same distance, are the same as those
+ * obtained by sorting the distances to all the vectors.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class WeightVectorIndex {
+  private static final int LEAF_SIZE = 8 ;
+
+  /* Relative tolerance of the candidates, as different squared distances can have the same root */
+  private static final double TOLERANCE = 1e-9 ;
+
+  private final double[][] weights ;
+  private final int numberOfVectors ;
+  private final int dimensions ;
+  private final double[] coordinates ;
+  private final int[] indices ;
+  private final int[] splitDimensions ;
+
+  /**
+   * Constructor
+   *
+   * @param weights Weight vectors to index. They must not be modified while the index is in use
+   */
+  public WeightVectorIndex(double[][] weights) {
+    if (weights == null) {
+      throw new JMetalException("The weight vectors are null");
+    } else if (weights.length == 0) {
+      throw new JMetalException("There are no weight vectors");
+    }
+
+    this.weights = weights ;
+    this.numberOfVectors = weights.length ;
+    this.dimensions = weights[0].length ;
+    this.coordinates = new double[numberOfVectors * dimensions] ;
+    this.indices = new int[numberOfVectors] ;
+    this.splitDimensions = new int[numberOfVectors] ;
+
+    for (int i = 0; i < numberOfVectors; i++) {
+      if (weights[i].length != dimensions) {
+        throw new JMetalException("The weight vector " + i + " has " + weights[i].length
+            + " components instead of " + dimensions) ;
+      }
+      System.arraycopy(weights[i], 0, coordinates, i * dimensions, dimensions);
+      indices[i] = i ;
+    }
+
+    build(0, numberOfVectors);
+  }
+
+  /**
+   * Computes the neighborhoods of all the weight vectors
+   *
+   * @param neighborSize Number of neighbors of each vector, including itself
+   * @return The indices of the neighbors of each vector, from the nearest to the farthest
+   */
+  public int[][] neighborhoods(int neighborSize) {
+    int[][] neighborhood = new int[numberOfVectors][] ;
+    for (int i = 0; i < numberOfVectors; i++) {
+      neighborhood[i] = nearestNeighbors(i, neighborSize) ;
+    }
+
+    return neighborhood ;
+  }
+
+  /**
+   * Finds the nearest neighbors of a weight vector
+   *
+   * @param vector Index of the weight vector
+   * @param neighborSize Number of neighbors, including the vector itself
+   * @return The indices of the neighbors, from the nearest to the farthest
+   */
+  public int[] nearestNeighbors(int vector, int neighborSize) {
+    if ((vector < 0) || (vector >= numberOfVectors)) {
+      throw new JMetalException("The index " + vector + " is not in [0, " + numberOfVectors + ")") ;
+    } else if ((neighborSize < 1) || (neighborSize > numberOfVectors)) {
+      throw new JMetalException("The neighbor size " + neighborSize + " is not in [1, "
+          + numberOfVectors + "]") ;
+    }
+
+    Search search = new Search(vector, neighborSize) ;
+    search.findNearest(0, numberOfVectors);
+
+    search.radius = search.heapDistances[0] * (1.0 + TOLERANCE) ;
+    search.collect(0, numberOfVectors);
+
+    int numberOfCandidates = search.numberOfCandidates ;
+    int[] candidates = search.candidates ;
+    Arrays.sort(candidates, 0, numberOfCandidates);
+
+    double[] x = new double[numberOfCandidates] ;
+    for (int i = 0; i < numberOfCandidates; i++) {
+      x[i] = MOEADUtils.distVector(weights[vector], weights[candidates[i]]) ;
+    }
+    MOEADUtils.minFastSort(x, candidates, numberOfCandidates, neighborSize);
+
+    return Arrays.copyOf(candidates, neighborSize) ;
+  }
+
+  /**
+   * Builds the subtree of the vectors in the positions [from, to) of the array of indices
+   */
+  private void build(int from, int to) {
+    if (to - from <= LEAF_SIZE) {
+      return ;
+    }
+
+    int splitDimension = 0 ;
+    double largestSpread = -1.0 ;
+    for (int j = 0; j < dimensions; j++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (int i = from; i < to; i++) {
+        double value = coordinates[indices[i] * dimensions + j] ;
+        min = Math.min(min, value) ;
+        max = Math.max(max, value) ;
+      }
+      if (max - min > largestSpread) {
+        largestSpread = max - min ;
+        splitDimension = j ;
+      }
+    }
+
+    int middle = (from + to) >>> 1 ;
+    select(from, to - 1, middle, splitDimension);
+    splitDimensions[middle] = splitDimension ;
+
+    build(from, middle);
+    build(middle + 1, to);
+  }
+
+  /**
+   * Moves to a position of the array of indices the vector that would be there if the positions
+   * [left, right] were sorted by a dimension, with lower or equal values before and higher or equal
+   * values after it
+   */
+  private void select(int left, int right, int position, int dimension) {
+    while (left < right) {
+      double pivot = coordinates[indices[(left + right) >>> 1] * dimensions + dimension] ;
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (coordinates[indices[i] * dimensions + dimension] < pivot) {
+          i++ ;
+        }
+        while (coordinates[indices[j] * dimensions + dimension] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          int aux = indices[i] ;
+          indices[i] = indices[j] ;
+          indices[j] = aux ;
+          i++ ;
+          j-- ;
+        }
+      }
+
+      if (position <= j) {
+        right = j ;
+      } else if (position >= i) {
+        left = i ;
+      } else {
+        return ;
+      }
+    }
+  }
+
+  /**
+   * State of a search of the neighbors of a vector. The T nearest vectors found are kept in a
+   * max-heap of squared distances, and the box of the current node in the lower and upper arrays
+   */
+  private class Search {
+    private final int query ;
+    private final double[] lower ;
+    private final double[] upper ;
+    private final double[] heapDistances ;
+    private int heapSize ;
+    private double radius ;
+    private int[] candidates ;
+    private int numberOfCandidates ;
+
+    Search(int query, int neighborSize) {
+      this.query = query * dimensions ;
+      this.lower = new double[dimensions] ;
+      this.upper = new double[dimensions] ;
+      this.heapDistances = new double[neighborSize] ;
+      this.candidates = new int[2 * neighborSize] ;
+      Arrays.fill(lower, Double.NEGATIVE_INFINITY);
+      Arrays.fill(upper, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Distance to the T-th nearest vector found, or infinity if less than T have been found
+     */
+    private double worstDistance() {
+      return heapSize < heapDistances.length ? Double.POSITIVE_INFINITY : heapDistances[0] ;
+    }
+
+    void findNearest(int from, int to) {
+      if (to - from <= LEAF_SIZE) {
+        for (int i = from; i < to; i++) {
+          offer(squaredDistance(indices[i])) ;
+        }
+        return ;
+      }
+
+      int middle = (from + to) >>> 1 ;
+      offer(squaredDistance(indices[middle])) ;
+      visitChildren(from, middle, to, true);
+    }
+
+    void collect(int from, int to) {
+      if (to - from <= LEAF_SIZE) {
+        for (int i = from; i < to; i++) {
+          check(indices[i]) ;
+        }
+        return ;
+      }
+
+      int middle = (from + to) >>> 1 ;
+      check(indices[middle]) ;
+      visitChildren(from, middle, to, false);
+    }
+
+    private void visitChildren(int from, int middle, int to, boolean nearest) {
+      int dimension = splitDimensions[middle] ;
+      double split = coordinates[indices[middle] * dimensions + dimension] ;
+      double previousLower = lower[dimension] ;
+      double previousUpper = upper[dimension] ;
+
+      boolean leftFirst = coordinates[query + dimension] < split ;
+      for (int side = 0; side < 2; side++) {
+        boolean left = (side == 0) == leftFirst ;
+        if (left) {
+          upper[dimension] = split ;
+        } else {
+          lower[dimension] = split ;
+        }
+
+        double bound = nearest ? worstDistance() : radius ;
+        if (nearest ? lowerBound(bound) < bound : lowerBound(bound) <= bound) {
+          int childFrom = left ? from : middle + 1 ;
+          int childTo = left ? middle : to ;
+          if (nearest) {
+            findNearest(childFrom, childTo);
+          } else {
+            collect(childFrom, childTo);
+          }
+        }
+
+        lower[dimension] = previousLower ;
+        upper[dimension] = previousUpper ;
+      }
+    }
+
+    /**
+     * Lower bound of the squared distance between the query and the vectors of the current box.
+     * The computation stops when the bound exceeds a limit
+     */
+    private double lowerBound(double limit) {
+      double bound = 0.0 ;
+      for (int i = 0; (i < dimensions) && (bound <= limit); i++) {
+        double value = coordinates[query + i] ;
+        double difference = Math.max(lower[i] - value, value - upper[i]) ;
+        if (difference > 0.0) {
+          bound += difference * difference ;
+        }
+      }
+
+      return bound ;
+    }
+
+    private double squaredDistance(int index) {
+      int offset = index * dimensions ;
+      double distance = 0.0 ;
+      for (int i = 0; i < dimensions; i++) {
+        double difference = coordinates[query + i] - coordinates[offset + i] ;
+        distance += difference * difference ;
+      }
+
+      return distance ;
+    }
+
+    private void offer(double distance) {
+      if (heapSize < heapDistances.length) {
+        int i = heapSize++ ;
+        while ((i > 0) && (heapDistances[(i - 1) / 2] < distance)) {
+          heapDistances[i] = heapDistances[(i - 1) / 2] ;
+          i = (i - 1) / 2 ;
+        }
+        heapDistances[i] = distance ;
+      } else if (distance < heapDistances[0]) {
+        int i = 0 ;
+        while (true) {
+          int child = 2 * i + 1 ;
+          if (child >= heapSize) {
+            break ;
+          }
+          if ((child + 1 < heapSize) && (heapDistances[child + 1] > heapDistances[child])) {
+            child++ ;
+          }
+          if (heapDistances[child] <= distance) {
+            break ;
+          }
+          heapDistances[i] = heapDistances[child] ;
+          i = child ;
+        }
+        heapDistances[i] = distance ;
+      }
+    }
+
+    private void check(int index) {
+      if (squaredDistance(index) <= radius) {
+        if (numberOfCandidates == candidates.length) {
+          candidates = Arrays.copyOf(candidates, 2 * candidates.length) ;
+        }
+        candidates[numberOfCandidates++] = index ;
+      }
+    }
+  }
+}
@@ -123,22 +123,31 @@ public abstract class AbstractMOMBI<S extends Solution<?>> extends AbstractGenet
 
 	@Override
 	public void run() {
-		List<S> offspringPopulation;
-		List<S> matingPopulation;
-
+		startTerminationCondition();
 		this.setPopulation(createInitialPopulation());
 		this.evaluatePopulation(this.getPopulation());
+		countEvaluations(this.getPopulation().size());
 		initProgress();
 		//specific GA needed computations
 		this.specificMOEAComputations();
-		while (!isStoppingConditionReached()) {
+		iterate();
+	}
+
+	@Override
+	protected void iterate() {
+		List<S> offspringPopulation;
+		List<S> matingPopulation;
+
+		while (!isStoppingConditionReached() && !isTerminationConditionMet()) {
 			matingPopulation = selection(this.getPopulation());
 			offspringPopulation = reproduction(matingPopulation);
 			offspringPopulation = evaluatePopulation(offspringPopulation);
+			countEvaluations(offspringPopulation.size());
 			this.setPopulation(replacement(this.getPopulation(), offspringPopulation));
 			updateProgress();
 			// specific GA needed computations
 			this.specificMOEAComputations();
+			saveCheckpoint();
 		}
 	}
 
@@ -0,0 +1,97 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.uma.jmetal.algorithm.impl.AsynchronousMultiObjectiveAlgorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.selection.RankingAndCrowdingSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Asynchronous steady-state version of NSGA-II. Every evaluated solution is inserted into the
+ * population as soon as it is returned by a worker, the population is reduced to its size by
+ * applying ranking and crowding distance, and a new offspring is sent to the idle worker.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousNSGAII<S extends Solution<?>> extends AsynchronousMultiObjectiveAlgorithm<S, List<S>> {
+  protected final int populationSize ;
+
+  protected CrossoverOperator<S> crossoverOperator ;
+  protected MutationOperator<S> mutationOperator ;
+  protected SelectionOperator<List<S>, S> selectionOperator ;
+  protected Ranking<S> ranking ;
+
+  protected List<S> population ;
+
+  /**
+   * Constructor
+   */
+  public AsynchronousNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, Ranking<S> ranking, int numberOfWorkers) {
+    super(problem, maxEvaluations, numberOfWorkers) ;
+    this.populationSize = populationSize ;
+
+    this.crossoverOperator = crossoverOperator ;
+    this.mutationOperator = mutationOperator ;
+    this.selectionOperator = selectionOperator ;
+    this.ranking = ranking ;
+  }
+
+  @Override protected List<S> createInitialSolutions() {
+    population = new ArrayList<>(populationSize + 1) ;
+
+    List<S> initialSolutions = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      initialSolutions.add(problem.createSolution()) ;
+    }
+
+    return initialSolutions ;
+  }
+
+  @Override protected S createNewSolution() {
+    if (population.size() < 2) {
+      return null ;
+    }
+
+    List<S> parents = new ArrayList<>(2);
+    parents.add(selectionOperator.execute(population));
+    parents.add(selectionOperator.execute(population));
+
+    List<S> offspring = crossoverOperator.execute(parents);
+    mutationOperator.execute(offspring.get(0));
+
+    return offspring.get(0) ;
+  }
+
+  @Override protected void processComputedSolution(S solution) {
+    population.add(solution) ;
+    if (population.size() > populationSize) {
+      population = new RankingAndCrowdingSelection<S>(populationSize, ranking).execute(population) ;
+    }
+  }
+
+  public List<S> getPopulation() {
+    return population ;
+  }
+
+  @Override public List<S> getResult() {
+    return SolutionListUtils.getNondominatedSolutions(population) ;
+  }
+
+  @Override public String getName() {
+    return "AsyncNSGAII" ;
+  }
+
+  @Override public String getDescription() {
+    return "Nondominated Sorting Genetic Algorithm version II. Asynchronous steady-state version" ;
+  }
+}
@@ -10,6 +10,8 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -26,6 +28,7 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
 
   protected int evaluations;
   protected Comparator<S> dominanceComparator ;
+  protected Ranking<S> ranking ;
 
   /**
    * Constructor
@@ -42,6 +45,17 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
   public NSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
       CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
       SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator, selectionOperator,
+        dominanceComparator, new DominanceRanking<S>(dominanceComparator), evaluator);
+  }
+
+  /**
+   * Constructor
+   */
+  public NSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+      Ranking<S> ranking, SolutionListEvaluator<S> evaluator) {
     super(problem);
     this.maxEvaluations = maxEvaluations;
     setMaxPopulationSize(populationSize); ;
@@ -52,6 +66,7 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
 
     this.evaluator = evaluator;
     this.dominanceComparator = dominanceComparator ;
+    this.ranking = ranking ;
   }
 
   @Override protected void initProgress() {
@@ -78,7 +93,7 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
     jointPopulation.addAll(offspringPopulation);
 
     RankingAndCrowdingSelection<S> rankingAndCrowdingSelection ;
-    rankingAndCrowdingSelection = new RankingAndCrowdingSelection<S>(getMaxPopulationSize(), dominanceComparator) ;
+    rankingAndCrowdingSelection = new RankingAndCrowdingSelection<S>(getMaxPopulationSize(), ranking) ;
 
     return rankingAndCrowdingSelection.execute(jointPopulation) ;
   }
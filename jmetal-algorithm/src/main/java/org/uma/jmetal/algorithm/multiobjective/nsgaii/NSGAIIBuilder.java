@@ -12,6 +12,8 @@ import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.util.Comparator;
 import java.util.List;
@@ -33,6 +35,8 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
   private SelectionOperator<List<S>, S> selectionOperator;
   private SolutionListEvaluator<S> evaluator;
   private Comparator<S> dominanceComparator ;
+  private Ranking<S> ranking ;
+  private int numberOfReproductionThreads ;
 
   private NSGAIIVariant variant;
 
@@ -49,6 +53,8 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     selectionOperator = new BinaryTournamentSelection<S>(new RankingAndCrowdingDistanceComparator<S>()) ;
     evaluator = new SequentialSolutionListEvaluator<S>();
     dominanceComparator = new DominanceComparator<>()  ;
+    ranking = null ;
+    numberOfReproductionThreads = 1 ;
 
     this.variant = NSGAIIVariant.NSGAII ;
   }
@@ -99,6 +105,35 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     return this;
   }
 
+  /**
+   * Sets the ranking used in the replacement step. By default, a {@link DominanceRanking} based on
+   * the dominance comparator is used. For Pareto dominance, the
+   * {@link org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking} yields the
+   * same ranks in a fraction of the time when the population is large
+   */
+  public NSGAIIBuilder<S> setRanking(Ranking<S> ranking) {
+    if (ranking == null) {
+      throw new JMetalException("ranking is null");
+    }
+    this.ranking = ranking ;
+
+    return this;
+  }
+
+  /**
+   * Sets the number of threads applying the crossover and mutation operators (see
+   * {@link org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm#setNumberOfReproductionThreads(int)}).
+   * By default, the reproduction is sequential
+   */
+  public NSGAIIBuilder<S> setNumberOfReproductionThreads(int numberOfReproductionThreads) {
+    if (numberOfReproductionThreads < 1) {
+      throw new JMetalException("Number of reproduction threads is not positive: " +
+          numberOfReproductionThreads);
+    }
+    this.numberOfReproductionThreads = numberOfReproductionThreads ;
+
+    return this;
+  }
 
   public NSGAIIBuilder<S> setVariant(NSGAIIVariant variant) {
     this.variant = variant;
@@ -108,15 +143,20 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
 
   public NSGAII<S> build() {
     NSGAII<S> algorithm = null ;
+    Ranking<S> ranking = (this.ranking == null) ? new DominanceRanking<S>(dominanceComparator) : this.ranking ;
     if (variant.equals(NSGAIIVariant.NSGAII)) {
       algorithm = new NSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, dominanceComparator, evaluator);
+          mutationOperator, selectionOperator, dominanceComparator, ranking, evaluator);
     } else if (variant.equals(NSGAIIVariant.SteadyStateNSGAII)) {
       algorithm = new SteadyStateNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, dominanceComparator, evaluator);
+          mutationOperator, selectionOperator, dominanceComparator, ranking, evaluator);
     } else if (variant.equals(NSGAIIVariant.Measures)) {
       algorithm = new NSGAIIMeasures<S>(problem, maxEvaluations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, dominanceComparator, evaluator);
+          mutationOperator, selectionOperator, dominanceComparator, ranking, evaluator);
+    }
+
+    if (algorithm != null) {
+      algorithm.setNumberOfReproductionThreads(numberOfReproductionThreads);
     }
 
     return algorithm ;
@@ -42,8 +42,19 @@ public class NSGAIIMeasures<S extends Solution<?>> extends NSGAII<S> implements
   public NSGAIIMeasures(Problem<S> problem, int maxIterations, int populationSize,
                         CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
                         SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, dominanceComparator, new DominanceRanking<S>(dominanceComparator), evaluator) ;
+  }
+
+  /**
+   * Constructor
+   */
+  public NSGAIIMeasures(Problem<S> problem, int maxIterations, int populationSize,
+                        CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+                        SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+                        Ranking<S> ranking, SolutionListEvaluator<S> evaluator) {
     super(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
-        selectionOperator, dominanceComparator, evaluator) ;
+        selectionOperator, dominanceComparator, ranking, evaluator) ;
 
     referenceFront = new ArrayFront() ;
 
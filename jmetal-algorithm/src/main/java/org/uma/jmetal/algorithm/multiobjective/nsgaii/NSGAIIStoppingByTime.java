@@ -11,7 +11,10 @@ import java.util.Comparator;
 import java.util.List;
 
 /**
- * This class shows a version of NSGA-II having a stopping condition depending on run-time
+ * This class shows a version of NSGA-II having a stopping condition depending on run-time. A
+ * time limit can also be given to any evolutionary algorithm with
+ * {@link org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm#setTerminationCondition}
+ * and a {@link org.uma.jmetal.util.termination.impl.TerminationByComputingTime} condition
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
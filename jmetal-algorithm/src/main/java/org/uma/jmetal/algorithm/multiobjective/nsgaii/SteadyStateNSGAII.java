@@ -6,6 +6,7 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -26,6 +27,17 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
         selectionOperator, dominanceComparator, evaluator);
   }
 
+  /**
+   * Constructor
+   */
+  public SteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+                           CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+                           SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+                           Ranking<S> ranking, SolutionListEvaluator<S> evaluator) {
+    super(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, dominanceComparator, ranking, evaluator);
+  }
+
   @Override protected void updateProgress() {
     evaluations ++ ;
   }
@@ -130,8 +130,8 @@ public class PAES<S extends Solution<?>> extends AbstractEvolutionStrategy<S, Li
    */
   @SuppressWarnings("unchecked")
   public S test(S solution, S mutatedSolution, AdaptiveGridArchive<S> archive) {
-    int originalLocation = archive.getGrid().location(solution);
-    int mutatedLocation = archive.getGrid().location(mutatedSolution);
+    long originalLocation = archive.getGrid().location(solution);
+    long mutatedLocation = archive.getGrid().location(mutatedSolution);
 
     if (originalLocation == -1) {
       return (S)mutatedSolution.copy();
@@ -18,9 +18,9 @@ public class PESA2Selection<S extends Solution<?>> implements SelectionOperator<
 	}
 
   @Override public S execute(AdaptiveGridArchive<S> archive) {
-    int selected;
-    int hypercube1 = archive.getGrid().randomOccupiedHypercube();
-    int hypercube2 = archive.getGrid().randomOccupiedHypercube();
+    long selected;
+    long hypercube1 = archive.getGrid().randomOccupiedHypercube();
+    long hypercube2 = archive.getGrid().randomOccupiedHypercube();
 
     if (hypercube1 != hypercube2){
       if (archive.getGrid().getLocationDensity(hypercube1) <
@@ -0,0 +1,233 @@
+package org.uma.jmetal.algorithm.multiobjective.smpso;
+
+import org.uma.jmetal.algorithm.impl.AsynchronousMultiObjectiveAlgorithm;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Asynchronous version of SMPSO. Particles are evaluated independently: when a worker returns a
+ * particle, the leaders archive and the particle memory are updated with it, and the particle is
+ * moved (velocity update, position update and perturbation) and sent again to be evaluated,
+ * without waiting for the rest of the swarm.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousSMPSO extends AsynchronousMultiObjectiveAlgorithm<DoubleSolution, List<DoubleSolution>> {
+  private DoubleProblem problem;
+
+  private double c1Max;
+  private double c1Min;
+  private double c2Max;
+  private double c2Min;
+  private double r1Max;
+  private double r1Min;
+  private double r2Max;
+  private double r2Min;
+  private double weightMax;
+  private double changeVelocity1;
+  private double changeVelocity2;
+
+  private int swarmSize;
+
+  private List<DoubleSolution> swarm;
+  private GenericSolutionAttribute<DoubleSolution, DoubleSolution> localBest;
+  private GenericSolutionAttribute<DoubleSolution, Integer> particleIndex;
+  private double[][] speed;
+  private Deque<Integer> particlesToMove;
+
+  private JMetalRandom randomGenerator;
+
+  private BoundedArchive<DoubleSolution> leaders;
+  private Comparator<DoubleSolution> dominanceComparator;
+
+  private MutationOperator<DoubleSolution> mutation;
+
+  private double deltaMax[];
+  private double deltaMin[];
+
+  /**
+   * Constructor
+   */
+  public AsynchronousSMPSO(DoubleProblem problem, int swarmSize, BoundedArchive<DoubleSolution> leaders,
+      MutationOperator<DoubleSolution> mutationOperator, int maxEvaluations, double r1Min, double r1Max,
+      double r2Min, double r2Max, double c1Min, double c1Max, double c2Min, double c2Max,
+      double weightMax, double changeVelocity1, double changeVelocity2, int numberOfWorkers) {
+    super(problem, maxEvaluations, numberOfWorkers);
+    this.problem = problem;
+    this.swarmSize = swarmSize;
+    this.leaders = leaders;
+    this.mutation = mutationOperator;
+
+    this.r1Max = r1Max;
+    this.r1Min = r1Min;
+    this.r2Max = r2Max;
+    this.r2Min = r2Min;
+    this.c1Max = c1Max;
+    this.c1Min = c1Min;
+    this.c2Max = c2Max;
+    this.c2Min = c2Min;
+    this.weightMax = weightMax;
+    this.changeVelocity1 = changeVelocity1;
+    this.changeVelocity2 = changeVelocity2;
+
+    randomGenerator = JMetalRandom.getInstance();
+
+    dominanceComparator = new DominanceComparator<DoubleSolution>();
+    localBest = new GenericSolutionAttribute<DoubleSolution, DoubleSolution>();
+    particleIndex = new GenericSolutionAttribute<DoubleSolution, Integer>(AsynchronousSMPSO.class) ;
+
+    deltaMax = new double[problem.getNumberOfVariables()];
+    deltaMin = new double[problem.getNumberOfVariables()];
+    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+      deltaMax[i] = (problem.getUpperBound(i) - problem.getLowerBound(i)) / 2.0;
+      deltaMin[i] = -deltaMax[i];
+    }
+  }
+
+  @Override
+  protected List<DoubleSolution> createInitialSolutions() {
+    swarm = new ArrayList<>(swarmSize);
+    speed = new double[swarmSize][problem.getNumberOfVariables()];
+    particlesToMove = new ArrayDeque<>(swarmSize) ;
+
+    for (int i = 0; i < swarmSize; i++) {
+      DoubleSolution particle = problem.createSolution();
+      particleIndex.setAttribute(particle, i);
+      swarm.add(particle);
+    }
+
+    return new ArrayList<>(swarm);
+  }
+
+  /**
+   * Moves the next particle returned by the workers. Every evaluated particle is queued to be
+   * moved, so the queue is only empty while all the particles are being evaluated, and then the
+   * engine waits for one of them
+   */
+  @Override
+  protected DoubleSolution createNewSolution() {
+    if (particlesToMove.isEmpty()) {
+      return null ;
+    }
+
+    int i = particlesToMove.poll() ;
+    updateVelocity(i);
+    updatePosition(i);
+    if ((i % 6) == 0) {
+      mutation.execute(swarm.get(i));
+    }
+
+    return swarm.get(i) ;
+  }
+
+  @Override
+  protected void processComputedSolution(DoubleSolution particle) {
+    leaders.add((DoubleSolution) particle.copy());
+    leaders.computeDensityEstimator();
+
+    DoubleSolution best = localBest.getAttribute(particle) ;
+    if ((best == null) || (dominanceComparator.compare(particle, best) != 1)) {
+      localBest.setAttribute(particle, (DoubleSolution) particle.copy());
+    }
+
+    particlesToMove.add(particleIndex.getAttribute(particle)) ;
+  }
+
+  private void updateVelocity(int i) {
+    DoubleSolution particle = swarm.get(i);
+    DoubleSolution bestParticle = localBest.getAttribute(particle);
+    DoubleSolution bestGlobal = selectGlobalBest();
+
+    double r1 = randomGenerator.nextDouble(r1Min, r1Max);
+    double r2 = randomGenerator.nextDouble(r2Min, r2Max);
+    double c1 = randomGenerator.nextDouble(c1Min, c1Max);
+    double c2 = randomGenerator.nextDouble(c2Min, c2Max);
+    double constriction = constrictionCoefficient(c1, c2) ;
+
+    for (int var = 0; var < particle.getNumberOfVariables(); var++) {
+      double value = particle.getVariableValue(var) ;
+      speed[i][var] = velocityConstriction(constriction * (weightMax * speed[i][var] +
+          c1 * r1 * (bestParticle.getVariableValue(var) - value) +
+          c2 * r2 * (bestGlobal.getVariableValue(var) - value)), var);
+    }
+  }
+
+  private void updatePosition(int i) {
+    DoubleSolution particle = swarm.get(i);
+    for (int j = 0; j < particle.getNumberOfVariables(); j++) {
+      particle.setVariableValue(j, particle.getVariableValue(j) + speed[i][j]);
+
+      if (particle.getVariableValue(j) < problem.getLowerBound(j)) {
+        particle.setVariableValue(j, problem.getLowerBound(j));
+        speed[i][j] = speed[i][j] * changeVelocity1;
+      }
+      if (particle.getVariableValue(j) > problem.getUpperBound(j)) {
+        particle.setVariableValue(j, problem.getUpperBound(j));
+        speed[i][j] = speed[i][j] * changeVelocity2;
+      }
+    }
+  }
+
+  protected DoubleSolution selectGlobalBest() {
+    int pos1 = randomGenerator.nextInt(0, leaders.getSolutionList().size() - 1);
+    int pos2 = randomGenerator.nextInt(0, leaders.getSolutionList().size() - 1);
+    DoubleSolution one = leaders.getSolutionList().get(pos1);
+    DoubleSolution two = leaders.getSolutionList().get(pos2);
+
+    return (leaders.getComparator().compare(one, two) < 1) ? one : two ;
+  }
+
+  private double velocityConstriction(double v, int variableIndex) {
+    double result = v;
+
+    if (v > deltaMax[variableIndex]) {
+      result = deltaMax[variableIndex];
+    }
+
+    if (v < deltaMin[variableIndex]) {
+      result = deltaMin[variableIndex];
+    }
+
+    return result;
+  }
+
+  private double constrictionCoefficient(double c1, double c2) {
+    double rho = c1 + c2;
+    if (rho <= 4) {
+      return 1.0;
+    } else {
+      return 2 / (2 - rho - Math.sqrt(Math.pow(rho, 2.0) - 4.0 * rho));
+    }
+  }
+
+  @Override
+  public List<DoubleSolution> getResult() {
+    return leaders.getSolutionList();
+  }
+
+  @Override
+  public String getName() {
+    return "AsyncSMPSO";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Speed contrained Multiobjective PSO. Asynchronous version";
+  }
+
+  public int getSwarmSize() {
+    return swarmSize;
+  }
+}
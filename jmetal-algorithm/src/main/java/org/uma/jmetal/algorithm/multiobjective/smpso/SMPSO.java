@@ -8,17 +8,26 @@ import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * This class implements the SMPSO algorithm described in:
  * SMPSO: A new PSO-based metaheuristic for multi-objective optimization
  * MCDM 2009. DOI: http://dx.doi.org/10.1109/MCDM.2009.4938830
  *
+ * The velocities and positions of the particles are updated reading the variables of the particles,
+ * their local bests and the global bests directly, without copying them. If the parallel update is
+ * enabled, the particles are updated concurrently, each one taking its random values from its own
+ * stream, which is created from the master generator at each iteration; so the results of a run
+ * with a given seed do not depend on the number of threads, although they are different from those
+ * of the sequential update.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
@@ -54,6 +63,10 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   private double deltaMax[];
   private double deltaMin[];
+  private double lowerBound[];
+  private double upperBound[];
+
+  private boolean parallelUpdate;
 
   private SolutionListEvaluator<DoubleSolution> evaluator;
 
@@ -93,8 +106,12 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
     deltaMax = new double[problem.getNumberOfVariables()];
     deltaMin = new double[problem.getNumberOfVariables()];
+    lowerBound = new double[problem.getNumberOfVariables()];
+    upperBound = new double[problem.getNumberOfVariables()];
     for (int i = 0; i < problem.getNumberOfVariables(); i++) {
-      deltaMax[i] = (problem.getUpperBound(i) - problem.getLowerBound(i)) / 2.0;
+      lowerBound[i] = problem.getLowerBound(i);
+      upperBound[i] = problem.getUpperBound(i);
+      deltaMax[i] = (upperBound[i] - lowerBound[i]) / 2.0;
       deltaMin[i] = -deltaMax[i];
     }
   }
@@ -165,49 +182,70 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   @Override
   protected void updateVelocity(List<DoubleSolution> swarm) {
-    double r1, r2, c1, c2;
-    double wmax, wmin;
-    DoubleSolution bestGlobal;
-
-    for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-      DoubleSolution bestParticle = (DoubleSolution) localBest.getAttribute(swarm.get(i)).copy();
-
-      bestGlobal = selectGlobalBest();
-
-      r1 = randomGenerator.nextDouble(r1Min, r1Max);
-      r2 = randomGenerator.nextDouble(r2Min, r2Max);
-      c1 = randomGenerator.nextDouble(c1Min, c1Max);
-      c2 = randomGenerator.nextDouble(c2Min, c2Max);
-      wmax = weightMax;
-      wmin = weightMin;
-
-      for (int var = 0; var < particle.getNumberOfVariables(); var++) {
-        speed[i][var] = velocityConstriction(constrictionCoefficient(c1, c2) * (
-                        inertiaWeight(iterations, maxIterations, wmax, wmin) * speed[i][var] +
-                                c1 * r1 * (bestParticle.getVariableValue(var) - particle.getVariableValue(var)) +
-                                c2 * r2 * (bestGlobal.getVariableValue(var) - particle.getVariableValue(var))),
-                deltaMax, deltaMin, var);
+    if (parallelUpdate) {
+      PseudoRandomGenerator[] streams = randomGenerator.createStreams(swarm.size());
+      IntStream.range(0, swarm.size()).parallel().forEach(i ->
+          randomGenerator.runWith(streams[i], () -> updateVelocity(i, swarm.get(i))));
+    } else {
+      for (int i = 0; i < swarm.size(); i++) {
+        updateVelocity(i, swarm.get(i));
       }
     }
   }
 
+  /**
+   * Updates the velocity of a particle. The random values are taken from the generator of the
+   * current thread
+   */
+  private void updateVelocity(int i, DoubleSolution particle) {
+    DoubleSolution bestParticle = localBest.getAttribute(particle);
+    DoubleSolution bestGlobal = selectGlobalBest();
+
+    double r1 = randomGenerator.nextDouble(r1Min, r1Max);
+    double r2 = randomGenerator.nextDouble(r2Min, r2Max);
+    double c1 = randomGenerator.nextDouble(c1Min, c1Max);
+    double c2 = randomGenerator.nextDouble(c2Min, c2Max);
+
+    double constriction = constrictionCoefficient(c1, c2);
+    double weight = inertiaWeight(iterations, maxIterations, weightMax, weightMin);
+    double[] velocity = speed[i];
+
+    for (int var = 0; var < velocity.length; var++) {
+      double value = particle.getVariableValue(var);
+      velocity[var] = velocityConstriction(constriction * (
+              weight * velocity[var] +
+                      c1 * r1 * (bestParticle.getVariableValue(var) - value) +
+                      c2 * r2 * (bestGlobal.getVariableValue(var) - value)),
+              deltaMax, deltaMin, var);
+    }
+  }
+
   @Override
   protected void updatePosition(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      for (int j = 0; j < particle.getNumberOfVariables(); j++) {
-        particle.setVariableValue(j, particle.getVariableValue(j) + speed[i][j]);
-
-        if (particle.getVariableValue(j) < problem.getLowerBound(j)) {
-          particle.setVariableValue(j, problem.getLowerBound(j));
-          speed[i][j] = speed[i][j] * changeVelocity1;
-        }
-        if (particle.getVariableValue(j) > problem.getUpperBound(j)) {
-          particle.setVariableValue(j, problem.getUpperBound(j));
-          speed[i][j] = speed[i][j] * changeVelocity2;
-        }
+    if (parallelUpdate) {
+      IntStream.range(0, swarmSize).parallel().forEach(i -> updatePosition(i, swarm.get(i)));
+    } else {
+      for (int i = 0; i < swarmSize; i++) {
+        updatePosition(i, swarm.get(i));
+      }
+    }
+  }
+
+  private void updatePosition(int i, DoubleSolution particle) {
+    double[] velocity = speed[i];
+    for (int j = 0; j < velocity.length; j++) {
+      double value = particle.getVariableValue(j) + velocity[j];
+
+      if (value < lowerBound[j]) {
+        value = lowerBound[j];
+        velocity[j] = velocity[j] * changeVelocity1;
       }
+      if (value > upperBound[j]) {
+        value = upperBound[j];
+        velocity[j] = velocity[j] * changeVelocity2;
+      }
+
+      particle.setVariableValue(j, value);
     }
   }
 
@@ -243,6 +281,9 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     return leaders.getSolutionList();
   }
 
+  /**
+   * Selects a leader by binary tournament. The leader is not copied, so it must not be modified
+   */
   protected DoubleSolution selectGlobalBest() {
     DoubleSolution one, two;
     DoubleSolution bestGlobal;
@@ -252,9 +293,9 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     two = leaders.getSolutionList().get(pos2);
 
     if (leaders.getComparator().compare(one, two) < 1) {
-      bestGlobal = (DoubleSolution) one.copy();
+      bestGlobal = one;
     } else {
-      bestGlobal = (DoubleSolution) two.copy();
+      bestGlobal = two;
     }
 
     return bestGlobal;
@@ -316,8 +357,19 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     return iterations;
   }
 
+  public boolean isParallelUpdate() {
+    return parallelUpdate;
+  }
+
   /* Setters */
   public void setIterations(int iterations) {
     this.iterations = iterations;
   }
+
+  /**
+   * Enables or disables the concurrent update of the velocities and positions of the particles
+   */
+  public void setParallelUpdate(boolean parallelUpdate) {
+    this.parallelUpdate = parallelUpdate;
+  }
 }
@@ -45,6 +45,8 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
 
   protected SMPSOVariant variant ;
 
+  protected boolean parallelUpdate ;
+
   public SMPSOBuilder(DoubleProblem problem, BoundedArchive<DoubleSolution> leaders) {
     this.problem = problem;
     this.leaders = leaders;
@@ -69,6 +71,7 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
     evaluator = new SequentialSolutionListEvaluator<DoubleSolution>() ;
 
     this.variant = SMPSOVariant.SMPSO ;
+    parallelUpdate = false ;
 
   }
 
@@ -242,16 +245,26 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
     return this;
   }
 
+  public SMPSOBuilder setParallelUpdate(boolean parallelUpdate) {
+    this.parallelUpdate = parallelUpdate;
+
+    return this;
+  }
+
   public SMPSO build() {
+    SMPSO algorithm ;
     if (variant.equals(SMPSOVariant.SMPSO)) {
-      return new SMPSO(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max,
+      algorithm = new SMPSO(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max,
           r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1,
           changeVelocity2, evaluator);
     } else {
-      return new SMPSOMeasures(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max,
+      algorithm = new SMPSOMeasures(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max,
           r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1,
           changeVelocity2, evaluator);
     }
+    algorithm.setParallelUpdate(parallelUpdate);
+
+    return algorithm ;
   }
 
   /*
@@ -276,6 +289,10 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
   public SolutionListEvaluator<DoubleSolution> getEvaluator() {
     return evaluator;
   }
+
+  public boolean isParallelUpdate() {
+    return parallelUpdate;
+  }
 }
 
 
@@ -6,6 +6,7 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.IncrementalHypervolumeContribution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.GDominanceComparator;
@@ -19,6 +20,10 @@ import java.util.List;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ * With two or three objectives, the hypervolume contributions of the last subfront are kept from
+ * one generation to the next one by an {@link IncrementalHypervolumeContribution} object, so only
+ * the contributions affected by the changes in that subfront are recomputed.
  */
 @SuppressWarnings("serial")
 public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, List<S>> {
@@ -28,6 +33,7 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   protected int evaluations;
 
   private Hypervolume<S> hypervolume;
+  private transient IncrementalHypervolumeContribution<S> contributions ;
   protected Comparator<S> dominanceComparator ;
 
   /**
@@ -101,8 +107,6 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     Ranking<S> ranking = computeRanking(jointPopulation);
     List<S> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts()-1) ;
 
-    lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
-
     List<S> resultPopulation = new ArrayList<>() ;
     for (int i = 0; i < ranking.getNumberOfSubfronts()-1; i++) {
       for (S solution : ranking.getSubfront(i)) {
@@ -110,13 +114,42 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
       }
     }
 
-    for (int i = 0; i < lastSubfront.size()-1; i++) {
-      resultPopulation.add(lastSubfront.get(i)) ;
+    if (updateContributions(lastSubfront, jointPopulation)) {
+      S worst = contributions.getLeastContributor() ;
+      contributions.remove(worst) ;
+      for (S solution : lastSubfront) {
+        if (solution != worst) {
+          resultPopulation.add(solution) ;
+        }
+      }
+    } else {
+      lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+      for (int i = 0; i < lastSubfront.size()-1; i++) {
+        resultPopulation.add(lastSubfront.get(i)) ;
+      }
     }
 
     return resultPopulation ;
   }
 
+  /**
+   * Updates the incremental contributions with the solutions of the last subfront
+   * @return false if they cannot be used (the number of objectives is not two or three, or the
+   * solutions are not mutually non-dominated according to their objectives)
+   */
+  protected boolean updateContributions(List<S> lastSubfront, List<S> jointPopulation) {
+    int numberOfObjectives = getProblem().getNumberOfObjectives() ;
+    if (!IncrementalHypervolumeContribution.isSupported(numberOfObjectives)) {
+      return false ;
+    }
+    if (contributions == null) {
+      contributions = new IncrementalHypervolumeContribution<>(numberOfObjectives) ;
+    }
+
+    return contributions.update(lastSubfront,
+        IncrementalHypervolumeContribution.computeReferencePoint(jointPopulation, hypervolume.getOffset())) ;
+  }
+
   @Override public List<S> getResult() {
     return getPopulation();
   }
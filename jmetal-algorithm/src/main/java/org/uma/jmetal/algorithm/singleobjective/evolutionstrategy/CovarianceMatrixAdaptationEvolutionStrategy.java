@@ -4,17 +4,38 @@ import org.uma.jmetal.algorithm.impl.AbstractEvolutionStrategy;
 import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.util.CMAESUtils;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 /**
- * Class implementing the CMA-ES algorithm
+ * Class implementing the CMA-ES algorithm. Besides the standard algorithm, which adapts a full
+ * covariance matrix, two variants intended for large scale problems can be selected in the
+ * {@link Builder}:
+ * - sep-CMA-ES (R. Ros, N. Hansen. A Simple Modification in CMA-ES Achieving Linear Time and Space
+ * Complexity. PPSN X, 2008), which only adapts the diagonal of the covariance matrix
+ * - LM-MA-ES (I. Loshchilov, T. Glasmachers, H.G. Beyer. Large Scale Black-box Optimization by
+ * Limited-Memory Matrix Adaptation. IEEE TEVC, 2019), which represents the transformation of the
+ * search distribution with a small number of direction vectors
+ *
+ * The time and memory needed by these variants are linear in the number of variables, while those of
+ * the standard algorithm are quadratic (plus the cubic eigendecomposition of the covariance matrix).
+ *
+ * The new solutions of each generation can be sampled in parallel, and they are evaluated with a
+ * {@link SolutionListEvaluator}. The random numbers are drawn sequentially before the sampling, so
+ * the results do not depend on the number of threads.
+ *
+ * The algorithm can also stop when the search stagnates, using the usual termination criteria of
+ * CMA-ES for restarts (see {@link RestartCovarianceMatrixAdaptationEvolutionStrategy}).
  */
 @SuppressWarnings("serial")
 public class CovarianceMatrixAdaptationEvolutionStrategy
@@ -24,6 +45,13 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   private int evaluations ;
   private int maxEvaluations ;
   private double[] typicalX;
+  private CMAESVariant variant ;
+  private SolutionListEvaluator<DoubleSolution> evaluator ;
+  private boolean parallelSampling ;
+  private boolean stopOnStagnation ;
+  private boolean stagnated ;
+
+  public enum CMAESVariant {CMAES, SepCMAES, LMMAES}
 
   /**
    * CMA-ES state variables
@@ -38,6 +66,19 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   // Symmetric and positive definitive covariance matrix
   private double[][] c;
 
+  // Diagonal of the covariance matrix (sep-CMA-ES)
+  private double[] diagC;
+
+  // Direction vectors and their learning rates (LM-MA-ES)
+  private int numberOfDirectionVectors;
+  private double[][] directionVectors;
+  private double[] cumulationDirectionVectors;
+  private double[] learningRateDirectionVectors;
+  private int numberOfDirectionVectorUpdates;
+
+  // Standard normal vectors used to sample the offspring (LM-MA-ES)
+  private double[][] offspringZ;
+
   // Evolution paths for c and sigma
   private double[] pathsC;
   private double[] pathsSigma;
@@ -94,6 +135,20 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   private Random rand;
 
+  /*
+   * Termination criteria used when the algorithm stops on stagnation
+   */
+  private static final double TOL_FUN = 1e-12;
+  private static final double TOL_X = 1e-12;
+  private static final double TOL_UP_SIGMA = 1e20;
+  private static final double MAX_CONDITION = 1e14;
+
+  private double initialSigma;
+
+  // best objective values of the last generations
+  private double[] bestValueHistory;
+  private int generations;
+
   /** Constructor */
   private CovarianceMatrixAdaptationEvolutionStrategy (Builder builder) {
     super(builder.problem) ;
@@ -101,9 +156,15 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     this.maxEvaluations = builder.maxEvaluations ;
     this.typicalX = builder.typicalX;
     this.sigma = builder.sigma;
+    this.variant = builder.variant;
+    this.evaluator = builder.evaluator;
+    this.parallelSampling = builder.parallelSampling;
+    this.numberOfDirectionVectors = builder.numberOfDirectionVectors;
 
-    long seed = System.currentTimeMillis();
-    rand = new Random(seed);
+    this.stopOnStagnation = builder.stopOnStagnation;
+    this.initialSigma = builder.sigma;
+
+    rand = new Random(builder.seed);
     comparator = new ObjectiveComparator<DoubleSolution>(0);
 
     initializeInternalParameters();
@@ -119,6 +180,33 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     return maxEvaluations;
   }
 
+  public CMAESVariant getVariant() {
+    return variant;
+  }
+
+  public SolutionListEvaluator<DoubleSolution> getEvaluator() {
+    return evaluator;
+  }
+
+  public boolean isParallelSampling() {
+    return parallelSampling;
+  }
+
+  public int getNumberOfDirectionVectors() {
+    return numberOfDirectionVectors;
+  }
+
+  public boolean isStopOnStagnation() {
+    return stopOnStagnation;
+  }
+
+  /**
+   * @return True if the last run stopped because the search stagnated
+   */
+  public boolean isStagnated() {
+    return stagnated;
+  }
+
   /**
    * Buider class
    */
@@ -132,12 +220,24 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     private int maxEvaluations ;
     private double [] typicalX;
     private double sigma;
+    private CMAESVariant variant;
+    private SolutionListEvaluator<DoubleSolution> evaluator;
+    private boolean parallelSampling;
+    private int numberOfDirectionVectors;
+    private boolean stopOnStagnation;
+    private long seed;
 
     public Builder(DoubleProblem problem) {
       this.problem = problem;
       lambda = DEFAULT_LAMBDA;
       maxEvaluations = DEFAULT_MAX_EVALUATIONS;
       sigma = DEFAULT_SIGMA;
+      variant = CMAESVariant.CMAES;
+      evaluator = new SequentialSolutionListEvaluator<DoubleSolution>();
+      parallelSampling = false;
+      numberOfDirectionVectors = 4 + (int) Math.floor(3 * Math.log(problem.getNumberOfVariables()));
+      stopOnStagnation = false;
+      seed = System.currentTimeMillis();
     }
 
     public Builder setLambda(int lambda) {
@@ -160,6 +260,63 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
       return this;
     }
 
+    public Builder setVariant(CMAESVariant variant) {
+      if (variant == null) {
+        throw new JMetalException("variant is null");
+      }
+      this.variant = variant;
+      return this;
+    }
+
+    public Builder setSolutionListEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+      if (evaluator == null) {
+        throw new JMetalException("evaluator is null");
+      }
+      this.evaluator = evaluator;
+      return this;
+    }
+
+    /**
+     * Sets whether the new solutions are sampled in parallel
+     */
+    public Builder setParallelSampling(boolean parallelSampling) {
+      this.parallelSampling = parallelSampling;
+      return this;
+    }
+
+    /**
+     * Sets the number of direction vectors of the LM-MA-ES variant. The default value is
+     * 4 + floor(3 * ln(numberOfVariables))
+     */
+    public Builder setNumberOfDirectionVectors(int numberOfDirectionVectors) {
+      if (numberOfDirectionVectors < 1) {
+        throw new JMetalException("Invalid number of direction vectors: " + numberOfDirectionVectors);
+      }
+      this.numberOfDirectionVectors = numberOfDirectionVectors;
+      return this;
+    }
+
+    /**
+     * Sets whether the algorithm stops before reaching the maximum number of evaluations when the
+     * search stagnates: the best values of the last 10 + 30 * n / lambda generations (and those of
+     * the current one) are within 1e-12, the step size becomes lower than 1e-12 times its initial
+     * value or higher than 1e20 times, or the condition number of the covariance matrix exceeds
+     * 1e14
+     */
+    public Builder setStopOnStagnation(boolean stopOnStagnation) {
+      this.stopOnStagnation = stopOnStagnation;
+      return this;
+    }
+
+    /**
+     * Sets the seed of the random generator used to sample the solutions. By default, it is the
+     * current time
+     */
+    public Builder setSeed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
     public CovarianceMatrixAdaptationEvolutionStrategy build() {
       return new CovarianceMatrixAdaptationEvolutionStrategy(this);
     }
@@ -167,6 +324,8 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   @Override protected void initProgress() {
     evaluations = 0;
+    generations = 0;
+    stagnated = false;
   }
 
   @Override protected void updateProgress() {
@@ -175,7 +334,7 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   }
 
   @Override protected boolean isStoppingConditionReached() {
-    return evaluations >= maxEvaluations;
+    return (evaluations >= maxEvaluations) || stagnated;
   }
 
   @Override protected List<DoubleSolution> createInitialPopulation() {
@@ -188,10 +347,7 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   }
 
   @Override protected List<DoubleSolution> evaluatePopulation(List<DoubleSolution> population) {
-    for (DoubleSolution solution : population) {
-      getProblem().evaluate(solution);
-    }
-    return population;
+    return evaluator.evaluate(population, getProblem());
   }
 
   @Override protected List<DoubleSolution> selection(List<DoubleSolution> population) {
@@ -200,10 +356,32 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   @Override protected List<DoubleSolution> reproduction(List<DoubleSolution> population) {
 
+    int numberOfVariables = getProblem().getNumberOfVariables();
+
+    // the offspring are copies of a new solution, as their variables are overwritten when sampling
+    DoubleSolution newSolution = getProblem().createSolution();
     List<DoubleSolution> offspringPopulation = new ArrayList<>(lambda);
+    double[][] z = new double[lambda][numberOfVariables];
 
     for (int iNk = 0; iNk < lambda; iNk++) {
-      offspringPopulation.add(sampleSolution());
+      offspringPopulation.add(iNk == 0 ? newSolution : (DoubleSolution) newSolution.copy());
+      for (int i = 0; i < numberOfVariables; i++) {
+        //TODO: Check the correctness of this random (http://en.wikipedia.org/wiki/CMA-ES)
+        z[iNk][i] = rand.nextGaussian();
+      }
+    }
+
+    if (parallelSampling) {
+      IntStream.range(0, lambda).parallel()
+          .forEach(iNk -> sampleSolution(offspringPopulation.get(iNk), z[iNk]));
+    } else {
+      for (int iNk = 0; iNk < lambda; iNk++) {
+        sampleSolution(offspringPopulation.get(iNk), z[iNk]);
+      }
+    }
+
+    if (variant == CMAESVariant.LMMAES) {
+      offspringZ = z;
     }
 
     return offspringPopulation;
@@ -244,7 +422,7 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     weights = new double[mu];
     double sum = 0;
     for (int i = 0; i < mu; i++) {
-      weights[i] = (Math.log(mu + 1 / 2) - Math.log(i + 1));
+      weights[i] = (Math.log(mu + 1.0 / 2) - Math.log(i + 1));
       sum += weights[i];
     }
     // normalize recombination weights array
@@ -277,10 +455,22 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     cmu = Math.min(1 - c1,
         2 * (muEff - 2 + 1 / muEff) / ((numberOfVariables + 2) * (numberOfVariables + 2) + muEff));
 
+    if (variant == CMAESVariant.SepCMAES) {
+      // the diagonal is adapted faster, as it has less degrees of freedom
+      c1 = Math.min(1, c1 * (numberOfVariables + 2) / 3);
+      cmu = Math.min(1 - c1, cmu * (numberOfVariables + 2) / 3);
+    }
+
     // damping for sigma, usually close to 1
     dampingSigma = 1 +
         2 * Math.max(0, Math.sqrt((muEff - 1) / (numberOfVariables + 1)) - 1) + cumulationSigma;
 
+    if (variant == CMAESVariant.LMMAES) {
+      // step size adaptation of LM-MA-ES, which is faster when there are many variables
+      cumulationSigma = Math.min(1, 2.0 * lambda / numberOfVariables);
+      dampingSigma = 2;
+    }
+
     /* Initialize dynamic (internal) strategy parameters and constants */
 
     // diagonal D defines the scaling
@@ -290,6 +480,42 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     pathsC = new double[numberOfVariables];
     pathsSigma = new double[numberOfVariables];
 
+    for (int i = 0; i < numberOfVariables; i++) {
+      pathsC[i] = 0;
+      pathsSigma[i] = 0;
+      diagD[i] = 1;
+    }
+
+    switch (variant) {
+      case CMAES:
+        initializeCovarianceMatrix();
+        break;
+      case SepCMAES:
+        diagC = new double[numberOfVariables];
+        for (int i = 0; i < numberOfVariables; i++) {
+          diagC[i] = diagD[i] * diagD[i];
+        }
+        break;
+      case LMMAES:
+        initializeDirectionVectors();
+        break;
+      default:
+        throw new JMetalException("Unknown variant: " + variant);
+    }
+
+    // track update of b and D
+    eigenEval = 0;
+
+    chiN = Math.sqrt(numberOfVariables) * (1 - 1.0 / (4 * numberOfVariables) + 1.0 / (21
+        * numberOfVariables * numberOfVariables));
+
+    bestValueHistory = new double[10 + (int) Math.ceil(30.0 * numberOfVariables / lambda)];
+
+  }
+
+  private void initializeCovarianceMatrix() {
+    int numberOfVariables = getProblem().getNumberOfVariables();
+
     // b defines the coordinate system
     b = new double[numberOfVariables][numberOfVariables];
     // covariance matrix C
@@ -299,9 +525,6 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     invSqrtC = new double[numberOfVariables][numberOfVariables];
 
     for (int i = 0; i < numberOfVariables; i++) {
-      pathsC[i] = 0;
-      pathsSigma[i] = 0;
-      diagD[i] = 1;
       for (int j = 0; j < numberOfVariables; j++) {
         b[i][j] = 0;
         invSqrtC[i][j] = 0;
@@ -313,13 +536,21 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
       c[i][i] = diagD[i] * diagD[i];
       invSqrtC[i][i] = 1;
     }
+  }
 
-    // track update of b and D
-    eigenEval = 0;
+  private void initializeDirectionVectors() {
+    int numberOfVariables = getProblem().getNumberOfVariables();
 
-    chiN = Math.sqrt(numberOfVariables) * (1 - 1 / (4 * numberOfVariables) + 1 / (21
-        * numberOfVariables * numberOfVariables));
+    directionVectors = new double[numberOfDirectionVectors][numberOfVariables];
+    cumulationDirectionVectors = new double[numberOfDirectionVectors];
+    learningRateDirectionVectors = new double[numberOfDirectionVectors];
+    for (int i = 0; i < numberOfDirectionVectors; i++) {
+      cumulationDirectionVectors[i] =
+          Math.min(1, lambda / (Math.pow(4, i) * numberOfVariables));
+      learningRateDirectionVectors[i] = Math.min(1, 1 / (Math.pow(1.5, i) * numberOfVariables));
+    }
 
+    numberOfDirectionVectorUpdates = 0;
   }
 
   private void updateInternalParameters() {
@@ -331,7 +562,11 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
     // Sort by fitness and compute weighted mean into distributionMean
     // minimization
-    Collections.sort(getPopulation(), comparator);
+    if (variant == CMAESVariant.LMMAES) {
+      sortPopulationAndOffspringZ();
+    } else {
+      Collections.sort(getPopulation(), comparator);
+    }
     storeBest();
 
     // calculate new distribution mean and BDz~N(0,C)
@@ -341,17 +576,113 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     int hsig = updateEvolutionPaths(oldDistributionMean);
 
     // Adapt covariance matrix C
-    adaptCovarianceMatrix(oldDistributionMean, hsig);
+    switch (variant) {
+      case CMAES:
+        adaptCovarianceMatrix(oldDistributionMean, hsig);
+        break;
+      case SepCMAES:
+        adaptDiagonalCovarianceMatrix(oldDistributionMean, hsig);
+        break;
+      default:
+        adaptDirectionVectors();
+    }
 
     // Adapt step size sigma
     double psxps = CMAESUtils.norm(pathsSigma);
-    sigma *= Math.exp((cumulationSigma / dampingSigma) * (Math.sqrt(psxps) / chiN - 1));
+    if (variant == CMAESVariant.LMMAES) {
+      sigma *= Math.exp((cumulationSigma / dampingSigma) * (psxps / numberOfVariables - 1));
+    } else {
+      sigma *= Math.exp((cumulationSigma / dampingSigma) * (Math.sqrt(psxps) / chiN - 1));
+    }
 
     // Decomposition of C into b*diag(D.^2)*b' (diagonalization)
-    decomposeCovarianceMatrix();
+    if (variant == CMAESVariant.CMAES) {
+      decomposeCovarianceMatrix();
+    } else if (variant == CMAESVariant.SepCMAES) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        diagD[i] = Math.sqrt(diagC[i]);
+      }
+    }
+
+    if (stopOnStagnation) {
+      stagnated = isSearchStagnated();
+    }
 
   }
 
+  private boolean isSearchStagnated() {
+    int numberOfVariables = getProblem().getNumberOfVariables();
+
+    bestValueHistory[generations % bestValueHistory.length] = getPopulation().get(0).getObjective(0);
+    generations++;
+
+    // Range of the best values of the last generations and of the values of the current one
+    if (generations >= bestValueHistory.length) {
+      double min = getPopulation().get(0).getObjective(0);
+      double max = getPopulation().get(getPopulation().size() - 1).getObjective(0);
+      for (double value : bestValueHistory) {
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+      }
+      if (max - min < TOL_FUN) {
+        return true;
+      }
+    }
+
+    // Standard deviations of the search distribution
+    double maxStandardDeviation = 0;
+    for (int i = 0; i < numberOfVariables; i++) {
+      double deviation;
+      if (variant == CMAESVariant.CMAES) {
+        deviation = Math.sqrt(c[i][i]);
+      } else if (variant == CMAESVariant.SepCMAES) {
+        deviation = diagD[i];
+      } else {
+        deviation = 1;
+      }
+      maxStandardDeviation = Math.max(maxStandardDeviation, Math.max(Math.abs(pathsC[i]), deviation));
+    }
+    if (sigma * maxStandardDeviation < TOL_X * initialSigma) {
+      return true;
+    }
+
+    double maxD = 0;
+    double minD = Double.MAX_VALUE;
+    for (int i = 0; i < numberOfVariables; i++) {
+      maxD = Math.max(maxD, diagD[i]);
+      minD = Math.min(minD, diagD[i]);
+    }
+    if (sigma > TOL_UP_SIGMA * initialSigma * maxD) {
+      return true;
+    }
+
+    return (maxD * maxD > MAX_CONDITION * minD * minD);
+  }
+
+  /**
+   * Sorts the population keeping the standard normal vectors used to sample each solution in the
+   * same positions as the solutions
+   */
+  private void sortPopulationAndOffspringZ() {
+    List<DoubleSolution> population = getPopulation();
+
+    List<Integer> order = new ArrayList<>(population.size());
+    for (int i = 0; i < population.size(); i++) {
+      order.add(i);
+    }
+    Collections.sort(order, (i, j) -> comparator.compare(population.get(i), population.get(j)));
+
+    List<DoubleSolution> sortedPopulation = new ArrayList<>(population.size());
+    double[][] sortedZ = new double[population.size()][];
+    for (int i = 0; i < population.size(); i++) {
+      sortedPopulation.add(population.get(order.get(i)));
+      sortedZ[i] = offspringZ[order.get(i)];
+    }
+
+    setPopulation(sortedPopulation);
+    offspringZ = sortedZ;
+  }
+
   private void updateDistributionMean() {
 
     int numberOfVariables = getProblem().getNumberOfVariables();
@@ -371,11 +702,19 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
     int numberOfVariables = getProblem().getNumberOfVariables();
 
     double[] artmp = new double[numberOfVariables];
-    for (int i = 0; i < numberOfVariables; i++) {
-      artmp[i] = 0;
-      for (int j = 0; j < numberOfVariables; j++) {
-        artmp[i] += invSqrtC[i][j] * (distributionMean[j] - oldDistributionMean[j]) / sigma;
+    if (variant == CMAESVariant.CMAES) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        artmp[i] = 0;
+        for (int j = 0; j < numberOfVariables; j++) {
+          artmp[i] += invSqrtC[i][j] * (distributionMean[j] - oldDistributionMean[j]) / sigma;
+        }
       }
+    } else if (variant == CMAESVariant.SepCMAES) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        artmp[i] = (distributionMean[i] - oldDistributionMean[i]) / sigma / diagD[i];
+      }
+    } else {
+      weightedMeanOfOffspringZ(artmp);
     }
     // cumulation for sigma (pathsSigma)
     for (int i = 0; i < numberOfVariables; i++) {
@@ -432,6 +771,49 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   }
 
+  private void adaptDiagonalCovarianceMatrix(double[] oldDistributionMean, int hsig) {
+
+    int numberOfVariables = getProblem().getNumberOfVariables();
+
+    for (int i = 0; i < numberOfVariables; i++) {
+      diagC[i] = (1 - c1 - cmu) * diagC[i]
+          + c1 * (pathsC[i] * pathsC[i] + (1 - hsig) * cumulationC * (2. - cumulationC) * diagC[i]);
+      for (int k = 0; k < mu; k++) {
+        double step = (getPopulation().get(k).getVariableValue(i) - oldDistributionMean[i]) / sigma;
+        diagC[i] += cmu * weights[k] * step * step;
+      }
+    }
+
+  }
+
+  private void adaptDirectionVectors() {
+
+    int numberOfVariables = getProblem().getNumberOfVariables();
+
+    double[] meanZ = new double[numberOfVariables];
+    weightedMeanOfOffspringZ(meanZ);
+
+    for (int j = 0; j < numberOfDirectionVectors; j++) {
+      double cumulation = cumulationDirectionVectors[j];
+      double factor = Math.sqrt(muEff * cumulation * (2. - cumulation));
+      for (int i = 0; i < numberOfVariables; i++) {
+        directionVectors[j][i] = (1 - cumulation) * directionVectors[j][i] + factor * meanZ[i];
+      }
+    }
+
+    numberOfDirectionVectorUpdates++;
+
+  }
+
+  private void weightedMeanOfOffspringZ(double[] meanZ) {
+    for (int i = 0; i < meanZ.length; i++) {
+      meanZ[i] = 0;
+      for (int k = 0; k < mu; k++) {
+        meanZ[i] += weights[k] * offspringZ[k][i];
+      }
+    }
+  }
+
   private void decomposeCovarianceMatrix() {
     int numberOfVariables = getProblem().getNumberOfVariables();
 
@@ -453,11 +835,14 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
       checkEigenCorrectness();
 
-      double[][] artmp2 = new double[numberOfVariables][numberOfVariables];
       for (int i = 0; i < numberOfVariables; i++) {
         if (diagD[i] > 0) {
           diagD[i] = Math.sqrt(diagD[i]);
         }
+      }
+
+      double[][] artmp2 = new double[numberOfVariables][numberOfVariables];
+      for (int i = 0; i < numberOfVariables; i++) {
         for (int j = 0; j < numberOfVariables; j++) {
           artmp2[i][j] = b[i][j] * (1 / diagD[j]);
         }
@@ -494,22 +879,44 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
   }
 
-  private DoubleSolution sampleSolution() {
-
-    DoubleSolution solution = getProblem().createSolution();
+  /**
+   * Sets the variables of a solution to the point of the search distribution given by a standard
+   * normal vector. The method only reads the state of the algorithm, so several solutions can be
+   * sampled concurrently
+   */
+  private void sampleSolution(DoubleSolution solution, double[] z) {
 
     int numberOfVariables = getProblem().getNumberOfVariables();
     double[] artmp = new double[numberOfVariables];
     double sum;
 
-    for (int i = 0; i < numberOfVariables; i++) {
-      //TODO: Check the correctness of this random (http://en.wikipedia.org/wiki/CMA-ES)
-      artmp[i] = diagD[i] * rand.nextGaussian();
+    if (variant == CMAESVariant.LMMAES) {
+      System.arraycopy(z, 0, artmp, 0, numberOfVariables);
+      int vectors = Math.min(numberOfDirectionVectorUpdates, numberOfDirectionVectors);
+      for (int j = 0; j < vectors; j++) {
+        double product = 0.0;
+        for (int i = 0; i < numberOfVariables; i++) {
+          product += directionVectors[j][i] * artmp[i];
+        }
+        double learningRate = learningRateDirectionVectors[j];
+        for (int i = 0; i < numberOfVariables; i++) {
+          artmp[i] = (1 - learningRate) * artmp[i] + learningRate * product * directionVectors[j][i];
+        }
+      }
+    } else {
+      for (int i = 0; i < numberOfVariables; i++) {
+        artmp[i] = diagD[i] * z[i];
+      }
     }
+
     for (int i = 0; i < numberOfVariables; i++) {
-      sum = 0.0;
-      for (int j = 0; j < numberOfVariables; j++) {
-        sum += b[i][j] * artmp[j];
+      if (variant == CMAESVariant.CMAES) {
+        sum = 0.0;
+        for (int j = 0; j < numberOfVariables; j++) {
+          sum += b[i][j] * artmp[j];
+        }
+      } else {
+        sum = artmp[i];
       }
 
       double value = distributionMean[i] + sigma * sum;
@@ -521,8 +928,6 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
 
       solution.setVariableValue(i, value);
     }
-
-    return solution;
   }
 
   private void storeBest() {
@@ -533,7 +938,7 @@ public class CovarianceMatrixAdaptationEvolutionStrategy
   }
 
   @Override public String getName() {
-    return "CMAES" ;
+    return variant.toString() ;
   }
 
   @Override public String getDescription() {
@@ -0,0 +1,490 @@
+package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.CovarianceMatrixAdaptationEvolutionStrategy.CMAESVariant;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class implementing the restart strategies of CMA-ES:
+ * - IPOP-CMA-ES (A. Auger, N. Hansen. A Restart CMA Evolution Strategy With Increasing Population
+ * Size. CEC 2005): each restart doubles the population size of the previous one
+ * - BIPOP-CMA-ES (N. Hansen. Benchmarking a BI-Population CMA-ES on the BBOB-2009 Function
+ * Testbed. GECCO 2009): the restarts alternate between the increasing population sizes of IPOP and
+ * small population sizes with small initial step sizes, so that both regimes get a similar number
+ * of evaluations
+ *
+ * Each restart is a {@link CovarianceMatrixAdaptationEvolutionStrategy} starting at a random point
+ * of the search space, which stops when its search stagnates. Several restarts can run concurrently
+ * in an executor; they share the evaluation budget, and a new restart is started whenever one of
+ * them finishes and there are evaluations left. The result is the best solution found by all the
+ * restarts.
+ *
+ * Each restart takes its random numbers from its own stream, so the results are reproducible when
+ * the restarts are run one at a time. When they run concurrently, the number of evaluations of each
+ * one depends on the order in which they finish, and the budget can be exceeded by at most one
+ * generation of each running restart.
+ *
+ * In BIPOP, the regime of a restart is chosen by comparing the evaluations of the finished
+ * restarts of each regime. The restarts of the first concurrent batch are started before any of
+ * them finishes, so they alternate between the two regimes instead, starting with the large one.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class RestartCovarianceMatrixAdaptationEvolutionStrategy implements Algorithm<DoubleSolution> {
+  public enum RestartStrategy {IPOP, BIPOP}
+
+  private DoubleProblem problem ;
+  private RestartStrategy restartStrategy ;
+  private int maxEvaluations ;
+  private int lambda ;
+  private int populationIncreaseFactor ;
+  private double sigma ;
+  private CMAESVariant variant ;
+  private SolutionListEvaluator<DoubleSolution> evaluator ;
+  private int numberOfConcurrentRestarts ;
+  private transient ExecutorService executor ;
+
+  private transient AtomicLong evaluations ;
+  private long baseSeed ;
+  private int numberOfRestarts ;
+  private int largeLambda ;
+  private long largeRegimeEvaluations ;
+  private long smallRegimeEvaluations ;
+  private long lastLargeRunEvaluations ;
+  private int runningLargeRestarts ;
+  private int runningSmallRestarts ;
+  private List<Integer> populationSizes ;
+  private DoubleSolution bestSolution ;
+
+  /** Constructor */
+  private RestartCovarianceMatrixAdaptationEvolutionStrategy(Builder builder) {
+    this.problem = builder.problem ;
+    this.restartStrategy = builder.restartStrategy ;
+    this.maxEvaluations = builder.maxEvaluations ;
+    this.lambda = builder.lambda ;
+    this.populationIncreaseFactor = builder.populationIncreaseFactor ;
+    this.sigma = builder.sigma ;
+    this.variant = builder.variant ;
+    this.evaluator = builder.evaluator ;
+    this.numberOfConcurrentRestarts = builder.numberOfConcurrentRestarts ;
+    this.executor = builder.executor ;
+  }
+
+  /* Getters */
+  public RestartStrategy getRestartStrategy() {
+    return restartStrategy;
+  }
+
+  public int getMaxEvaluations() {
+    return maxEvaluations;
+  }
+
+  public int getLambda() {
+    return lambda;
+  }
+
+  public double getSigma() {
+    return sigma;
+  }
+
+  public int getNumberOfConcurrentRestarts() {
+    return numberOfConcurrentRestarts;
+  }
+
+  /**
+   * @return Number of restarts (including the first run) started in the last execution
+   */
+  public int getNumberOfRestarts() {
+    return numberOfRestarts;
+  }
+
+  /**
+   * @return Population sizes of the restarts of the last execution, in the order they were started
+   */
+  public List<Integer> getPopulationSizes() {
+    return populationSizes;
+  }
+
+  /**
+   * @return Number of evaluations performed in the last execution
+   */
+  public long getEvaluations() {
+    return evaluations == null ? 0 : evaluations.get();
+  }
+
+  /**
+   * Builder class
+   */
+  public static class Builder {
+    private static final int DEFAULT_MAX_EVALUATIONS = 1000000 ;
+    private static final int DEFAULT_POPULATION_INCREASE_FACTOR = 2 ;
+
+    private DoubleProblem problem ;
+    private RestartStrategy restartStrategy ;
+    private int maxEvaluations ;
+    private int lambda ;
+    private int populationIncreaseFactor ;
+    private double sigma ;
+    private CMAESVariant variant ;
+    private SolutionListEvaluator<DoubleSolution> evaluator ;
+    private int numberOfConcurrentRestarts ;
+    private ExecutorService executor ;
+
+    public Builder(DoubleProblem problem) {
+      this.problem = problem ;
+      restartStrategy = RestartStrategy.IPOP ;
+      maxEvaluations = DEFAULT_MAX_EVALUATIONS ;
+      lambda = 4 + (int) Math.floor(3 * Math.log(problem.getNumberOfVariables())) ;
+      populationIncreaseFactor = DEFAULT_POPULATION_INCREASE_FACTOR ;
+
+      double width = 0 ;
+      for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+        width += problem.getUpperBound(i) - problem.getLowerBound(i) ;
+      }
+      sigma = 0.3 * width / problem.getNumberOfVariables() ;
+
+      variant = CMAESVariant.CMAES ;
+      evaluator = new SequentialSolutionListEvaluator<DoubleSolution>() ;
+      numberOfConcurrentRestarts = 1 ;
+      executor = null ;
+    }
+
+    public Builder setRestartStrategy(RestartStrategy restartStrategy) {
+      if (restartStrategy == null) {
+        throw new JMetalException("restartStrategy is null") ;
+      }
+      this.restartStrategy = restartStrategy ;
+      return this ;
+    }
+
+    /**
+     * Sets the number of evaluations shared by all the restarts
+     */
+    public Builder setMaxEvaluations(int maxEvaluations) {
+      if (maxEvaluations <= 0) {
+        throw new JMetalException("maxEvaluations is negative or zero: " + maxEvaluations) ;
+      }
+      this.maxEvaluations = maxEvaluations ;
+      return this ;
+    }
+
+    /**
+     * Sets the population size of the first run. The default value is
+     * 4 + floor(3 * ln(numberOfVariables))
+     */
+    public Builder setLambda(int lambda) {
+      if (lambda < 4) {
+        throw new JMetalException("lambda is lower than 4: " + lambda) ;
+      }
+      this.lambda = lambda ;
+      return this ;
+    }
+
+    public Builder setPopulationIncreaseFactor(int populationIncreaseFactor) {
+      if (populationIncreaseFactor < 1) {
+        throw new JMetalException("populationIncreaseFactor is lower than 1: "
+            + populationIncreaseFactor) ;
+      }
+      this.populationIncreaseFactor = populationIncreaseFactor ;
+      return this ;
+    }
+
+    /**
+     * Sets the initial step size. The default value is 0.3 times the average width of the ranges of
+     * the variables
+     */
+    public Builder setSigma(double sigma) {
+      this.sigma = sigma ;
+      return this ;
+    }
+
+    public Builder setVariant(CMAESVariant variant) {
+      if (variant == null) {
+        throw new JMetalException("variant is null") ;
+      }
+      this.variant = variant ;
+      return this ;
+    }
+
+    /**
+     * Sets the evaluator used by all the restarts, so it must allow several lists of solutions to be
+     * evaluated concurrently when the restarts run concurrently
+     */
+    public Builder setSolutionListEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+      if (evaluator == null) {
+        throw new JMetalException("evaluator is null") ;
+      }
+      this.evaluator = evaluator ;
+      return this ;
+    }
+
+    public Builder setNumberOfConcurrentRestarts(int numberOfConcurrentRestarts) {
+      if (numberOfConcurrentRestarts < 1) {
+        throw new JMetalException("numberOfConcurrentRestarts is lower than 1: "
+            + numberOfConcurrentRestarts) ;
+      }
+      this.numberOfConcurrentRestarts = numberOfConcurrentRestarts ;
+      return this ;
+    }
+
+    /**
+     * Sets the executor running the restarts. It is not shut down by the algorithm. If it is not
+     * set, a pool with as many threads as concurrent restarts is created in each execution
+     */
+    public Builder setExecutor(ExecutorService executor) {
+      this.executor = executor ;
+      return this ;
+    }
+
+    public RestartCovarianceMatrixAdaptationEvolutionStrategy build() {
+      return new RestartCovarianceMatrixAdaptationEvolutionStrategy(this) ;
+    }
+  }
+
+  @Override
+  public void run() {
+    evaluations = new AtomicLong(0) ;
+    numberOfRestarts = 0 ;
+    largeLambda = lambda ;
+    largeRegimeEvaluations = 0 ;
+    smallRegimeEvaluations = 0 ;
+    lastLargeRunEvaluations = 0 ;
+    runningLargeRestarts = 0 ;
+    runningSmallRestarts = 0 ;
+    populationSizes = new ArrayList<>() ;
+    bestSolution = null ;
+
+    baseSeed = nextSeed(JMetalRandom.getInstance().createStreams(1)[0]) ;
+
+    boolean ownExecutor = (executor == null) ;
+    ExecutorService restartExecutor =
+        ownExecutor ? Executors.newFixedThreadPool(numberOfConcurrentRestarts) : executor ;
+    CompletionService<Restart> completionService = new ExecutorCompletionService<>(restartExecutor) ;
+
+    int runningRestarts = 0 ;
+    try {
+      while ((runningRestarts < numberOfConcurrentRestarts) && (evaluations.get() < maxEvaluations)) {
+        submitRestart(completionService) ;
+        runningRestarts++ ;
+      }
+
+      while (runningRestarts > 0) {
+        Restart restart = completionService.take().get() ;
+        runningRestarts-- ;
+        finishRestart(restart) ;
+
+        if (evaluations.get() < maxEvaluations) {
+          submitRestart(completionService) ;
+          runningRestarts++ ;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt() ;
+      throw new JMetalException("Interrupted while waiting for the restarts", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error running a restart", e) ;
+    } finally {
+      if (ownExecutor) {
+        restartExecutor.shutdownNow() ;
+      }
+    }
+  }
+
+  /**
+   * Creates the next restart and submits it to the executor. The parameters of the restart are
+   * drawn from its random stream, and its random generator is bound to the thread running it
+   */
+  private void submitRestart(CompletionService<Restart> completionService) {
+    PseudoRandomGenerator random = JMetalRandom.createStream(baseSeed, numberOfRestarts) ;
+    Restart restart = createRestart(random) ;
+    numberOfRestarts++ ;
+
+    completionService.submit(() -> {
+      JMetalRandom.getInstance().runWith(random, restart.algorithm) ;
+      return restart ;
+    }) ;
+  }
+
+  private Restart createRestart(PseudoRandomGenerator random) {
+    long remainingEvaluations = Math.max(maxEvaluations - evaluations.get(), 1) ;
+    int restartLambda ;
+    double restartSigma ;
+    long restartEvaluations = remainingEvaluations ;
+    boolean largePopulation ;
+
+    boolean noRestartFinished = (largeRegimeEvaluations == 0) && (smallRegimeEvaluations == 0) ;
+    if ((restartStrategy == RestartStrategy.IPOP) || (numberOfRestarts == 0)
+        || (noRestartFinished && (runningLargeRestarts <= runningSmallRestarts))
+        || (!noRestartFinished && (smallRegimeEvaluations >= largeRegimeEvaluations))) {
+      largePopulation = true ;
+      if (numberOfRestarts > 0) {
+        largeLambda = (int) Math.min((long) largeLambda * populationIncreaseFactor, maxEvaluations) ;
+      }
+      restartLambda = largeLambda ;
+      restartSigma = sigma ;
+    } else {
+      largePopulation = false ;
+      double u = random.nextDouble() ;
+      restartLambda = (int) Math.floor(lambda * Math.pow(0.5 * largeLambda / lambda, u * u)) ;
+      restartLambda = Math.max(restartLambda, lambda) ;
+      restartSigma = sigma * Math.pow(10, -2 * random.nextDouble()) ;
+      if (lastLargeRunEvaluations > 0) {
+        restartEvaluations = Math.min(remainingEvaluations, Math.max(lastLargeRunEvaluations / 2, 1)) ;
+      }
+    }
+
+    double[] startingPoint = new double[problem.getNumberOfVariables()] ;
+    for (int i = 0; i < startingPoint.length; i++) {
+      startingPoint[i] = random.nextDouble(problem.getLowerBound(i), problem.getUpperBound(i)) ;
+    }
+
+    SharedEvaluationBudget budget = new SharedEvaluationBudget(evaluator, evaluations, maxEvaluations) ;
+
+    CovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new CovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+            .setLambda(restartLambda)
+            .setSigma(restartSigma)
+            .setTypicalX(startingPoint)
+            .setMaxEvaluations((int) Math.min(restartEvaluations, Integer.MAX_VALUE))
+            .setVariant(variant)
+            .setSolutionListEvaluator(budget)
+            .setStopOnStagnation(true)
+            .setSeed(nextSeed(random))
+            .build() ;
+    algorithm.setTerminationCondition(budget);
+
+    populationSizes.add(restartLambda) ;
+    if (largePopulation) {
+      runningLargeRestarts++ ;
+    } else {
+      runningSmallRestarts++ ;
+    }
+
+    return new Restart(algorithm, budget, largePopulation) ;
+  }
+
+  /**
+   * Updates the best solution and the evaluations of the regime of a finished restart
+   */
+  private void finishRestart(Restart restart) {
+    DoubleSolution solution = restart.algorithm.getResult() ;
+    if ((solution != null) && ((bestSolution == null)
+        || (solution.getObjective(0) < bestSolution.getObjective(0)))) {
+      bestSolution = solution ;
+    }
+
+    long restartEvaluations = restart.budget.getRunEvaluations() ;
+    if (restart.largePopulation) {
+      runningLargeRestarts-- ;
+      largeRegimeEvaluations += restartEvaluations ;
+      lastLargeRunEvaluations = restartEvaluations ;
+    } else {
+      runningSmallRestarts-- ;
+      smallRegimeEvaluations += restartEvaluations ;
+    }
+  }
+
+  private static long nextSeed(PseudoRandomGenerator random) {
+    return ((long) random.nextInt(0, 0xFFFF) << 48)
+        ^ ((long) random.nextInt(0, 0xFFFFFF) << 24)
+        ^ (long) random.nextInt(0, 0xFFFFFF) ;
+  }
+
+  @Override
+  public DoubleSolution getResult() {
+    return bestSolution ;
+  }
+
+  @Override
+  public String getName() {
+    return restartStrategy + "-" + variant ;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Covariance Matrix Adaptation Evolution Strategy with restarts" ;
+  }
+
+  /**
+   * A restart being executed
+   */
+  private static class Restart {
+    private final CovarianceMatrixAdaptationEvolutionStrategy algorithm ;
+    private final SharedEvaluationBudget budget ;
+    private final boolean largePopulation ;
+
+    Restart(CovarianceMatrixAdaptationEvolutionStrategy algorithm, SharedEvaluationBudget budget,
+        boolean largePopulation) {
+      this.algorithm = algorithm ;
+      this.budget = budget ;
+      this.largePopulation = largePopulation ;
+    }
+  }
+
+  /**
+   * Evaluator and termination condition of a restart. It evaluates the solutions with the evaluator
+   * of the algorithm, adding them to a counter shared by all the restarts, and it is met when the
+   * counter reaches the budget
+   */
+  private static class SharedEvaluationBudget
+      implements SolutionListEvaluator<DoubleSolution>, TerminationCondition {
+    private final SolutionListEvaluator<DoubleSolution> evaluator ;
+    private final AtomicLong sharedEvaluations ;
+    private final long maxEvaluations ;
+    private volatile long runEvaluations ;
+
+    SharedEvaluationBudget(SolutionListEvaluator<DoubleSolution> evaluator,
+        AtomicLong sharedEvaluations, long maxEvaluations) {
+      this.evaluator = evaluator ;
+      this.sharedEvaluations = sharedEvaluations ;
+      this.maxEvaluations = maxEvaluations ;
+      this.runEvaluations = 0 ;
+    }
+
+    long getRunEvaluations() {
+      return runEvaluations ;
+    }
+
+    @Override
+    public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList,
+        Problem<DoubleSolution> problem) {
+      List<DoubleSolution> evaluatedList = evaluator.evaluate(solutionList, problem) ;
+      runEvaluations += solutionList.size() ;
+      sharedEvaluations.addAndGet(solutionList.size()) ;
+
+      return evaluatedList ;
+    }
+
+    /** The evaluator is shared by the restarts, so it is not shut down */
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+      return sharedEvaluations.get() >= maxEvaluations ;
+    }
+  }
+}
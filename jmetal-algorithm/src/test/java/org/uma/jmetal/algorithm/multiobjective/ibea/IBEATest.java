@@ -0,0 +1,198 @@
+package org.uma.jmetal.algorithm.multiobjective.ibea;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.Fitness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IBEATest {
+  private static final int NUMBER_OF_OBJECTIVES = 3 ;
+  private static final int POPULATION_SIZE = 60 ;
+
+  private final DTLZ2 problem = new DTLZ2(12, NUMBER_OF_OBJECTIVES) ;
+  private final Fitness<DoubleSolution> fitness = new Fitness<DoubleSolution>() ;
+
+  @Test
+  public void shouldTheFitnessAndTheRemovalOrderBeTheSameAsThoseOfTheListBasedComputation() {
+    IBEA<DoubleSolution> ibea = createAlgorithm(false) ;
+    List<DoubleSolution> population = createPopulation() ;
+    ListBasedFitness reference = new ListBasedFitness(new ArrayList<>(population)) ;
+
+    ibea.calculateFitness(population);
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(reference.fitness.get(i), fitness.getAttribute(population.get(i)), 0.0) ;
+    }
+
+    while (population.size() > POPULATION_SIZE / 2) {
+      ibea.removeWorst(population);
+      reference.removeWorst();
+
+      assertEquals(reference.solutions.size(), population.size()) ;
+      for (int i = 0; i < population.size(); i++) {
+        assertSame(reference.solutions.get(i), population.get(i)) ;
+        assertEquals(reference.fitness.get(i), fitness.getAttribute(population.get(i)), 0.0) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheParallelAndTheSequentialFitnessComputationsGiveTheSameValues() throws Exception {
+    List<DoubleSolution> sequentialPopulation = createPopulation() ;
+    List<DoubleSolution> parallelPopulation = new ArrayList<>(sequentialPopulation.size()) ;
+    for (DoubleSolution solution : sequentialPopulation) {
+      parallelPopulation.add((DoubleSolution) solution.copy()) ;
+    }
+
+    IBEA<DoubleSolution> sequentialIbea = createAlgorithm(false) ;
+    IBEA<DoubleSolution> parallelIbea = createAlgorithm(true) ;
+
+    ForkJoinPool pool = new ForkJoinPool(4) ;
+    try {
+      sequentialIbea.calculateFitness(sequentialPopulation);
+      pool.submit(() -> parallelIbea.calculateFitness(parallelPopulation)).get() ;
+      assertSameFitness(sequentialPopulation, parallelPopulation);
+
+      while (sequentialPopulation.size() > POPULATION_SIZE / 2) {
+        sequentialIbea.removeWorst(sequentialPopulation);
+        parallelIbea.removeWorst(parallelPopulation);
+        assertSameFitness(sequentialPopulation, parallelPopulation);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void assertSameFitness(List<DoubleSolution> population1, List<DoubleSolution> population2) {
+    assertEquals(population1.size(), population2.size()) ;
+    for (int i = 0; i < population1.size(); i++) {
+      assertEquals(population1.get(i).getObjective(0), population2.get(i).getObjective(0), 0.0) ;
+      assertEquals(fitness.getAttribute(population1.get(i)), fitness.getAttribute(population2.get(i)), 0.0) ;
+    }
+  }
+
+  private IBEA<DoubleSolution> createAlgorithm(boolean parallelFitnessComputation) {
+    IBEA<DoubleSolution> ibea = new IBEA<DoubleSolution>(problem, POPULATION_SIZE, POPULATION_SIZE,
+        1000, null, null, null) ;
+    ibea.setParallelFitnessComputation(parallelFitnessComputation);
+
+    return ibea ;
+  }
+
+  /**
+   * Population of 2 * POPULATION_SIZE solutions with random objective values, some of them
+   * repeated, as in the union of the population and the archive
+   */
+  private List<DoubleSolution> createPopulation() {
+    Random random = new Random(4) ;
+    List<DoubleSolution> population = new ArrayList<>(2 * POPULATION_SIZE) ;
+    for (int i = 0; i < 2 * POPULATION_SIZE; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      if ((i % 10 == 9)) {
+        for (int j = 0; j < NUMBER_OF_OBJECTIVES; j++) {
+          solution.setObjective(j, population.get(i - 1).getObjective(j));
+        }
+      } else {
+        for (int j = 0; j < NUMBER_OF_OBJECTIVES; j++) {
+          solution.setObjective(j, random.nextDouble());
+        }
+      }
+      population.add(solution) ;
+    }
+
+    return population ;
+  }
+
+  /**
+   * Computation of the fitness with a list of lists of indicator values, as done by IBEA before
+   * storing them in a matrix
+   */
+  private class ListBasedFitness {
+    private final List<DoubleSolution> solutions ;
+    private final List<Double> fitness ;
+    private final List<List<Double>> indicatorValues ;
+    private double maxIndicatorValue ;
+
+    ListBasedFitness(List<DoubleSolution> solutions) {
+      this.solutions = solutions ;
+      this.fitness = new ArrayList<>() ;
+      this.indicatorValues = new ArrayList<>() ;
+
+      double[] maximumValues = new double[NUMBER_OF_OBJECTIVES] ;
+      double[] minimumValues = new double[NUMBER_OF_OBJECTIVES] ;
+      for (int i = 0; i < NUMBER_OF_OBJECTIVES; i++) {
+        maximumValues[i] = -Double.MAX_VALUE ;
+        minimumValues[i] = Double.MAX_VALUE ;
+      }
+      for (DoubleSolution solution : solutions) {
+        for (int i = 0; i < NUMBER_OF_OBJECTIVES; i++) {
+          maximumValues[i] = Math.max(maximumValues[i], solution.getObjective(i)) ;
+          minimumValues[i] = Math.min(minimumValues[i], solution.getObjective(i)) ;
+        }
+      }
+
+      IBEA<DoubleSolution> indicator = createAlgorithm(false) ;
+      maxIndicatorValue = -Double.MAX_VALUE ;
+      for (DoubleSolution solutionA : solutions) {
+        List<Double> row = new ArrayList<>() ;
+        for (DoubleSolution solutionB : solutions) {
+          double value ;
+          if (new DominanceComparator<DoubleSolution>().compare(solutionA, solutionB) == -1) {
+            value = -indicator.calculateHypervolumeIndicator(solutionA, solutionB,
+                NUMBER_OF_OBJECTIVES, maximumValues, minimumValues) ;
+          } else {
+            value = indicator.calculateHypervolumeIndicator(solutionB, solutionA,
+                NUMBER_OF_OBJECTIVES, maximumValues, minimumValues) ;
+          }
+          maxIndicatorValue = Math.max(maxIndicatorValue, Math.abs(value)) ;
+          row.add(value) ;
+        }
+        indicatorValues.add(row) ;
+      }
+
+      for (int pos = 0; pos < solutions.size(); pos++) {
+        double value = 0.0 ;
+        for (int i = 0; i < solutions.size(); i++) {
+          if (i != pos) {
+            value += Math.exp((-1 * indicatorValues.get(i).get(pos) / maxIndicatorValue) / 0.05) ;
+          }
+        }
+        fitness.add(value) ;
+      }
+    }
+
+    void removeWorst() {
+      int worstIndex = 0 ;
+      for (int i = 1; i < solutions.size(); i++) {
+        if (fitness.get(i) > fitness.get(worstIndex)) {
+          worstIndex = i ;
+        }
+      }
+
+      for (int i = 0; i < solutions.size(); i++) {
+        if (i != worstIndex) {
+          fitness.set(i, fitness.get(i)
+              - Math.exp((-indicatorValues.get(worstIndex).get(i) / maxIndicatorValue) / 0.05)) ;
+        }
+      }
+
+      indicatorValues.remove(worstIndex) ;
+      for (List<Double> row : indicatorValues) {
+        row.remove(worstIndex) ;
+      }
+      fitness.remove(worstIndex) ;
+      solutions.remove(worstIndex) ;
+    }
+  }
+}
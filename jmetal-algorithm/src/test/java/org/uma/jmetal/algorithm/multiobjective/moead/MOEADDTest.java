@@ -0,0 +1,152 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the bookkeeping of the non-domination levels and the subregions of MOEADD, which are
+ * compared with the N x N index matrices used before
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MOEADDTest {
+  private static final int POPULATION_SIZE = 50 ;
+  private static final int NUMBER_OF_MOVES = 5000 ;
+
+  private MOEADD<DoubleSolution> algorithm ;
+  private int[][] rankMatrix ;
+  private int[][] subregionMatrix ;
+
+  @Before
+  public void setup() {
+    algorithm = new MOEADD<DoubleSolution>(new ZDT1(), POPULATION_SIZE, POPULATION_SIZE, 1000, null,
+        null, AbstractMOEAD.FunctionType.PBI, null, 0.9, 2, 10) ;
+    algorithm.rankIdx = new ArrayList<>() ;
+    algorithm.regionIdx = new int[POPULATION_SIZE] ;
+    algorithm.subregionIdx = new int[POPULATION_SIZE][] ;
+    algorithm.subregionSize = new int[POPULATION_SIZE] ;
+
+    rankMatrix = new int[POPULATION_SIZE][POPULATION_SIZE] ;
+    subregionMatrix = new int[POPULATION_SIZE][POPULATION_SIZE] ;
+  }
+
+  @Test
+  public void shouldTheSubregionsOfTheInitialPopulationBeThoseOfTheIndexMatrix() {
+    for (int i = 0; i < POPULATION_SIZE; i++) {
+      algorithm.addToSubregion(i, i);
+      subregionMatrix[i][i] = 1 ;
+    }
+
+    assertSameBookkeeping();
+  }
+
+  @Test
+  public void shouldMovingSolutionsKeepTheSameBookkeepingAsTheIndexMatrices() {
+    Random random = new Random(1) ;
+    int[] rank = new int[POPULATION_SIZE] ;
+    int[] region = new int[POPULATION_SIZE] ;
+    for (int i = 0; i < POPULATION_SIZE; i++) {
+      algorithm.addToSubregion(i, i);
+      subregionMatrix[i][i] = 1 ;
+      region[i] = i ;
+
+      rank[i] = random.nextInt(3) ;
+      algorithm.rankMembers(rank[i]).set(i);
+      rankMatrix[rank[i]][i] = 1 ;
+    }
+
+    for (int move = 0; move < NUMBER_OF_MOVES; move++) {
+      int idx = random.nextInt(POPULATION_SIZE) ;
+
+      int newRank = random.nextInt(POPULATION_SIZE) ;
+      algorithm.moveToRank(idx, rank[idx], newRank);
+      rankMatrix[rank[idx]][idx] = 0 ;
+      rankMatrix[newRank][idx] = 1 ;
+      rank[idx] = newRank ;
+
+      /* Solutions gather in a few subregions to empty the others and grow their arrays */
+      int newRegion = random.nextBoolean() ? random.nextInt(4) : random.nextInt(POPULATION_SIZE) ;
+      algorithm.moveToSubregion(idx, region[idx], newRegion);
+      subregionMatrix[region[idx]][idx] = 0 ;
+      subregionMatrix[newRegion][idx] = 1 ;
+      region[idx] = newRegion ;
+
+      assertSameBookkeeping();
+    }
+  }
+
+  @Test
+  public void shouldMovingASolutionToItsOwnSubregionAndLevelNotChangeTheBookkeeping() {
+    for (int i = 0; i < POPULATION_SIZE; i++) {
+      algorithm.addToSubregion(i, i % 3);
+      subregionMatrix[i % 3][i] = 1 ;
+      algorithm.rankMembers(0).set(i);
+      rankMatrix[0][i] = 1 ;
+    }
+
+    for (int i = 0; i < POPULATION_SIZE; i++) {
+      algorithm.moveToSubregion(i, i % 3, i % 3);
+      algorithm.moveToRank(i, 0, 0);
+    }
+
+    assertSameBookkeeping();
+  }
+
+  private void assertSameBookkeeping() {
+    for (int i = 0; i < POPULATION_SIZE; i++) {
+      int[] rankMembers = membersOf(rankMatrix[i]) ;
+      assertEquals(rankMembers.length, algorithm.countRankOnes(i)) ;
+      assertArrayEquals(Arrays.copyOf(rankMembers, POPULATION_SIZE),
+          algorithm.rankMembersArray(i, POPULATION_SIZE)) ;
+
+      int[] subregionMembers = membersOf(subregionMatrix[i]) ;
+      assertEquals(subregionMembers.length, algorithm.countOnes(i)) ;
+      assertArrayEquals(subregionMembers, subregionMembers(i)) ;
+    }
+
+    for (int idx = 0; idx < POPULATION_SIZE; idx++) {
+      int region = -1 ;
+      for (int i = 0; (i < POPULATION_SIZE) && (region == -1); i++) {
+        if (subregionMatrix[i][idx] == 1) {
+          region = i ;
+        }
+      }
+      assertEquals(region, algorithm.findRegion(idx)) ;
+    }
+  }
+
+  /**
+   * Members of a subregion of MOEADD, whose array is not created until a solution is added to it
+   */
+  private int[] subregionMembers(int region) {
+    if (algorithm.subregionIdx[region] == null) {
+      return new int[0] ;
+    }
+
+    return Arrays.copyOf(algorithm.subregionIdx[region], algorithm.subregionSize[region]) ;
+  }
+
+  /**
+   * Indices of the ones of a row of an index matrix, in increasing order
+   */
+  private int[] membersOf(int[] row) {
+    int[] members = new int[row.length] ;
+    int size = 0 ;
+    for (int i = 0; i < row.length; i++) {
+      if (row[i] == 1) {
+        members[size++] = i ;
+      }
+    }
+
+    return Arrays.copyOf(members, size) ;
+  }
+}
@@ -0,0 +1,74 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class WeightVectorGeneratorTest {
+
+  @Test
+  public void shouldNumberOfLatticeVectorsReturnTheBinomialCoefficient() {
+    assertEquals(91, WeightVectorGenerator.numberOfLatticeVectors(3, 12)) ;
+    assertEquals(210, WeightVectorGenerator.numberOfLatticeVectors(5, 6)) ;
+    assertEquals(10011, WeightVectorGenerator.numberOfLatticeVectors(3, 140)) ;
+  }
+
+  @Test
+  public void shouldSimplexLatticeGenerateTheVectorsInLexicographicOrder() {
+    double[][] weights = WeightVectorGenerator.simplexLattice(3, 2) ;
+
+    assertEquals(6, weights.length) ;
+    assertArrayEquals(new double[]{0.0, 0.0, 1.0}, weights[0], 0.0) ;
+    assertArrayEquals(new double[]{0.0, 0.5, 0.5}, weights[1], 0.0) ;
+    assertArrayEquals(new double[]{0.0, 1.0, 0.0}, weights[2], 0.0) ;
+    assertArrayEquals(new double[]{0.5, 0.0, 0.5}, weights[3], 0.0) ;
+    assertArrayEquals(new double[]{0.5, 0.5, 0.0}, weights[4], 0.0) ;
+    assertArrayEquals(new double[]{1.0, 0.0, 0.0}, weights[5], 0.0) ;
+  }
+
+  @Test
+  public void shouldTheComponentsOfTheVectorsAddUpToOne() {
+    for (double[] vector : WeightVectorGenerator.twoLayer(8, 3, 2)) {
+      double sum = 0.0 ;
+      for (double value : vector) {
+        sum += value ;
+      }
+      assertEquals(1.0, sum, 1e-12) ;
+    }
+  }
+
+  @Test
+  public void shouldTheInnerLayerBeShrunkTowardsTheCenter() {
+    double[][] weights = WeightVectorGenerator.twoLayer(3, 2, 1) ;
+
+    assertEquals(9, weights.length) ;
+    assertArrayEquals(new double[]{1.0/6, 1.0/6, 4.0/6}, weights[6], 1e-12) ;
+    assertArrayEquals(new double[]{4.0/6, 1.0/6, 1.0/6}, weights[8], 1e-12) ;
+  }
+
+  @Test
+  public void shouldGenerateUseASimplexLatticeIfTheNumberOfVectorsIsTheSizeOfOne() {
+    double[][] weights = WeightVectorGenerator.generate(3, 10011) ;
+
+    assertEquals(10011, weights.length) ;
+    assertArrayEquals(WeightVectorGenerator.simplexLattice(3, 140)[5000], weights[5000], 0.0) ;
+  }
+
+  @Test
+  public void shouldGenerateUseATwoLayerDesignOtherwise() {
+    double[][] weights = WeightVectorGenerator.generate(8, 156) ;
+
+    assertEquals(156, weights.length) ;
+    assertArrayEquals(WeightVectorGenerator.twoLayer(8, 3, 2)[150], weights[150], 0.0) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGenerateRaiseAnExceptionIfThereIsNoDesignOfTheNumberOfVectors() {
+    WeightVectorGenerator.generate(3, 7) ;
+  }
+}
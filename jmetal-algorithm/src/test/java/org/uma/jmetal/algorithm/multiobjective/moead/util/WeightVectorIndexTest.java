@@ -0,0 +1,62 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class WeightVectorIndexTest {
+
+  @Test (expected = JMetalException.class)
+  public void shouldNearestNeighborsRaiseAnExceptionIfTheNeighborSizeIsGreaterThanTheNumberOfVectors() {
+    new WeightVectorIndex(WeightVectorGenerator.simplexLattice(3, 2)).nearestNeighbors(0, 7) ;
+  }
+
+  @Test
+  public void shouldTheNeighborhoodsOfASimplexLatticeBeTheSameAsThoseOfAFullSort() {
+    double[][] weights = WeightVectorGenerator.simplexLattice(3, 23) ;
+
+    assertArrayEquals(fullSortNeighborhoods(weights, 20), new WeightVectorIndex(weights).neighborhoods(20)) ;
+  }
+
+  @Test
+  public void shouldTheNeighborhoodsOfATwoLayerDesignBeTheSameAsThoseOfAFullSort() {
+    double[][] weights = WeightVectorGenerator.twoLayer(5, 6, 3) ;
+
+    assertArrayEquals(fullSortNeighborhoods(weights, 15), new WeightVectorIndex(weights).neighborhoods(15)) ;
+  }
+
+  @Test
+  public void shouldTheNeighborhoodsOfRepeatedVectorsBeTheSameAsThoseOfAFullSort() {
+    Random random = new Random(1) ;
+    double[][] weights = new double[500][4] ;
+    for (double[] vector : weights) {
+      for (int j = 0; j < vector.length; j++) {
+        vector[j] = random.nextInt(4) / 3.0 ;
+      }
+    }
+
+    assertArrayEquals(fullSortNeighborhoods(weights, 30), new WeightVectorIndex(weights).neighborhoods(30)) ;
+  }
+
+  private int[][] fullSortNeighborhoods(double[][] weights, int neighborSize) {
+    int[][] neighborhood = new int[weights.length][neighborSize] ;
+    double[] x = new double[weights.length] ;
+    int[] idx = new int[weights.length] ;
+    for (int i = 0; i < weights.length; i++) {
+      for (int j = 0; j < weights.length; j++) {
+        x[j] = MOEADUtils.distVector(weights[i], weights[j]) ;
+        idx[j] = j ;
+      }
+      MOEADUtils.minFastSort(x, idx, weights.length, neighborSize);
+      System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
+    }
+
+    return neighborhood ;
+  }
+}
@@ -0,0 +1,52 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsynchronousNSGAIIIT {
+
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() throws Exception {
+    Kursawe problem = new Kursawe() ;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    AsynchronousNSGAII<DoubleSolution> algorithm = new AsynchronousNSGAII<DoubleSolution>(problem,
+        25000, 100, crossover, mutation,
+        new BinaryTournamentSelection<DoubleSolution>(new RankingAndCrowdingDistanceComparator<DoubleSolution>()),
+        new EfficientNonDominatedSortRanking<DoubleSolution>(), 4) ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+
+    /*
+    Rationale: the default problem is Kursawe, and usually NSGA-II, configured with standard
+    settings, should return 100 solutions
+    */
+    assertEquals(25000, algorithm.getEvaluations()) ;
+    assertTrue(population.size() >= 98) ;
+  }
+}
@@ -117,4 +117,14 @@ public class NSGAIIBuilderTest {
   @Test(expected = JMetalException.class) public void setNullEvaluator() {
     builder.setSolutionListEvaluator(null);
   }
+
+  @Test public void setNumberOfReproductionThreads() {
+    assertEquals(1, builder.build().getNumberOfReproductionThreads());
+    builder.setNumberOfReproductionThreads(4);
+    assertEquals(4, builder.build().getNumberOfReproductionThreads());
+  }
+
+  @Test(expected = JMetalException.class) public void setZeroReproductionThreads() {
+    builder.setNumberOfReproductionThreads(0);
+  }
 }
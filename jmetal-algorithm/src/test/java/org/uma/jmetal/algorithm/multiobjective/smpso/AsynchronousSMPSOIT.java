@@ -0,0 +1,50 @@
+package org.uma.jmetal.algorithm.multiobjective.smpso;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsynchronousSMPSOIT {
+
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() throws Exception {
+    AsynchronousSMPSO algorithm = createAlgorithm(new Kursawe(), 100, 25000, 4) ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+
+    /*
+    Rationale: the default problem is Kursawe, and usually SMPSO, configured with standard
+    settings, should return 100 solutions
+    */
+    assertEquals(25000, algorithm.getEvaluations()) ;
+    assertTrue(population.size() >= 98) ;
+  }
+
+  @Test
+  public void shouldTheAlgorithmUseTheWholeBudgetWhenThereAreMoreWorkersThanParticles() throws Exception {
+    AsynchronousSMPSO algorithm = createAlgorithm(new Kursawe(), 3, 2000, 8) ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    assertEquals(2000, algorithm.getEvaluations()) ;
+  }
+
+  private AsynchronousSMPSO createAlgorithm(DoubleProblem problem, int swarmSize,
+      int maxEvaluations, int numberOfWorkers) {
+    return new AsynchronousSMPSO(problem, swarmSize,
+        new CrowdingDistanceArchive<DoubleSolution>(100),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0), maxEvaluations,
+        0.0, 1.0, 0.0, 1.0, 1.5, 2.5, 1.5, 2.5, 0.1, -1.0, -1.0, numberOfWorkers) ;
+  }
+}
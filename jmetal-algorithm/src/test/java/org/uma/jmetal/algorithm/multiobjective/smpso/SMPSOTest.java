@@ -0,0 +1,104 @@
+package org.uma.jmetal.algorithm.multiobjective.smpso;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SMPSOTest {
+  private static final long SEED = 1234 ;
+
+  @Test
+  public void shouldTheSequentialUpdateGiveTheSameFrontAsBeforeAddingTheParallelUpdate() {
+    JMetalRandom.getInstance().setSeed(SEED);
+    List<DoubleSolution> front = run(createAlgorithm(false)) ;
+
+    /* Front obtained with this seed before the parallel update option was added */
+    double sumOfObjective0 = 0.0 ;
+    double sumOfObjective1 = 0.0 ;
+    for (DoubleSolution solution : front) {
+      sumOfObjective0 += solution.getObjective(0) ;
+      sumOfObjective1 += solution.getObjective(1) ;
+    }
+
+    assertEquals(14, front.size()) ;
+    assertEquals(5.762637218124931, sumOfObjective0, 1e-12) ;
+    assertEquals(15.785305252955597, sumOfObjective1, 1e-12) ;
+  }
+
+  @Test
+  public void shouldTheParallelUpdateBeReproducibleWithAFixedSeed() throws Exception {
+    JMetalRandom.getInstance().setSeed(SEED);
+    List<DoubleSolution> front1 = runInPool(createAlgorithm(true), 4) ;
+
+    JMetalRandom.getInstance().setSeed(SEED);
+    List<DoubleSolution> front2 = runInPool(createAlgorithm(true), 4) ;
+
+    assertSameFront(front1, front2);
+  }
+
+  @Test
+  public void shouldTheParallelUpdateNotDependOnTheNumberOfThreads() throws Exception {
+    JMetalRandom.getInstance().setSeed(SEED);
+    List<DoubleSolution> front1 = runInPool(createAlgorithm(true), 1) ;
+
+    JMetalRandom.getInstance().setSeed(SEED);
+    List<DoubleSolution> front2 = runInPool(createAlgorithm(true), 3) ;
+
+    assertSameFront(front1, front2);
+  }
+
+  private SMPSO createAlgorithm(boolean parallelUpdate) {
+    ZDT1 problem = new ZDT1(10) ;
+
+    return new SMPSOBuilder(problem, new CrowdingDistanceArchive<DoubleSolution>(20))
+        .setMutation(new PolynomialMutation(0.1, 20.0))
+        .setMaxIterations(30)
+        .setSwarmSize(20)
+        .setSolutionListEvaluator(new SequentialSolutionListEvaluator<DoubleSolution>())
+        .setParallelUpdate(parallelUpdate)
+        .build() ;
+  }
+
+  private List<DoubleSolution> run(SMPSO algorithm) {
+    algorithm.run();
+
+    return algorithm.getResult() ;
+  }
+
+  /**
+   * Runs an algorithm in a pool with a given number of threads, which are used by its parallel
+   * streams
+   */
+  private List<DoubleSolution> runInPool(SMPSO algorithm, int numberOfThreads) throws Exception {
+    ForkJoinPool pool = new ForkJoinPool(numberOfThreads) ;
+    try {
+      return pool.submit(() -> run(algorithm)).get() ;
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void assertSameFront(List<DoubleSolution> front1, List<DoubleSolution> front2) {
+    assertEquals(front1.size(), front2.size()) ;
+    for (int i = 0; i < front1.size(); i++) {
+      for (int j = 0; j < front1.get(i).getNumberOfObjectives(); j++) {
+        assertEquals(front1.get(i).getObjective(j), front2.get(i).getObjective(j), 0.0) ;
+      }
+      for (int j = 0; j < front1.get(i).getNumberOfVariables(); j++) {
+        assertEquals(front1.get(i).getVariableValue(j), front2.get(i).getVariableValue(j), 0.0) ;
+      }
+    }
+  }
+}
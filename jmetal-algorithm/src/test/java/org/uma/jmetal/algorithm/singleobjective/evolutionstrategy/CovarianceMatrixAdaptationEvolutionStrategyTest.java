@@ -0,0 +1,77 @@
+package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.CovarianceMatrixAdaptationEvolutionStrategy.CMAESVariant;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.singleobjective.Sphere;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CovarianceMatrixAdaptationEvolutionStrategyTest {
+
+  @Test
+  public void shouldTheDefaultVariantBeTheStandardCMAES() {
+    CovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new CovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10)).build() ;
+
+    assertEquals(CMAESVariant.CMAES, algorithm.getVariant()) ;
+    assertEquals("CMAES", algorithm.getName()) ;
+    assertTrue(algorithm.getEvaluator() instanceof SequentialSolutionListEvaluator) ;
+    assertFalse(algorithm.isParallelSampling()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSetSolutionListEvaluatorRaiseAnExceptionIfTheEvaluatorIsNull() {
+    new CovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10))
+        .setSolutionListEvaluator(null) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSetNumberOfDirectionVectorsRaiseAnExceptionIfTheValueIsZero() {
+    new CovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10))
+        .setNumberOfDirectionVectors(0) ;
+  }
+
+  @Test
+  public void shouldTheStandardCMAESSolveTheSphereProblem() {
+    assertTrue(solveSphere(CMAESVariant.CMAES, false) < 1e-8) ;
+  }
+
+  @Test
+  public void shouldTheSepCMAESSolveTheSphereProblem() {
+    assertTrue(solveSphere(CMAESVariant.SepCMAES, false) < 1e-8) ;
+  }
+
+  @Test
+  public void shouldTheLMMAESSolveTheSphereProblem() {
+    assertTrue(solveSphere(CMAESVariant.LMMAES, false) < 1e-8) ;
+  }
+
+  @Test
+  public void shouldTheSolutionsBeSampledInParallel() {
+    assertTrue(solveSphere(CMAESVariant.LMMAES, true) < 1e-8) ;
+  }
+
+  private double solveSphere(CMAESVariant variant, boolean parallelSampling) {
+    DoubleProblem problem = new Sphere(20) ;
+    CovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new CovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+            .setVariant(variant)
+            .setParallelSampling(parallelSampling)
+            .setMaxEvaluations(20000)
+            .build() ;
+
+    algorithm.run();
+
+    assertEquals(variant.toString(), algorithm.getName()) ;
+
+    return algorithm.getResult().getObjective(0) ;
+  }
+}
@@ -0,0 +1,117 @@
+package org.uma.jmetal.algorithm.singleobjective.evolutionstrategy;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.RestartCovarianceMatrixAdaptationEvolutionStrategy.RestartStrategy;
+import org.uma.jmetal.problem.singleobjective.Rastrigin;
+import org.uma.jmetal.problem.singleobjective.Sphere;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class RestartCovarianceMatrixAdaptationEvolutionStrategyTest {
+
+  @Test
+  public void shouldTheDefaultConfigurationBeIPOPWithOneRestartAtATime() {
+    RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10)).build() ;
+
+    assertEquals(RestartStrategy.IPOP, algorithm.getRestartStrategy()) ;
+    assertEquals(1, algorithm.getNumberOfConcurrentRestarts()) ;
+    assertEquals(4 + (int) Math.floor(3 * Math.log(10)), algorithm.getLambda()) ;
+    assertEquals(0.3 * 10.24, algorithm.getSigma(), 1e-12) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSetNumberOfConcurrentRestartsRaiseAnExceptionIfTheValueIsZero() {
+    new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10))
+        .setNumberOfConcurrentRestarts(0) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldSetLambdaRaiseAnExceptionIfTheValueIsLowerThanFour() {
+    new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10))
+        .setLambda(3) ;
+  }
+
+  @Test
+  public void shouldTheResultsBeReproducibleWhenTheRestartsAreRunOneAtATime() {
+    double[] results = new double[2] ;
+    long[] evaluations = new long[2] ;
+    for (int i = 0; i < 2; i++) {
+      JMetalRandom.getInstance().setSeed(5);
+      RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+          new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Rastrigin(5))
+              .setRestartStrategy(RestartStrategy.BIPOP)
+              .setMaxEvaluations(20000)
+              .build() ;
+      algorithm.run();
+      results[i] = algorithm.getResult().getObjective(0) ;
+      evaluations[i] = algorithm.getEvaluations() ;
+    }
+
+    assertEquals(results[0], results[1], 0.0) ;
+    assertEquals(evaluations[0], evaluations[1]) ;
+  }
+
+  @Test
+  public void shouldTheConcurrentRestartsShareTheEvaluationBudget() {
+    ExecutorService executor = Executors.newFixedThreadPool(3) ;
+    RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Rastrigin(5))
+            .setMaxEvaluations(50000)
+            .setNumberOfConcurrentRestarts(3)
+            .setExecutor(executor)
+            .build() ;
+
+    algorithm.run();
+    executor.shutdown();
+
+    int largestPopulationSize = Collections.max(algorithm.getPopulationSizes()) ;
+
+    assertTrue(algorithm.getNumberOfRestarts() >= 3) ;
+    assertTrue(algorithm.getEvaluations() >= 50000) ;
+    assertTrue(algorithm.getEvaluations() <= 50000 + 3 * largestPopulationSize) ;
+    assertTrue(algorithm.getResult().getObjective(0) < 1.0) ;
+  }
+
+  @Test
+  public void shouldTheFirstConcurrentBIPOPRestartsAlternateBetweenTheTwoRegimes() {
+    ExecutorService executor = Executors.newFixedThreadPool(4) ;
+    RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Rastrigin(5))
+            .setRestartStrategy(RestartStrategy.BIPOP)
+            .setMaxEvaluations(20000)
+            .setNumberOfConcurrentRestarts(4)
+            .setExecutor(executor)
+            .build() ;
+
+    algorithm.run();
+    executor.shutdown();
+
+    int lambda = algorithm.getLambda() ;
+    assertEquals(Arrays.asList(lambda, lambda, 2 * lambda, lambda),
+        algorithm.getPopulationSizes().subList(0, 4)) ;
+  }
+
+  @Test
+  public void shouldIPOPSolveTheSphereProblem() {
+    RestartCovarianceMatrixAdaptationEvolutionStrategy algorithm =
+        new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(new Sphere(10))
+            .setMaxEvaluations(20000)
+            .build() ;
+
+    algorithm.run();
+
+    assertTrue(algorithm.getResult().getObjective(0) < 1e-10) ;
+  }
+}
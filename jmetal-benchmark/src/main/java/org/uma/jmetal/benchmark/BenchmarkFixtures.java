@@ -0,0 +1,104 @@
+package org.uma.jmetal.benchmark;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Problems and solution lists shared by the benchmarks. All of them are created from a fixed seed
+ * so that every run of a benchmark works on the same data.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BenchmarkFixtures {
+  public static final long SEED = 1L ;
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Creates a problem from a name of the form "ZDT1", "DTLZ2_3" or "WFG1_5", where the suffix is
+   * the number of objectives
+   */
+  public static DoubleProblem createProblem(String name) {
+    String[] tokens = name.split("_") ;
+    int numberOfObjectives = (tokens.length > 1) ? Integer.parseInt(tokens[1]) : 2 ;
+
+    DoubleProblem problem ;
+    switch (tokens[0]) {
+      case "ZDT1":
+        problem = new ZDT1() ;
+        break ;
+      case "DTLZ2":
+        problem = new DTLZ2(numberOfObjectives + 9, numberOfObjectives) ;
+        break ;
+      case "WFG1":
+        problem = new WFG1(2 * (numberOfObjectives - 1), 20, numberOfObjectives) ;
+        break ;
+      default:
+        throw new JMetalException("Unknown problem: " + name) ;
+    }
+
+    if (problem.getNumberOfObjectives() != numberOfObjectives) {
+      throw new JMetalException("Problem " + tokens[0] + " has not " + numberOfObjectives + " objectives") ;
+    }
+
+    return problem ;
+  }
+
+  /**
+   * Creates a list of solutions whose objective values are uniformly distributed in [0, 1], so
+   * that they are spread over many non-dominated fronts
+   */
+  public static List<DoubleSolution> createRandomSolutions(int numberOfSolutions, int numberOfObjectives) {
+    DoubleProblem problem = createProblem("DTLZ2_" + numberOfObjectives) ;
+    Random random = new Random(SEED) ;
+
+    List<DoubleSolution> solutionList = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, random.nextDouble());
+      }
+      solutionList.add(solution) ;
+    }
+
+    return solutionList ;
+  }
+
+  /**
+   * Creates a list of solutions lying on the unit sphere, scaled by a random factor in
+   * [1, 1 + noise]. With a noise of zero, the solutions are mutually non-dominated
+   */
+  public static List<DoubleSolution> createSolutionsNearTheUnitSphere(int numberOfSolutions,
+      int numberOfObjectives, double noise) {
+    DoubleProblem problem = createProblem("DTLZ2_" + numberOfObjectives) ;
+    Random random = new Random(SEED) ;
+
+    List<DoubleSolution> solutionList = new ArrayList<>(numberOfSolutions) ;
+    double[] objectives = new double[numberOfObjectives] ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      double norm = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] = random.nextDouble() + 0.001 ;
+        norm += objectives[j] * objectives[j] ;
+      }
+      double scale = (1.0 + noise * random.nextDouble()) / Math.sqrt(norm) ;
+
+      DoubleSolution solution = problem.createSolution() ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, objectives[j] * scale);
+      }
+      solutionList.add(solution) ;
+    }
+
+    return solutionList ;
+  }
+}
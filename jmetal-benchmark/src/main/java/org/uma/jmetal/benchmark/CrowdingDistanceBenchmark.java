@@ -0,0 +1,53 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crowding distance of a non-dominated front
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrowdingDistanceBenchmark {
+  @Param({"100", "1000", "10000"})
+  private int frontSize ;
+
+  @Param({"2", "3", "5"})
+  private int numberOfObjectives ;
+
+  private List<DoubleSolution> front ;
+  private CrowdingDistance<DoubleSolution> crowdingDistance ;
+
+  @Setup
+  public void setup() {
+    front = BenchmarkFixtures.createSolutionsNearTheUnitSphere(frontSize, numberOfObjectives, 0.0) ;
+    crowdingDistance = new CrowdingDistance<>() ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> computeDensityEstimator() {
+    crowdingDistance.computeDensityEstimator(front);
+
+    return front ;
+  }
+}
@@ -0,0 +1,56 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-dominated sorting of a list of solutions spread over many fronts
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DominanceRankingBenchmark {
+  @Param({"100", "1000", "5000"})
+  private int populationSize ;
+
+  @Param({"2", "3", "5"})
+  private int numberOfObjectives ;
+
+  private List<DoubleSolution> population ;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkFixtures.createRandomSolutions(populationSize, numberOfObjectives) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> dominanceRanking() {
+    return new DominanceRanking<DoubleSolution>().computeRanking(population) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> efficientNonDominatedSortRanking() {
+    return new EfficientNonDominatedSortRanking<DoubleSolution>().computeRanking(population) ;
+  }
+}
@@ -0,0 +1,60 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hypervolume of a non-dominated front computed with the WFG and PISA implementations
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HypervolumeBenchmark {
+  @Param({"100", "500"})
+  private int frontSize ;
+
+  @Param({"2", "3", "5"})
+  private int numberOfObjectives ;
+
+  private List<DoubleSolution> front ;
+  private WFGHypervolume<DoubleSolution> wfgHypervolume ;
+  private PISAHypervolume<DoubleSolution> pisaHypervolume ;
+
+  @Setup
+  public void setup() {
+    front = BenchmarkFixtures.createSolutionsNearTheUnitSphere(frontSize, numberOfObjectives, 0.0) ;
+    wfgHypervolume = new WFGHypervolume<>() ;
+    pisaHypervolume = new PISAHypervolume<>(new ArrayFront(front)) ;
+  }
+
+  @Benchmark
+  public double wfgHypervolume() {
+    return wfgHypervolume.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double pisaHypervolume() {
+    return pisaHypervolume.evaluate(front) ;
+  }
+}
@@ -0,0 +1,109 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.IncrementalHypervolumeContribution;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hypervolume contributions of the members of a non-dominated front, computed from scratch by the
+ * WFG and PISA implementations and by {@link IncrementalHypervolumeContribution}, and updated by the
+ * latter when a member is replaced by a new solution
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HypervolumeContributionBenchmark {
+  private static final double OFFSET = 0.1 ;
+
+  @Param({"50", "200"})
+  private int frontSize ;
+
+  @Param({"2", "3"})
+  private int numberOfObjectives ;
+
+  private List<DoubleSolution> front ;
+  private List<DoubleSolution> candidates ;
+  private WFGHypervolume<DoubleSolution> wfgHypervolume ;
+  private PISAHypervolume<DoubleSolution> pisaHypervolume ;
+  private IncrementalHypervolumeContribution<DoubleSolution> incrementalContribution ;
+  private double[] referencePoint ;
+  private int nextCandidate ;
+
+  @Setup
+  public void setup() {
+    List<DoubleSolution> solutions =
+        BenchmarkFixtures.createSolutionsNearTheUnitSphere(2 * frontSize, numberOfObjectives, 0.0) ;
+    front = new ArrayList<>(solutions.subList(0, frontSize)) ;
+    candidates = new ArrayList<>(solutions.subList(frontSize, 2 * frontSize)) ;
+
+    wfgHypervolume = new WFGHypervolume<>() ;
+    wfgHypervolume.setOffset(OFFSET);
+    pisaHypervolume = new PISAHypervolume<>() ;
+    pisaHypervolume.setOffset(OFFSET);
+
+    // The solutions lie on the unit sphere, so this reference point is not changed by replacements
+    referencePoint = new double[numberOfObjectives] ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      referencePoint[i] = 1.0 + OFFSET ;
+    }
+    incrementalContribution = new IncrementalHypervolumeContribution<>(numberOfObjectives) ;
+    incrementalContribution.update(front, referencePoint) ;
+    nextCandidate = 0 ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> wfgContributions() {
+    return wfgHypervolume.computeHypervolumeContribution(front, front) ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> pisaContributions() {
+    return pisaHypervolume.computeHypervolumeContribution(front, front) ;
+  }
+
+  @Benchmark
+  public DoubleSolution incrementalContributions() {
+    IncrementalHypervolumeContribution<DoubleSolution> contributions =
+        new IncrementalHypervolumeContribution<>(numberOfObjectives) ;
+    contributions.update(front, referencePoint) ;
+
+    return contributions.getLeastContributor() ;
+  }
+
+  /**
+   * Replaces the least contributor by a new solution, as done by a bounded archive or by SMS-EMOA.
+   * The removed solution becomes a candidate, so the front is always made of points of the sphere
+   */
+  @Benchmark
+  public DoubleSolution incrementalReplacement() {
+    DoubleSolution candidate = candidates.get(nextCandidate) ;
+    DoubleSolution leastContributor = incrementalContribution.getLeastContributor() ;
+    incrementalContribution.remove(leastContributor) ;
+    incrementalContribution.add(candidate) ;
+    candidates.set(nextCandidate, leastContributor) ;
+    nextCandidate = (nextCandidate + 1) % candidates.size() ;
+
+    return leastContributor ;
+  }
+}
@@ -0,0 +1,65 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.algorithm.multiobjective.moead.AbstractMOEAD;
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADBuilder;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs of MOEA/D of a fixed number of generations, including the initialization (weight vectors,
+ * neighborhoods and initial population). The weight vectors of three objectives are read from the
+ * files of jmetal-core, which are available for populations of 100 and 300 solutions among others
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MOEADBenchmark {
+  private static final int NUMBER_OF_GENERATIONS = 10 ;
+
+  @Param({"ZDT1", "DTLZ2_3", "WFG1_3"})
+  private String problemName ;
+
+  @Param({"100", "300"})
+  private int populationSize ;
+
+  private DoubleProblem problem ;
+
+  @Setup
+  public void setup() {
+    JMetalRandom.getInstance().setSeed(BenchmarkFixtures.SEED);
+    problem = BenchmarkFixtures.createProblem(problemName) ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> run() {
+    AbstractMOEAD<DoubleSolution> algorithm = new MOEADBuilder(problem, MOEADBuilder.Variant.MOEAD)
+        .setPopulationSize(populationSize)
+        .setResultPopulationSize(populationSize)
+        .setMaxEvaluations(populationSize * (NUMBER_OF_GENERATIONS + 1))
+        .setDataDirectory("MOEAD_Weights")
+        .build() ;
+    algorithm.run();
+
+    return algorithm.getResult() ;
+  }
+}
@@ -0,0 +1,105 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One generation of NSGA-II (selection, reproduction, evaluation and replacement). The algorithm is
+ * initialized once per trial, so the generations are measured on an evolving population
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NSGAIIBenchmark {
+  @Param({"ZDT1", "DTLZ2_3", "DTLZ2_5", "WFG1_3"})
+  private String problemName ;
+
+  @Param({"100", "500"})
+  private int populationSize ;
+
+  @Param({"DominanceRanking", "EfficientNonDominatedSortRanking"})
+  private String ranking ;
+
+  private SteppableNSGAII algorithm ;
+
+  @Setup
+  public void setup() {
+    JMetalRandom.getInstance().setSeed(BenchmarkFixtures.SEED);
+    DoubleProblem problem = BenchmarkFixtures.createProblem(problemName) ;
+
+    Ranking<DoubleSolution> rankingImplementation ;
+    if ("DominanceRanking".equals(ranking)) {
+      rankingImplementation = new DominanceRanking<>() ;
+    } else {
+      rankingImplementation = new EfficientNonDominatedSortRanking<>() ;
+    }
+
+    algorithm = new SteppableNSGAII(problem, populationSize, rankingImplementation) ;
+    algorithm.initialize();
+  }
+
+  @Benchmark
+  public List<DoubleSolution> generation() {
+    algorithm.step();
+
+    return algorithm.getPopulation() ;
+  }
+
+  /**
+   * NSGA-II whose main loop is run one generation at a time
+   */
+  @SuppressWarnings("serial")
+  private static class SteppableNSGAII extends NSGAII<DoubleSolution> {
+    SteppableNSGAII(DoubleProblem problem, int populationSize, Ranking<DoubleSolution> ranking) {
+      super(problem, Integer.MAX_VALUE, populationSize,
+          new SBXCrossover(0.9, 20.0),
+          new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+          new BinaryTournamentSelection<DoubleSolution>(new RankingAndCrowdingDistanceComparator<DoubleSolution>()),
+          new DominanceComparator<DoubleSolution>(), ranking,
+          new SequentialSolutionListEvaluator<DoubleSolution>()) ;
+    }
+
+    void initialize() {
+      population = evaluatePopulation(createInitialPopulation()) ;
+      initProgress();
+    }
+
+    void step() {
+      List<DoubleSolution> matingPopulation = selection(population) ;
+      List<DoubleSolution> offspringPopulation = reproduction(matingPopulation) ;
+      offspringPopulation = evaluatePopulation(offspringPopulation) ;
+      population = replacement(population, offspringPopulation) ;
+      updateProgress();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insertion of a stream of solutions close to a front in an unbounded non-dominated archive. The
+ * archive is indexed with two objectives when it uses the default constructor, and every member is
+ * compared with the new solutions when it is given a comparator
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NonDominatedSolutionListArchiveBenchmark {
+  @Param({"1000", "10000"})
+  private int numberOfSolutions ;
+
+  @Param({"2", "3", "5"})
+  private int numberOfObjectives ;
+
+  private List<DoubleSolution> solutions ;
+
+  @Setup
+  public void setup() {
+    solutions = BenchmarkFixtures.createSolutionsNearTheUnitSphere(numberOfSolutions, numberOfObjectives, 0.05) ;
+  }
+
+  @Benchmark
+  public NonDominatedSolutionListArchive<DoubleSolution> add() {
+    return fill(new NonDominatedSolutionListArchive<DoubleSolution>()) ;
+  }
+
+  @Benchmark
+  public NonDominatedSolutionListArchive<DoubleSolution> addComparingWithEveryMember() {
+    return fill(new NonDominatedSolutionListArchive<DoubleSolution>(new DominanceComparator<DoubleSolution>())) ;
+  }
+
+  private NonDominatedSolutionListArchive<DoubleSolution> fill(NonDominatedSolutionListArchive<DoubleSolution> archive) {
+    for (DoubleSolution solution : solutions) {
+      archive.add(solution) ;
+    }
+
+    return archive ;
+  }
+}
@@ -0,0 +1,64 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SBX crossover and polynomial mutation of solutions of ZDT1 with several numbers of variables
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariationOperatorsBenchmark {
+  @Param({"30", "300", "3000"})
+  private int numberOfVariables ;
+
+  private List<DoubleSolution> parents ;
+  private DoubleSolution solutionToMutate ;
+  private SBXCrossover crossover ;
+  private PolynomialMutation mutation ;
+
+  @Setup
+  public void setup() {
+    JMetalRandom.getInstance().setSeed(BenchmarkFixtures.SEED);
+    ZDT1 problem = new ZDT1(numberOfVariables) ;
+    parents = Arrays.asList(problem.createSolution(), problem.createSolution()) ;
+    solutionToMutate = problem.createSolution() ;
+
+    crossover = new SBXCrossover(1.0, 20.0) ;
+    mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0) ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> sbxCrossover() {
+    return crossover.execute(parents) ;
+  }
+
+  @Benchmark
+  public DoubleSolution polynomialMutation() {
+    return mutation.execute(solutionToMutate) ;
+  }
+}
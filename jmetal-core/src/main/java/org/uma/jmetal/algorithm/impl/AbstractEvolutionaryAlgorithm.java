@@ -2,6 +2,9 @@ package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.termination.TerminationCondition;
 
 import java.util.List;
 
@@ -17,6 +20,10 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
   protected List<S> population;
   protected Problem<S> problem ;
 
+  private TerminationCondition terminationCondition ;
+  private long numberOfEvaluations ;
+  private transient Checkpoint checkpoint ;
+
   public List<S> getPopulation() {
     return population;
   }
@@ -31,6 +38,55 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
     return problem ;
   }
 
+  /**
+   * Sets a condition to stop the algorithm in addition to its own stopping condition
+   * @param terminationCondition Termination condition; if it is null, only the stopping condition
+   *                             of the algorithm is used
+   */
+  public void setTerminationCondition(TerminationCondition terminationCondition) {
+    this.terminationCondition = terminationCondition ;
+  }
+  public TerminationCondition getTerminationCondition() {
+    return terminationCondition ;
+  }
+
+  /**
+   * Sets an object saving the state of the algorithm at the end of the iterations, so that the run
+   * can be continued with {@link #resume()} after restoring the algorithm with
+   * {@link Checkpoint#restore(java.nio.file.Path)}. It is not saved with the algorithm
+   * @param checkpoint Checkpoint; if it is null, the state is not saved
+   */
+  public void setCheckpoint(Checkpoint checkpoint) {
+    this.checkpoint = checkpoint ;
+  }
+  public Checkpoint getCheckpoint() {
+    return checkpoint ;
+  }
+
+  /**
+   * Starts the termination condition, if any. Called at the beginning of the run() method
+   */
+  protected void startTerminationCondition() {
+    numberOfEvaluations = 0 ;
+    if (terminationCondition != null) {
+      terminationCondition.start();
+    }
+  }
+
+  /**
+   * Adds a number of solutions to the count of evaluations passed to the termination condition
+   */
+  protected void countEvaluations(int evaluations) {
+    numberOfEvaluations += evaluations ;
+  }
+
+  /**
+   * @return True if there is a termination condition and it is met
+   */
+  protected boolean isTerminationConditionMet() {
+    return (terminationCondition != null) && terminationCondition.isMet(this, numberOfEvaluations) ;
+  }
+
   protected abstract void initProgress();
 
   protected abstract void updateProgress();
@@ -50,18 +106,52 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
   @Override public abstract R getResult();
 
   @Override public void run() {
-    List<S> offspringPopulation;
-    List<S> matingPopulation;
-
+    startTerminationCondition();
     population = createInitialPopulation();
     population = evaluatePopulation(population);
+    countEvaluations(population.size());
     initProgress();
-    while (!isStoppingConditionReached()) {
+    iterate();
+  }
+
+  /**
+   * Continues a run of the algorithm restored from a checkpoint. The termination condition, if
+   * any, is started again, keeping the count of evaluations
+   */
+  public void resume() {
+    if (population == null) {
+      throw new JMetalException("The algorithm has not been started") ;
+    }
+    if (terminationCondition != null) {
+      terminationCondition.start();
+    }
+    iterate();
+  }
+
+  /**
+   * Main loop of the algorithm
+   */
+  protected void iterate() {
+    List<S> offspringPopulation;
+    List<S> matingPopulation;
+
+    while (!isStoppingConditionReached() && !isTerminationConditionMet()) {
       matingPopulation = selection(population);
       offspringPopulation = reproduction(matingPopulation);
       offspringPopulation = evaluatePopulation(offspringPopulation);
+      countEvaluations(offspringPopulation.size());
       population = replacement(population, offspringPopulation);
       updateProgress();
+      saveCheckpoint();
+    }
+  }
+
+  /**
+   * Notifies the end of an iteration to the checkpoint, if any
+   */
+  protected void saveCheckpoint() {
+    if (checkpoint != null) {
+      checkpoint.update(this);
     }
   }
 }
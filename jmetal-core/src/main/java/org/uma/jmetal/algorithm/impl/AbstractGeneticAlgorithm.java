@@ -5,9 +5,16 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Abstract class representing a genetic algorithm
@@ -21,6 +28,9 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
   protected CrossoverOperator<S> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
 
+  private int numberOfReproductionThreads = 1 ;
+  private transient ExecutorService reproductionExecutor ;
+
   /* Setters and getters */
   public void setMaxPopulationSize(int maxPopulationSize) {
     this.maxPopulationSize = maxPopulationSize ;
@@ -42,6 +52,29 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
     return mutationOperator;
   }
 
+  /**
+   * Sets the number of threads applying the crossover and mutation operators in
+   * {@link #reproduction(List)}. With more than one thread, each group of parents takes its random
+   * values from its own stream (see {@link JMetalRandom#createStreams(int)}), so the offspring only
+   * depend on the seed, and not on the number of threads or on their scheduling. The operators
+   * must be thread-safe apart from their use of {@link JMetalRandom}. By default, the reproduction
+   * is sequential
+   * @param numberOfReproductionThreads Number of threads (1 for a sequential reproduction)
+   */
+  public void setNumberOfReproductionThreads(int numberOfReproductionThreads) {
+    if (numberOfReproductionThreads < 1) {
+      throw new JMetalException("The number of reproduction threads must be positive: " +
+          numberOfReproductionThreads) ;
+    }
+
+    shutdownReproductionExecutor();
+    this.numberOfReproductionThreads = numberOfReproductionThreads ;
+  }
+
+  public int getNumberOfReproductionThreads() {
+    return numberOfReproductionThreads ;
+  }
+
   /**
    * Constructor
    * @param problem The problem to solve
@@ -96,23 +129,113 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
 
     checkNumberOfParents(population, numberOfParents);
 
+    if (numberOfReproductionThreads > 1) {
+      return parallelReproduction(population, numberOfParents) ;
+    }
+
     List<S> offspringPopulation = new ArrayList<>(getMaxPopulationSize());
     for (int i = 0; i < getMaxPopulationSize(); i += numberOfParents) {
-      List<S> parents = new ArrayList<>(numberOfParents);
-      for (int j = 0; j < numberOfParents; j++) {
-        parents.add(population.get(i+j));
-      }
+      offspringPopulation.addAll(reproduce(population, i, numberOfParents));
+    }
+    return offspringPopulation;
+  }
+
+  /**
+   * Applies the crossover and the mutation to the group of parents starting at a given position
+   * of the population
+   */
+  private List<S> reproduce(List<S> population, int firstParent, int numberOfParents) {
+    List<S> parents = new ArrayList<>(numberOfParents);
+    for (int j = 0; j < numberOfParents; j++) {
+      parents.add(population.get(firstParent + j));
+    }
+
+    List<S> offspring = crossoverOperator.execute(parents);
+
+    for(S s: offspring){
+      mutationOperator.execute(s);
+    }
+    return offspring;
+  }
+
+  /**
+   * Parallel version of {@link #reproduction(List)}. The groups of parents are divided into
+   * blocks of consecutive groups, one per thread, and each group is reproduced using its own random
+   * stream. The offspring are returned in the same order as in the sequential version
+   */
+  private List<S> parallelReproduction(List<S> population, int numberOfParents) {
+    int numberOfGroups = (getMaxPopulationSize() + numberOfParents - 1) / numberOfParents ;
+    PseudoRandomGenerator[] streams = JMetalRandom.getInstance().createStreams(numberOfGroups) ;
+    List<List<S>> groupOffspring = new ArrayList<>(Collections.<List<S>>nCopies(numberOfGroups, null)) ;
+
+    if (reproductionExecutor == null) {
+      reproductionExecutor = Executors.newFixedThreadPool(numberOfReproductionThreads, runnable -> {
+        Thread thread = new Thread(runnable, "jmetal-reproduction") ;
+        thread.setDaemon(true);
+        return thread ;
+      }) ;
+    }
 
-      List<S> offspring = crossoverOperator.execute(parents);
+    int numberOfTasks = Math.min(numberOfReproductionThreads, numberOfGroups) ;
+    List<Future<?>> tasks = new ArrayList<>(numberOfTasks) ;
+    for (int task = 0; task < numberOfTasks; task++) {
+      int firstGroup = (int) ((long) task * numberOfGroups / numberOfTasks) ;
+      int lastGroup = (int) ((long) (task + 1) * numberOfGroups / numberOfTasks) ;
+      tasks.add(reproductionExecutor.submit(() -> {
+        for (int group = firstGroup; group < lastGroup; group++) {
+          int currentGroup = group ;
+          JMetalRandom.getInstance().runWith(streams[group], () -> groupOffspring.set(currentGroup,
+              reproduce(population, currentGroup * numberOfParents, numberOfParents)));
+        }
+      })) ;
+    }
 
-      for(S s: offspring){
-        mutationOperator.execute(s);
-        offspringPopulation.add(s);
+    try {
+      for (Future<?> task : tasks) {
+        task.get() ;
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the reproduction", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error in the reproduction", e) ;
+    }
+
+    List<S> offspringPopulation = new ArrayList<>(getMaxPopulationSize());
+    for (List<S> offspring : groupOffspring) {
+      offspringPopulation.addAll(offspring) ;
     }
     return offspringPopulation;
   }
 
+  private void shutdownReproductionExecutor() {
+    if (reproductionExecutor != null) {
+      reproductionExecutor.shutdown();
+      reproductionExecutor = null ;
+    }
+  }
+
+  /**
+   * Runs the algorithm, shutting down the reproduction threads at the end
+   */
+  @Override
+  public void run() {
+    try {
+      super.run();
+    } finally {
+      shutdownReproductionExecutor();
+    }
+  }
+
+  @Override
+  public void resume() {
+    try {
+      super.resume();
+    } finally {
+      shutdownReproductionExecutor();
+    }
+  }
+
   /**
    * A crossover operator is applied to a number of parents, and it assumed that the population contains
    * a valid number of solutions. This method checks that.
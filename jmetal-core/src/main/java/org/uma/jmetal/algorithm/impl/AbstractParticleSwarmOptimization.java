@@ -1,6 +1,9 @@
 package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.termination.TerminationCondition;
 
 import java.util.List;
 
@@ -19,6 +22,52 @@ public abstract class AbstractParticleSwarmOptimization<S, Result> implements Al
     this.swarm = swarm;
   }
 
+  private TerminationCondition terminationCondition ;
+  private long numberOfEvaluations ;
+  private transient Checkpoint checkpoint ;
+
+  /**
+   * Sets a condition to stop the algorithm in addition to its own stopping condition
+   * @param terminationCondition Termination condition; if it is null, only the stopping condition
+   *                             of the algorithm is used
+   */
+  public void setTerminationCondition(TerminationCondition terminationCondition) {
+    this.terminationCondition = terminationCondition ;
+  }
+  public TerminationCondition getTerminationCondition() {
+    return terminationCondition ;
+  }
+
+  /**
+   * Sets an object saving the state of the algorithm at the end of the iterations, so that the run
+   * can be continued with {@link #resume()} after restoring the algorithm with
+   * {@link Checkpoint#restore(java.nio.file.Path)}. It is not saved with the algorithm
+   * @param checkpoint Checkpoint; if it is null, the state is not saved
+   */
+  public void setCheckpoint(Checkpoint checkpoint) {
+    this.checkpoint = checkpoint ;
+  }
+  public Checkpoint getCheckpoint() {
+    return checkpoint ;
+  }
+
+  /**
+   * Starts the termination condition, if any. Called at the beginning of the run() method
+   */
+  protected void startTerminationCondition() {
+    numberOfEvaluations = 0 ;
+    if (terminationCondition != null) {
+      terminationCondition.start();
+    }
+  }
+
+  /**
+   * @return True if there is a termination condition and it is met
+   */
+  protected boolean isTerminationConditionMet() {
+    return (terminationCondition != null) && terminationCondition.isMet(this, numberOfEvaluations) ;
+  }
+
   protected abstract void initProgress() ;
   protected abstract void updateProgress() ;
 
@@ -39,21 +88,49 @@ public abstract class AbstractParticleSwarmOptimization<S, Result> implements Al
 
   @Override
   public void run() {
+    startTerminationCondition();
+
     swarm = createInitialSwarm() ;
     swarm = evaluateSwarm(swarm);
+    numberOfEvaluations += swarm.size() ;
     initializeVelocity(swarm);
     initializeParticlesMemory(swarm) ;
     initializeLeader(swarm) ;
     initProgress();
 
-    while (!isStoppingConditionReached()) {
+    iterate();
+  }
+
+  /**
+   * Continues a run of the algorithm restored from a checkpoint. The termination condition, if
+   * any, is started again, keeping the count of evaluations
+   */
+  public void resume() {
+    if (swarm == null) {
+      throw new JMetalException("The algorithm has not been started") ;
+    }
+    if (terminationCondition != null) {
+      terminationCondition.start();
+    }
+    iterate();
+  }
+
+  /**
+   * Main loop of the algorithm
+   */
+  protected void iterate() {
+    while (!isStoppingConditionReached() && !isTerminationConditionMet()) {
       updateVelocity(swarm);
       updatePosition(swarm);
       perturbation(swarm);
       swarm = evaluateSwarm(swarm) ;
+      numberOfEvaluations += swarm.size() ;
       updateLeaders(swarm) ;
       updateParticlesMemory(swarm) ;
       updateProgress();
+      if (checkpoint != null) {
+        checkpoint.update(this);
+      }
     }
   }
 }
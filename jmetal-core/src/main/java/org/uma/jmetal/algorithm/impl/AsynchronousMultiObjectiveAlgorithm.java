@@ -0,0 +1,184 @@
+package org.uma.jmetal.algorithm.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Abstract class representing an asynchronous steady-state multi-objective algorithm following a
+ * master/worker scheme. The master thread creates solutions and sends them to a pool of workers
+ * to be evaluated; as soon as a worker returns an evaluated solution, the solution is processed
+ * (e.g., inserted into the population) and a new solution is created and sent to the idle worker.
+ * In this way all the workers are kept busy even if the evaluation times are very different, which
+ * is not the case in generational algorithms, where every generation has to wait for its slowest
+ * evaluation.
+ *
+ * Only the evaluation of the solutions is carried out by the workers, so the
+ * {@link Problem#evaluate(Object)} method must be thread-safe; the rest of the methods are always
+ * invoked from the thread running the algorithm.
+ *
+ * @param <S> Solution
+ * @param <R> Result
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public abstract class AsynchronousMultiObjectiveAlgorithm<S, R> implements Algorithm<R> {
+  protected Problem<S> problem ;
+  protected final int maxEvaluations ;
+  protected final int numberOfWorkers ;
+
+  protected int evaluations ;
+  private int dispatchedSolutions ;
+
+  /**
+   * Constructor
+   * @param problem Problem to solve
+   * @param maxEvaluations Maximum number of evaluations
+   * @param numberOfWorkers Number of worker threads; if it is 0, the number of available
+   *                        processors is used
+   */
+  public AsynchronousMultiObjectiveAlgorithm(Problem<S> problem, int maxEvaluations, int numberOfWorkers) {
+    if (numberOfWorkers < 0) {
+      throw new JMetalException("The number of workers is negative: " + numberOfWorkers) ;
+    }
+
+    this.problem = problem ;
+    this.maxEvaluations = maxEvaluations ;
+    this.numberOfWorkers = (numberOfWorkers == 0) ?
+        Runtime.getRuntime().availableProcessors() : numberOfWorkers ;
+  }
+
+  public Problem<S> getProblem() {
+    return problem ;
+  }
+
+  public int getNumberOfWorkers() {
+    return numberOfWorkers ;
+  }
+
+  public int getEvaluations() {
+    return evaluations ;
+  }
+
+  /**
+   * @return The solutions to evaluate before starting to create new ones
+   */
+  protected abstract List<S> createInitialSolutions() ;
+
+  /**
+   * Creates a new solution to be evaluated
+   * @return The new solution, or null if there is no solution to evaluate until more evaluated
+   * solutions have been processed. The engine then waits for the next evaluated solution, so null
+   * can only be returned while some solution is being evaluated
+   */
+  protected abstract S createNewSolution() ;
+
+  /**
+   * Processes a solution which has just been evaluated
+   * @param solution The evaluated solution
+   */
+  protected abstract void processComputedSolution(S solution) ;
+
+  protected void initProgress() {
+  }
+
+  protected void updateProgress() {
+  }
+
+  /**
+   * No more solutions are sent to the workers when this method returns true; the solutions being
+   * evaluated at that moment are still processed. The number of evaluations never exceeds
+   * {@link #maxEvaluations}
+   */
+  protected boolean isStoppingConditionReached() {
+    return evaluations >= maxEvaluations ;
+  }
+
+  @Override
+  public void run() {
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfWorkers) ;
+    CompletionService<S> completionService = new ExecutorCompletionService<>(executor) ;
+
+    try {
+      Deque<S> initialSolutions = new ArrayDeque<>(createInitialSolutions()) ;
+      evaluations = 0 ;
+      dispatchedSolutions = 0 ;
+      initProgress();
+
+      int solutionsBeingEvaluated = dispatch(completionService, initialSolutions, 0) ;
+      while (solutionsBeingEvaluated > 0) {
+        S solution = waitForComputedSolution(completionService) ;
+        solutionsBeingEvaluated-- ;
+        evaluations++ ;
+
+        processComputedSolution(solution);
+        updateProgress();
+
+        solutionsBeingEvaluated = dispatch(completionService, initialSolutions, solutionsBeingEvaluated) ;
+      }
+    } finally {
+      executor.shutdownNow() ;
+    }
+  }
+
+  /**
+   * Sends solutions to the idle workers, taking first the pending initial solutions. If there is
+   * no solution to send and none is being evaluated, the algorithm could not go on although the
+   * stopping condition has not been reached, so an exception is raised instead of finishing
+   * @return The number of solutions being evaluated
+   */
+  private int dispatch(CompletionService<S> completionService, Deque<S> initialSolutions,
+      int solutionsBeingEvaluated) {
+    while ((solutionsBeingEvaluated < numberOfWorkers) && (dispatchedSolutions < maxEvaluations)
+        && !isStoppingConditionReached()) {
+      S solution = initialSolutions.isEmpty() ? createNewSolution() : initialSolutions.poll() ;
+      if (solution == null) {
+        break ;
+      }
+
+      completionService.submit(() -> evaluate(solution)) ;
+      dispatchedSolutions++ ;
+      solutionsBeingEvaluated++ ;
+    }
+
+    if ((solutionsBeingEvaluated == 0) && (dispatchedSolutions < maxEvaluations)
+        && !isStoppingConditionReached()) {
+      throw new JMetalException("There are no solutions to evaluate after " + evaluations
+          + " evaluations: createNewSolution() returned null while none was being evaluated") ;
+    }
+
+    return solutionsBeingEvaluated ;
+  }
+
+  @SuppressWarnings("unchecked")
+  private S evaluate(S solution) {
+    problem.evaluate(solution) ;
+    if (problem instanceof ConstrainedProblem) {
+      ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
+    }
+
+    return solution ;
+  }
+
+  private S waitForComputedSolution(CompletionService<S> completionService) {
+    try {
+      return completionService.take().get() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for an evaluation", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error evaluating a solution", e) ;
+    }
+  }
+}
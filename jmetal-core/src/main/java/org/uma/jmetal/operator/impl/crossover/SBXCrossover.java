@@ -33,6 +33,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
   private RandomGenerator<Double> randomGenerator ;
 
+  private transient volatile ThreadLocal<Buffers> buffers ;
+
   /** Constructor */
   public SBXCrossover(double crossoverProbability, double distributionIndex) {
     this (crossoverProbability, distributionIndex, new RepairDoubleSolutionAtBounds()) ;
@@ -101,6 +103,49 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     offspring.add((DoubleSolution) parent1.copy()) ;
     offspring.add((DoubleSolution) parent2.copy()) ;
 
+    int numberOfVariables = parent1.getNumberOfVariables() ;
+    Buffers buffers = getBuffers(numberOfVariables) ;
+    double[] parentValues1 = buffers.parentValues1 ;
+    double[] parentValues2 = buffers.parentValues2 ;
+    double[] lowerBounds = buffers.lowerBounds ;
+    double[] upperBounds = buffers.upperBounds ;
+    for (int i = 0; i < numberOfVariables; i++) {
+      parentValues1[i] = parent1.getVariableValue(i) ;
+      parentValues2[i] = parent2.getVariableValue(i) ;
+      lowerBounds[i] = parent1.getLowerBound(i) ;
+      upperBounds[i] = parent1.getUpperBound(i) ;
+    }
+
+    double[] offspringValues1 = buffers.offspringValues1 ;
+    double[] offspringValues2 = buffers.offspringValues2 ;
+    if (doCrossover(probability, parentValues1, 0, parentValues2, 0, offspringValues1, 0,
+        offspringValues2, 0, lowerBounds, upperBounds)) {
+      for (int i = 0; i < numberOfVariables; i++) {
+        offspring.get(0).setVariableValue(i, offspringValues1[i]);
+        offspring.get(1).setVariableValue(i, offspringValues2[i]);
+      }
+    }
+
+    return offspring;
+  }
+
+  /**
+   * Applies the crossover to two parents whose variables are stored in primitive arrays, such as
+   * those of a {@link org.uma.jmetal.solution.impl.DoublePopulation}, writing the variables of the
+   * offspring into the target arrays. The offspring are copies of the parents if the crossover is
+   * not applied. The region of each offspring can be the one of its own parent, but must not
+   * overlap with the region of the other parent.
+   *
+   * @return true if the crossover has been applied
+   */
+  public boolean doCrossover(double probability,
+      double[] parent1, int parent1Offset, double[] parent2, int parent2Offset,
+      double[] offspring1, int offspring1Offset, double[] offspring2, int offspring2Offset,
+      double[] lowerBounds, double[] upperBounds) {
+    int numberOfVariables = lowerBounds.length ;
+    System.arraycopy(parent1, parent1Offset, offspring1, offspring1Offset, numberOfVariables);
+    System.arraycopy(parent2, parent2Offset, offspring2, offspring2Offset, numberOfVariables);
+
     int i;
     double rand;
     double y1, y2, lowerBound, upperBound;
@@ -109,9 +154,9 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     double valueX1, valueX2;
 
     if (randomGenerator.getRandomValue() <= probability) {
-      for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariableValue(i);
-        valueX2 = parent2.getVariableValue(i);
+      for (i = 0; i < numberOfVariables; i++) {
+        valueX1 = parent1[parent1Offset + i];
+        valueX2 = parent2[parent2Offset + i];
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
 
@@ -123,8 +168,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
               y2 = valueX1;
             }
 
-            lowerBound = parent1.getLowerBound(i);
-            upperBound = parent1.getUpperBound(i);
+            lowerBound = lowerBounds[i];
+            upperBound = upperBounds[i];
 
             rand = randomGenerator.getRandomValue();
             beta = 1.0 + (2.0 * (y1 - lowerBound) / (y2 - y1));
@@ -153,24 +198,42 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound) ;
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).setVariableValue(i, c2);
-              offspring.get(1).setVariableValue(i, c1);
+              offspring1[offspring1Offset + i] = c2;
+              offspring2[offspring2Offset + i] = c1;
             } else {
-              offspring.get(0).setVariableValue(i, c1);
-              offspring.get(1).setVariableValue(i, c2);
+              offspring1[offspring1Offset + i] = c1;
+              offspring2[offspring2Offset + i] = c2;
             }
-          } else {
-            offspring.get(0).setVariableValue(i, valueX1);
-            offspring.get(1).setVariableValue(i, valueX2);
           }
-        } else {
-          offspring.get(0).setVariableValue(i, valueX1);
-          offspring.get(1).setVariableValue(i, valueX2);
         }
       }
+
+      return true ;
     }
 
-    return offspring;
+    return false ;
+  }
+
+  /**
+   * Returns the buffers of the current thread, reallocating them if the number of variables has
+   * changed
+   */
+  private Buffers getBuffers(int numberOfVariables) {
+    if (buffers == null) {
+      synchronized (this) {
+        if (buffers == null) {
+          buffers = new ThreadLocal<>() ;
+        }
+      }
+    }
+
+    Buffers threadBuffers = buffers.get() ;
+    if ((threadBuffers == null) || (threadBuffers.lowerBounds.length != numberOfVariables)) {
+      threadBuffers = new Buffers(numberOfVariables) ;
+      buffers.set(threadBuffers);
+    }
+
+    return threadBuffers ;
   }
 
   @Override
@@ -182,4 +245,25 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
   public int getNumberOfGeneratedChildren() {
     return 2;
   }
+
+  /**
+   * Arrays used by a thread to apply the crossover to two solutions
+   */
+  private static class Buffers {
+    private final double[] parentValues1 ;
+    private final double[] parentValues2 ;
+    private final double[] lowerBounds ;
+    private final double[] upperBounds ;
+    private final double[] offspringValues1 ;
+    private final double[] offspringValues2 ;
+
+    Buffers(int numberOfVariables) {
+      parentValues1 = new double[numberOfVariables] ;
+      parentValues2 = new double[numberOfVariables] ;
+      lowerBounds = new double[numberOfVariables] ;
+      upperBounds = new double[numberOfVariables] ;
+      offspringValues1 = new double[numberOfVariables] ;
+      offspringValues2 = new double[numberOfVariables] ;
+    }
+  }
 }
@@ -113,35 +113,58 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
 
   /** Perform the mutation operation */
   private void doMutation(double probability, DoubleSolution solution) {
-    double rnd, delta1, delta2, mutPow, deltaq;
-    double y, yl, yu, val, xy;
-
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.getRandomValue() <= probability) {
-        y = solution.getVariableValue(i);
-        yl = solution.getLowerBound(i) ;
-        yu = solution.getUpperBound(i) ;
-        if (yl == yu) {
-          y = yl ;
-        } else {
-          delta1 = (y - yl) / (yu - yl);
-          delta2 = (yu - y) / (yu - yl);
-          rnd = randomGenerator.getRandomValue();
-          mutPow = 1.0 / (distributionIndex + 1.0);
-          if (rnd <= 0.5) {
-            xy = 1.0 - delta1;
-            val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
-            deltaq = Math.pow(val, mutPow) - 1.0;
-          } else {
-            xy = 1.0 - delta2;
-            val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
-            deltaq = 1.0 - Math.pow(val, mutPow);
-          }
-          y = y + deltaq * (yu - yl);
-          y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
-        }
-        solution.setVariableValue(i, y);
+        solution.setVariableValue(i, mutateValue(solution.getVariableValue(i),
+            solution.getLowerBound(i), solution.getUpperBound(i)));
+      }
+    }
+  }
+
+  /**
+   * Performs the mutation operation on the variables of a solution stored in a primitive array,
+   * such as those of a {@link org.uma.jmetal.solution.impl.DoublePopulation}. The random values
+   * are drawn in the same order as when mutating a {@link DoubleSolution}
+   *
+   * @param probability Mutation probability
+   * @param variables Array containing the variables
+   * @param offset Position of the first variable of the solution in the array
+   * @param lowerBounds Lower bounds of the variables
+   * @param upperBounds Upper bounds of the variables
+   */
+  public void doMutation(double probability, double[] variables, int offset,
+      double[] lowerBounds, double[] upperBounds) {
+    for (int i = 0; i < lowerBounds.length; i++) {
+      if (randomGenerator.getRandomValue() <= probability) {
+        variables[offset + i] = mutateValue(variables[offset + i], lowerBounds[i], upperBounds[i]) ;
       }
     }
   }
+
+  private double mutateValue(double y, double yl, double yu) {
+    double rnd, delta1, delta2, mutPow, deltaq;
+    double val, xy;
+
+    if (yl == yu) {
+      y = yl ;
+    } else {
+      delta1 = (y - yl) / (yu - yl);
+      delta2 = (yu - y) / (yu - yl);
+      rnd = randomGenerator.getRandomValue();
+      mutPow = 1.0 / (distributionIndex + 1.0);
+      if (rnd <= 0.5) {
+        xy = 1.0 - delta1;
+        val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
+        deltaq = Math.pow(val, mutPow) - 1.0;
+      } else {
+        xy = 1.0 - delta2;
+        val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
+        deltaq = 1.0 - Math.pow(val, mutPow);
+      }
+      y = y + deltaq * (yu - yl);
+      y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
+    }
+
+    return y ;
+  }
 }
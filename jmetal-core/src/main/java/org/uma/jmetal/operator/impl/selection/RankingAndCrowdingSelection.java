@@ -25,15 +25,23 @@ import java.util.List;
 public class RankingAndCrowdingSelection<S extends Solution<?>>
     implements SelectionOperator<List<S>,List<S>> {
   private final int solutionsToSelect ;
-  private Comparator<S> dominanceComparator ;
+  private Ranking<S> ranking ;
 
 
   /** Constructor */
-  public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator) {
-    this.dominanceComparator = dominanceComparator ;
+  public RankingAndCrowdingSelection(int solutionsToSelect, Ranking<S> ranking) {
+    if (null == ranking) {
+      throw new JMetalException("The ranking is null") ;
+    }
+    this.ranking = ranking ;
     this.solutionsToSelect = solutionsToSelect ;
   }
 
+  /** Constructor */
+  public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator) {
+    this(solutionsToSelect, new DominanceRanking<S>(dominanceComparator)) ;
+  }
+
   /** Constructor */
   public RankingAndCrowdingSelection(int solutionsToSelect) {
     this(solutionsToSelect, new DominanceComparator<S>()) ;
@@ -55,7 +63,6 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
               "the solutions to selected ("+solutionsToSelect+")")  ;
     }
 
-    Ranking<S> ranking = new DominanceRanking<S>(dominanceComparator);
     ranking.computeRanking(solutionList) ;
 
     return crowdingDistanceSelection(ranking);
@@ -5,8 +5,8 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
-import org.uma.jmetal.util.point.Point;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -18,7 +18,8 @@ import java.util.List;
  * NOTE: the indicator merely checks if the solutions in the front are not members of the
  * second front. No assumption is made about the second front is a true Pareto front, i.e,
  * the front could contain solutions that dominate some of those of the supposed Pareto front.
- * It is a responsibility of the caller to ensure that this does not happen.
+ * It is a responsibility of the caller to ensure that this does not happen. The points of the
+ * reference front are indexed by a {@link FrontIndex} the first time the indicator is evaluated.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * TODO: using an epsilon value
@@ -28,6 +29,7 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
     extends SimpleDescribedEntity
     implements QualityIndicator<Evaluate, Double> {
   private Front referenceParetoFront ;
+  private transient FrontIndex referenceParetoFrontIndex ;
 
   /**
    * Constructor
@@ -81,27 +83,15 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
    * @throws JMetalException
    */
   private double er(Front front, Front referenceFront) throws JMetalException {
-    int numberOfObjectives = referenceFront.getPointDimensions() ;
-    double sum = 0;
+    FrontIndex referenceFrontIndex = referenceParetoFrontIndex ;
+    if (referenceFrontIndex == null) {
+      referenceFrontIndex = new FrontIndex(referenceFront) ;
+      referenceParetoFrontIndex = referenceFrontIndex ;
+    }
 
+    double sum = 0;
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
-      Point currentPoint = front.getPoint(i);
-      boolean thePointIsInTheParetoFront = false;
-      for (int j = 0; j < referenceFront.getNumberOfPoints(); j++) {
-        Point currentParetoFrontPoint = referenceFront.getPoint(j);
-        boolean found = true;
-        for (int k = 0; k < numberOfObjectives; k++) {
-          if(currentPoint.getDimensionValue(k) != currentParetoFrontPoint.getDimensionValue(k)){
-            found = false;
-            break;
-          }
-        }
-        if(found){
-          thePointIsInTheParetoFront = true;
-          break;
-        }
-      }
-      if(!thePointIsInTheParetoFront){
+      if (!referenceFrontIndex.contains(front.getPoint(i))) {
         sum++;
       }
     }
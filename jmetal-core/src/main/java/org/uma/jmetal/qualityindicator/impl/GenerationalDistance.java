@@ -4,7 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.FrontIndex;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -80,10 +80,10 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
    * @param referenceFront The reference pareto front
    */
   public double generationalDistance(Front front, Front referenceFront) {
+    FrontIndex referenceFrontIndex = getFrontIndex(referenceFront) ;
     double sum = 0.0;
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(front.getPoint(i),
-          referenceFront), pow);
+      sum += Math.pow(referenceFrontIndex.distanceToClosestPoint(front.getPoint(i)), pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -4,6 +4,7 @@ import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 
 import java.io.FileNotFoundException;
@@ -20,6 +21,7 @@ public abstract class GenericIndicator<S>
     implements QualityIndicator<List<S>, Double> {
 
   protected Front referenceParetoFront = null ;
+  private transient FrontIndex referenceParetoFrontIndex = null ;
 
   /**
    * Default constructor
@@ -56,6 +58,27 @@ public abstract class GenericIndicator<S>
     referenceParetoFront = referenceFront ;
   }
 
+  /**
+   * Returns an index of the reference front for nearest point queries. The index is built the first
+   * time it is requested and it is kept until the reference front is replaced
+   */
+  protected FrontIndex getReferenceParetoFrontIndex() {
+    FrontIndex index = referenceParetoFrontIndex ;
+    if ((index == null) || (index.getFront() != referenceParetoFront)) {
+      index = new FrontIndex(referenceParetoFront) ;
+      referenceParetoFrontIndex = index ;
+    }
+
+    return index ;
+  }
+
+  /**
+   * Returns an index of a front, which is the cached one if the front is the reference front
+   */
+  protected FrontIndex getFrontIndex(Front front) {
+    return (front == referenceParetoFront) ? getReferenceParetoFrontIndex() : new FrontIndex(front) ;
+  }
+
   /**
    * This method returns true if lower indicator values are preferred and false otherwise
    * @return
@@ -3,7 +3,7 @@ package org.uma.jmetal.qualityindicator.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.FrontIndex;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -76,10 +76,10 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(Front front, Front referenceFront) {
+    FrontIndex frontIndex = new FrontIndex(front) ;
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front), pow);
+      sum += Math.pow(frontIndex.distanceToClosestPoint(referenceFront.getPoint(i)), pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -4,7 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.point.util.distance.DominanceDistance;
 
 import java.io.FileNotFoundException;
@@ -66,10 +66,11 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
    */
   public double invertedGenerationalDistancePlus(Front front, Front referenceFront) {
 
+    FrontIndex frontIndex = new FrontIndex(front) ;
+    DominanceDistance distance = new DominanceDistance() ;
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front, new DominanceDistance());
+      sum += frontIndex.distanceToClosestPoint(referenceFront.getPoint(i), distance);
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
@@ -0,0 +1,471 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeEstimate;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.io.FileNotFoundException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * This class estimates the hypervolume and the hypervolume contributions by Monte Carlo sampling,
+ * so it can be applied to problems with many objectives, where the exact algorithms are not
+ * affordable. The hypervolume is estimated by sampling uniformly the box between the minimum values
+ * of the front and the reference point, and the contribution of a point by sampling the box that
+ * contains the region it dominates exclusively (Bader and Zitzler, HypE, Evolutionary Computation
+ * 19(1), 2011). Every estimation reports its standard error and a confidence interval
+ * (see {@link HypervolumeEstimate}).
+ *
+ * The samples are split into tasks that can be run in parallel. Each task takes its values from
+ * its own random stream, derived from the seed given by {@link #setSeed(long)} or, if no seed is
+ * given, from {@link JMetalRandom}, so the estimations only depend on the seed and not on the
+ * number of threads.
+ *
+ * The reference point of {@link #evaluate(List)} is made of the maximum values of the reference
+ * front (the point [1, ..., 1] when the fronts are normalized, as in the experiments), or of the
+ * maximum values of the evaluated front plus the offset if there is no reference front. The
+ * reference point of {@link #computeHypervolumeContribution(List, List)} is made of the maximum
+ * values of the reference list plus the offset.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class MonteCarloHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+  private static final double DEFAULT_OFFSET = 100.0 ;
+  private static final int DEFAULT_NUMBER_OF_SAMPLES = 1000000 ;
+  private static final int DEFAULT_NUMBER_OF_SAMPLES_PER_CONTRIBUTION = 10000 ;
+  private static final double DEFAULT_CONFIDENCE_LEVEL = 0.95 ;
+  private static final int SAMPLES_PER_TASK = 10000 ;
+
+  private double offset = DEFAULT_OFFSET ;
+  private int numberOfSamples = DEFAULT_NUMBER_OF_SAMPLES ;
+  private int numberOfSamplesPerContribution = DEFAULT_NUMBER_OF_SAMPLES_PER_CONTRIBUTION ;
+  private double confidenceLevel = DEFAULT_CONFIDENCE_LEVEL ;
+  private double criticalValue = computeCriticalValue(DEFAULT_CONFIDENCE_LEVEL) ;
+  private Long seed = null ;
+  private boolean parallel = true ;
+
+  private HypervolumeEstimate lastEstimate ;
+  private HypervolumeEstimate[] lastContributionEstimates ;
+
+  /**
+   * Default constructor
+   */
+  public MonteCarloHypervolume() {
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public MonteCarloHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFront
+   */
+  public MonteCarloHypervolume(Front referenceParetoFront) {
+    super(referenceParetoFront) ;
+  }
+
+  /**
+   * Evaluate() method
+   * @param solutionList
+   * @return The estimated hypervolume
+   */
+  @Override
+  public Double evaluate(List<S> solutionList) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    } else if (solutionList.isEmpty()) {
+      lastEstimate = HypervolumeEstimate.exact(0.0) ;
+    } else {
+      double[] referencePoint ;
+      if (referenceParetoFront != null) {
+        referencePoint = FrontUtils.getMaximumValues(referenceParetoFront) ;
+      } else {
+        referencePoint = computeReferencePoint(solutionList) ;
+      }
+      lastEstimate = estimateHypervolume(solutionList, referencePoint) ;
+    }
+
+    return lastEstimate.getValue() ;
+  }
+
+  /**
+   * Estimates the hypervolume of a list of solutions
+   *
+   * @param solutionList List of solutions
+   * @param referencePoint Reference point
+   * @return The estimation, with its error bounds
+   */
+  public HypervolumeEstimate estimateHypervolume(List<? extends Solution<?>> solutionList, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[] points = copyObjectives(solutionList, numberOfObjectives) ;
+
+    int[] candidates = new int[solutionList.size()] ;
+    int numberOfCandidates = 0 ;
+    double[] lowerBound = referencePoint.clone() ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (dominates(points, i * numberOfObjectives, referencePoint)) {
+        candidates[numberOfCandidates++] = i ;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          lowerBound[j] = Math.min(lowerBound[j], points[i * numberOfObjectives + j]) ;
+        }
+      }
+    }
+
+    if (numberOfCandidates == 0) {
+      return HypervolumeEstimate.exact(0.0) ;
+    }
+
+    int numberOfTasks = (numberOfSamples + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK ;
+    PseudoRandomGenerator[] streams = createStreams(numberOfTasks) ;
+    long[] dominatedSamples = new long[numberOfTasks] ;
+    int finalNumberOfCandidates = numberOfCandidates ;
+    createTasks(numberOfTasks).forEach(task -> {
+      int samples = Math.min(SAMPLES_PER_TASK, numberOfSamples - task * SAMPLES_PER_TASK) ;
+      dominatedSamples[task] = countDominatedSamples(points, candidates, finalNumberOfCandidates,
+          lowerBound, referencePoint, samples, streams[task]) ;
+    });
+
+    long dominated = 0 ;
+    for (long count : dominatedSamples) {
+      dominated += count ;
+    }
+
+    return createEstimate(computeVolume(lowerBound, referencePoint), dominated, numberOfSamples) ;
+  }
+
+  /**
+   * Estimates the exclusive hypervolume contribution of each solution of a list
+   *
+   * @param solutionList List of solutions
+   * @param referencePoint Reference point
+   * @return The estimations, in the same order as the solutions
+   */
+  public HypervolumeEstimate[] estimateHypervolumeContributions(List<? extends Solution<?>> solutionList,
+      double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[] points = copyObjectives(solutionList, numberOfObjectives) ;
+    int numberOfPoints = solutionList.size() ;
+
+    HypervolumeEstimate[] contributions = new HypervolumeEstimate[numberOfPoints] ;
+    PseudoRandomGenerator[] streams = createStreams(numberOfPoints) ;
+    createTasks(numberOfPoints).forEach(i ->
+        contributions[i] = estimateContribution(points, numberOfPoints, i, referencePoint, streams[i]));
+
+    return contributions ;
+  }
+
+  /**
+   * Estimates the contribution of a point by sampling the box between the point and the upper bound
+   * of the region it dominates exclusively. In each objective, this bound is given by the points
+   * that are not worse than the point in the rest of objectives
+   */
+  private HypervolumeEstimate estimateContribution(double[] points, int numberOfPoints, int index,
+      double[] referencePoint, PseudoRandomGenerator random) {
+    int numberOfObjectives = referencePoint.length ;
+    int point = index * numberOfObjectives ;
+    if (!dominates(points, point, referencePoint)) {
+      return HypervolumeEstimate.exact(0.0) ;
+    }
+
+    double[] lowerBound = new double[numberOfObjectives] ;
+    System.arraycopy(points, point, lowerBound, 0, numberOfObjectives);
+    double[] upperBound = referencePoint.clone() ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (i == index) {
+        continue ;
+      }
+      int worseObjective = -1 ;
+      int numberOfWorseObjectives = 0 ;
+      for (int j = 0; (j < numberOfObjectives) && (numberOfWorseObjectives < 2); j++) {
+        if (points[i * numberOfObjectives + j] > lowerBound[j]) {
+          worseObjective = j ;
+          numberOfWorseObjectives++ ;
+        }
+      }
+
+      if (numberOfWorseObjectives == 0) {
+        return HypervolumeEstimate.exact(0.0) ;
+      } else if (numberOfWorseObjectives == 1) {
+        upperBound[worseObjective] = Math.min(upperBound[worseObjective],
+            points[i * numberOfObjectives + worseObjective]) ;
+      }
+    }
+
+    int[] candidates = new int[numberOfPoints] ;
+    int numberOfCandidates = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if ((i != index) && dominates(points, i * numberOfObjectives, upperBound)) {
+        candidates[numberOfCandidates++] = i ;
+      }
+    }
+
+    double volume = computeVolume(lowerBound, upperBound) ;
+    if (numberOfCandidates == 0) {
+      return HypervolumeEstimate.exact(volume) ;
+    }
+
+    long dominated = countDominatedSamples(points, candidates, numberOfCandidates, lowerBound, upperBound,
+        numberOfSamplesPerContribution, random) ;
+
+    return createEstimate(volume, numberOfSamplesPerContribution - dominated, numberOfSamplesPerContribution) ;
+  }
+
+  /**
+   * Counts how many of a number of samples taken uniformly in a box are weakly dominated by some of
+   * the candidate points
+   */
+  private long countDominatedSamples(double[] points, int[] candidates, int numberOfCandidates,
+      double[] lowerBound, double[] upperBound, int samples, PseudoRandomGenerator random) {
+    int numberOfObjectives = lowerBound.length ;
+    double[] sample = new double[numberOfObjectives] ;
+
+    long dominated = 0 ;
+    for (int i = 0; i < samples; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        sample[j] = lowerBound[j] + (upperBound[j] - lowerBound[j]) * random.nextDouble() ;
+      }
+
+      boolean isDominated = false ;
+      for (int k = 0; (k < numberOfCandidates) && !isDominated; k++) {
+        int candidate = candidates[k] * numberOfObjectives ;
+        isDominated = true ;
+        for (int j = 0; (j < numberOfObjectives) && isDominated; j++) {
+          isDominated = points[candidate + j] <= sample[j] ;
+        }
+      }
+
+      if (isDominated) {
+        dominated++ ;
+      }
+    }
+
+    return dominated ;
+  }
+
+  /**
+   * Creates the estimate of the volume of a region from the proportion of the samples of a box that
+   * fall into it. The confidence interval is the Wilson score interval, which unlike the normal
+   * approximation remains meaningful when few or none of the samples fall into the region, as it
+   * happens with the contributions of points having large boxes
+   */
+  private HypervolumeEstimate createEstimate(double volume, long hits, long samples) {
+    double proportion = (double) hits / samples ;
+    double standardError = volume * Math.sqrt(proportion * (1.0 - proportion) / samples) ;
+
+    double z2 = criticalValue * criticalValue ;
+    double denominator = 1.0 + z2 / samples ;
+    double center = (proportion + z2 / (2.0 * samples)) / denominator ;
+    double halfWidth = criticalValue / denominator *
+        Math.sqrt(proportion * (1.0 - proportion) / samples + z2 / (4.0 * samples * samples)) ;
+
+    return new HypervolumeEstimate(volume * proportion, standardError,
+        volume * Math.max(0.0, center - halfWidth), volume * Math.min(1.0, center + halfWidth), samples) ;
+  }
+
+  @Override
+  public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+    if (solutionList.size() > 1) {
+      double[] referencePoint = computeReferencePoint(referenceFrontList) ;
+      lastContributionEstimates = estimateHypervolumeContributions(solutionList, referencePoint) ;
+
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+      for (int i = 0; i < solutionList.size(); i++) {
+        hvContribution.setAttribute(solutionList.get(i), lastContributionEstimates[i].getValue());
+      }
+
+      Collections.sort(solutionList, new HypervolumeContributionComparator<S>());
+    }
+
+    return solutionList ;
+  }
+
+  /**
+   * The reference point is made of the maximum values of each objective (or zero, if all of them
+   * are negative) plus the offset, as in {@link WFGHypervolume}
+   */
+  private double[] computeReferencePoint(List<? extends Solution<?>> solutionList) {
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[] referencePoint = new double[numberOfObjectives] ;
+    for (Solution<?> solution : solutionList) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        referencePoint[i] = Math.max(referencePoint[i], solution.getObjective(i)) ;
+      }
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      referencePoint[i] += offset ;
+    }
+
+    return referencePoint ;
+  }
+
+  private double[] copyObjectives(List<? extends Solution<?>> solutionList, int numberOfObjectives) {
+    double[] points = new double[solutionList.size() * numberOfObjectives] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      if (solutionList.get(i).getNumberOfObjectives() != numberOfObjectives) {
+        throw new JMetalException("The solution " + i + " has " + solutionList.get(i).getNumberOfObjectives()
+            + " objectives instead of " + numberOfObjectives) ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i * numberOfObjectives + j] = solutionList.get(i).getObjective(j) ;
+      }
+    }
+
+    return points ;
+  }
+
+  /**
+   * Returns true if a point is lower than a bound in all the objectives
+   */
+  private boolean dominates(double[] points, int point, double[] bound) {
+    for (int i = 0; i < bound.length; i++) {
+      if (points[point + i] >= bound[i]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private double computeVolume(double[] lowerBound, double[] upperBound) {
+    double volume = 1.0 ;
+    for (int i = 0; i < lowerBound.length; i++) {
+      volume *= upperBound[i] - lowerBound[i] ;
+    }
+
+    return volume ;
+  }
+
+  private IntStream createTasks(int numberOfTasks) {
+    IntStream tasks = IntStream.range(0, numberOfTasks) ;
+    return parallel ? tasks.parallel() : tasks ;
+  }
+
+  private PseudoRandomGenerator[] createStreams(int numberOfStreams) {
+    if (seed == null) {
+      return JMetalRandom.getInstance().createStreams(numberOfStreams) ;
+    }
+
+    PseudoRandomGenerator[] streams = new PseudoRandomGenerator[numberOfStreams] ;
+    for (int i = 0; i < numberOfStreams; i++) {
+      streams[i] = JMetalRandom.createStream(seed, i) ;
+    }
+
+    return streams ;
+  }
+
+  private static double computeCriticalValue(double confidenceLevel) {
+    return new NormalDistribution().inverseCumulativeProbability(0.5 + confidenceLevel / 2.0) ;
+  }
+
+  /**
+   * @return The estimation made by the last call to {@link #evaluate(List)}, or null
+   */
+  public HypervolumeEstimate getLastEstimate() {
+    return lastEstimate ;
+  }
+
+  /**
+   * @return The estimations made by the last call to {@link #computeHypervolumeContribution(List, List)},
+   * in the order the solutions had before being sorted, or null
+   */
+  public HypervolumeEstimate[] getLastContributionEstimates() {
+    return lastContributionEstimates ;
+  }
+
+  /**
+   * Sets the number of samples used to estimate the hypervolume
+   */
+  public void setNumberOfSamples(int numberOfSamples) {
+    if (numberOfSamples < 1) {
+      throw new JMetalException("The number of samples must be positive: " + numberOfSamples) ;
+    }
+    this.numberOfSamples = numberOfSamples ;
+  }
+
+  public int getNumberOfSamples() {
+    return numberOfSamples ;
+  }
+
+  /**
+   * Sets the number of samples used to estimate the contribution of each point
+   */
+  public void setNumberOfSamplesPerContribution(int numberOfSamplesPerContribution) {
+    if (numberOfSamplesPerContribution < 1) {
+      throw new JMetalException("The number of samples per contribution must be positive: "
+          + numberOfSamplesPerContribution) ;
+    }
+    this.numberOfSamplesPerContribution = numberOfSamplesPerContribution ;
+  }
+
+  public int getNumberOfSamplesPerContribution() {
+    return numberOfSamplesPerContribution ;
+  }
+
+  /**
+   * Sets the confidence level of the intervals reported by the estimations (0.95 by default)
+   */
+  public void setConfidenceLevel(double confidenceLevel) {
+    if ((confidenceLevel <= 0.0) || (confidenceLevel >= 1.0)) {
+      throw new JMetalException("The confidence level must be in (0, 1): " + confidenceLevel) ;
+    }
+    this.confidenceLevel = confidenceLevel ;
+    this.criticalValue = computeCriticalValue(confidenceLevel) ;
+  }
+
+  public double getConfidenceLevel() {
+    return confidenceLevel ;
+  }
+
+  /**
+   * Sets the seed the random streams of the samples are derived from. Every estimation made with a
+   * given seed uses the same streams
+   */
+  public void setSeed(long seed) {
+    this.seed = seed ;
+  }
+
+  /**
+   * Sets whether the tasks sampling the space are run in parallel (the default) or not
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel ;
+  }
+
+  public boolean isParallel() {
+    return parallel ;
+  }
+
+  @Override
+  public double getOffset() {
+    return offset ;
+  }
+
+  @Override
+  public void setOffset(double offset) {
+    this.offset = offset ;
+  }
+
+  @Override public String getDescription() {
+    return "Monte Carlo estimation of the hypervolume quality indicator" ;
+  }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.ExclusiveHypervolumeContribution;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeFront;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeVersion;
 import org.uma.jmetal.solution.Solution;
@@ -26,6 +27,8 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
 
   private static final double DEFAULT_OFFSET = 100.0 ;
   private double offset = DEFAULT_OFFSET ;
+  private transient ExclusiveHypervolumeContribution exclusiveContribution ;
+
   /**
    * Default constructor
    */
@@ -183,32 +186,36 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
     return hv;
   }
 
+  /**
+   * Computes the exclusive hypervolume contribution of each solution, taking as reference point the
+   * maximum values of the reference front plus the offset. The contributions are computed by
+   * {@link ExclusiveHypervolumeContribution} on a primitive copy of the objective values, which
+   * avoids computing the hypervolume of the list without each of the solutions
+   */
   @Override
   public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
     numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    referencePoint = new ArrayPoint(numberOfObjectives) ;
     updateReferencePoint(referenceFrontList);
     if (solutionList.size() > 1) {
-      double[] contributions = new double[solutionList.size()];
-      double solutionSetHV = 0;
-
-      solutionSetHV = evaluate(solutionList);
-
+      double[] objectives = new double[solutionList.size() * numberOfObjectives] ;
       for (int i = 0; i < solutionList.size(); i++) {
-        S currentPoint = solutionList.get(i);
-        solutionList.remove(i);
-
-        if (numberOfObjectives == 2) {
-          contributions[i] = solutionSetHV - get2DHV(solutionList);
-        } else {
-          //Front front = new Front(solutionSet.size(), numberOfObjectives, solutionSet);
-          WfgHypervolumeFront front = new WfgHypervolumeFront(solutionList);
-          double hv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size()).getHV(front);
-          contributions[i] = solutionSetHV - hv;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          objectives[i * numberOfObjectives + j] = solutionList.get(i).getObjective(j) ;
         }
+      }
 
-        solutionList.add(i, currentPoint);
+      double[] reference = new double[numberOfObjectives] ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        reference[i] = referencePoint.getDimensionValue(i) ;
       }
 
+      if (exclusiveContribution == null) {
+        exclusiveContribution = new ExclusiveHypervolumeContribution() ;
+      }
+      double[] contributions = new double[solutionList.size()];
+      exclusiveContribution.compute(objectives, solutionList.size(), reference, contributions);
+
       HypervolumeContributionAttribute<Solution<?>> hvContribution = new HypervolumeContributionAttribute<Solution<?>>();
       for (int i = 0; i < solutionList.size(); i++) {
         hvContribution.setAttribute(solutionList.get(i), contributions[i]);
@@ -0,0 +1,336 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+/**
+ * Computes the exclusive hypervolume contribution of every point of a set, i.e., the volume that
+ * is dominated by the point and by no other point of the set (all the objectives are minimized).
+ * The contribution of a point p is the volume of the box between p and the reference point that
+ * is not dominated by the limit set of p, which is obtained by bounding the rest of points by p
+ * as in the WFG algorithm:
+ *  - Two objectives: if the points are mutually non-dominated, the contributions are obtained from
+ *    the neighbours of each point after sorting the set once. Otherwise, the limit set of each point
+ *    is swept along the first objective.
+ *  - Three objectives: the points are sorted once by the third objective, and the limit set of each
+ *    point is swept along it with a {@link ThreeObjectiveContributionSweep}.
+ *  - More objectives: the hypervolume of the non-dominated limit set of each point is computed with
+ *    the WFG algorithm and subtracted from the volume of the box.
+ *
+ * The points, the limit sets and the sweeps are stored in primitive arrays that are kept between
+ * invocations, so the computation does not allocate memory once the buffers have grown to the size
+ * of the largest set. Instances of this class are not thread-safe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ExclusiveHypervolumeContribution {
+  private int numberOfObjectives ;
+  private double[] points ;
+  private double[] referencePoint ;
+
+  private int[] order ;
+  private int[] sortBuffer ;
+
+  private final ThreeObjectiveContributionSweep threeObjectiveSweep ;
+
+  private double[][] limitSets ;
+  private int[][] limitSetOrders ;
+
+  /**
+   * Constructor
+   */
+  public ExclusiveHypervolumeContribution() {
+    order = new int[0] ;
+    sortBuffer = new int[0] ;
+    threeObjectiveSweep = new ThreeObjectiveContributionSweep() ;
+    limitSets = new double[0][] ;
+    limitSetOrders = new int[0][] ;
+  }
+
+  /**
+   * Computes the exclusive contributions of a set of points
+   *
+   * @param points Objective values of the points, stored consecutively point after point
+   * @param numberOfPoints Number of points of the set
+   * @param referencePoint Reference point. Points not dominating it have a contribution of zero
+   * @param contributions Array where the contribution of each point is stored
+   */
+  public void compute(double[] points, int numberOfPoints, double[] referencePoint, double[] contributions) {
+    if (referencePoint.length < 2) {
+      throw new JMetalException("The number of objectives must be at least two: " + referencePoint.length) ;
+    } else if (points.length < numberOfPoints * referencePoint.length) {
+      throw new JMetalException("The array of points does not contain " + numberOfPoints + " points") ;
+    } else if (contributions.length < numberOfPoints) {
+      throw new JMetalException("The array of contributions is smaller than the number of points") ;
+    }
+
+    this.numberOfObjectives = referencePoint.length ;
+    this.points = points ;
+    this.referencePoint = referencePoint ;
+
+    ensureCapacity(numberOfPoints);
+    for (int i = 0; i < numberOfPoints; i++) {
+      order[i] = i ;
+    }
+
+    if (numberOfObjectives == 2) {
+      sort(order, 0, numberOfPoints, points, 0);
+      if (!computeContributionsOfANonDominatedBiObjectiveSet(numberOfPoints, contributions)) {
+        for (int i = 0; i < numberOfPoints; i++) {
+          contributions[i] = computeBiObjectiveContribution(i, numberOfPoints) ;
+        }
+      }
+    } else if (numberOfObjectives == 3) {
+      sort(order, 0, numberOfPoints, points, 2);
+      for (int i = 0; i < numberOfPoints; i++) {
+        contributions[i] = threeObjectiveSweep.computeContribution(points, order, numberOfPoints, i, referencePoint) ;
+      }
+    } else {
+      for (int i = 0; i < numberOfPoints; i++) {
+        if (isInsideTheReferencePoint(points, i * numberOfObjectives)) {
+          int limitSetSize = computeLimitSet(points, i * numberOfObjectives, order, 0, numberOfPoints, i, 0) ;
+          contributions[i] = computeVolume(points, i * numberOfObjectives) - computeHypervolume(0, limitSetSize) ;
+        } else {
+          contributions[i] = 0.0 ;
+        }
+      }
+    }
+
+    this.points = null ;
+    this.referencePoint = null ;
+  }
+
+  /**
+   * Computes the contributions of a bi-objective set sorted by the first objective, which are the
+   * rectangles between each point and its neighbours
+   *
+   * @return false if the points are not mutually non-dominated or do not dominate the reference point
+   */
+  private boolean computeContributionsOfANonDominatedBiObjectiveSet(int numberOfPoints, double[] contributions) {
+    for (int i = 0; i < numberOfPoints; i++) {
+      int point = order[i] * 2 ;
+      if ((points[point] >= referencePoint[0]) || (points[point + 1] >= referencePoint[1])) {
+        return false ;
+      }
+      if ((i > 0) && ((points[order[i - 1] * 2] >= points[point]) ||
+          (points[order[i - 1] * 2 + 1] <= points[point + 1]))) {
+        return false ;
+      }
+    }
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      int point = order[i] * 2 ;
+      double nextX = (i < numberOfPoints - 1) ? points[order[i + 1] * 2] : referencePoint[0] ;
+      double previousY = (i > 0) ? points[order[i - 1] * 2 + 1] : referencePoint[1] ;
+      contributions[order[i]] = (nextX - points[point]) * (previousY - points[point + 1]) ;
+    }
+
+    return true ;
+  }
+
+  /**
+   * Sweeps the limit set of a point along the first objective, adding the length of the uncovered
+   * part of the box at each step. The set must be sorted by the first objective
+   */
+  private double computeBiObjectiveContribution(int index, int numberOfPoints) {
+    double x = points[index * 2] ;
+    double y = points[index * 2 + 1] ;
+    if ((x >= referencePoint[0]) || (y >= referencePoint[1])) {
+      return 0.0 ;
+    }
+
+    double contribution = 0.0 ;
+    double previousX = x ;
+    double coveredY = referencePoint[1] ;
+    for (int i = 0; (i < numberOfPoints) && (coveredY > y); i++) {
+      if (order[i] == index) {
+        continue ;
+      }
+      double boundedX = Math.max(x, points[order[i] * 2]) ;
+      if (boundedX >= referencePoint[0]) {
+        break ;
+      }
+      contribution += (boundedX - previousX) * (coveredY - y) ;
+      previousX = boundedX ;
+      coveredY = Math.min(coveredY, Math.max(y, points[order[i] * 2 + 1])) ;
+    }
+
+    if (coveredY > y) {
+      contribution += (referencePoint[0] - previousX) * (coveredY - y) ;
+    }
+
+    return contribution ;
+  }
+
+  /**
+   * Computes the hypervolume of the limit set stored at a given level with the WFG algorithm: the
+   * points are sorted by the last objective and the exclusive volume of each point with respect to
+   * the following ones is added
+   */
+  private double computeHypervolume(int level, int size) {
+    double[] set = limitSets[level] ;
+    if (size == 0) {
+      return 0.0 ;
+    } else if (size == 1) {
+      return computeVolume(set, 0) ;
+    }
+
+    int[] setOrder = limitSetOrders[level] ;
+    for (int i = 0; i < size; i++) {
+      setOrder[i] = i ;
+    }
+    sort(setOrder, 0, size, set, numberOfObjectives - 1);
+
+    double hypervolume = 0.0 ;
+    for (int i = 0; i < size; i++) {
+      int point = setOrder[i] * numberOfObjectives ;
+      hypervolume += computeVolume(set, point) ;
+      if (i < size - 1) {
+        int limitSetSize = computeLimitSet(set, point, setOrder, i + 1, size, -1, level + 1) ;
+        hypervolume -= computeHypervolume(level + 1, limitSetSize) ;
+      }
+    }
+
+    return hypervolume ;
+  }
+
+  /**
+   * Stores at the given level the non-dominated points obtained by bounding by a point the points of
+   * a set whose indices are in positions [from, to) of an order. Bounded points not dominating the
+   * reference point are discarded
+   *
+   * @return The size of the limit set
+   */
+  private int computeLimitSet(double[] set, int point, int[] setOrder, int from, int to, int excludedIndex,
+      int level) {
+    ensureLevel(level, to - from);
+    double[] limitSet = limitSets[level] ;
+
+    int size = 0 ;
+    for (int i = from; i < to; i++) {
+      if (setOrder[i] == excludedIndex) {
+        continue ;
+      }
+
+      int other = setOrder[i] * numberOfObjectives ;
+      int candidate = size * numberOfObjectives ;
+      boolean inside = true ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        limitSet[candidate + j] = Math.max(set[point + j], set[other + j]) ;
+        inside &= limitSet[candidate + j] < referencePoint[j] ;
+      }
+
+      boolean dominated = !inside ;
+      for (int k = 0; (k < size) && !dominated; k++) {
+        dominated = weaklyDominates(limitSet, k * numberOfObjectives, candidate) ;
+      }
+
+      if (!dominated) {
+        int k = 0 ;
+        while (k < size) {
+          if (weaklyDominates(limitSet, candidate, k * numberOfObjectives)) {
+            size-- ;
+            System.arraycopy(limitSet, size * numberOfObjectives, limitSet, k * numberOfObjectives, numberOfObjectives);
+            System.arraycopy(limitSet, candidate, limitSet, size * numberOfObjectives, numberOfObjectives);
+            candidate = size * numberOfObjectives ;
+          } else {
+            k++ ;
+          }
+        }
+        size++ ;
+      }
+    }
+
+    return size ;
+  }
+
+  private boolean weaklyDominates(double[] set, int point, int other) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (set[point + i] > set[other + i]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private boolean isInsideTheReferencePoint(double[] set, int point) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (set[point + i] >= referencePoint[i]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private double computeVolume(double[] set, int point) {
+    double volume = 1.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      volume *= referencePoint[i] - set[point + i] ;
+    }
+
+    return volume ;
+  }
+
+  private void ensureCapacity(int numberOfPoints) {
+    if (order.length < numberOfPoints) {
+      int capacity = Math.max(numberOfPoints, 2 * order.length) ;
+      order = new int[capacity] ;
+      sortBuffer = new int[capacity] ;
+    }
+  }
+
+  private void ensureLevel(int level, int numberOfPoints) {
+    if (limitSets.length <= level) {
+      int levels = Math.max(level + 1, 2 * limitSets.length) ;
+      double[][] newLimitSets = new double[levels][] ;
+      int[][] newLimitSetOrders = new int[levels][] ;
+      System.arraycopy(limitSets, 0, newLimitSets, 0, limitSets.length);
+      System.arraycopy(limitSetOrders, 0, newLimitSetOrders, 0, limitSetOrders.length);
+      limitSets = newLimitSets ;
+      limitSetOrders = newLimitSetOrders ;
+    }
+
+    if ((limitSetOrders[level] == null) || (limitSetOrders[level].length < numberOfPoints)) {
+      int capacity = (limitSetOrders[level] == null) ? numberOfPoints :
+          Math.max(numberOfPoints, 2 * limitSetOrders[level].length) ;
+      limitSetOrders[level] = new int[capacity] ;
+    }
+
+    if ((limitSets[level] == null) ||
+        (limitSets[level].length < limitSetOrders[level].length * numberOfObjectives)) {
+      limitSets[level] = new double[limitSetOrders[level].length * numberOfObjectives] ;
+    }
+  }
+
+  /**
+   * Stable merge sort of an array of point indices according to one objective
+   */
+  private void sort(int[] indices, int from, int to, double[] set, int objective) {
+    if (to - from < 2) {
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    sort(indices, from, middle, set, objective);
+    sort(indices, middle, to, set, objective);
+
+    if (Double.compare(set[indices[middle - 1] * numberOfObjectives + objective],
+        set[indices[middle] * numberOfObjectives + objective]) <= 0) {
+      return ;
+    }
+
+    System.arraycopy(indices, from, sortBuffer, from, to - from);
+    int left = from ;
+    int right = middle ;
+    for (int i = from; i < to; i++) {
+      if ((right >= to) || ((left < middle) &&
+          (Double.compare(set[sortBuffer[left] * numberOfObjectives + objective],
+              set[sortBuffer[right] * numberOfObjectives + objective]) <= 0))) {
+        indices[i] = sortBuffer[left++] ;
+      } else {
+        indices[i] = sortBuffer[right++] ;
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import java.io.Serializable;
+
+/**
+ * Value estimated by Monte Carlo sampling together with its standard error and the bounds of a
+ * confidence interval
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class HypervolumeEstimate implements Serializable {
+  private final double value ;
+  private final double standardError ;
+  private final double lowerBound ;
+  private final double upperBound ;
+  private final long numberOfSamples ;
+
+  /**
+   * Constructor
+   *
+   * @param value Estimated value
+   * @param standardError Standard error of the estimation
+   * @param lowerBound Lower bound of the confidence interval
+   * @param upperBound Upper bound of the confidence interval
+   * @param numberOfSamples Number of samples the estimation is based on
+   */
+  public HypervolumeEstimate(double value, double standardError, double lowerBound, double upperBound,
+      long numberOfSamples) {
+    this.value = value ;
+    this.standardError = standardError ;
+    this.lowerBound = lowerBound ;
+    this.upperBound = upperBound ;
+    this.numberOfSamples = numberOfSamples ;
+  }
+
+  /**
+   * Creates the estimate of a value that has been computed exactly
+   */
+  public static HypervolumeEstimate exact(double value) {
+    return new HypervolumeEstimate(value, 0.0, value, value, 0) ;
+  }
+
+  public double getValue() {
+    return value ;
+  }
+
+  public double getStandardError() {
+    return standardError ;
+  }
+
+  public double getLowerBound() {
+    return lowerBound ;
+  }
+
+  public double getUpperBound() {
+    return upperBound ;
+  }
+
+  public long getNumberOfSamples() {
+    return numberOfSamples ;
+  }
+
+  @Override
+  public String toString() {
+    return value + " [" + lowerBound + ", " + upperBound + "]" ;
+  }
+}
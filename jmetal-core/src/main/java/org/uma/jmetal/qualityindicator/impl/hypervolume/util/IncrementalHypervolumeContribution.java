@@ -0,0 +1,558 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This class keeps the exclusive hypervolume contributions of a set of mutually non-dominated
+ * solutions having two or three objectives (all of them to be minimized), and updates them when
+ * solutions are added or removed instead of recomputing the contributions of the whole set.
+ *
+ * With two objectives, the members are sorted by the first objective, and the contribution of a
+ * member only depends on its two neighbours, so adding or removing a solution updates at most three
+ * contributions in logarithmic time. With three objectives, the objectives of the members are kept
+ * in a primitive array sorted by the third objective, and the contribution of a member is computed
+ * with the dimension sweep of {@link ThreeObjectiveContributionSweep}. The sweep of an added or
+ * removed solution finds its neighbours, i.e., the members sharing part of their exclusive region
+ * with it, and only their contributions are recomputed. In both cases, the least contributor is
+ * obtained in logarithmic time.
+ *
+ * When the reference point changes, only the contributions of the members bounding the dominated
+ * region are recomputed: the exclusive region of a member is bounded in an objective by the members
+ * that weakly dominate it in the other two objectives, so it only depends on the reference point in
+ * the objectives in which there are no such members between it and the reference point. These are
+ * the two extreme members with two objectives.
+ *
+ * The contributions are computed in the objective space, so they are those computed by
+ * {@link org.uma.jmetal.qualityindicator.impl.Hypervolume#computeHypervolumeContribution} up to a
+ * constant factor when the reference point is the same.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalHypervolumeContribution<S extends Solution<?>> {
+  /** Ratio of new solutions over which the contributions are computed from scratch (three objectives) */
+  private static final double REBUILD_RATIO = 0.25 ;
+
+  private final int numberOfObjectives ;
+  private double[] referencePoint ;
+
+  private final Map<S, Member<S>> members ;
+  private final TreeSet<Member<S>> membersByContribution ;
+  private final TreeMap<Double, Member<S>> membersByFirstObjective ;
+  private long numberOfInsertions ;
+  private long numberOfComputedContributions ;
+
+  /* Three objectives: objective values of the members stored by slot, and slots sorted by the third objective */
+  private final ThreeObjectiveContributionSweep sweep ;
+  private final List<Member<S>> slotMembers ;
+  private double[] points ;
+  private int[] sortedSlots ;
+  private int numberOfSortedSlots ;
+  private int[] freeSlots ;
+  private int numberOfFreeSlots ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives Number of objectives of the solutions (two or three)
+   */
+  public IncrementalHypervolumeContribution(int numberOfObjectives) {
+    if (!isSupported(numberOfObjectives)) {
+      throw new JMetalException("The number of objectives must be two or three: " + numberOfObjectives) ;
+    }
+
+    this.numberOfObjectives = numberOfObjectives ;
+    this.referencePoint = null ;
+    this.members = new IdentityHashMap<>() ;
+    this.membersByContribution = new TreeSet<>(
+        Comparator.comparingDouble((Member<S> member) -> member.contribution)
+            .thenComparingLong(member -> member.order)) ;
+    this.membersByFirstObjective = new TreeMap<>() ;
+    this.sweep = new ThreeObjectiveContributionSweep() ;
+    this.slotMembers = new ArrayList<>() ;
+    this.points = new double[0] ;
+    this.sortedSlots = new int[0] ;
+    this.freeSlots = new int[0] ;
+  }
+
+  /**
+   * @return true if the contributions of solutions with a number of objectives can be kept
+   */
+  public static boolean isSupported(int numberOfObjectives) {
+    return (numberOfObjectives == 2) || (numberOfObjectives == 3) ;
+  }
+
+  /**
+   * Computes the reference point used by the hypervolume implementations, i.e., the maximum value
+   * of each objective in a solution list plus an offset
+   */
+  public static double[] computeReferencePoint(List<? extends Solution<?>> solutionList, double offset) {
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, Double.NEGATIVE_INFINITY);
+    for (Solution<?> solution : solutionList) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        referencePoint[i] = Math.max(referencePoint[i], solution.getObjective(i)) ;
+      }
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      referencePoint[i] += offset ;
+    }
+
+    return referencePoint ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  public int size() {
+    return members.size() ;
+  }
+
+  public void clear() {
+    members.clear();
+    membersByContribution.clear();
+    membersByFirstObjective.clear();
+    slotMembers.clear();
+    numberOfSortedSlots = 0 ;
+    numberOfFreeSlots = 0 ;
+  }
+
+  /**
+   * Makes the tracked solutions be those of a list: the solutions not contained in the list (or
+   * whose objectives have changed) are removed, and the new ones are added. Only the contributions
+   * affected by these changes, or by a change of the reference point, are updated
+   *
+   * @param solutionList List of mutually non-dominated solutions
+   * @param referencePoint Reference point
+   * @return false if the solutions cannot be tracked because they are not mutually non-dominated
+   * (e.g., two of them have the same objective values); in that case, the tracker is left empty
+   */
+  public boolean update(List<S> solutionList, double[] referencePoint) {
+    if (referencePoint.length != numberOfObjectives) {
+      throw new JMetalException("The reference point has " + referencePoint.length
+          + " dimensions instead of " + numberOfObjectives) ;
+    }
+
+    Set<S> solutions = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>()) ;
+    for (S solution : solutionList) {
+      if (!solutions.add(solution) || !hasValidObjectives(solution)) {
+        clear();
+        return false ;
+      }
+    }
+
+    List<S> removedSolutions = new ArrayList<>() ;
+    for (Member<S> member : members.values()) {
+      if (!solutions.contains(member.solution) || !member.hasObjectivesOf(member.solution)) {
+        removedSolutions.add(member.solution) ;
+      }
+    }
+
+    List<S> newSolutions = new ArrayList<>() ;
+    for (S solution : solutionList) {
+      Member<S> member = members.get(solution) ;
+      if ((member == null) || !member.hasObjectivesOf(solution)) {
+        newSolutions.add(solution) ;
+      }
+    }
+
+    double[] previousReferencePoint = this.referencePoint ;
+    boolean referencePointChanged = !Arrays.equals(previousReferencePoint, referencePoint) ;
+    boolean success ;
+    if ((numberOfObjectives == 3) && (newSolutions.size() > REBUILD_RATIO * solutionList.size())) {
+      for (S solution : removedSolutions) {
+        removeSlot(members.remove(solution)) ;
+      }
+      this.referencePoint = referencePoint.clone() ;
+      success = rebuild(newSolutions) ;
+    } else {
+      for (S solution : removedSolutions) {
+        remove(solution) ;
+      }
+
+      this.referencePoint = referencePoint.clone() ;
+      if (referencePointChanged && !members.isEmpty()) {
+        if (numberOfObjectives == 2) {
+          updateContribution(membersByFirstObjective.firstEntry().getValue());
+          updateContribution(membersByFirstObjective.lastEntry().getValue());
+        } else {
+          for (Member<S> member : findMembersDependingOnTheReferencePoint(previousReferencePoint)) {
+            updateContribution(member);
+          }
+        }
+      }
+      success = addAll(newSolutions) ;
+    }
+
+    if (!success) {
+      clear();
+    }
+
+    return success ;
+  }
+
+  private boolean addAll(List<S> solutions) {
+    for (S solution : solutions) {
+      if (!add(solution)) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  /**
+   * Adds a solution, updating the contributions of the members affected by it
+   *
+   * @return false if the solution has not been added because it is not non-dominated with respect
+   * to the tracked solutions (weakly dominated solutions included)
+   */
+  public boolean add(S solution) {
+    if (referencePoint == null) {
+      throw new JMetalException("The reference point has not been set") ;
+    } else if (members.containsKey(solution) || !hasValidObjectives(solution)) {
+      return false ;
+    }
+
+    Member<S> member = new Member<>(solution, numberOfInsertions++) ;
+    if (numberOfObjectives == 2) {
+      return add2D(member) ;
+    } else {
+      return add3D(member) ;
+    }
+  }
+
+  /**
+   * Removes a solution, updating the contributions of the members affected by it
+   *
+   * @return false if the solution was not tracked
+   */
+  public boolean remove(S solution) {
+    Member<S> member = members.remove(solution) ;
+    if (member == null) {
+      return false ;
+    }
+    membersByContribution.remove(member) ;
+
+    if (numberOfObjectives == 2) {
+      membersByFirstObjective.remove(member.objectives[0]) ;
+      updateNeighbours(member.objectives[0]);
+    } else {
+      computeContribution3D(member) ;
+      int[] neighbours = Arrays.copyOf(sweep.getNeighbours(), sweep.getNumberOfNeighbours()) ;
+      removeSlot(member);
+      updateNeighbours3D(neighbours);
+    }
+
+    return true ;
+  }
+
+  /**
+   * @return The exclusive hypervolume contribution of a tracked solution
+   */
+  public double getContribution(S solution) {
+    Member<S> member = members.get(solution) ;
+    if (member == null) {
+      throw new JMetalException("The solution is not tracked") ;
+    }
+
+    return member.contribution ;
+  }
+
+  /**
+   * @return The tracked solution having the lowest contribution (the oldest one in case of ties)
+   */
+  public S getLeastContributor() {
+    if (members.isEmpty()) {
+      throw new JMetalException("There are no solutions") ;
+    }
+
+    return membersByContribution.first().solution ;
+  }
+
+  private boolean hasValidObjectives(S solution) {
+    if (solution.getNumberOfObjectives() != numberOfObjectives) {
+      return false ;
+    }
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (Double.isNaN(solution.getObjective(i))) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private void insert(Member<S> member) {
+    members.put(member.solution, member) ;
+    membersByContribution.add(member) ;
+  }
+
+  /**
+   * @return The number of contributions computed since the tracker was created
+   */
+  long getNumberOfComputedContributions() {
+    return numberOfComputedContributions ;
+  }
+
+  private void updateContribution(Member<S> member) {
+    membersByContribution.remove(member) ;
+    if (numberOfObjectives == 2) {
+      member.contribution = computeContribution2D(member) ;
+    } else {
+      member.contribution = computeContribution3D(member) ;
+    }
+    membersByContribution.add(member) ;
+  }
+
+  /* Two objectives: the members are sorted by the first objective and by the second one in reverse order */
+
+  private boolean add2D(Member<S> member) {
+    double first = member.objectives[0] ;
+    double second = member.objectives[1] ;
+
+    Map.Entry<Double, Member<S>> lower = membersByFirstObjective.floorEntry(first) ;
+    if ((lower != null) && ((lower.getKey() == first) || (lower.getValue().objectives[1] <= second))) {
+      return false ;
+    }
+    Map.Entry<Double, Member<S>> higher = membersByFirstObjective.higherEntry(first) ;
+    if ((higher != null) && (higher.getValue().objectives[1] >= second)) {
+      return false ;
+    }
+
+    membersByFirstObjective.put(first, member) ;
+    insert(member);
+    updateContribution(member);
+    updateNeighbours(first);
+
+    return true ;
+  }
+
+  private void updateNeighbours(double first) {
+    Map.Entry<Double, Member<S>> lower = membersByFirstObjective.lowerEntry(first) ;
+    if (lower != null) {
+      updateContribution(lower.getValue());
+    }
+    Map.Entry<Double, Member<S>> higher = membersByFirstObjective.higherEntry(first) ;
+    if (higher != null) {
+      updateContribution(higher.getValue());
+    }
+  }
+
+  private double computeContribution2D(Member<S> member) {
+    double first = member.objectives[0] ;
+    double second = member.objectives[1] ;
+
+    Map.Entry<Double, Member<S>> lower = membersByFirstObjective.lowerEntry(first) ;
+    Map.Entry<Double, Member<S>> higher = membersByFirstObjective.higherEntry(first) ;
+    numberOfComputedContributions++ ;
+    double firstBound = (higher == null) ? referencePoint[0] : higher.getKey() ;
+    double secondBound = (lower == null) ? referencePoint[1] : lower.getValue().objectives[1] ;
+
+    return Math.max(0.0, firstBound - first) * Math.max(0.0, secondBound - second) ;
+  }
+
+  /* Three objectives */
+
+  private boolean add3D(Member<S> member) {
+    if (isDominatedOrDominating(member.objectives)) {
+      return false ;
+    }
+
+    insert(member);
+    insertSlot(member);
+    updateContribution(member);
+    updateNeighbours3D(Arrays.copyOf(sweep.getNeighbours(), sweep.getNumberOfNeighbours()));
+
+    return true ;
+  }
+
+  private void updateNeighbours3D(int[] neighbourSlots) {
+    for (int slot : neighbourSlots) {
+      updateContribution(slotMembers.get(slot));
+    }
+  }
+
+  private boolean rebuild(List<S> newSolutions) {
+    for (S solution : newSolutions) {
+      Member<S> member = new Member<>(solution, numberOfInsertions++) ;
+      if (isDominatedOrDominating(member.objectives)) {
+        return false ;
+      }
+      members.put(solution, member) ;
+      insertSlot(member);
+    }
+
+    membersByContribution.clear();
+    for (Member<S> member : members.values()) {
+      member.contribution = computeContribution3D(member) ;
+      membersByContribution.add(member) ;
+    }
+
+    return true ;
+  }
+
+  /**
+   * Computes the contribution of a member by sweeping the other members along the third objective.
+   * The neighbours of the member are left in the sweep
+   */
+  private double computeContribution3D(Member<S> member) {
+    numberOfComputedContributions++ ;
+
+    return sweep.computeContribution(points, sortedSlots, numberOfSortedSlots, member.slot, referencePoint) ;
+  }
+
+  /**
+   * Finds the members whose contributions may differ with the current reference point and with a
+   * previous one. The exclusive region of a member is bounded in an objective i by the other members
+   * that weakly dominate it in the remaining objectives, so its contribution does not change if one
+   * of them has a value of objective i not greater than both values of the reference points. These
+   * members are found by sorting the members by the remaining objectives
+   */
+  private List<Member<S>> findMembersDependingOnTheReferencePoint(double[] previousReferencePoint) {
+    Set<Member<S>> dependingMembers = Collections.newSetFromMap(new IdentityHashMap<Member<S>, Boolean>()) ;
+    List<Member<S>> sortedMembers = new ArrayList<>(members.values()) ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if ((previousReferencePoint != null) && (previousReferencePoint[i] == referencePoint[i])) {
+        continue ;
+      }
+
+      double bound = (previousReferencePoint == null) ?
+          referencePoint[i] : Math.min(previousReferencePoint[i], referencePoint[i]) ;
+      int first = (i + 1) % numberOfObjectives ;
+      int second = (i + 2) % numberOfObjectives ;
+      sortedMembers.sort(Comparator.comparingDouble((Member<S> member) -> member.objectives[first])
+          .thenComparingDouble(member -> member.objectives[second]));
+
+      double lowestBoundingValue = Double.POSITIVE_INFINITY ;
+      for (Member<S> member : sortedMembers) {
+        if (member.objectives[second] < lowestBoundingValue) {
+          dependingMembers.add(member) ;
+        }
+        if (member.objectives[i] <= bound) {
+          lowestBoundingValue = Math.min(lowestBoundingValue, member.objectives[second]) ;
+        }
+      }
+    }
+
+    return new ArrayList<>(dependingMembers) ;
+  }
+
+  private boolean isDominatedOrDominating(double[] objectives) {
+    for (int i = 0; i < numberOfSortedSlots; i++) {
+      int point = sortedSlots[i] * 3 ;
+      if (((points[point] <= objectives[0]) && (points[point + 1] <= objectives[1])
+          && (points[point + 2] <= objectives[2]))
+          || ((objectives[0] <= points[point]) && (objectives[1] <= points[point + 1])
+          && (objectives[2] <= points[point + 2]))) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  /**
+   * Stores the objectives of a member in a free slot, which is inserted in the sorted slots after
+   * those having the same value of the third objective
+   */
+  private void insertSlot(Member<S> member) {
+    if (numberOfFreeSlots > 0) {
+      member.slot = freeSlots[--numberOfFreeSlots] ;
+      slotMembers.set(member.slot, member) ;
+    } else {
+      member.slot = slotMembers.size() ;
+      slotMembers.add(member) ;
+    }
+
+    if (points.length < slotMembers.size() * 3) {
+      int capacity = Math.max(slotMembers.size(), 2 * sortedSlots.length) ;
+      points = Arrays.copyOf(points, capacity * 3) ;
+      sortedSlots = Arrays.copyOf(sortedSlots, capacity) ;
+      freeSlots = Arrays.copyOf(freeSlots, capacity) ;
+    }
+    System.arraycopy(member.objectives, 0, points, member.slot * 3, 3);
+
+    double third = member.objectives[2] ;
+    int low = 0 ;
+    int high = numberOfSortedSlots ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (points[sortedSlots[middle] * 3 + 2] <= third) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+
+    System.arraycopy(sortedSlots, low, sortedSlots, low + 1, numberOfSortedSlots - low);
+    sortedSlots[low] = member.slot ;
+    numberOfSortedSlots++ ;
+  }
+
+  private void removeSlot(Member<S> member) {
+    double third = member.objectives[2] ;
+    int low = 0 ;
+    int high = numberOfSortedSlots ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (points[sortedSlots[middle] * 3 + 2] < third) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+    while (sortedSlots[low] != member.slot) {
+      low++ ;
+    }
+
+    System.arraycopy(sortedSlots, low + 1, sortedSlots, low, numberOfSortedSlots - low - 1);
+    numberOfSortedSlots-- ;
+    slotMembers.set(member.slot, null) ;
+    freeSlots[numberOfFreeSlots++] = member.slot ;
+  }
+
+  /**
+   * Tracked solution. The objectives are copied to detect whether they have been changed; adding
+   * 0.0 turns -0.0 into 0.0, so that both values are the same key of the sorted maps
+   */
+  private static class Member<S extends Solution<?>> {
+    private final S solution ;
+    private final double[] objectives ;
+    private final long order ;
+    private double contribution ;
+    private int slot ;
+
+    private Member(S solution, long order) {
+      this.solution = solution ;
+      this.order = order ;
+      this.objectives = new double[solution.getNumberOfObjectives()] ;
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) + 0.0 ;
+      }
+    }
+
+    private boolean hasObjectivesOf(S solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        if (objectives[i] != solution.getObjective(i)) {
+          return false ;
+        }
+      }
+
+      return true ;
+    }
+  }
+}
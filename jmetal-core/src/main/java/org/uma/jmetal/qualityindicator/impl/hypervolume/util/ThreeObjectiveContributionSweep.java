@@ -0,0 +1,205 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+/**
+ * Computes the exclusive hypervolume contribution of a point of a three-objective set (all the
+ * objectives are minimized). The rest of points, bounded by the point, are swept along the third
+ * objective while keeping the uncovered area of a two-dimensional staircase, and the sweep stops as
+ * soon as a bounded point covers the whole box between the point and the reference point.
+ *
+ * The points whose bounded points are not weakly dominated by other bounded points are recorded as
+ * the neighbours of the point: they enter the staircase, and are discarded if a bounded point with
+ * the same value of the third objective dominates them later. The neighbours are the points sharing
+ * with the point a region which is not dominated by the rest of points, i.e., those whose
+ * contributions change when the point is added to or removed from the set.
+ *
+ * It is used by {@link ExclusiveHypervolumeContribution} and
+ * {@link IncrementalHypervolumeContribution}. The staircase is stored in primitive arrays that are
+ * kept between invocations. Instances of this class are not thread-safe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+class ThreeObjectiveContributionSweep {
+  private double[] staircaseX ;
+  private double[] staircaseY ;
+  private double[] staircaseZ ;
+  private int[] staircaseNeighbours ;
+  private int staircaseSize ;
+  private double[] referencePoint ;
+  private int[] neighbours ;
+  private int numberOfNeighbours ;
+
+  /**
+   * Constructor
+   */
+  ThreeObjectiveContributionSweep() {
+    staircaseX = new double[0] ;
+    staircaseY = new double[0] ;
+    staircaseZ = new double[0] ;
+    staircaseNeighbours = new int[0] ;
+    neighbours = new int[0] ;
+  }
+
+  /**
+   * Computes the exclusive contribution of a point
+   *
+   * @param points Objective values of the points, stored consecutively point after point
+   * @param order Indices of the points sorted by the third objective
+   * @param numberOfPoints Number of indices of the order
+   * @param index Index of the point. If it is in the order, it is skipped
+   * @param referencePoint Reference point. The contribution of a point not dominating it is zero
+   * @return The volume dominated by the point and by none of the other points of the order
+   */
+  double computeContribution(double[] points, int[] order, int numberOfPoints, int index,
+      double[] referencePoint) {
+    numberOfNeighbours = 0 ;
+    int point = index * 3 ;
+    if ((points[point] >= referencePoint[0]) || (points[point + 1] >= referencePoint[1]) ||
+        (points[point + 2] >= referencePoint[2])) {
+      return 0.0 ;
+    }
+
+    ensureCapacity(numberOfPoints);
+    this.referencePoint = referencePoint ;
+
+    double x = points[point] ;
+    double y = points[point + 1] ;
+    double z = points[point + 2] ;
+    double boxArea = (referencePoint[0] - x) * (referencePoint[1] - y) ;
+
+    double contribution = 0.0 ;
+    double previousZ = z ;
+    double area = 0.0 ;
+    boolean covered = false ;
+    staircaseSize = 0 ;
+    for (int i = 0; (i < numberOfPoints) && !covered; i++) {
+      if (order[i] == index) {
+        continue ;
+      }
+      int other = order[i] * 3 ;
+      double boundedZ = Math.max(z, points[other + 2]) ;
+      if (boundedZ >= referencePoint[2]) {
+        break ;
+      }
+      double boundedX = Math.max(x, points[other]) ;
+      double boundedY = Math.max(y, points[other + 1]) ;
+      if ((boundedX < referencePoint[0]) && (boundedY < referencePoint[1])) {
+        int position = findPositionInTheStaircase(boundedX) ;
+        if (!isCoveredByTheStaircase(position, boundedX, boundedY)) {
+          contribution += (boxArea - area) * (boundedZ - previousZ) ;
+          previousZ = boundedZ ;
+          neighbours[numberOfNeighbours] = order[i] ;
+          area += insertIntoTheStaircase(position, boundedX, boundedY, boundedZ, numberOfNeighbours) ;
+          numberOfNeighbours++ ;
+          covered = (boundedX == x) && (boundedY == y) ;
+        }
+      }
+    }
+
+    if (!covered) {
+      contribution += (boxArea - area) * (referencePoint[2] - previousZ) ;
+    }
+
+    this.referencePoint = null ;
+    removeDiscardedNeighbours();
+
+    return contribution ;
+  }
+
+  /**
+   * @return The indices of the neighbours found by the last computation, in the first positions
+   */
+  int[] getNeighbours() {
+    return neighbours ;
+  }
+
+  /**
+   * @return The number of neighbours found by the last computation
+   */
+  int getNumberOfNeighbours() {
+    return numberOfNeighbours ;
+  }
+
+  /**
+   * @return The first position of the staircase whose first objective is not lower than a value
+   */
+  private int findPositionInTheStaircase(double x) {
+    int low = 0 ;
+    int high = staircaseSize ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (staircaseX[middle] < x) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+
+    return low ;
+  }
+
+  /**
+   * @return true if a point is weakly dominated by the staircase, given its position in it
+   */
+  private boolean isCoveredByTheStaircase(int position, double x, double y) {
+    return ((position > 0) && (staircaseY[position - 1] <= y)) ||
+        ((position < staircaseSize) && (staircaseX[position] == x) && (staircaseY[position] <= y)) ;
+  }
+
+  /**
+   * Inserts a point which is not covered by the two-dimensional staircase, which is kept sorted by
+   * the first objective and contains only mutually non-dominated points. The neighbours of the
+   * points of the staircase it dominates having the same value of the third objective are discarded
+   *
+   * @return The area that is dominated by the point and was not dominated by the staircase
+   */
+  private double insertIntoTheStaircase(int first, double x, double y, double z, int neighbour) {
+    int last = first ;
+    while ((last < staircaseSize) && (staircaseY[last] >= y)) {
+      if (staircaseZ[last] == z) {
+        neighbours[staircaseNeighbours[last]] = -1 ;
+      }
+      last++ ;
+    }
+
+    double upperY = (first > 0) ? staircaseY[first - 1] : referencePoint[1] ;
+    double rightX = (last < staircaseSize) ? staircaseX[last] : referencePoint[0] ;
+    double area = (rightX - x) * (upperY - y) ;
+    for (int i = first; i < last; i++) {
+      double nextX = (i < last - 1) ? staircaseX[i + 1] : rightX ;
+      area -= (nextX - staircaseX[i]) * (upperY - staircaseY[i]) ;
+    }
+
+    System.arraycopy(staircaseX, last, staircaseX, first + 1, staircaseSize - last);
+    System.arraycopy(staircaseY, last, staircaseY, first + 1, staircaseSize - last);
+    System.arraycopy(staircaseZ, last, staircaseZ, first + 1, staircaseSize - last);
+    System.arraycopy(staircaseNeighbours, last, staircaseNeighbours, first + 1, staircaseSize - last);
+    staircaseX[first] = x ;
+    staircaseY[first] = y ;
+    staircaseZ[first] = z ;
+    staircaseNeighbours[first] = neighbour ;
+    staircaseSize += 1 - (last - first) ;
+
+    return area ;
+  }
+
+  private void removeDiscardedNeighbours() {
+    int size = 0 ;
+    for (int i = 0; i < numberOfNeighbours; i++) {
+      if (neighbours[i] >= 0) {
+        neighbours[size++] = neighbours[i] ;
+      }
+    }
+    numberOfNeighbours = size ;
+  }
+
+  private void ensureCapacity(int numberOfPoints) {
+    if (staircaseX.length < numberOfPoints) {
+      int capacity = Math.max(numberOfPoints, 2 * staircaseX.length) ;
+      staircaseX = new double[capacity] ;
+      staircaseY = new double[capacity] ;
+      staircaseZ = new double[capacity] ;
+      staircaseNeighbours = new int[capacity] ;
+      neighbours = new int[capacity] ;
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+
 import java.io.Serializable;
 
 /**
@@ -23,4 +26,39 @@ public interface Solution<T> extends Serializable {
 
   void setAttribute(Object id, Object value) ;
   Object getAttribute(Object id) ;
+
+  /**
+   * Slot-based access to the attributes (see {@link SolutionAttributeRegistry}). The default
+   * implementations rely on {@link #getAttribute(Object)} and {@link #setAttribute(Object, Object)};
+   * solution classes storing their attributes by slot override them to avoid boxing numeric values
+   */
+  default boolean hasAttribute(int slot) {
+    return getAttribute(SolutionAttributeRegistry.getIdentifier(slot)) != null ;
+  }
+
+  default double getDoubleAttribute(int slot) {
+    Object value = getAttribute(SolutionAttributeRegistry.getIdentifier(slot)) ;
+    if (!(value instanceof Number)) {
+      throw new JMetalException("The attribute " + SolutionAttributeRegistry.getIdentifier(slot) +
+          " has no numeric value") ;
+    }
+    return ((Number) value).doubleValue() ;
+  }
+
+  default void setDoubleAttribute(int slot, double value) {
+    setAttribute(SolutionAttributeRegistry.getIdentifier(slot), value) ;
+  }
+
+  default int getIntAttribute(int slot) {
+    Object value = getAttribute(SolutionAttributeRegistry.getIdentifier(slot)) ;
+    if (!(value instanceof Integer)) {
+      throw new JMetalException("The attribute " + SolutionAttributeRegistry.getIdentifier(slot) +
+          " has no integer value") ;
+    }
+    return (Integer) value ;
+  }
+
+  default void setIntAttribute(int slot, int value) {
+    setAttribute(SolutionAttributeRegistry.getIdentifier(slot), value) ;
+  }
 }
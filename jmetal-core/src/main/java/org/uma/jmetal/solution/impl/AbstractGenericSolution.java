@@ -3,12 +3,11 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Abstract class representing a generic solution
@@ -20,7 +19,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
   private double[] objectives;
   private List<T> variables;
   protected P problem ;
-  protected Map<Object, Object> attributes ;
+  protected SolutionAttributeStore attributes ;
   protected final JMetalRandom randomGenerator ;
 
   /**
@@ -28,7 +27,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
    */
   protected AbstractGenericSolution(P problem) {
     this.problem = problem ;
-    attributes = new HashMap<>() ;
+    attributes = new SolutionAttributeStore() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -40,7 +39,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
 
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value) ;
+    attributes.set(id, value) ;
   }
 
   @Override
@@ -48,6 +47,31 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
     return attributes.get(id) ;
   }
 
+  @Override
+  public boolean hasAttribute(int slot) {
+    return attributes.contains(slot) ;
+  }
+
+  @Override
+  public double getDoubleAttribute(int slot) {
+    return attributes.getDouble(slot) ;
+  }
+
+  @Override
+  public void setDoubleAttribute(int slot, double value) {
+    attributes.setDouble(slot, value) ;
+  }
+
+  @Override
+  public int getIntAttribute(int slot) {
+    return attributes.getInt(slot) ;
+  }
+
+  @Override
+  public void setIntAttribute(int slot, int value) {
+    attributes.setInt(slot, value) ;
+  }
+
   @Override
   public void setObjective(int index, double value) {
     objectives[index] = value ;
@@ -4,10 +4,9 @@ import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Implementation of {@link DoubleSolution} using arrays.
@@ -19,7 +18,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
   private double[] objectives;
   private double[] variables;
   protected DoubleProblem problem ;
-  protected Map<Object, Object> attributes ;
+  protected SolutionAttributeStore attributes ;
   protected final JMetalRandom randomGenerator ;
 
   /**
@@ -27,7 +26,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
    */
   public ArrayDoubleSolution(DoubleProblem problem) {
     this.problem = problem ;
-    attributes = new HashMap<>() ;
+    attributes = new SolutionAttributeStore() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -52,7 +51,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
       objectives[i] = solution.getObjective(i) ;
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributeStore(solution.attributes) ;
   }
 
   @Override
@@ -107,7 +106,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
 
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value) ;
+    attributes.set(id, value) ;
   }
 
   @Override
@@ -115,6 +114,31 @@ public class ArrayDoubleSolution implements DoubleSolution {
     return attributes.get(id) ;
   }
 
+  @Override
+  public boolean hasAttribute(int slot) {
+    return attributes.contains(slot) ;
+  }
+
+  @Override
+  public double getDoubleAttribute(int slot) {
+    return attributes.getDouble(slot) ;
+  }
+
+  @Override
+  public void setDoubleAttribute(int slot, double value) {
+    attributes.setDouble(slot, value) ;
+  }
+
+  @Override
+  public int getIntAttribute(int slot) {
+    return attributes.getInt(slot) ;
+  }
+
+  @Override
+  public void setIntAttribute(int slot, int value) {
+    attributes.setInt(slot, value) ;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
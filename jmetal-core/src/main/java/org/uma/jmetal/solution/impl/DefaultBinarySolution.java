@@ -3,8 +3,7 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.BinaryProblem;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
-
-import java.util.HashMap;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
 
 /**
  * Defines an implementation of a binary solution
@@ -36,7 +35,7 @@ public class DefaultBinarySolution
       setObjective(i, solution.getObjective(i)) ;
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributeStore(solution.attributes) ;
   }
 
   private BinarySet createNewBitSet(int numberOfBits) {
@@ -2,9 +2,9 @@ package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.DoubleBinaryProblem;
 import org.uma.jmetal.solution.DoubleBinarySolution;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
 
 import java.util.BitSet;
-import java.util.HashMap;
 
 /**
  * Description:
@@ -43,7 +43,7 @@ public class DefaultDoubleBinarySolution
     copyDoubleVariables(solution);
     copyBitSet(solution);
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributeStore(solution.attributes) ;
   }
 
   private void initializeDoubleVariables() {
@@ -2,9 +2,9 @@ package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.PermutationProblem;
 import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -45,7 +45,7 @@ public class DefaultIntegerPermutationSolution
       setVariableValue(i, solution.getVariableValue(i));
     }
     
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributeStore(solution.attributes) ;
   }
 
   @Override public String getVariableValueString(int index) {
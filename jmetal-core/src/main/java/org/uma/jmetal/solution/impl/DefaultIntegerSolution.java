@@ -2,8 +2,7 @@ package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.IntegerProblem;
 import org.uma.jmetal.solution.IntegerSolution;
-
-import java.util.HashMap;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
 
 /**
  * Defines an implementation of an integer solution
@@ -35,7 +34,7 @@ public class DefaultIntegerSolution
       setObjective(i, solution.getObjective(i)) ;
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributeStore(solution.attributes) ;
   }
 
   @Override
@@ -0,0 +1,267 @@
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Population of {@link DoubleSolution} objects stored as a structure of arrays: the variables,
+ * the objectives and the overall constraint violation degrees of all the individuals are kept
+ * in three contiguous arrays in row-major order, so that operators, evaluators and rankings can
+ * work on primitive values instead of on boxed ones.
+ *
+ * Each individual is accessible as a {@link DoubleSolution} through a lightweight view (see
+ * {@link #get(int)} and {@link #asList()}), so the population can be used wherever a list of
+ * solutions is expected, e.g., by a {@link org.uma.jmetal.util.evaluator.SolutionListEvaluator}.
+ * Changes made through the views are written to the arrays of the population.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class DoublePopulation implements Serializable {
+  private final DoubleProblem problem ;
+  private final int size ;
+  private final int numberOfVariables ;
+  private final int numberOfObjectives ;
+
+  private final double[] variables ;
+  private final double[] objectives ;
+  private final double[] overallConstraintViolation ;
+  private final double[] lowerBounds ;
+  private final double[] upperBounds ;
+
+  private final DoublePopulationSolution[] solutions ;
+
+  /**
+   * Constructor. The variables of the individuals are randomly initialized within their bounds,
+   * drawing the random values in the same order as {@link ArrayDoubleSolution}
+   * @param problem Problem to solve
+   * @param size Number of individuals
+   */
+  public DoublePopulation(DoubleProblem problem, int size) {
+    this(problem, size, JMetalRandom.getInstance()) ;
+  }
+
+  /**
+   * Constructor. Copies the variables, the objectives and the overall constraint violation
+   * degrees of a list of solutions; the rest of the attributes are not copied
+   * @param problem Problem to solve
+   * @param solutionList Solutions to copy
+   */
+  public DoublePopulation(DoubleProblem problem, List<? extends DoubleSolution> solutionList) {
+    this(problem, solutionList.size(), null) ;
+
+    OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>() ;
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      for (int j = 0; j < numberOfVariables; j++) {
+        variables[i * numberOfVariables + j] = solution.getVariableValue(j) ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[i * numberOfObjectives + j] = solution.getObjective(j) ;
+      }
+      Double value = violation.getAttribute(solution) ;
+      overallConstraintViolation[i] = (value == null) ? Double.NaN : value ;
+    }
+  }
+
+  /**
+   * Constructor. The variables are randomly initialized if a random generator is given, and are
+   * set to zero otherwise
+   */
+  private DoublePopulation(DoubleProblem problem, int size, JMetalRandom randomGenerator) {
+    if (problem == null) {
+      throw new JMetalException("The problem is null") ;
+    } else if (size < 0) {
+      throw new JMetalException("The population size is negative: " + size) ;
+    }
+
+    this.problem = problem ;
+    this.size = size ;
+    numberOfVariables = problem.getNumberOfVariables() ;
+    numberOfObjectives = problem.getNumberOfObjectives() ;
+
+    variables = new double[size * numberOfVariables] ;
+    objectives = new double[size * numberOfObjectives] ;
+    overallConstraintViolation = new double[size] ;
+    Arrays.fill(overallConstraintViolation, Double.NaN);
+
+    lowerBounds = new double[numberOfVariables] ;
+    upperBounds = new double[numberOfVariables] ;
+    for (int i = 0; i < numberOfVariables; i++) {
+      lowerBounds[i] = problem.getLowerBound(i) ;
+      upperBounds[i] = problem.getUpperBound(i) ;
+    }
+
+    if (randomGenerator != null) {
+      for (int i = 0; i < size; i++) {
+        int offset = i * numberOfVariables ;
+        for (int j = 0; j < numberOfVariables; j++) {
+          variables[offset + j] = randomGenerator.nextDouble(lowerBounds[j], upperBounds[j]) ;
+        }
+      }
+    }
+
+    solutions = new DoublePopulationSolution[size] ;
+    for (int i = 0; i < size; i++) {
+      solutions[i] = new DoublePopulationSolution(this, i) ;
+    }
+  }
+
+  public DoubleProblem getProblem() {
+    return problem ;
+  }
+
+  public int size() {
+    return size ;
+  }
+
+  public int getNumberOfVariables() {
+    return numberOfVariables ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  /**
+   * @return The variables of all the individuals; the variables of individual i start at
+   * position {@link #getVariablesOffset(int)}. The array is not copied
+   */
+  public double[] getVariables() {
+    return variables ;
+  }
+
+  /**
+   * @return The objectives of all the individuals; the objectives of individual i start at
+   * position {@link #getObjectivesOffset(int)}. The array is not copied
+   */
+  public double[] getObjectives() {
+    return objectives ;
+  }
+
+  /**
+   * @return The overall constraint violation degree of each individual, NaN if it has not been
+   * set. The array is not copied
+   */
+  public double[] getOverallConstraintViolations() {
+    return overallConstraintViolation ;
+  }
+
+  /**
+   * @return The lower bounds of the variables. The array is not copied
+   */
+  public double[] getLowerBounds() {
+    return lowerBounds ;
+  }
+
+  /**
+   * @return The upper bounds of the variables. The array is not copied
+   */
+  public double[] getUpperBounds() {
+    return upperBounds ;
+  }
+
+  public int getVariablesOffset(int index) {
+    return index * numberOfVariables ;
+  }
+
+  public int getObjectivesOffset(int index) {
+    return index * numberOfObjectives ;
+  }
+
+  /**
+   * @param index Index of the individual
+   * @return A view of the individual, which is always the same object for a given index
+   */
+  public DoubleSolution get(int index) {
+    if ((index < 0) || (index >= size)) {
+      throw new JMetalException("Invalid index: " + index + ". The population size is " + size) ;
+    }
+
+    return solutions[index] ;
+  }
+
+  /**
+   * @return A fixed-size list containing the views of the individuals
+   */
+  public List<DoubleSolution> asList() {
+    return new SolutionList() ;
+  }
+
+  /**
+   * Copies the variables, the objectives, the overall constraint violation degree and the
+   * attributes of an individual into a position of another population of the same problem
+   * @param index Index of the individual to copy
+   * @param target Target population (it can be this population)
+   * @param targetIndex Position of the copy in the target population
+   */
+  public void copy(int index, DoublePopulation target, int targetIndex) {
+    if (target.numberOfVariables != numberOfVariables || target.numberOfObjectives != numberOfObjectives) {
+      throw new JMetalException("The target population has a different number of variables or objectives") ;
+    }
+
+    System.arraycopy(variables, getVariablesOffset(index), target.variables,
+        target.getVariablesOffset(targetIndex), numberOfVariables);
+    System.arraycopy(objectives, getObjectivesOffset(index), target.objectives,
+        target.getObjectivesOffset(targetIndex), numberOfObjectives);
+    target.overallConstraintViolation[targetIndex] = overallConstraintViolation[index] ;
+
+    SolutionAttributeStore attributes = solutions[index].getAttributeStore() ;
+    target.solutions[targetIndex].setAttributeStore(
+        (attributes == null) ? null : new SolutionAttributeStore(attributes));
+  }
+
+  /**
+   * @param index Index of the individual
+   * @return A copy of the individual stored in a new population containing only that individual
+   */
+  DoubleSolution copyOf(int index) {
+    DoublePopulation population = new DoublePopulation(problem, 1, null) ;
+    copy(index, population, 0);
+
+    return population.get(0) ;
+  }
+
+  /**
+   * Computes the non-dominated rank of the individuals (see
+   * {@link EfficientNonDominatedSortRanking#computeRanks(double[], int, double[])})
+   * @return The rank of each individual (0 is the first front)
+   */
+  public int[] computeRanks() {
+    return EfficientNonDominatedSortRanking.computeRanks(objectives, numberOfObjectives,
+        overallConstraintViolation) ;
+  }
+
+  /**
+   * Computes the crowding distance of the individuals, considering all of them as a single front
+   * (see {@link CrowdingDistance#computeCrowdingDistances(double[], int)})
+   * @return The crowding distance of each individual
+   */
+  public double[] computeCrowdingDistances() {
+    return CrowdingDistance.computeCrowdingDistances(objectives, numberOfObjectives) ;
+  }
+
+  private class SolutionList extends AbstractList<DoubleSolution> implements RandomAccess {
+    @Override
+    public DoubleSolution get(int index) {
+      return DoublePopulation.this.get(index) ;
+    }
+
+    @Override
+    public int size() {
+      return size ;
+    }
+  }
+}
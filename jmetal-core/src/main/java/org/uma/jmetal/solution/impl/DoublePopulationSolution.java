@@ -0,0 +1,171 @@
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+import org.uma.jmetal.util.solutionattribute.impl.SolutionAttributeStore;
+
+/**
+ * View of an individual of a {@link DoublePopulation}. The variables, the objectives and the
+ * overall constraint violation degree are read from and written to the arrays of the
+ * population; the rest of the attributes are stored in the view. Views are only equal to
+ * themselves, as they represent positions of a population rather than values.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+class DoublePopulationSolution implements DoubleSolution {
+  private static final Object CONSTRAINT_VIOLATION_IDENTIFIER = OverallConstraintViolation.class ;
+  private static final int CONSTRAINT_VIOLATION_SLOT =
+      SolutionAttributeRegistry.getSlot(CONSTRAINT_VIOLATION_IDENTIFIER) ;
+
+  private final DoublePopulation population ;
+  private final int index ;
+  private SolutionAttributeStore attributes ;
+
+  /**
+   * Constructor
+   */
+  DoublePopulationSolution(DoublePopulation population, int index) {
+    this.population = population ;
+    this.index = index ;
+  }
+
+  SolutionAttributeStore getAttributeStore() {
+    return attributes ;
+  }
+
+  void setAttributeStore(SolutionAttributeStore attributes) {
+    this.attributes = attributes ;
+  }
+
+  @Override
+  public void setObjective(int index, double value) {
+    population.getObjectives()[population.getObjectivesOffset(this.index) + index] = value ;
+  }
+
+  @Override
+  public double getObjective(int index) {
+    return population.getObjectives()[population.getObjectivesOffset(this.index) + index] ;
+  }
+
+  @Override
+  public Double getVariableValue(int index) {
+    return population.getVariables()[population.getVariablesOffset(this.index) + index] ;
+  }
+
+  @Override
+  public void setVariableValue(int index, Double value) {
+    population.getVariables()[population.getVariablesOffset(this.index) + index] = value ;
+  }
+
+  @Override
+  public String getVariableValueString(int index) {
+    return getVariableValue(index).toString() ;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return population.getNumberOfVariables() ;
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return population.getNumberOfObjectives() ;
+  }
+
+  @Override
+  public Double getLowerBound(int index) {
+    return population.getLowerBounds()[index] ;
+  }
+
+  @Override
+  public Double getUpperBound(int index) {
+    return population.getUpperBounds()[index] ;
+  }
+
+  @Override
+  public Solution<Double> copy() {
+    return population.copyOf(index) ;
+  }
+
+  @Override
+  public void setAttribute(Object id, Object value) {
+    if (CONSTRAINT_VIOLATION_IDENTIFIER.equals(id)) {
+      population.getOverallConstraintViolations()[index] =
+          (value == null) ? Double.NaN : ((Number) value).doubleValue() ;
+    } else {
+      attributeStore().set(id, value) ;
+    }
+  }
+
+  @Override
+  public Object getAttribute(Object id) {
+    if (CONSTRAINT_VIOLATION_IDENTIFIER.equals(id)) {
+      double value = population.getOverallConstraintViolations()[index] ;
+      return Double.isNaN(value) ? null : value ;
+    }
+
+    return (attributes == null) ? null : attributes.get(id) ;
+  }
+
+  @Override
+  public boolean hasAttribute(int slot) {
+    if (slot == CONSTRAINT_VIOLATION_SLOT) {
+      return !Double.isNaN(population.getOverallConstraintViolations()[index]) ;
+    }
+
+    return (attributes != null) && attributes.contains(slot) ;
+  }
+
+  @Override
+  public double getDoubleAttribute(int slot) {
+    if (slot == CONSTRAINT_VIOLATION_SLOT && hasAttribute(slot)) {
+      return population.getOverallConstraintViolations()[index] ;
+    }
+
+    return attributeStore().getDouble(slot) ;
+  }
+
+  @Override
+  public void setDoubleAttribute(int slot, double value) {
+    if (slot == CONSTRAINT_VIOLATION_SLOT) {
+      population.getOverallConstraintViolations()[index] = value ;
+    } else {
+      attributeStore().setDouble(slot, value) ;
+    }
+  }
+
+  @Override
+  public int getIntAttribute(int slot) {
+    return attributeStore().getInt(slot) ;
+  }
+
+  @Override
+  public void setIntAttribute(int slot, int value) {
+    attributeStore().setInt(slot, value) ;
+  }
+
+  private SolutionAttributeStore attributeStore() {
+    if (attributes == null) {
+      attributes = new SolutionAttributeStore() ;
+    }
+
+    return attributes ;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("Variables: ") ;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      result.append(getVariableValue(i)).append(' ') ;
+    }
+    result.append("Objectives: ") ;
+    for (int i = 0; i < getNumberOfObjectives(); i++) {
+      result.append(getObjective(i)).append(' ') ;
+    }
+
+    return result.toString() ;
+  }
+}
@@ -4,30 +4,41 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.BoundedRandomGenerator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
+import java.io.Serializable;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * This class defines an adaptive grid over a list of solutions as the one used by algorithm PAES.
  *
+ * The location of a hypercube packs its coordinates in a long value, using the bits of
+ * bisections consecutive positions for each objective, so the number of bisections multiplied by
+ * the number of objectives cannot be higher than 63. Only the occupied hypercubes are stored, in
+ * an array sorted by location which is updated when solutions are added or removed, so the memory
+ * and the time needed by the grid depend on the number of occupied hypercubes instead of on the
+ * size of the grid. The hypercubes are visited in ascending order of location, as when all of
+ * them were stored in an array.
+ *
  * @author Antonio J. Nebro
  * @author Juan J. Durillo
  */
-public class AdaptiveGrid<S extends Solution<?>> {
+@SuppressWarnings("serial")
+public class AdaptiveGrid<S extends Solution<?>> implements Serializable {
   private int bisections;
   private int numberOfObjectives;
 
-  private int[] hypercubes;
-
   private double[] gridLowerLimits;
   private double[] gridUpperLimits;
 
   private double[] divisionSize;
-  private int mostPopulatedHypercube;
+  private long mostPopulatedHypercube;
 
   /**
-   * Indicates when an hypercube has solutions
+   * Locations of the hypercubes having solutions, in ascending order, and their number of solutions
    */
-  private int[] occupied;
+  private long[] occupied;
+  private int[] densities;
+  private int numberOfOccupiedHypercubes;
 
   /**
    * Constructor.
@@ -37,16 +48,19 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * @param objectives Number of numberOfObjectives of the problem.
    */
   public AdaptiveGrid(int bisections, int objectives) {
+    if (bisections * objectives > 63) {
+      throw new JMetalException("The number of bisections (" + bisections + ") multiplied by the "
+          + "number of objectives (" + objectives + ") is higher than 63") ;
+    }
     this.bisections = bisections;
     numberOfObjectives = objectives;
     gridLowerLimits = new double[numberOfObjectives];
     gridUpperLimits = new double[numberOfObjectives];
     divisionSize = new double[numberOfObjectives];
-    hypercubes = new int[(int) Math.pow(2.0, this.bisections * numberOfObjectives)];
 
-    for (int i = 0; i < hypercubes.length; i++) {
-      hypercubes[i] = 0;
-    }
+    occupied = new long[16];
+    densities = new int[16];
+    numberOfOccupiedHypercubes = 0;
   }
 
   /**
@@ -83,20 +97,36 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * @param solutionList The <code>solutionList</code> considered.
    */
   private void addSolutionSet(List<S> solutionList) {
-    //Calculate the location of all individuals and update the grid
-    mostPopulatedHypercube = 0;
-    int location;
-
+    //Calculate the location of all individuals
+    long[] locations = new long[solutionList.size()];
     for (int ind = 0; ind < solutionList.size(); ind++) {
-      location = location(solutionList.get(ind));
-      hypercubes[location]++;
-      if (hypercubes[location] > hypercubes[mostPopulatedHypercube]) {
-        mostPopulatedHypercube = location;
+      locations[ind] = location(solutionList.get(ind));
+    }
+
+    //Group the locations to build the occupied hypercubes
+    long[] sortedLocations = locations.clone();
+    Arrays.sort(sortedLocations);
+    numberOfOccupiedHypercubes = 0;
+    for (int i = 0; i < sortedLocations.length; i++) {
+      if ((i == 0) || (sortedLocations[i] != sortedLocations[i - 1])) {
+        ensureCapacity(numberOfOccupiedHypercubes + 1);
+        occupied[numberOfOccupiedHypercubes] = sortedLocations[i];
+        numberOfOccupiedHypercubes++;
       }
     }
 
-    //The grid has been updated, so also update ocuppied's hypercubes
-    calculateOccupied();
+    //Count the solutions of the hypercubes and find the most populated one
+    Arrays.fill(densities, 0, numberOfOccupiedHypercubes, 0);
+    mostPopulatedHypercube = 0;
+    int mostPopulatedIndex = indexOf(0);
+    for (long location : locations) {
+      int index = indexOf(location);
+      densities[index]++;
+      if (densities[index] > ((mostPopulatedIndex < 0) ? 0 : densities[mostPopulatedIndex])) {
+        mostPopulatedHypercube = location;
+        mostPopulatedIndex = index;
+      }
+    }
   }
 
 
@@ -115,11 +145,6 @@ public class AdaptiveGrid<S extends Solution<?>> {
       divisionSize[obj] = gridUpperLimits[obj] - gridLowerLimits[obj];
     }
 
-    //Clean the hypercubes
-    for (int i = 0; i < hypercubes.length; i++) {
-      hypercubes[i] = 0;
-    }
-
     //Add the population
     addSolutionSet(solutionList);
   }
@@ -136,7 +161,7 @@ public class AdaptiveGrid<S extends Solution<?>> {
    */
   public void updateGrid(S solution, List<S> solutionSet) {
 
-    int location = location(solution);
+    long location = location(solution);
     if (location == -1) {
       //Re-build the Adaptative-Grid
       //Update lower and upper limits
@@ -157,11 +182,6 @@ public class AdaptiveGrid<S extends Solution<?>> {
         divisionSize[obj] = gridUpperLimits[obj] - gridLowerLimits[obj];
       }
 
-      //Clean the hypercube
-      for (int i = 0; i < hypercubes.length; i++) {
-        hypercubes[i] = 0;
-      }
-
       //add the population
       addSolutionSet(solutionSet);
     }
@@ -171,41 +191,41 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * Calculates the hypercube of a solution
    *
    * @param solution The <code>Solution</code>.
+   * @return The location of the hypercube, or -1 if the solution is out of the grid bounds
    */
-  public int location(S solution) {
-    //Create a int [] to store the range of each objective
-    int[] position = new int[numberOfObjectives];
+  public long location(S solution) {
+    long location = 0;
+    int divisions = 1 << bisections;
 
     //Calculate the position for each objective
     for (int obj = 0; obj < numberOfObjectives; obj++) {
+      int position = 0;
       if ((solution.getObjective(obj) > gridUpperLimits[obj])
               || (solution.getObjective(obj) < gridLowerLimits[obj])) {
         return -1;
       } else if (solution.getObjective(obj) == gridLowerLimits[obj]) {
-        position[obj] = 0;
+        position = 0;
       } else if (solution.getObjective(obj) == gridUpperLimits[obj]) {
-        position[obj] = ((int) Math.pow(2.0, bisections)) - 1;
+        position = divisions - 1;
       } else {
         double tmpSize = divisionSize[obj];
         double value = solution.getObjective(obj);
         double account = gridLowerLimits[obj];
-        int ranges = (int) Math.pow(2.0, bisections);
+        int ranges = divisions;
         for (int b = 0; b < bisections; b++) {
           tmpSize /= 2.0;
           ranges /= 2;
           if (value > (account + tmpSize)) {
-            position[obj] += ranges;
+            position += ranges;
             account += tmpSize;
           }
         }
       }
-    }
 
-    //Calculate the location into the hypercubes
-    int location = 0;
-    for (int obj = 0; obj < numberOfObjectives; obj++) {
-      location += position[obj] * Math.pow(2.0, obj * bisections);
+      //Calculate the location into the hypercubes
+      location |= ((long) position) << (obj * bisections);
     }
+
     return location;
   }
 
@@ -214,7 +234,7 @@ public class AdaptiveGrid<S extends Solution<?>> {
    *
    * @return The hypercube with the maximum number of solutions.
    */
-  public int getMostPopulatedHypercube() {
+  public long getMostPopulatedHypercube() {
     return mostPopulatedHypercube;
   }
 
@@ -224,8 +244,9 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * @param location Number of the hypercube.
    * @return The number of solutions into a specific hypercube.
    */
-  public int getLocationDensity(int location) {
-    return hypercubes[location];
+  public int getLocationDensity(long location) {
+    int index = indexOf(location);
+    return (index < 0) ? 0 : densities[index];
   }
 
   /**
@@ -233,23 +254,32 @@ public class AdaptiveGrid<S extends Solution<?>> {
    *
    * @param location Number of hypercube.
    */
-  public void removeSolution(int location) {
+  public void removeSolution(long location) {
+    int index = indexOf(location);
+    if (index < 0) {
+      throw new JMetalException("The hypercube " + location + " has no solutions") ;
+    }
+
     //Decrease the solutions in the location specified.
-    hypercubes[location]--;
+    densities[index]--;
+
+    //If the hypercube becomes empty, remove it from the occupied hypercubes
+    if (densities[index] == 0) {
+      numberOfOccupiedHypercubes--;
+      System.arraycopy(occupied, index + 1, occupied, index, numberOfOccupiedHypercubes - index);
+      System.arraycopy(densities, index + 1, densities, index, numberOfOccupiedHypercubes - index);
+    }
 
     //Update the most populated hypercube
     if (location == mostPopulatedHypercube) {
-      for (int i = 0; i < hypercubes.length; i++) {
-        if (hypercubes[i] > hypercubes[mostPopulatedHypercube]) {
-          mostPopulatedHypercube = i;
+      int maxDensity = getLocationDensity(mostPopulatedHypercube);
+      for (int i = 0; i < numberOfOccupiedHypercubes; i++) {
+        if (densities[i] > maxDensity) {
+          maxDensity = densities[i];
+          mostPopulatedHypercube = occupied[i];
         }
       }
     }
-
-    //If hypercubes[location] now becomes to zero, then update ocuppied hypercubes
-    if (hypercubes[location] == 0) {
-      this.calculateOccupied();
-    }
   }
 
   /**
@@ -257,20 +287,27 @@ public class AdaptiveGrid<S extends Solution<?>> {
    *
    * @param location Number of hypercube.
    */
-  public void addSolution(int location) {
+  public void addSolution(long location) {
+    int index = indexOf(location);
+
+    //If the hypercube is empty, add it to the occupied hypercubes
+    if (index < 0) {
+      index = -(index + 1);
+      ensureCapacity(numberOfOccupiedHypercubes + 1);
+      System.arraycopy(occupied, index, occupied, index + 1, numberOfOccupiedHypercubes - index);
+      System.arraycopy(densities, index, densities, index + 1, numberOfOccupiedHypercubes - index);
+      occupied[index] = location;
+      densities[index] = 0;
+      numberOfOccupiedHypercubes++;
+    }
+
     //Increase the solutions in the location specified.
-    hypercubes[location]++;
+    densities[index]++;
 
     //Update the most populated hypercube
-    if (hypercubes[location] > hypercubes[mostPopulatedHypercube]) {
+    if (densities[index] > getLocationDensity(mostPopulatedHypercube)) {
       mostPopulatedHypercube = location;
     }
-
-    //if hypercubes[location] becomes to one, then recalculate 
-    //the occupied hypercubes
-    if (hypercubes[location] == 1) {
-      this.calculateOccupied();
-    }
   }
 
   /**
@@ -301,7 +338,7 @@ public class AdaptiveGrid<S extends Solution<?>> {
    *
    * @return the number of the selected hypercube.
    */
-  public int rouletteWheel() {
+  public long rouletteWheel() {
 	  return rouletteWheel((a, b) -> JMetalRandom.getInstance().nextDouble(a, b));
   }
 
@@ -310,56 +347,35 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * 
    * @param randomGenerator the {@link BoundedRandomGenerator} to use for the roulette
    * 
-   * @return the number of the selected hypercube.
+   * @return the number of the selected hypercube, or -1 if there are no occupied hypercubes.
    */
-  public int rouletteWheel(BoundedRandomGenerator<Double> randomGenerator) {
+  public long rouletteWheel(BoundedRandomGenerator<Double> randomGenerator) {
     //Calculate the inverse sum
     double inverseSum = 0.0;
-    for (int hypercube : hypercubes) {
-      if (hypercube > 0) {
-        inverseSum += 1.0 / (double) hypercube;
-      }
+    for (int i = 0; i < numberOfOccupiedHypercubes; i++) {
+      inverseSum += 1.0 / (double) densities[i];
     }
 
     //Calculate a random value between 0 and sumaInversa
     double random = randomGenerator.getRandomValue(0.0, inverseSum);
-    int hypercube = 0;
     double accumulatedSum = 0.0;
-    while (hypercube < hypercubes.length) {
-      if (hypercubes[hypercube] > 0) {
-        accumulatedSum += 1.0 / (double) hypercubes[hypercube];
-      }
+    for (int i = 0; i < numberOfOccupiedHypercubes; i++) {
+      accumulatedSum += 1.0 / (double) densities[i];
 
       if (accumulatedSum > random) {
-        return hypercube;
+        return occupied[i];
       }
-
-      hypercube++;
     }
 
-    return hypercube;
+    return (numberOfOccupiedHypercubes == 0) ? -1 : occupied[numberOfOccupiedHypercubes - 1];
   }
 
   /**
-   * Calculates the number of hypercubes having one or more solutions.
-   * return the number of hypercubes with more than zero solutions.
+   * The occupied hypercubes are updated each time that the grid changes, so this method does
+   * nothing. It is kept for compatibility.
    */
+  @Deprecated
   public void calculateOccupied() {
-    int total = 0;
-    for (int hypercube : hypercubes) {
-      if (hypercube > 0) {
-        total++;
-      }
-    }
-
-    occupied = new int[total];
-    int base = 0;
-    for (int i = 0; i < hypercubes.length; i++) {
-      if (hypercubes[i] > 0) {
-        occupied[base] = i;
-        base++;
-      }
-    }
   }
 
   /**
@@ -368,7 +384,7 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * @return the number of hypercubes with more than zero solutions.
    */
   public int occupiedHypercubes() {
-    return occupied.length;
+    return numberOfOccupiedHypercubes;
   }
 
 
@@ -377,7 +393,7 @@ public class AdaptiveGrid<S extends Solution<?>> {
    *
    * @return The hypercube.
    */
-  public int randomOccupiedHypercube() {
+  public long randomOccupiedHypercube() {
 	  return randomOccupiedHypercube((a, b) -> JMetalRandom.getInstance().nextInt(a, b));
   }
 
@@ -388,8 +404,8 @@ public class AdaptiveGrid<S extends Solution<?>> {
    *
    * @return The hypercube.
    */
-  public int randomOccupiedHypercube(BoundedRandomGenerator<Integer> randomGenerator) {
-    int rand = randomGenerator.getRandomValue(0, occupied.length - 1);
+  public long randomOccupiedHypercube(BoundedRandomGenerator<Integer> randomGenerator) {
+    int rand = randomGenerator.getRandomValue(0, numberOfOccupiedHypercubes - 1);
     return occupied[rand];
   }
 
@@ -397,7 +413,6 @@ public class AdaptiveGrid<S extends Solution<?>> {
    * Return the average number of solutions in the occupied hypercubes
    */
   public double getAverageOccupation() {
-    calculateOccupied();
     double result;
 
     if (occupiedHypercubes() == 0) {
@@ -405,8 +420,8 @@ public class AdaptiveGrid<S extends Solution<?>> {
     } else {
       double sum = 0.0;
 
-      for (int value : occupied) {
-        sum += hypercubes[value];
+      for (int i = 0; i < numberOfOccupiedHypercubes; i++) {
+        sum += densities[i];
       }
 
       result = sum / occupiedHypercubes();
@@ -414,9 +429,41 @@ public class AdaptiveGrid<S extends Solution<?>> {
     return result;
   }
 
-  /* Getters */
-    public int[] getHypercubes () {
-      return hypercubes;
+  /**
+   * Position of a hypercube in the array of occupied hypercubes
+   *
+   * @return The position, or (-(insertion point) - 1) if the hypercube is not occupied
+   */
+  private int indexOf(long location) {
+    return Arrays.binarySearch(occupied, 0, numberOfOccupiedHypercubes, location);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > occupied.length) {
+      int newCapacity = Math.max(capacity, 2 * occupied.length);
+      occupied = Arrays.copyOf(occupied, newCapacity);
+      densities = Arrays.copyOf(densities, newCapacity);
     }
   }
 
+  /* Getters */
+
+  /**
+   * Returns the number of solutions of all the hypercubes of the grid. As the array has
+   * 2^(bisections * objectives) elements, it can only be built for small grids.
+   *
+   * @deprecated Use {@link #getLocationDensity(long)}
+   */
+  @Deprecated
+  public int[] getHypercubes() {
+    if (bisections * numberOfObjectives > 30) {
+      throw new JMetalException("The grid has too many hypercubes to be stored in an array") ;
+    }
+
+    int[] hypercubes = new int[1 << (bisections * numberOfObjectives)];
+    for (int i = 0; i < numberOfOccupiedHypercubes; i++) {
+      hypercubes[(int) occupied[i]] = densities[i];
+    }
+    return hypercubes;
+  }
+}
@@ -57,7 +57,7 @@ public class AdaptiveGridArchive<S extends Solution<?>> extends AbstractBoundedA
       if (flag == -1) { // The Individual to insert dominates other
         // individuals in  the setArchive
         iterator.remove(); //Delete it from the setArchive
-        int location = grid.location(element);
+        long location = grid.location(element);
         if (grid.getLocationDensity(location) > 1) {//The hypercube contains
           grid.removeSolution(location);            //more than one individual
         } else {
@@ -79,7 +79,7 @@ public class AdaptiveGridArchive<S extends Solution<?>> extends AbstractBoundedA
 
     if (this.getSolutionList().size() < this.getMaxSize()) { //The setArchive is not full
       grid.updateGrid(solution, getSolutionList()); // Update the grid if applicable
-      int location;
+      long location;
       location = grid.location(solution); // Get the location of the solution
       grid.addSolution(location); // Increment the density of the hypercube
       getSolutionList().add(solution); // Add the solution to the list
@@ -88,7 +88,7 @@ public class AdaptiveGridArchive<S extends Solution<?>> extends AbstractBoundedA
 
     // At this point, the solution has to be inserted and the setArchive is full
     grid.updateGrid(solution, getSolutionList());
-    int location = grid.location(solution);
+    long location = grid.location(solution);
     if (location == grid.getMostPopulatedHypercube()) { // The solution is in the
       // most populated hypercube
       return false; // Not inserted
@@ -111,7 +111,7 @@ public class AdaptiveGridArchive<S extends Solution<?>> extends AbstractBoundedA
     Iterator<S> iterator = getSolutionList().iterator();
     while (iterator.hasNext()) {
       S element = iterator.next();
-      int location = grid.location(element);
+      long location = grid.location(element);
       if (location == grid.getMostPopulatedHypercube()) {
         iterator.remove();
         grid.removeSolution(location);
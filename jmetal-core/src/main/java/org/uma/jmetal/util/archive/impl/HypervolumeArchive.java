@@ -1,20 +1,30 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.IncrementalHypervolumeContribution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
+ *
+ * When the solutions have two or three objectives, the hypervolume contributions of the archive
+ * members are kept by an {@link IncrementalHypervolumeContribution} object, so pruning the archive
+ * only updates the contributions affected by the solutions added or removed since the last time.
+ * The reference point is the maximum value of each objective in the archive plus the offset of the
+ * hypervolume implementation.
  */
 @SuppressWarnings("serial")
 public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> comparator;
   Hypervolume<S> hypervolume ;
+  private transient IncrementalHypervolumeContribution<S> contributions ;
 
   public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume) {
     super(maxSize);
@@ -25,9 +35,15 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
   @Override
   public void prune() {
     if (getSolutionList().size() > getMaxSize()) {
-      computeDensityEstimator() ;
-      S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), comparator) ;
-      getSolutionList().remove(worst);
+      if (updateContributions()) {
+        S worst = contributions.getLeastContributor() ;
+        getSolutionList().remove(worst);
+        contributions.remove(worst) ;
+      } else {
+        computeDensityEstimator() ;
+        S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), comparator) ;
+        getSolutionList().remove(worst);
+      }
     }
   }
 
@@ -38,7 +54,37 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
 
   @Override
   public void computeDensityEstimator() {
-    hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList()) ;
+    if (updateContributions()) {
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+      for (S solution : getSolutionList()) {
+        hvContribution.setAttribute(solution, contributions.getContribution(solution));
+      }
+    } else {
+      hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList()) ;
+    }
+  }
+
+  /**
+   * Updates the incremental contributions with the current members of the archive
+   * @return false if they cannot be used (the number of objectives is not two or three, or the
+   * members are not mutually non-dominated according to their objectives)
+   */
+  private boolean updateContributions() {
+    List<S> solutionList = getSolutionList() ;
+    if (solutionList.isEmpty()) {
+      return false ;
+    }
+
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    if (!IncrementalHypervolumeContribution.isSupported(numberOfObjectives)) {
+      return false ;
+    }
+    if ((contributions == null) || (contributions.getNumberOfObjectives() != numberOfObjectives)) {
+      contributions = new IncrementalHypervolumeContribution<>(numberOfObjectives) ;
+    }
+
+    return contributions.update(solutionList,
+        IncrementalHypervolumeContribution.computeReferencePoint(solutionList, hypervolume.getOffset())) ;
   }
 
   @Override
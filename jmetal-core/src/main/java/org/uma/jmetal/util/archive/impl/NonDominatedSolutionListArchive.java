@@ -9,38 +9,62 @@ import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
- * This class implements an archive containing non-dominated solutions
+ * This class implements an archive containing non-dominated solutions.
+ *
+ * When the archive uses the default dominance comparator and the solutions are feasible and have
+ * two objectives, the archive keeps an index of its members sorted by the first objective (their
+ * second objective is then sorted in reverse order), so that finding whether a new solution is
+ * dominated and which members it dominates requires a logarithmic number of comparisons instead of
+ * a comparison with every member. In any other case, the new solution is compared with all the
+ * members. The order of the solution list is the same in both cases, and the list can be modified
+ * directly (e.g., by the bounded archives when pruning); the index is updated accordingly.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
 @SuppressWarnings("serial")
 public class NonDominatedSolutionListArchive<S extends Solution<?>> implements Archive<S> {
-  private List<S> solutionList;
+  private ArchiveSolutionList solutionList;
   private Comparator<S> dominanceComparator;
   private Comparator<S> equalSolutions = new EqualSolutionsComparator<S>();
 
+  private final boolean indexAllowed ;
+  private transient BiObjectiveIndex index ;
+
   /**
    * Constructor
    */
   public NonDominatedSolutionListArchive() {
-    this(new DominanceComparator<S>());
+    this(new DominanceComparator<S>(), true);
   }
 
   /**
    * Constructor
    */
   public NonDominatedSolutionListArchive(DominanceComparator<S> comparator) {
+    this(comparator, false) ;
+  }
+
+  private NonDominatedSolutionListArchive(DominanceComparator<S> comparator, boolean indexAllowed) {
     dominanceComparator = comparator;
+    this.indexAllowed = indexAllowed ;
 
-    solutionList = new ArrayList<>();
+    solutionList = new ArchiveSolutionList();
   }
 
   /**
@@ -53,38 +77,90 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
    */
   @Override
   public boolean add(S solution) {
-    boolean solutionInserted = false ;
     if (solutionList.size() == 0) {
-      solutionList.add(solution) ;
-      solutionInserted = true ;
-    } else {
-      Iterator<S> iterator = solutionList.iterator();
-      boolean isDominated = false;
-      
-      boolean isContained = false;
-      while (((!isDominated) && (!isContained)) && (iterator.hasNext())) {
-        S listIndividual = iterator.next();
-        int flag = dominanceComparator.compare(solution, listIndividual);
-        if (flag == -1) {
-          iterator.remove();
-        }  else if (flag == 1) {
-          isDominated = true; // dominated by one in the list
-        } else if (flag == 0) {
-          int equalflag = equalSolutions.compare(solution, listIndividual);
-          if (equalflag == 0) // solutions are equals
-            isContained = true;
+      solutionList.addMember(solution) ;
+      return true ;
+    } else if (canUseIndex(solution)) {
+      return addUsingIndex(solution) ;
+    }
+
+    index = null ;
+    List<S> dominatedSolutions = null ;
+    boolean isDominated = false;
+    boolean isContained = false;
+    for (int i = 0; (i < solutionList.size()) && !isDominated && !isContained; i++) {
+      S listIndividual = solutionList.get(i);
+      int flag = dominanceComparator.compare(solution, listIndividual);
+      if (flag == -1) {
+        if (dominatedSolutions == null) {
+          dominatedSolutions = new ArrayList<>() ;
         }
+        dominatedSolutions.add(listIndividual) ;
+      }  else if (flag == 1) {
+        isDominated = true; // dominated by one in the list
+      } else if (flag == 0) {
+        int equalflag = equalSolutions.compare(solution, listIndividual);
+        if (equalflag == 0) // solutions are equals
+          isContained = true;
       }
-      
-      if (!isDominated && !isContained) {
-    	  solutionList.add(solution);
-    	  solutionInserted = true;
-      }
-      
-      return solutionInserted;
     }
 
-    return solutionInserted ;
+    if (dominatedSolutions != null) {
+      solutionList.removeMembers(dominatedSolutions) ;
+    }
+
+    if (!isDominated && !isContained) {
+      solutionList.addMember(solution);
+      return true ;
+    }
+
+    return false ;
+  }
+
+  private boolean canUseIndex(S solution) {
+    if (!indexAllowed || (solution.getNumberOfObjectives() != 2) || !isFeasible(solution)) {
+      return false ;
+    }
+
+    if (index == null) {
+      index = BiObjectiveIndex.create(solutionList) ;
+    }
+
+    return index != null ;
+  }
+
+  private static final int CONSTRAINT_VIOLATION_SLOT =
+      SolutionAttributeRegistry.getSlot(OverallConstraintViolation.class) ;
+
+  private static boolean isFeasible(Solution<?> solution) {
+    return !solution.hasAttribute(CONSTRAINT_VIOLATION_SLOT)
+        || (solution.getDoubleAttribute(CONSTRAINT_VIOLATION_SLOT) == 0.0) ;
+  }
+
+  private boolean addUsingIndex(S solution) {
+    double first = solution.getObjective(0) ;
+    double second = solution.getObjective(1) ;
+    if (Double.isNaN(first) || Double.isNaN(second)) {
+      index = null ;
+      return add(solution) ;
+    }
+
+    int position = index.lowerBound(first) ;
+    if ((position > 0) && (index.second[position - 1] <= second)) {
+      return false ;
+    }
+    if ((position < index.size) && (index.first[position] == first) && (index.second[position] <= second)) {
+      return false ;
+    }
+
+    int end = index.firstWithSecondBelow(position, second) ;
+    if (end > position) {
+      solutionList.removeMembers(index.members(position, end)) ;
+    }
+
+    solutionList.addMember(solution) ;
+
+    return true ;
   }
 
   public Archive<S> join(Archive<S> archive) {
@@ -95,6 +171,10 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
     return this ;
   }
 
+  /**
+   * @return The solution list of the archive. It can be modified directly, but the solutions
+   * added to it are not checked for dominance
+   */
   @Override
   public List<S> getSolutionList() {
     return solutionList;
@@ -110,6 +190,255 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
     return solutionList.get(index);
   }
 
+  /**
+   * Solution list of the archive. It keeps the index up to date when solutions are removed, and
+   * discards it when the list is modified in any other way
+   */
+  private class ArchiveSolutionList extends ArrayList<S> {
+    void addMember(S solution) {
+      super.add(solution) ;
+      if (index != null) {
+        index.add(solution) ;
+      }
+    }
+
+    void removeMembers(List<S> solutions) {
+      Set<S> removedSolutions = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>()) ;
+      removedSolutions.addAll(solutions) ;
+      super.removeIf(removedSolutions::contains) ;
+      if (index != null) {
+        for (S solution : solutions) {
+          if (!index.remove(solution)) {
+            index = null ;
+            break ;
+          }
+        }
+      }
+    }
+
+    private void discardIndex() {
+      index = null ;
+    }
+
+    @Override
+    public S remove(int position) {
+      S solution = super.remove(position) ;
+      if ((index != null) && !index.remove(solution)) {
+        discardIndex();
+      }
+      return solution ;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+      int position = indexOf(object) ;
+      if (position < 0) {
+        return false ;
+      }
+      remove(position) ;
+      return true ;
+    }
+
+    @Override
+    public boolean add(S solution) {
+      discardIndex();
+      return super.add(solution) ;
+    }
+
+    @Override
+    public void add(int position, S solution) {
+      discardIndex();
+      super.add(position, solution) ;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends S> collection) {
+      discardIndex();
+      return super.addAll(collection) ;
+    }
+
+    @Override
+    public boolean addAll(int position, Collection<? extends S> collection) {
+      discardIndex();
+      return super.addAll(position, collection) ;
+    }
+
+    @Override
+    public S set(int position, S solution) {
+      discardIndex();
+      return super.set(position, solution) ;
+    }
+
+    @Override
+    public void clear() {
+      discardIndex();
+      super.clear() ;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+      discardIndex();
+      return super.removeAll(collection) ;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+      discardIndex();
+      return super.retainAll(collection) ;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super S> filter) {
+      discardIndex();
+      return super.removeIf(filter) ;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<S> operator) {
+      discardIndex();
+      super.replaceAll(operator) ;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+      discardIndex();
+      super.removeRange(fromIndex, toIndex) ;
+    }
+
+    @Override
+    public List<S> subList(int fromIndex, int toIndex) {
+      discardIndex();
+      return super.subList(fromIndex, toIndex) ;
+    }
+  }
+
+  /**
+   * Members of a bi-objective archive sorted by their first objective. As they are non-dominated,
+   * the first objective is strictly increasing and the second one is strictly decreasing
+   */
+  private static class BiObjectiveIndex {
+    private double[] first ;
+    private double[] second ;
+    private Object[] members ;
+    private int size ;
+
+    private BiObjectiveIndex(int capacity) {
+      first = new double[capacity] ;
+      second = new double[capacity] ;
+      members = new Object[capacity] ;
+    }
+
+    /**
+     * Creates the index of a solution list
+     * @return The index, or null if the solutions cannot be indexed because they are not feasible
+     * bi-objective non-dominated solutions
+     */
+    static BiObjectiveIndex create(List<? extends Solution<?>> solutionList) {
+      for (Solution<?> solution : solutionList) {
+        if ((solution.getNumberOfObjectives() != 2) || !isFeasible(solution)
+            || Double.isNaN(solution.getObjective(0)) || Double.isNaN(solution.getObjective(1))) {
+          return null ;
+        }
+      }
+
+      List<Solution<?>> sortedSolutions = new ArrayList<>(solutionList) ;
+      sortedSolutions.sort(Comparator.comparingDouble((Solution<?> solution) -> solution.getObjective(0)));
+
+      BiObjectiveIndex index = new BiObjectiveIndex(Math.max(16, sortedSolutions.size() * 2)) ;
+      for (Solution<?> solution : sortedSolutions) {
+        int position = index.size ;
+        if ((position > 0) && ((index.first[position - 1] >= solution.getObjective(0))
+            || (index.second[position - 1] <= solution.getObjective(1)))) {
+          return null ;
+        }
+        index.insert(position, solution);
+      }
+
+      return index ;
+    }
+
+    /** Position of the first member whose first objective is not lower than a value */
+    int lowerBound(double value) {
+      int low = 0 ;
+      int high = size ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (first[middle] < value) {
+          low = middle + 1 ;
+        } else {
+          high = middle ;
+        }
+      }
+      return low ;
+    }
+
+    /** Position of the first member, starting at a given one, whose second objective is lower than a value */
+    int firstWithSecondBelow(int from, double value) {
+      int low = from ;
+      int high = size ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (second[middle] >= value) {
+          low = middle + 1 ;
+        } else {
+          high = middle ;
+        }
+      }
+      return low ;
+    }
+
+    @SuppressWarnings("unchecked")
+    <S> List<S> members(int from, int to) {
+      List<S> result = new ArrayList<>(to - from) ;
+      for (int i = from; i < to; i++) {
+        result.add((S) members[i]) ;
+      }
+      return result ;
+    }
+
+    void add(Solution<?> solution) {
+      insert(lowerBound(solution.getObjective(0)), solution);
+    }
+
+    private void insert(int position, Solution<?> solution) {
+      if (size == members.length) {
+        int capacity = members.length * 2 ;
+        first = Arrays.copyOf(first, capacity) ;
+        second = Arrays.copyOf(second, capacity) ;
+        members = Arrays.copyOf(members, capacity) ;
+      }
+      System.arraycopy(first, position, first, position + 1, size - position);
+      System.arraycopy(second, position, second, position + 1, size - position);
+      System.arraycopy(members, position, members, position + 1, size - position);
+      first[position] = solution.getObjective(0) ;
+      second[position] = solution.getObjective(1) ;
+      members[position] = solution ;
+      size++ ;
+    }
+
+    /**
+     * Removes a member
+     * @return false if the solution has not been found
+     */
+    boolean remove(Object solution) {
+      if (!(solution instanceof Solution)) {
+        return false ;
+      }
+
+      int position = lowerBound(((Solution<?>) solution).getObjective(0)) ;
+      if ((position == size) || (members[position] != solution)) {
+        return false ;
+      }
+
+      System.arraycopy(first, position + 1, first, position, size - position - 1);
+      System.arraycopy(second, position + 1, second, position, size - position - 1);
+      System.arraycopy(members, position + 1, members, position, size - position - 1);
+      members[--size] = null ;
+
+      return true ;
+    }
+  }
+
   public static void main(String args[]) {
     JMetalRandom.getInstance().setSeed(1L);
     Archive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>() ;
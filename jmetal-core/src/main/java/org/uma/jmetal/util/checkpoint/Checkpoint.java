@@ -0,0 +1,213 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saves the state of an algorithm periodically to a file, so that a run can be resumed after the
+ * JVM is stopped. The algorithms supporting checkpoints call {@link #update(Algorithm)} at the end
+ * of each iteration, and a run is continued by restoring the algorithm with
+ * {@link #restore(Path)} and calling its resume() method.
+ *
+ * The snapshot contains the whole algorithm, serialized and compressed, together with the master
+ * generator of {@link JMetalRandom}; so every component of the algorithm (problem, operators,
+ * archives, evaluator) must be serializable, and the resumed run produces the same results as the
+ * original one if the state of the generator is serialized (which is not the case of the
+ * SplittableRandomGenerator) and the algorithm does not use random streams bound to threads
+ * beyond one iteration. The file is written to a temporary file that replaces the previous
+ * snapshot afterwards, so an interrupted write does not destroy the last snapshot.
+ *
+ * Checkpointing requires the generator installed in {@link JMetalRandom} to be serializable; e.g.,
+ * an AuditableRandomGenerator with listeners that are not serializable cannot be saved.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class Checkpoint {
+  private static final int MAGIC_NUMBER = 0x4a4d4350 ;
+  private static final int FORMAT_VERSION = 1 ;
+
+  private final Path file ;
+  private int iterationsBetweenCheckpoints ;
+  private long timeBetweenCheckpoints ;
+
+  private int iterations ;
+  private long lastCheckpointTime ;
+  private int numberOfCheckpoints ;
+
+  /**
+   * Constructor. By default, a snapshot is saved at the end of every iteration
+   * @param file File storing the snapshots
+   */
+  public Checkpoint(Path file) {
+    if (file == null) {
+      throw new JMetalException("The file is null") ;
+    }
+    this.file = file ;
+    iterationsBetweenCheckpoints = 1 ;
+    timeBetweenCheckpoints = 0 ;
+    iterations = 0 ;
+    lastCheckpointTime = System.nanoTime() ;
+    numberOfCheckpoints = 0 ;
+  }
+
+  /**
+   * Sets the minimum number of iterations between two snapshots
+   */
+  public Checkpoint setIterationsBetweenCheckpoints(int iterations) {
+    if (iterations < 1) {
+      throw new JMetalException("The number of iterations is lower than 1: " + iterations) ;
+    }
+    this.iterationsBetweenCheckpoints = iterations ;
+
+    return this ;
+  }
+
+  /**
+   * Sets the minimum time between two snapshots
+   * @param milliseconds Time in milliseconds
+   */
+  public Checkpoint setTimeBetweenCheckpoints(long milliseconds) {
+    if (milliseconds < 0) {
+      throw new JMetalException("The time between checkpoints is negative: " + milliseconds) ;
+    }
+    this.timeBetweenCheckpoints = milliseconds ;
+
+    return this ;
+  }
+
+  public Path getFile() {
+    return file ;
+  }
+
+  /**
+   * @return The number of snapshots saved
+   */
+  public int getNumberOfCheckpoints() {
+    return numberOfCheckpoints ;
+  }
+
+  /**
+   * Notifies the end of an iteration of the algorithm. A snapshot is saved if both the number of
+   * iterations and the time elapsed since the last one have reached their thresholds
+   * @param algorithm Algorithm
+   */
+  public void update(Algorithm<?> algorithm) {
+    iterations++ ;
+    if ((iterations >= iterationsBetweenCheckpoints) &&
+        ((System.nanoTime() - lastCheckpointTime) / 1000000 >= timeBetweenCheckpoints)) {
+      save(algorithm) ;
+    }
+  }
+
+  /**
+   * Saves a snapshot of an algorithm
+   * @param algorithm Algorithm
+   */
+  public void save(Algorithm<?> algorithm) {
+    Path directory = file.toAbsolutePath().getParent() ;
+    Path temporaryFile = null ;
+    try {
+      temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp") ;
+      try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+        DataOutputStream header = new DataOutputStream(output) ;
+        header.writeInt(MAGIC_NUMBER);
+        header.writeInt(FORMAT_VERSION);
+        header.flush();
+
+        ObjectOutputStream stream =
+            new ObjectOutputStream(new BufferedOutputStream(new GZIPOutputStream(output))) ;
+        PseudoRandomGenerator randomGenerator = JMetalRandom.getInstance().getRandomGenerator() ;
+        try {
+          stream.writeObject(randomGenerator);
+        } catch (NotSerializableException e) {
+          throw new JMetalException("The random generator of JMetalRandom ("
+              + randomGenerator.getClass().getName() + ") contains an object that cannot be serialized: "
+              + e.getMessage()) ;
+        }
+        stream.writeObject(algorithm);
+        stream.close();
+      }
+
+      try {
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE) ;
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING) ;
+      }
+    } catch (JMetalException e) {
+      deleteQuietly(temporaryFile);
+      throw e ;
+    } catch (NotSerializableException e) {
+      deleteQuietly(temporaryFile);
+      throw new JMetalException("The algorithm contains an object that cannot be serialized: "
+          + e.getMessage()) ;
+    } catch (IOException e) {
+      deleteQuietly(temporaryFile);
+      throw new JMetalException("Error writing the checkpoint file " + file, e) ;
+    }
+
+    iterations = 0 ;
+    lastCheckpointTime = System.nanoTime() ;
+    numberOfCheckpoints++ ;
+  }
+
+  /**
+   * Restores an algorithm from a snapshot. The master generator of {@link JMetalRandom} is set to
+   * the one saved with the algorithm
+   * @param file File storing the snapshot
+   * @return The algorithm
+   */
+  @SuppressWarnings("unchecked")
+  public static <A extends Algorithm<?>> A restore(Path file) {
+    try (InputStream input = Files.newInputStream(file)) {
+      DataInputStream header = new DataInputStream(input) ;
+      if (header.readInt() != MAGIC_NUMBER) {
+        throw new JMetalException("The file " + file + " is not a checkpoint file") ;
+      }
+      int version = header.readInt() ;
+      if (version != FORMAT_VERSION) {
+        throw new JMetalException("Unsupported checkpoint format version: " + version) ;
+      }
+
+      ObjectInputStream stream =
+          new ObjectInputStream(new BufferedInputStream(new GZIPInputStream(input))) ;
+      PseudoRandomGenerator randomGenerator = (PseudoRandomGenerator) stream.readObject() ;
+      A algorithm = (A) stream.readObject() ;
+
+      JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+
+      return algorithm ;
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      throw new JMetalException("Error reading the checkpoint file " + file, e) ;
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path != null) {
+      try {
+        Files.deleteIfExists(path) ;
+      } catch (IOException e) {
+        // the temporary file is left behind
+      }
+    }
+  }
+}
@@ -39,12 +39,13 @@ public class CrowdingDistanceComparator<S extends Solution<?>> implements Compar
       double distance1 = Double.MIN_VALUE ;
       double distance2 = Double.MIN_VALUE ;
 
-      if (crowdingDistance.getAttribute(solution1) != null) {
-        distance1 = (double) crowdingDistance.getAttribute(solution1);
+      int slot = crowdingDistance.getAttributeSlot() ;
+      if (solution1.hasAttribute(slot)) {
+        distance1 = solution1.getDoubleAttribute(slot);
       }
 
-      if (crowdingDistance.getAttribute(solution2) != null) {
-        distance2 = (double) crowdingDistance.getAttribute(solution2);
+      if (solution2.hasAttribute(slot)) {
+        distance2 = solution2.getDoubleAttribute(slot);
       }
 
       if (distance1 > distance2) {
@@ -39,12 +39,13 @@ public class RankingComparator<S extends Solution<?>> implements Comparator<S>,
       int rank1 = Integer.MAX_VALUE;
       int rank2 = Integer.MAX_VALUE;
 
-      if (ranking.getAttribute(solution1) != null) {
-        rank1 = (int) ranking.getAttribute(solution1);
+      int slot = ranking.getAttributeSlot() ;
+      if (solution1.hasAttribute(slot)) {
+        rank1 = solution1.getIntAttribute(slot);
       }
 
-      if (ranking.getAttribute(solution2) != null) {
-        rank2 = (int) ranking.getAttribute(solution2);
+      if (solution2.hasAttribute(slot)) {
+        rank2 = solution2.getIntAttribute(slot);
       }
 
       if (rank1 < rank2) {
@@ -8,6 +8,11 @@ import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import java.util.List;
 
 /**
+ * Evaluator based on parallel streams, which run in the common fork/join pool. The number of
+ * threads can only be set before the common pool is used for the first time, so
+ * {@link ThreadPoolSolutionListEvaluator} should be used when the evaluations have to run in a
+ * dedicated pool
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
@@ -0,0 +1,197 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Solution list evaluator running the evaluations in its own thread pool instead of in the common
+ * fork/join pool, so that several algorithms running in the same JVM do not compete for the same
+ * threads. The solution list is divided into chunks of consecutive solutions, and each chunk is
+ * evaluated by a single task, which reduces the scheduling overhead when evaluations are cheap.
+ *
+ * The evaluator can also use an executor service provided by the user (e.g., one creating a thread
+ * per task for I/O-bound evaluations). In that case the user is responsible for shutting it down,
+ * while the thread pool created by the evaluator is shut down by {@link #shutdown()}. When the
+ * evaluator is deserialized (e.g., when an algorithm is restored from a checkpoint), its own thread
+ * pool is created again, but the executor provided by the user is not restored.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ThreadPoolSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  private static final AtomicInteger poolCounter = new AtomicInteger() ;
+
+  private transient ExecutorService executor ;
+  private final boolean ownsExecutor ;
+  private final int numberOfThreads ;
+  private final int chunkSize ;
+
+  /**
+   * Constructor. Each thread evaluates a chunk of the solution list
+   * @param numberOfThreads Number of threads; if it is 0, the number of available processors is
+   *                        used
+   */
+  public ThreadPoolSolutionListEvaluator(int numberOfThreads) {
+    this(numberOfThreads, 0) ;
+  }
+
+  /**
+   * Constructor
+   * @param numberOfThreads Number of threads; if it is 0, the number of available processors is
+   *                        used
+   * @param chunkSize Number of solutions evaluated by each task; if it is 0, the solution list is
+   *                  divided evenly among the threads
+   */
+  public ThreadPoolSolutionListEvaluator(int numberOfThreads, int chunkSize) {
+    if (numberOfThreads < 0) {
+      throw new JMetalException("The number of threads is negative: " + numberOfThreads) ;
+    }
+
+    this.numberOfThreads = (numberOfThreads == 0) ?
+        Runtime.getRuntime().availableProcessors() : numberOfThreads ;
+    this.chunkSize = checkChunkSize(chunkSize) ;
+    this.executor = Executors.newFixedThreadPool(this.numberOfThreads,
+        new EvaluatorThreadFactory(poolCounter.incrementAndGet())) ;
+    this.ownsExecutor = true ;
+
+    JMetalLogger.logger.info("Number of threads: " + this.numberOfThreads);
+  }
+
+  /**
+   * Constructor. The executor is not shut down by {@link #shutdown()}
+   * @param executor Executor service running the evaluations
+   * @param parallelism Number of tasks that the executor can run at the same time; it is only used
+   *                    to compute the chunk size when it is 0
+   * @param chunkSize Number of solutions evaluated by each task; if it is 0, the solution list is
+   *                  divided evenly into as many chunks as the parallelism
+   */
+  public ThreadPoolSolutionListEvaluator(ExecutorService executor, int parallelism, int chunkSize) {
+    if (executor == null) {
+      throw new JMetalException("The executor is null") ;
+    } else if (parallelism <= 0) {
+      throw new JMetalException("The parallelism must be positive: " + parallelism) ;
+    }
+
+    this.numberOfThreads = parallelism ;
+    this.chunkSize = checkChunkSize(chunkSize) ;
+    this.executor = executor ;
+    this.ownsExecutor = false ;
+  }
+
+  private static int checkChunkSize(int chunkSize) {
+    if (chunkSize < 0) {
+      throw new JMetalException("The chunk size is negative: " + chunkSize) ;
+    }
+
+    return chunkSize ;
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    if (ownsExecutor) {
+      executor = Executors.newFixedThreadPool(numberOfThreads,
+          new EvaluatorThreadFactory(poolCounter.incrementAndGet())) ;
+    }
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
+    if ((executor == null) || executor.isShutdown()) {
+      throw new JMetalException("The evaluator has been shut down") ;
+    }
+
+    int size = solutionList.size() ;
+    int tasksChunkSize = (chunkSize > 0) ? chunkSize : Math.max(1, (size + numberOfThreads - 1) / numberOfThreads) ;
+
+    List<Future<?>> tasks = new ArrayList<>((size + tasksChunkSize - 1) / tasksChunkSize) ;
+    for (int from = 0; from < size; from += tasksChunkSize) {
+      List<S> chunk = solutionList.subList(from, Math.min(size, from + tasksChunkSize)) ;
+      tasks.add(executor.submit(() -> evaluateChunk(chunk, problem))) ;
+    }
+
+    waitForTasks(tasks) ;
+
+    return solutionList;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void evaluateChunk(List<S> chunk, Problem<S> problem) {
+    for (S solution : chunk) {
+      problem.evaluate(solution);
+      if (problem instanceof ConstrainedProblem) {
+        ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
+      }
+    }
+  }
+
+  private void waitForTasks(List<Future<?>> tasks) {
+    try {
+      for (Future<?> task : tasks) {
+        task.get() ;
+      }
+    } catch (InterruptedException e) {
+      cancel(tasks) ;
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the evaluations", e) ;
+    } catch (ExecutionException e) {
+      cancel(tasks) ;
+      throw new JMetalException("Error evaluating a solution", e) ;
+    }
+  }
+
+  private void cancel(List<Future<?>> tasks) {
+    for (Future<?> task : tasks) {
+      task.cancel(true) ;
+    }
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  public int getChunkSize() {
+    return chunkSize ;
+  }
+
+  @Override public void shutdown() {
+    if (ownsExecutor && (executor != null)) {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Creates named daemon threads, so that a pool which has not been shut down does not prevent
+   * the JVM from exiting
+   */
+  private static class EvaluatorThreadFactory implements ThreadFactory {
+    private final int poolNumber ;
+    private final AtomicInteger threadCounter = new AtomicInteger() ;
+
+    public EvaluatorThreadFactory(int poolNumber) {
+      this.poolNumber = poolNumber ;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable,
+          "jmetal-evaluator-" + poolNumber + "-" + threadCounter.incrementAndGet()) ;
+      thread.setDaemon(true);
+
+      return thread ;
+    }
+  }
+}
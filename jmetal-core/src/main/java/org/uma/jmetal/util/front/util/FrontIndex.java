@@ -0,0 +1,376 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.point.util.distance.DominanceDistance;
+import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
+import org.uma.jmetal.util.point.util.distance.PointDistance;
+
+/**
+ * k-d tree of the points of a front, which answers the queries of
+ * {@link FrontUtils#distanceToClosestPoint(Point, Front, PointDistance)} without scanning the
+ * whole front. The coordinates are copied into a primitive array when the index is built, so
+ * the front must not be modified while the index is in use.
+ *
+ * The tree is stored implicitly in an array of point indices: the point in the middle of a range
+ * splits it in the dimension with the largest spread, and the points of small ranges are scanned
+ * linearly. The searches keep the box of the current node and prune the nodes whose lower bound of
+ * the distance is not lower than the best distance found, which is possible for the
+ * {@link EuclideanDistance} and the {@link DominanceDistance}. Other distances are computed by
+ * scanning all the points. As the pruning does not pay off when the front has few points for its
+ * number of dimensions, the tree is only built for fronts of at least 16 * 2^dimensions points,
+ * and smaller fronts are scanned as in {@link FrontUtils}.
+ *
+ * The final distance is always computed by the given distance object, so the results are the
+ * same as those of {@link FrontUtils}. The queries do not modify the index, so it can be shared by
+ * several threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class FrontIndex {
+  private static final int LEAF_SIZE = 8 ;
+
+  private enum Metric {EUCLIDEAN, DOMINANCE}
+
+  private final Front front ;
+  private final int numberOfPoints ;
+  private final int dimensions ;
+  private final double[] coordinates ;
+  private final int[] indices ;
+  private final int[] splitDimensions ;
+  private final boolean useTree ;
+
+  /**
+   * Constructor
+   *
+   * @param front Front to index
+   */
+  public FrontIndex(Front front) {
+    if (front == null) {
+      throw new JMetalException("The front is null");
+    } else if (front.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty");
+    }
+
+    this.front = front ;
+    this.numberOfPoints = front.getNumberOfPoints() ;
+    this.dimensions = front.getPointDimensions() ;
+    this.coordinates = new double[numberOfPoints * dimensions] ;
+    this.indices = new int[numberOfPoints] ;
+    this.splitDimensions = new int[numberOfPoints] ;
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      Point point = front.getPoint(i) ;
+      if (point.getNumberOfDimensions() != dimensions) {
+        throw new JMetalException("The point " + i + " has " + point.getNumberOfDimensions()
+            + " dimensions instead of " + dimensions) ;
+      }
+      for (int j = 0; j < dimensions; j++) {
+        coordinates[i * dimensions + j] = point.getDimensionValue(j) ;
+      }
+      indices[i] = i ;
+    }
+
+    useTree = (dimensions < 20) && (numberOfPoints >= (2 * LEAF_SIZE) << dimensions) ;
+    if (useTree) {
+      build(0, numberOfPoints);
+    }
+  }
+
+  /**
+   * @return The indexed front
+   */
+  public Front getFront() {
+    return front ;
+  }
+
+  /**
+   * Gets the Euclidean distance between a point and the nearest one in the front
+   *
+   * @param point The point
+   * @return The minimum distance between the point and the front
+   */
+  public double distanceToClosestPoint(Point point) {
+    return distanceToClosestPoint(point, new EuclideanDistance()) ;
+  }
+
+  /**
+   * Gets the distance between a point and the nearest one in the front
+   *
+   * @param point The point
+   * @param distance The distance
+   * @return The minimum distance between the point and the front
+   */
+  public double distanceToClosestPoint(Point point, PointDistance distance) {
+    return distance.compute(point, front.getPoint(closestPoint(point, distance))) ;
+  }
+
+  /**
+   * Gets the position in the front of the point nearest to a given one
+   *
+   * @param point The point
+   * @param distance The distance
+   * @return The position of the nearest point
+   */
+  public int closestPoint(Point point, PointDistance distance) {
+    checkPoint(point) ;
+
+    Metric metric ;
+    if (!useTree) {
+      return scan(point, distance) ;
+    } else if (distance.getClass() == EuclideanDistance.class) {
+      metric = Metric.EUCLIDEAN ;
+    } else if (distance.getClass() == DominanceDistance.class) {
+      metric = Metric.DOMINANCE ;
+    } else {
+      return scan(point, distance) ;
+    }
+
+    Search search = new Search(point, metric) ;
+    search.visit(0, numberOfPoints);
+
+    return search.bestPoint ;
+  }
+
+  /**
+   * Returns true if the front contains a point equal to a given one
+   *
+   * @param point The point
+   */
+  public boolean contains(Point point) {
+    checkPoint(point) ;
+
+    double[] query = new double[dimensions] ;
+    for (int i = 0; i < dimensions; i++) {
+      query[i] = point.getDimensionValue(i) ;
+    }
+
+    return contains(query, 0, numberOfPoints) ;
+  }
+
+  private boolean contains(double[] query, int from, int to) {
+    if ((to - from <= LEAF_SIZE) || !useTree) {
+      for (int i = from; i < to; i++) {
+        if (isEqual(query, indices[i])) {
+          return true ;
+        }
+      }
+      return false ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    if (isEqual(query, indices[middle])) {
+      return true ;
+    }
+
+    int dimension = splitDimensions[middle] ;
+    double split = coordinates[indices[middle] * dimensions + dimension] ;
+
+    return ((query[dimension] <= split) && contains(query, from, middle)) ||
+        ((query[dimension] >= split) && contains(query, middle + 1, to)) ;
+  }
+
+  private boolean isEqual(double[] query, int index) {
+    for (int i = 0; i < dimensions; i++) {
+      if (query[i] != coordinates[index * dimensions + i]) {
+        return false ;
+      }
+    }
+
+    return true ;
+  }
+
+  private int scan(Point point, PointDistance distance) {
+    int bestPoint = 0 ;
+    double minDistance = distance.compute(point, front.getPoint(0)) ;
+    for (int i = 1; i < numberOfPoints; i++) {
+      double aux = distance.compute(point, front.getPoint(i)) ;
+      if (aux < minDistance) {
+        minDistance = aux ;
+        bestPoint = i ;
+      }
+    }
+
+    return bestPoint ;
+  }
+
+  private void checkPoint(Point point) {
+    if (point == null) {
+      throw new JMetalException("The point is null");
+    } else if (point.getNumberOfDimensions() != dimensions) {
+      throw new JMetalException("The dimensions of the points are different: "
+          + point.getNumberOfDimensions() + ", " + dimensions) ;
+    }
+  }
+
+  /**
+   * Builds the subtree of the points in the positions [from, to) of the array of indices
+   */
+  private void build(int from, int to) {
+    if (to - from <= LEAF_SIZE) {
+      return ;
+    }
+
+    int splitDimension = 0 ;
+    double largestSpread = -1.0 ;
+    for (int j = 0; j < dimensions; j++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (int i = from; i < to; i++) {
+        double value = coordinates[indices[i] * dimensions + j] ;
+        min = Math.min(min, value) ;
+        max = Math.max(max, value) ;
+      }
+      if (max - min > largestSpread) {
+        largestSpread = max - min ;
+        splitDimension = j ;
+      }
+    }
+
+    int middle = (from + to) >>> 1 ;
+    select(from, to - 1, middle, splitDimension);
+    splitDimensions[middle] = splitDimension ;
+
+    build(from, middle);
+    build(middle + 1, to);
+  }
+
+  /**
+   * Moves to a position of the array of indices the point that would be there if the positions
+   * [left, right] were sorted by a dimension, with lower or equal values before and higher or equal
+   * values after it
+   */
+  private void select(int left, int right, int position, int dimension) {
+    while (left < right) {
+      double pivot = coordinates[indices[(left + right) >>> 1] * dimensions + dimension] ;
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (coordinates[indices[i] * dimensions + dimension] < pivot) {
+          i++ ;
+        }
+        while (coordinates[indices[j] * dimensions + dimension] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          int aux = indices[i] ;
+          indices[i] = indices[j] ;
+          indices[j] = aux ;
+          i++ ;
+          j-- ;
+        }
+      }
+
+      if (position <= j) {
+        right = j ;
+      } else if (position >= i) {
+        left = i ;
+      } else {
+        return ;
+      }
+    }
+  }
+
+  /**
+   * State of a nearest point search. The box of the current node is kept in the lower and upper
+   * arrays
+   */
+  private class Search {
+    private final double[] query ;
+    private final Metric metric ;
+    private final double[] lower ;
+    private final double[] upper ;
+    private double bestDistance = Double.POSITIVE_INFINITY ;
+    private int bestPoint = 0 ;
+
+    Search(Point point, Metric metric) {
+      this.metric = metric ;
+      this.query = new double[dimensions] ;
+      this.lower = new double[dimensions] ;
+      this.upper = new double[dimensions] ;
+      for (int i = 0; i < dimensions; i++) {
+        query[i] = point.getDimensionValue(i) ;
+        lower[i] = Double.NEGATIVE_INFINITY ;
+        upper[i] = Double.POSITIVE_INFINITY ;
+      }
+    }
+
+    void visit(int from, int to) {
+      if (to - from <= LEAF_SIZE) {
+        for (int i = from; i < to; i++) {
+          check(indices[i]) ;
+        }
+        return ;
+      }
+
+      int middle = (from + to) >>> 1 ;
+      check(indices[middle]) ;
+
+      int dimension = splitDimensions[middle] ;
+      double split = coordinates[indices[middle] * dimensions + dimension] ;
+      double previousLower = lower[dimension] ;
+      double previousUpper = upper[dimension] ;
+
+      boolean leftFirst = query[dimension] < split ;
+      for (int side = 0; side < 2; side++) {
+        boolean left = (side == 0) == leftFirst ;
+        if (left) {
+          upper[dimension] = split ;
+        } else {
+          lower[dimension] = split ;
+        }
+
+        if (lowerBound() < bestDistance) {
+          if (left) {
+            visit(from, middle) ;
+          } else {
+            visit(middle + 1, to) ;
+          }
+        }
+
+        lower[dimension] = previousLower ;
+        upper[dimension] = previousUpper ;
+      }
+    }
+
+    /**
+     * Lower bound of the squared distance between the query and the points of the current box
+     */
+    private double lowerBound() {
+      double bound = 0.0 ;
+      for (int i = 0; (i < dimensions) && (bound < bestDistance); i++) {
+        double difference = lower[i] - query[i] ;
+        if ((metric == Metric.EUCLIDEAN) && (query[i] - upper[i] > difference)) {
+          difference = query[i] - upper[i] ;
+        }
+        if (difference > 0.0) {
+          bound += difference * difference ;
+        }
+      }
+
+      return bound ;
+    }
+
+    private void check(int index) {
+      int offset = index * dimensions ;
+      double distance = 0.0 ;
+      if (metric == Metric.EUCLIDEAN) {
+        for (int i = 0; i < dimensions; i++) {
+          double difference = coordinates[offset + i] - query[i] ;
+          distance += difference * difference ;
+        }
+      } else {
+        for (int i = 0; i < dimensions; i++) {
+          double difference = Math.max(0.0, coordinates[offset + i] - query[i]) ;
+          distance += difference * difference ;
+        }
+      }
+
+      if ((distance < bestDistance) || ((distance == bestDistance) && (index < bestPoint))) {
+        bestDistance = distance ;
+        bestPoint = index ;
+      }
+    }
+  }
+}
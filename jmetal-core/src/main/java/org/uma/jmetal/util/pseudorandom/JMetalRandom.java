@@ -1,15 +1,32 @@
 package org.uma.jmetal.util.pseudorandom;
 
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
 
 import java.io.Serializable;
 
 /**
+ * Random number service shared by operators, solutions and algorithms.
+ *
+ * By default, all the values are taken from a single generator (the master generator), which is
+ * not intended to be used by several threads at the same time. Code running in parallel binds a
+ * random stream to each thread with {@link #setThreadRandomGenerator(PseudoRandomGenerator)} (or
+ * {@link #runWith(PseudoRandomGenerator, Runnable)}); while a stream is bound, every value
+ * requested from that thread is taken from the stream. Streams are created with
+ * {@link #createStreams(int)}, which derives them deterministically from the master generator, so
+ * parallel runs using a fixed seed are reproducible whatever the thread scheduling is, provided that
+ * each task always uses the same stream.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
+  private static final JMetalRandom instance = new JMetalRandom() ;
+  private static final ThreadLocal<PseudoRandomGenerator> threadRandomGenerator = new ThreadLocal<>() ;
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L ;
+
   private PseudoRandomGenerator randomGenerator ;
 
   private JMetalRandom() {
@@ -17,9 +34,13 @@ public class JMetalRandom implements Serializable {
   }
 
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
+    return instance ;
+  }
+
+  /**
+   * The references to the singleton in the deserialized objects point to the existing instance
+   */
+  private Object readResolve() {
     return instance ;
   }
 
@@ -27,26 +48,40 @@ public class JMetalRandom implements Serializable {
     this.randomGenerator = randomGenerator;
   }
 
+  /**
+   * @return The master generator
+   */
   public PseudoRandomGenerator getRandomGenerator() {
     return randomGenerator ;
   }
 
+  private PseudoRandomGenerator generator() {
+    PseudoRandomGenerator generator = threadRandomGenerator.get() ;
+    return (generator == null) ? randomGenerator : generator ;
+  }
+
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return generator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return generator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return generator().nextDouble(lowerBound, upperBound) ;
   }
 
+  /**
+   * Sets the seed of the master generator
+   */
   public void setSeed(long seed) {
     randomGenerator.setSeed(seed);
   }
 
+  /**
+   * @return The seed of the master generator
+   */
   public long getSeed() {
     return randomGenerator.getSeed() ;
   }
@@ -54,4 +89,83 @@ public class JMetalRandom implements Serializable {
   public String getGeneratorName() {
     return randomGenerator.getName() ;
   }
+
+  /**
+   * Binds a random stream to the current thread, so that the values requested from this thread
+   * are taken from it instead of from the master generator
+   * @param generator Random stream; if it is null, the thread uses the master generator again
+   */
+  public void setThreadRandomGenerator(PseudoRandomGenerator generator) {
+    if (generator == null) {
+      threadRandomGenerator.remove();
+    } else {
+      threadRandomGenerator.set(generator);
+    }
+  }
+
+  /**
+   * @return The random stream bound to the current thread, or null if it uses the master generator
+   */
+  public PseudoRandomGenerator getThreadRandomGenerator() {
+    return threadRandomGenerator.get() ;
+  }
+
+  /**
+   * Runs a task in the current thread taking its random values from a given stream. The stream
+   * previously bound to the thread, if any, is restored afterwards
+   * @param generator Random stream
+   * @param task Task to run
+   */
+  public void runWith(PseudoRandomGenerator generator, Runnable task) {
+    PseudoRandomGenerator previousGenerator = threadRandomGenerator.get() ;
+    setThreadRandomGenerator(generator);
+    try {
+      task.run();
+    } finally {
+      setThreadRandomGenerator(previousGenerator);
+    }
+  }
+
+  /**
+   * Creates independent random streams. A base seed is drawn from the generator of the current
+   * thread (usually the master generator), and the seed of each stream is derived from the base
+   * seed and the index of the stream, so a given seed of the master generator and a given
+   * sequence of calls always produce the same streams
+   * @param numberOfStreams Number of streams
+   * @return The random streams
+   */
+  public PseudoRandomGenerator[] createStreams(int numberOfStreams) {
+    if (numberOfStreams < 0) {
+      throw new JMetalException("The number of streams is negative: " + numberOfStreams) ;
+    }
+
+    PseudoRandomGenerator generator = generator() ;
+    long baseSeed = ((long) generator.nextInt(0, 0xFFFF) << 48)
+        ^ ((long) generator.nextInt(0, 0xFFFFFF) << 24)
+        ^ (long) generator.nextInt(0, 0xFFFFFF) ;
+
+    PseudoRandomGenerator[] streams = new PseudoRandomGenerator[numberOfStreams] ;
+    for (int i = 0; i < numberOfStreams; i++) {
+      streams[i] = createStream(baseSeed, i) ;
+    }
+
+    return streams ;
+  }
+
+  /**
+   * Creates the random stream with a given index derived from a seed
+   * @param seed Base seed
+   * @param streamIndex Index of the stream
+   * @return The random stream
+   */
+  public static PseudoRandomGenerator createStream(long seed, long streamIndex) {
+    return new SplittableRandomGenerator(mix64(seed + GOLDEN_GAMMA * (streamIndex + 1))) ;
+  }
+
+  /** SplitMix64 finalizer, which spreads consecutive seeds over the whole range of values */
+  private static long mix64(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L ;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL ;
+    return value ^ (value >>> 31) ;
+  }
 }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.util.pseudorandom;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -12,6 +13,8 @@ import java.util.function.Predicate;
  * A {@link RandomGenerator} is a {@link FunctionalInterface}. It is not
  * intended to be directly implemented by a class, but instead to request a
  * method for generating random values, usually by using lambda expressions.
+ * It is {@link Serializable}, so that the operators storing these lambda
+ * expressions can be saved in checkpoints.
  * 
  * @author Matthieu Vergne <matthieu.vergne@gmail.com>
  *
@@ -19,7 +22,7 @@ import java.util.function.Predicate;
  *            The type of value to generate
  */
 @FunctionalInterface
-public interface RandomGenerator<Value> {
+public interface RandomGenerator<Value> extends Serializable {
 	/**
 	 * Generate a random value.
 	 * 
@@ -0,0 +1,79 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.SplittableRandom;
+
+/**
+ * Pseudo random number generator based on {@link SplittableRandom}. It is not thread-safe, but
+ * it is cheap to create and can be split into independent generators, so it is intended to be used
+ * as a per-thread or per-task random stream (see
+ * {@link org.uma.jmetal.util.pseudorandom.JMetalRandom#createStreams(int)}).
+ *
+ * The state of the generator is not serialized: a deserialized generator restarts the sequence
+ * of its seed.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+  private transient SplittableRandom rnd ;
+  private long seed ;
+  private static final String name = "SplittableRandom" ;
+
+  /** Constructor */
+  public SplittableRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public SplittableRandomGenerator(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  /**
+   * Creates a new generator whose seed is taken from this one, so that the same sequence of calls
+   * always produces the same generators
+   */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(rnd.nextLong()) ;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return lowerBound + rnd.nextInt((upperBound - lowerBound) + 1) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + rnd.nextDouble()*(upperBound - lowerBound) ;
+  }
+
+  @Override public double nextDouble() {
+    return nextDouble(0.0, 1.0);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  @Override
+  public String getName() {
+    return name ;
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    rnd = new SplittableRandom(seed) ;
+  }
+}
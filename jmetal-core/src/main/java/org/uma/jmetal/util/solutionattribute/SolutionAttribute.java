@@ -12,4 +12,11 @@ public interface SolutionAttribute <S, V> extends Serializable {
   public void setAttribute(S solution, V value) ;
   public V getAttribute(S solution) ;
   public Object getAttributeIdentifier() ;
+
+  /**
+   * @return The slot assigned to the attribute identifier by the {@link SolutionAttributeRegistry}
+   */
+  public default int getAttributeSlot() {
+    return SolutionAttributeRegistry.getSlot(getAttributeIdentifier()) ;
+  }
 }
@@ -0,0 +1,79 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry assigning a fixed slot index to each attribute identifier (see
+ * {@link SolutionAttribute#getAttributeIdentifier()}). Solutions use the slots to store their
+ * attributes in arrays instead of hash maps, and attributes holding numeric values can be read
+ * and written without boxing through the slot-based methods of
+ * {@link org.uma.jmetal.solution.Solution}.
+ *
+ * Slots are assigned the first time an identifier is used and are never released, so identifiers
+ * are expected to be long-lived objects such as classes or string constants.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public final class SolutionAttributeRegistry {
+  private static final ConcurrentMap<Object, Integer> slots = new ConcurrentHashMap<>() ;
+  private static volatile Object[] identifiers = new Object[0] ;
+
+  private SolutionAttributeRegistry() {
+  }
+
+  /**
+   * Returns the slot assigned to an attribute identifier, registering it if it is new
+   * @param identifier Attribute identifier
+   * @return The slot index
+   */
+  public static int getSlot(Object identifier) {
+    if (identifier == null) {
+      throw new JMetalException("The attribute identifier is null") ;
+    }
+
+    Integer slot = slots.get(identifier) ;
+    if (slot == null) {
+      slot = register(identifier) ;
+    }
+
+    return slot ;
+  }
+
+  /**
+   * Returns the attribute identifier associated to a slot
+   * @param slot Slot index
+   * @return The attribute identifier
+   */
+  public static Object getIdentifier(int slot) {
+    Object[] currentIdentifiers = identifiers ;
+    if ((slot < 0) || (slot >= currentIdentifiers.length)) {
+      throw new JMetalException("Invalid attribute slot: " + slot) ;
+    }
+
+    return currentIdentifiers[slot] ;
+  }
+
+  /**
+   * @return The number of slots assigned so far
+   */
+  public static int getNumberOfSlots() {
+    return identifiers.length ;
+  }
+
+  private static synchronized int register(Object identifier) {
+    Integer slot = slots.get(identifier) ;
+    if (slot == null) {
+      Object[] newIdentifiers = Arrays.copyOf(identifiers, identifiers.length + 1) ;
+      slot = identifiers.length ;
+      newIdentifiers[slot] = identifier ;
+      identifiers = newIdentifiers ;
+      slots.put(identifier, slot) ;
+    }
+
+    return slot ;
+  }
+}
@@ -1,15 +1,16 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * This class implements the crowding distance
+ * This class implements the crowding distance. The objective values of the solutions are copied
+ * once into a primitive matrix, the objectives are sorted through arrays of indices and the
+ * distances are accumulated into a primitive array, so the solution attributes are only written
+ * when the computation has finished.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -32,49 +33,116 @@ public class CrowdingDistance<S extends Solution<?>>
       return;
     }
 
-    if (size == 1) {
-      solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      return;
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[] objectives = new double[size * numberOfObjectives] ;
+    for (int i = 0; i < size; i++) {
+      S solution = solutionList.get(i) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[i * numberOfObjectives + j] = solution.getObjective(j) ;
+      }
     }
 
-    if (size == 2) {
-      solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      solutionList.get(1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+    double[] distance = computeCrowdingDistances(objectives, numberOfObjectives) ;
 
-      return;
+    for (int i = 0; i < size; i++) {
+      solutionList.get(i).setDoubleAttribute(getAttributeSlot(), distance[i]);
     }
+  }
 
-    // Use a new SolutionSet to avoid altering the original solutionSet
-    List<S> front = new ArrayList<>(size);
-    for (S solution : solutionList) {
-      front.add(solution);
+  /**
+   * Computes the crowding distance of a set of points
+   *
+   * @param objectives Matrix of objective values, one row per point
+   * @return The crowding distance of each point
+   */
+  public static double[] computeCrowdingDistances(double[][] objectives) {
+    int numberOfObjectives = (objectives.length == 0) ? 0 : objectives[0].length ;
+    double[] flatObjectives = new double[objectives.length * numberOfObjectives] ;
+    for (int i = 0; i < objectives.length; i++) {
+      System.arraycopy(objectives[i], 0, flatObjectives, i * numberOfObjectives, numberOfObjectives);
     }
 
+    return computeCrowdingDistances(flatObjectives, numberOfObjectives) ;
+  }
+
+  /**
+   * Computes the crowding distance of a set of points stored in row-major order in a single array
+   *
+   * @param objectives Objective values; the values of point i start at position
+   *                   i * numberOfObjectives
+   * @param numberOfObjectives Number of objectives
+   * @return The crowding distance of each point
+   */
+  public static double[] computeCrowdingDistances(double[] objectives, int numberOfObjectives) {
+    int size = (numberOfObjectives == 0) ? 0 : objectives.length / numberOfObjectives ;
+    double[] distance = new double[size] ;
+
+    if (size <= 2) {
+      Arrays.fill(distance, Double.POSITIVE_INFINITY);
+      return distance ;
+    }
+
+    // The indices are sorted in place objective after objective with a stable sort, so that
+    // ties are broken in the same way as when sorting the solution list itself
+    int[] front = new int[size] ;
+    int[] buffer = new int[size] ;
     for (int i = 0; i < size; i++) {
-      front.get(i).setAttribute(getAttributeIdentifier(), 0.0);
+      front[i] = i ;
     }
 
     double objetiveMaxn;
     double objetiveMinn;
-    double distance;
-
-    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double value;
 
     for (int i = 0; i < numberOfObjectives; i++) {
       // Sort the population by Obj n
-      Collections.sort(front, new ObjectiveComparator<S>(i)) ;
-      objetiveMinn = front.get(0).getObjective(i);
-      objetiveMaxn = front.get(front.size() - 1).getObjective(i);
+      sort(front, buffer, 0, size, objectives, numberOfObjectives, i) ;
+      objetiveMinn = objectives[front[0] * numberOfObjectives + i];
+      objetiveMaxn = objectives[front[size - 1] * numberOfObjectives + i];
 
       // Set de crowding distance
-      front.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      front.get(size - 1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+      distance[front[0]] = Double.POSITIVE_INFINITY ;
+      distance[front[size - 1]] = Double.POSITIVE_INFINITY ;
 
       for (int j = 1; j < size - 1; j++) {
-        distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i);
-        distance = distance / (objetiveMaxn - objetiveMinn);
-        distance += (double)front.get(j).getAttribute(getAttributeIdentifier());
-        front.get(j).setAttribute(getAttributeIdentifier(), distance);
+        value = objectives[front[j + 1] * numberOfObjectives + i] -
+            objectives[front[j - 1] * numberOfObjectives + i];
+        value = value / (objetiveMaxn - objetiveMinn);
+        distance[front[j]] += value ;
+      }
+    }
+
+    return distance ;
+  }
+
+  /**
+   * Stable merge sort of an array of point indices according to one objective
+   */
+  private static void sort(int[] indices, int[] buffer, int from, int to, double[] objectives,
+      int numberOfObjectives, int objective) {
+    if (to - from < 2) {
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    sort(indices, buffer, from, middle, objectives, numberOfObjectives, objective);
+    sort(indices, buffer, middle, to, objectives, numberOfObjectives, objective);
+
+    if (Double.compare(objectives[indices[middle - 1] * numberOfObjectives + objective],
+        objectives[indices[middle] * numberOfObjectives + objective]) <= 0) {
+      return ;
+    }
+
+    System.arraycopy(indices, from, buffer, from, to - from);
+    int left = from ;
+    int right = middle ;
+    for (int i = from; i < to; i++) {
+      if ((right >= to) || ((left < middle) &&
+          (Double.compare(objectives[buffer[left] * numberOfObjectives + objective],
+              objectives[buffer[right] * numberOfObjectives + objective]) <= 0))) {
+        indices[i] = buffer[left++] ;
+      } else {
+        indices[i] = buffer[right++] ;
       }
     }
   }
@@ -84,4 +152,3 @@ public class CrowdingDistance<S extends Solution<?>>
     return this.getClass() ;
   }
 }
-
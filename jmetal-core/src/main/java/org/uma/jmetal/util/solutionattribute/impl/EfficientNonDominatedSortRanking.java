@@ -0,0 +1,360 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the Efficient Non-dominated Sort with binary search strategy (ENS-BS),
+ * which produces the same ranking as {@link DominanceRanking} when the default
+ * {@link org.uma.jmetal.util.comparator.DominanceComparator} is used, but works on primitive
+ * objective arrays and avoids the all-pairs comparison of the fast non-dominated sort. When the
+ * problem has two objectives a dedicated O(N log N) sweep is applied.
+ *
+ * Solutions are first sorted lexicographically by their objective values, so that a solution can
+ * only be dominated by solutions preceding it; each one is then assigned, by means of a binary
+ * search, to the first front containing no solution dominating it. Infeasible solutions are
+ * ranked as in NSGA-II: solutions with a lower overall constraint violation degree dominate those
+ * with a higher one, and solutions having the same degree are compared using Pareto dominance.
+ *
+ * The rank is stored using the same attribute identifier as {@link DominanceRanking}, so
+ * components reading the rank (e.g. {@link org.uma.jmetal.util.comparator.RankingComparator})
+ * can be used without changes.
+ *
+ * Reference: X. Zhang, Y. Tian, R. Cheng and Y. Jin. An Efficient Approach to Nondominated Sorting
+ * for Evolutionary Multiobjective Optimization. IEEE Transactions on Evolutionary Computation,
+ * 19(2):201-213, 2015.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class EfficientNonDominatedSortRanking<S extends Solution<?>>
+    extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
+
+  private OverallConstraintViolation<S> overallConstraintViolation ;
+  private List<ArrayList<S>> rankedSubPopulations;
+
+  /**
+   * Constructor
+   */
+  public EfficientNonDominatedSortRanking() {
+    this(DominanceRanking.class) ;
+  }
+
+  /**
+   * Constructor
+   * @param id Attribute identifier
+   */
+  public EfficientNonDominatedSortRanking(Object id) {
+    super(id) ;
+    overallConstraintViolation = new OverallConstraintViolation<S>() ;
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    int numberOfSolutions = solutionList.size() ;
+    int numberOfObjectives = (numberOfSolutions == 0) ? 0 : solutionList.get(0).getNumberOfObjectives() ;
+    double[] objectives = new double[numberOfSolutions * numberOfObjectives] ;
+    double[] constraintViolation = new double[numberOfSolutions] ;
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = solutionList.get(i) ;
+      if (solution.getNumberOfObjectives() != numberOfObjectives) {
+        throw new JMetalException("All the solutions must have " + numberOfObjectives + " objectives") ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[i * numberOfObjectives + j] = solution.getObjective(j) ;
+      }
+
+      Double violation = overallConstraintViolation.getAttribute(solution) ;
+      constraintViolation[i] = (violation == null) ? 0.0 : violation ;
+    }
+
+    int[] rank = computeRanks(objectives, numberOfObjectives, constraintViolation) ;
+
+    int numberOfSubfronts = 0 ;
+    int[] subfrontSize = new int[numberOfSolutions + 1] ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      subfrontSize[rank[i]]++ ;
+      numberOfSubfronts = Math.max(numberOfSubfronts, rank[i] + 1) ;
+    }
+
+    rankedSubPopulations = new ArrayList<>(numberOfSubfronts);
+    for (int i = 0; i < numberOfSubfronts; i++) {
+      rankedSubPopulations.add(new ArrayList<S>(subfrontSize[i])) ;
+    }
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      S solution = solutionList.get(i) ;
+      solution.setIntAttribute(getAttributeSlot(), rank[i]);
+      rankedSubPopulations.get(rank[i]).add(solution) ;
+    }
+
+    return this;
+  }
+
+  @Override
+  public List<S> getSubfront(int rank) {
+    if (rank >= rankedSubPopulations.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (rankedSubPopulations.size() -1)) ;
+    }
+    return rankedSubPopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubfronts() {
+    return rankedSubPopulations.size();
+  }
+
+  /**
+   * Computes the non-dominated rank of a set of points, assuming minimization
+   * @param objectives Matrix of objective values, one row per point
+   * @return The rank of each point (0 is the first front)
+   */
+  public static int[] computeRanks(double[][] objectives) {
+    return computeRanks(objectives, new double[objectives.length]) ;
+  }
+
+  /**
+   * Computes the non-dominated rank of a set of points, assuming minimization and taking into
+   * account their overall constraint violation degree (0 for feasible points, negative otherwise)
+   * @param objectives Matrix of objective values, one row per point
+   * @param constraintViolation Overall constraint violation degree of each point
+   * @return The rank of each point (0 is the first front)
+   */
+  public static int[] computeRanks(double[][] objectives, double[] constraintViolation) {
+    if (constraintViolation.length != objectives.length) {
+      throw new JMetalException("The number of points (" + objectives.length + ") is not equal to " +
+          "the number of constraint violation values (" + constraintViolation.length + ")") ;
+    }
+
+    int numberOfObjectives = (objectives.length == 0) ? 0 : objectives[0].length ;
+    double[] flatObjectives = new double[objectives.length * numberOfObjectives] ;
+    for (int i = 0; i < objectives.length; i++) {
+      if (objectives[i].length != numberOfObjectives) {
+        throw new JMetalException("All the points must have " + numberOfObjectives + " objectives") ;
+      }
+      System.arraycopy(objectives[i], 0, flatObjectives, i * numberOfObjectives, numberOfObjectives);
+    }
+
+    return computeRanks(flatObjectives, numberOfObjectives, constraintViolation) ;
+  }
+
+  /**
+   * Computes the non-dominated rank of a set of points stored in row-major order in a single array,
+   * assuming minimization and taking into account their overall constraint violation degree
+   * @param objectives Objective values; the values of point i start at position
+   *                   i * numberOfObjectives
+   * @param numberOfObjectives Number of objectives
+   * @param constraintViolation Overall constraint violation degree of each point; NaN values
+   *                            are considered as feasible
+   * @return The rank of each point (0 is the first front)
+   */
+  public static int[] computeRanks(double[] objectives, int numberOfObjectives, double[] constraintViolation) {
+    int numberOfPoints = constraintViolation.length ;
+    if (objectives.length != numberOfPoints * numberOfObjectives) {
+      throw new JMetalException("The number of objective values (" + objectives.length + ") does not " +
+          "correspond to " + numberOfPoints + " points with " + numberOfObjectives + " objectives") ;
+    }
+
+    int[] rank = new int[numberOfPoints] ;
+    if ((numberOfPoints == 0) || (numberOfObjectives == 0)) {
+      return rank ;
+    }
+
+    double[] violation = new double[numberOfPoints] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      violation[i] = (constraintViolation[i] < 0.0) ? constraintViolation[i] : 0.0 ;
+    }
+
+    int[] order = new int[numberOfPoints] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      order[i] = i ;
+    }
+    sort(order, objectives, numberOfObjectives, violation) ;
+
+    Fronts fronts = new Fronts(numberOfPoints, numberOfObjectives) ;
+
+    // Points sharing the same constraint violation degree are ranked together; all of them are
+    // dominated by the points of the previous groups, so their ranks start after those fronts
+    int rankOffset = 0 ;
+    int groupStart = 0 ;
+    while (groupStart < numberOfPoints) {
+      int groupEnd = groupStart + 1 ;
+      while ((groupEnd < numberOfPoints) && (violation[order[groupEnd]] == violation[order[groupStart]])) {
+        groupEnd++ ;
+      }
+
+      fronts.clear() ;
+      for (int i = groupStart; i < groupEnd; i++) {
+        int point = order[i] ;
+        rank[point] = rankOffset + fronts.add(point, objectives) ;
+      }
+
+      rankOffset += fronts.numberOfFronts ;
+      groupStart = groupEnd ;
+    }
+
+    return rank ;
+  }
+
+  /**
+   * Sorts the point indices by decreasing constraint violation degree (i.e., feasible points
+   * first) and then lexicographically by their objective values
+   */
+  private static void sort(int[] order, double[] objectives, int numberOfObjectives, double[] violation) {
+    int[] buffer = new int[order.length] ;
+    mergeSort(order, buffer, 0, order.length, objectives, numberOfObjectives, violation);
+  }
+
+  private static void mergeSort(int[] order, int[] buffer, int from, int to,
+      double[] objectives, int numberOfObjectives, double[] violation) {
+    if (to - from < 2) {
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    mergeSort(order, buffer, from, middle, objectives, numberOfObjectives, violation);
+    mergeSort(order, buffer, middle, to, objectives, numberOfObjectives, violation);
+
+    if (compare(order[middle - 1], order[middle], objectives, numberOfObjectives, violation) <= 0) {
+      return ;
+    }
+
+    System.arraycopy(order, from, buffer, from, to - from);
+    int left = from ;
+    int right = middle ;
+    for (int i = from; i < to; i++) {
+      if ((right >= to) ||
+          ((left < middle) && (compare(buffer[left], buffer[right], objectives, numberOfObjectives, violation) <= 0))) {
+        order[i] = buffer[left++] ;
+      } else {
+        order[i] = buffer[right++] ;
+      }
+    }
+  }
+
+  private static int compare(int point1, int point2, double[] objectives, int numberOfObjectives,
+      double[] violation) {
+    int result = Double.compare(violation[point2], violation[point1]) ;
+    if (result == 0) {
+      int offset1 = point1 * numberOfObjectives ;
+      int offset2 = point2 * numberOfObjectives ;
+      for (int i = 0; (i < numberOfObjectives) && (result == 0); i++) {
+        if (objectives[offset1 + i] < objectives[offset2 + i]) {
+          result = -1 ;
+        } else if (objectives[offset1 + i] > objectives[offset2 + i]) {
+          result = 1 ;
+        }
+      }
+    }
+
+    return result ;
+  }
+
+  /**
+   * Fronts built incrementally by ENS-BS. Points must be added in lexicographic order
+   */
+  private static class Fronts {
+    private final int numberOfObjectives ;
+    private int[][] members ;
+    private int[] size ;
+    private int numberOfFronts ;
+
+    Fronts(int numberOfPoints, int numberOfObjectives) {
+      this.numberOfObjectives = numberOfObjectives ;
+      members = new int[Math.min(numberOfPoints, 16)][] ;
+      size = new int[members.length] ;
+      numberOfFronts = 0 ;
+    }
+
+    void clear() {
+      for (int i = 0; i < numberOfFronts; i++) {
+        size[i] = 0 ;
+      }
+      numberOfFronts = 0 ;
+    }
+
+    /**
+     * Adds a point to the first front not containing a point dominating it
+     * @return The index of the front
+     */
+    int add(int point, double[] objectives) {
+      int low = 0 ;
+      int high = numberOfFronts ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (isDominatedByFront(middle, point, objectives)) {
+          low = middle + 1 ;
+        } else {
+          high = middle ;
+        }
+      }
+
+      if (low == numberOfFronts) {
+        if (numberOfFronts == members.length) {
+          members = Arrays.copyOf(members, numberOfFronts * 2) ;
+          size = Arrays.copyOf(size, numberOfFronts * 2) ;
+        }
+        if (members[numberOfFronts] == null) {
+          members[numberOfFronts] = new int[8] ;
+        }
+        numberOfFronts++ ;
+      }
+
+      if (size[low] == members[low].length) {
+        members[low] = Arrays.copyOf(members[low], size[low] * 2) ;
+      }
+      members[low][size[low]++] = point ;
+
+      return low ;
+    }
+
+    private boolean isDominatedByFront(int front, int point, double[] objectives) {
+      int candidate = point * numberOfObjectives ;
+
+      if (numberOfObjectives == 2) {
+        // Inside a front sorted by the first objective the last point has the lowest value of the
+        // second one, so it is the only one that has to be checked
+        int last = members[front][size[front] - 1] * numberOfObjectives ;
+        return (objectives[last + 1] < objectives[candidate + 1]) ||
+            ((objectives[last + 1] == objectives[candidate + 1]) && (objectives[last] < objectives[candidate])) ;
+      }
+
+      // Points added later are more likely to dominate the candidate, so they are checked first
+      for (int i = size[front] - 1; i >= 0; i--) {
+        if (dominates(objectives, members[front][i] * numberOfObjectives, candidate)) {
+          return true ;
+        }
+      }
+
+      return false ;
+    }
+
+    /**
+     * Dominance test for a point preceding the candidate in lexicographic order, so the first
+     * objective does not need to be checked
+     */
+    private boolean dominates(double[] objectives, int point, int candidate) {
+      boolean strictlyBetter = objectives[point] < objectives[candidate] ;
+      for (int i = 1; i < numberOfObjectives; i++) {
+        if (objectives[point + i] > objectives[candidate + i]) {
+          return false ;
+        } else if (objectives[point + i] < objectives[candidate + i]) {
+          strictlyBetter = true ;
+        }
+      }
+
+      return strictlyBetter ;
+    }
+  }
+}
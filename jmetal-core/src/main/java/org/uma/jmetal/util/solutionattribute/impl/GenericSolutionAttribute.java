@@ -2,6 +2,7 @@ package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
 
 /**
  * Generic class for implementing {@link SolutionAttribute} classes. By default, the identifier
@@ -13,6 +14,8 @@ import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
 @SuppressWarnings("serial")
 public class GenericSolutionAttribute <S extends Solution<?>, V> implements SolutionAttribute<S, V>{
   private Object identifier;
+  private transient int slot ;
+  private transient boolean slotAssigned ;
 
   /**
    * Constructor
@@ -44,4 +47,13 @@ public class GenericSolutionAttribute <S extends Solution<?>, V> implements Solu
   public Object getAttributeIdentifier() {
     return identifier;
   }
+
+  @Override
+  public int getAttributeSlot() {
+    if (!slotAssigned) {
+      slot = SolutionAttributeRegistry.getSlot(getAttributeIdentifier()) ;
+      slotAssigned = true ;
+    }
+    return slot ;
+  }
 }
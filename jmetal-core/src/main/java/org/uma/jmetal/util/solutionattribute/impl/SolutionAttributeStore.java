@@ -0,0 +1,262 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Storage of the attributes of a solution indexed by the slots of the
+ * {@link SolutionAttributeRegistry}. Values set through the generic methods are kept as objects,
+ * while values set through the typed methods are stored in a primitive array, so that numeric
+ * attributes such as the rank or the crowding distance are not boxed. Typed values are boxed
+ * only when they are read through the generic methods.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SolutionAttributeStore implements Serializable {
+  private static final byte EMPTY = 0 ;
+  private static final byte OBJECT = 1 ;
+  private static final byte DOUBLE = 2 ;
+  private static final byte INTEGER = 3 ;
+
+  private transient byte[] kinds ;
+  private transient double[] numbers ;
+  private transient Object[] objects ;
+
+  /**
+   * Constructor
+   */
+  public SolutionAttributeStore() {
+    kinds = new byte[0] ;
+    numbers = new double[0] ;
+    objects = null ;
+  }
+
+  /**
+   * Copy constructor. Attribute values are not cloned
+   * @param store Store to copy
+   */
+  public SolutionAttributeStore(SolutionAttributeStore store) {
+    kinds = store.kinds.clone() ;
+    numbers = store.numbers.clone() ;
+    objects = (store.objects == null) ? null : store.objects.clone() ;
+  }
+
+  public Object get(Object identifier) {
+    return get(SolutionAttributeRegistry.getSlot(identifier)) ;
+  }
+
+  public void set(Object identifier, Object value) {
+    set(SolutionAttributeRegistry.getSlot(identifier), value) ;
+  }
+
+  public Object get(int slot) {
+    if (slot >= kinds.length) {
+      return null ;
+    }
+
+    switch (kinds[slot]) {
+      case OBJECT:
+        return objects[slot] ;
+      case DOUBLE:
+        return numbers[slot] ;
+      case INTEGER:
+        return (int) numbers[slot] ;
+      default:
+        return null ;
+    }
+  }
+
+  public void set(int slot, Object value) {
+    if (value == null) {
+      remove(slot) ;
+    } else {
+      ensureCapacity(slot);
+      if (objects == null) {
+        objects = new Object[kinds.length] ;
+      }
+      kinds[slot] = OBJECT ;
+      objects[slot] = value ;
+    }
+  }
+
+  public boolean contains(int slot) {
+    return (slot < kinds.length) && (kinds[slot] != EMPTY) ;
+  }
+
+  public void remove(int slot) {
+    if (slot < kinds.length) {
+      kinds[slot] = EMPTY ;
+      if (objects != null) {
+        objects[slot] = null ;
+      }
+    }
+  }
+
+  public double getDouble(int slot) {
+    if (slot < kinds.length) {
+      if ((kinds[slot] == DOUBLE) || (kinds[slot] == INTEGER)) {
+        return numbers[slot] ;
+      } else if ((kinds[slot] == OBJECT) && (objects[slot] instanceof Number)) {
+        return ((Number) objects[slot]).doubleValue() ;
+      }
+    }
+
+    throw new JMetalException("The attribute " + describe(slot) + " has no numeric value") ;
+  }
+
+  public void setDouble(int slot, double value) {
+    ensureCapacity(slot);
+    if (objects != null) {
+      objects[slot] = null ;
+    }
+    kinds[slot] = DOUBLE ;
+    numbers[slot] = value ;
+  }
+
+  public int getInt(int slot) {
+    if (slot < kinds.length) {
+      if (kinds[slot] == INTEGER) {
+        return (int) numbers[slot] ;
+      } else if ((kinds[slot] == OBJECT) && (objects[slot] instanceof Integer)) {
+        return (Integer) objects[slot] ;
+      }
+    }
+
+    throw new JMetalException("The attribute " + describe(slot) + " has no integer value") ;
+  }
+
+  public void setInt(int slot, int value) {
+    ensureCapacity(slot);
+    if (objects != null) {
+      objects[slot] = null ;
+    }
+    kinds[slot] = INTEGER ;
+    numbers[slot] = value ;
+  }
+
+  private void ensureCapacity(int slot) {
+    if (slot >= kinds.length) {
+      int capacity = Math.max(slot + 1, SolutionAttributeRegistry.getNumberOfSlots()) ;
+      kinds = Arrays.copyOf(kinds, capacity) ;
+      numbers = Arrays.copyOf(numbers, capacity) ;
+      if (objects != null) {
+        objects = Arrays.copyOf(objects, capacity) ;
+      }
+    }
+  }
+
+  private String describe(int slot) {
+    return (slot < SolutionAttributeRegistry.getNumberOfSlots()) ?
+        String.valueOf(SolutionAttributeRegistry.getIdentifier(slot)) : String.valueOf(slot) ;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    SolutionAttributeStore that = (SolutionAttributeStore) o;
+
+    int slots = Math.max(kinds.length, that.kinds.length) ;
+    for (int i = 0; i < slots; i++) {
+      Object value = get(i) ;
+      Object otherValue = that.get(i) ;
+      if ((value == null) ? (otherValue != null) : !value.equals(otherValue)) {
+        return false ;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * The hash code is computed as in {@link java.util.AbstractMap#hashCode()}, using the attribute
+   * identifiers as keys
+   */
+  @Override
+  public int hashCode() {
+    int result = 0 ;
+    for (int i = 0; i < kinds.length; i++) {
+      Object value = get(i) ;
+      if (value != null) {
+        result += SolutionAttributeRegistry.getIdentifier(i).hashCode() ^ value.hashCode() ;
+      }
+    }
+
+    return result ;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("{") ;
+    for (int i = 0; i < kinds.length; i++) {
+      Object value = get(i) ;
+      if (value != null) {
+        if (result.length() > 1) {
+          result.append(", ") ;
+        }
+        result.append(SolutionAttributeRegistry.getIdentifier(i)).append('=').append(value) ;
+      }
+    }
+
+    return result.append('}').toString() ;
+  }
+
+  /**
+   * Slots are only valid inside a JVM, so the attributes are serialized as pairs of identifier and
+   * value, and are assigned to the local slots when they are read back
+   */
+  private void writeObject(ObjectOutputStream stream) throws IOException {
+    stream.defaultWriteObject();
+
+    int numberOfAttributes = 0 ;
+    for (byte kind : kinds) {
+      if (kind != EMPTY) {
+        numberOfAttributes++ ;
+      }
+    }
+
+    stream.writeInt(numberOfAttributes);
+    for (int i = 0; i < kinds.length; i++) {
+      if (kinds[i] != EMPTY) {
+        stream.writeObject(SolutionAttributeRegistry.getIdentifier(i));
+        stream.writeByte(kinds[i]);
+        if (kinds[i] == OBJECT) {
+          stream.writeObject(objects[i]);
+        } else {
+          stream.writeDouble(numbers[i]);
+        }
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+
+    kinds = new byte[0] ;
+    numbers = new double[0] ;
+    objects = null ;
+
+    int numberOfAttributes = stream.readInt() ;
+    for (int i = 0; i < numberOfAttributes; i++) {
+      int slot = SolutionAttributeRegistry.getSlot(stream.readObject()) ;
+      byte kind = stream.readByte() ;
+      if (kind == OBJECT) {
+        set(slot, stream.readObject());
+      } else if (kind == DOUBLE) {
+        setDouble(slot, stream.readDouble());
+      } else {
+        setInt(slot, (int) stream.readDouble());
+      }
+    }
+  }
+}
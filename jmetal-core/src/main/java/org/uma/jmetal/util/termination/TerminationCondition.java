@@ -0,0 +1,26 @@
+package org.uma.jmetal.util.termination;
+
+import org.uma.jmetal.algorithm.Algorithm;
+
+import java.io.Serializable;
+
+/**
+ * Interface representing a condition to stop the execution of an algorithm. The algorithms
+ * accepting a termination condition check it once per iteration, in addition to their own
+ * stopping condition.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface TerminationCondition extends Serializable {
+  /**
+   * Called when the algorithm starts, so that the condition can reset its state
+   */
+  void start() ;
+
+  /**
+   * @param algorithm Algorithm being executed
+   * @param evaluations Number of evaluations performed since the algorithm started
+   * @return True if the algorithm must stop
+   */
+  boolean isMet(Algorithm<?> algorithm, long evaluations) ;
+}
@@ -0,0 +1,67 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Termination condition that is met when any of a list of conditions is met
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CompositeTerminationCondition implements TerminationCondition {
+  private final List<TerminationCondition> conditions ;
+
+  /**
+   * Constructor
+   * @param conditions Termination conditions
+   */
+  public CompositeTerminationCondition(TerminationCondition... conditions) {
+    this(Arrays.asList(conditions)) ;
+  }
+
+  /**
+   * Constructor
+   * @param conditions Termination conditions
+   */
+  public CompositeTerminationCondition(List<TerminationCondition> conditions) {
+    if (conditions == null) {
+      throw new JMetalException("The list of conditions is null") ;
+    } else if (conditions.isEmpty()) {
+      throw new JMetalException("The list of conditions is empty") ;
+    }
+    for (TerminationCondition condition : conditions) {
+      if (condition == null) {
+        throw new JMetalException("The list of conditions contains a null condition") ;
+      }
+    }
+    this.conditions = new ArrayList<>(conditions) ;
+  }
+
+  @Override
+  public void start() {
+    for (TerminationCondition condition : conditions) {
+      condition.start();
+    }
+  }
+
+  @Override
+  public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+    for (TerminationCondition condition : conditions) {
+      if (condition.isMet(algorithm, evaluations)) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  public List<TerminationCondition> getConditions() {
+    return conditions ;
+  }
+}
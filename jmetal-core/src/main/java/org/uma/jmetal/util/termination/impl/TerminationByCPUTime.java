@@ -0,0 +1,64 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Termination condition that is met when the CPU time consumed by the thread running the algorithm
+ * since it started reaches a threshold. The time consumed by other threads, such as those of a
+ * multithreaded evaluator, is not taken into account. If the JVM does not support measuring the
+ * CPU time of threads, the wall-clock time is used instead.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class TerminationByCPUTime implements TerminationCondition {
+  private final long maxCPUTime ;
+  private long initCPUTime ;
+
+  /**
+   * Constructor
+   * @param maxCPUTime Maximum CPU time in milliseconds
+   */
+  public TerminationByCPUTime(long maxCPUTime) {
+    if (maxCPUTime < 0) {
+      throw new JMetalException("The maximum CPU time is negative: " + maxCPUTime) ;
+    }
+    this.maxCPUTime = maxCPUTime ;
+    initCPUTime = currentTime() ;
+  }
+
+  @Override
+  public void start() {
+    initCPUTime = currentTime() ;
+  }
+
+  @Override
+  public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+    return getCPUTime() >= maxCPUTime ;
+  }
+
+  /**
+   * @return The CPU time consumed since the algorithm started, in milliseconds
+   */
+  public long getCPUTime() {
+    return (currentTime() - initCPUTime) / 1000000 ;
+  }
+
+  public long getMaxCPUTime() {
+    return maxCPUTime ;
+  }
+
+  private static long currentTime() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean() ;
+    if (bean.isCurrentThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled()) {
+      return bean.getCurrentThreadCpuTime() ;
+    } else {
+      return System.nanoTime() ;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+/**
+ * Termination condition that is met when it is cancelled, usually from another thread. It is not
+ * reset when the algorithm starts, so an algorithm cancelled before being run stops after its
+ * first iteration.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class TerminationByCancellation implements TerminationCondition {
+  private volatile boolean cancelled ;
+
+  public TerminationByCancellation() {
+    cancelled = false ;
+  }
+
+  /**
+   * Requests the algorithm to stop
+   */
+  public void cancel() {
+    cancelled = true ;
+  }
+
+  public boolean isCancelled() {
+    return cancelled ;
+  }
+
+  @Override
+  public void start() {
+  }
+
+  @Override
+  public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+    return cancelled ;
+  }
+}
@@ -0,0 +1,50 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+/**
+ * Termination condition that is met when the wall-clock time elapsed since the algorithm started
+ * reaches a threshold
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class TerminationByComputingTime implements TerminationCondition {
+  private final long maxComputingTime ;
+  private long initComputingTime ;
+
+  /**
+   * Constructor
+   * @param maxComputingTime Maximum computing time in milliseconds
+   */
+  public TerminationByComputingTime(long maxComputingTime) {
+    if (maxComputingTime < 0) {
+      throw new JMetalException("The maximum computing time is negative: " + maxComputingTime) ;
+    }
+    this.maxComputingTime = maxComputingTime ;
+    initComputingTime = System.nanoTime() ;
+  }
+
+  @Override
+  public void start() {
+    initComputingTime = System.nanoTime() ;
+  }
+
+  @Override
+  public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+    return getComputingTime() >= maxComputingTime ;
+  }
+
+  /**
+   * @return The time elapsed since the algorithm started, in milliseconds
+   */
+  public long getComputingTime() {
+    return (System.nanoTime() - initComputingTime) / 1000000 ;
+  }
+
+  public long getMaxComputingTime() {
+    return maxComputingTime ;
+  }
+}
@@ -0,0 +1,39 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+/**
+ * Termination condition that is met when a number of evaluations has been performed
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class TerminationByEvaluations implements TerminationCondition {
+  private final long maxEvaluations ;
+
+  /**
+   * Constructor
+   * @param maxEvaluations Maximum number of evaluations
+   */
+  public TerminationByEvaluations(long maxEvaluations) {
+    if (maxEvaluations < 0) {
+      throw new JMetalException("The maximum number of evaluations is negative: " + maxEvaluations) ;
+    }
+    this.maxEvaluations = maxEvaluations ;
+  }
+
+  @Override
+  public void start() {
+  }
+
+  @Override
+  public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+    return evaluations >= maxEvaluations ;
+  }
+
+  public long getMaxEvaluations() {
+    return maxEvaluations ;
+  }
+}
@@ -0,0 +1,90 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+import java.util.List;
+
+/**
+ * Termination condition that is met when the value of a quality indicator (e.g. the hypervolume or
+ * the IGD) of the result of the algorithm has not improved more than a tolerance for a number of
+ * consecutive checks. The indicator is computed every time the condition is checked, that is, once
+ * per iteration of the algorithm, so it should be cheap compared to an iteration. The result of the
+ * algorithm must be a list of solutions.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class TerminationByIndicatorStagnation<S> implements TerminationCondition {
+  private final GenericIndicator<S> indicator ;
+  private final double tolerance ;
+  private final int maxStagnantChecks ;
+
+  private double bestValue ;
+  private int stagnantChecks ;
+
+  /**
+   * Constructor
+   * @param indicator Quality indicator, with its reference front already set
+   * @param tolerance Minimum improvement of the indicator value considered as progress
+   * @param maxStagnantChecks Number of consecutive checks without progress before stopping
+   */
+  public TerminationByIndicatorStagnation(GenericIndicator<S> indicator, double tolerance,
+      int maxStagnantChecks) {
+    if (indicator == null) {
+      throw new JMetalException("The indicator is null") ;
+    } else if (tolerance < 0) {
+      throw new JMetalException("The tolerance is negative: " + tolerance) ;
+    } else if (maxStagnantChecks < 1) {
+      throw new JMetalException("The number of checks is lower than 1: " + maxStagnantChecks) ;
+    }
+    this.indicator = indicator ;
+    this.tolerance = tolerance ;
+    this.maxStagnantChecks = maxStagnantChecks ;
+    start() ;
+  }
+
+  @Override
+  public void start() {
+    bestValue = Double.NaN ;
+    stagnantChecks = 0 ;
+  }
+
+  @Override
+  public boolean isMet(Algorithm<?> algorithm, long evaluations) {
+    Object result = algorithm.getResult() ;
+    if (!(result instanceof List)) {
+      throw new JMetalException("The result of the algorithm is not a list of solutions") ;
+    }
+
+    @SuppressWarnings("unchecked")
+    double value = indicator.evaluate((List<S>) result) ;
+
+    double improvement ;
+    if (Double.isNaN(bestValue)) {
+      improvement = Double.POSITIVE_INFINITY ;
+    } else if (indicator.isTheLowerTheIndicatorValueTheBetter()) {
+      improvement = bestValue - value ;
+    } else {
+      improvement = value - bestValue ;
+    }
+
+    if (improvement > tolerance) {
+      bestValue = value ;
+      stagnantChecks = 0 ;
+    } else {
+      stagnantChecks++ ;
+    }
+
+    return stagnantChecks >= maxStagnantChecks ;
+  }
+
+  /**
+   * @return The best value of the indicator since the algorithm started
+   */
+  public double getBestValue() {
+    return bestValue ;
+  }
+}
@@ -0,0 +1,141 @@
+package org.uma.jmetal.algorithm.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AbstractGeneticAlgorithmTest {
+
+  @Test
+  public void shouldTheParallelReproductionReturnAnOffspringPopulationOfTheRightSize() {
+    MockedGeneticAlgorithm algorithm = new MockedGeneticAlgorithm(new MockedProblem(), 20) ;
+    algorithm.setNumberOfReproductionThreads(3);
+
+    List<DoubleSolution> matingPool = algorithm.createInitialPopulation() ;
+    List<DoubleSolution> offspring = algorithm.reproduction(matingPool) ;
+
+    assertEquals(20, offspring.size()) ;
+    assertNotSame(matingPool.get(0), offspring.get(0)) ;
+  }
+
+  @Test
+  public void shouldTheParallelReproductionNotDependOnTheNumberOfThreads() {
+    List<DoubleSolution> offspring = reproduce(2) ;
+    List<DoubleSolution> otherOffspring = reproduce(5) ;
+
+    for (int i = 0; i < offspring.size(); i++) {
+      for (int j = 0; j < offspring.get(i).getNumberOfVariables(); j++) {
+        assertEquals(offspring.get(i).getVariableValue(j), otherOffspring.get(i).getVariableValue(j), 0.0) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheTerminationConditionStopTheAlgorithm() {
+    final int[] iterations = {0} ;
+    MockedGeneticAlgorithm algorithm = new MockedGeneticAlgorithm(new MockedProblem(), 20) {
+      @Override protected void updateProgress() {
+        iterations[0]++ ;
+      }
+
+      @Override protected boolean isStoppingConditionReached() {
+        return false ;
+      }
+    } ;
+    algorithm.setTerminationCondition(new TerminationByEvaluations(100));
+
+    algorithm.run();
+
+    assertEquals(4, iterations[0]) ;
+  }
+
+  private List<DoubleSolution> reproduce(int numberOfThreads) {
+    MockedGeneticAlgorithm algorithm = new MockedGeneticAlgorithm(new MockedProblem(), 40) ;
+    algorithm.setNumberOfReproductionThreads(numberOfThreads);
+
+    JMetalRandom.getInstance().setSeed(42);
+    List<DoubleSolution> matingPool = algorithm.createInitialPopulation() ;
+    List<DoubleSolution> offspring = algorithm.reproduction(matingPool) ;
+    algorithm.setNumberOfReproductionThreads(1);
+
+    return offspring ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedGeneticAlgorithm extends AbstractGeneticAlgorithm<DoubleSolution, List<DoubleSolution>> {
+    public MockedGeneticAlgorithm(DoubleProblem problem, int populationSize) {
+      super(problem) ;
+      setMaxPopulationSize(populationSize);
+      crossoverOperator = new SBXCrossover(1.0, 20.0) ;
+      mutationOperator = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0) ;
+      selectionOperator = new BinaryTournamentSelection<DoubleSolution>() ;
+    }
+
+    @Override protected void initProgress() {
+    }
+
+    @Override protected void updateProgress() {
+    }
+
+    @Override protected boolean isStoppingConditionReached() {
+      return true;
+    }
+
+    @Override protected List<DoubleSolution> evaluatePopulation(List<DoubleSolution> population) {
+      return population;
+    }
+
+    @Override protected List<DoubleSolution> replacement(List<DoubleSolution> population,
+        List<DoubleSolution> offspringPopulation) {
+      return population;
+    }
+
+    @Override public List<DoubleSolution> getResult() {
+      return getPopulation();
+    }
+
+    @Override public String getName() {
+      return null;
+    }
+
+    @Override public String getDescription() {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedProblem extends AbstractDoubleProblem {
+    public MockedProblem() {
+      setNumberOfVariables(10);
+      setNumberOfObjectives(2);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0) ;
+        upperLimit.add(1.0) ;
+      }
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
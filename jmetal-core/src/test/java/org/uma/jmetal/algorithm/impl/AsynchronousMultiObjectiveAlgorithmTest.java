@@ -0,0 +1,134 @@
+package org.uma.jmetal.algorithm.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AsynchronousMultiObjectiveAlgorithmTest {
+
+  @Test
+  public void shouldTheAlgorithmProcessExactlyTheMaximumNumberOfEvaluations() {
+    MockedProblem problem = new MockedProblem(false) ;
+    MockedAlgorithm algorithm = new MockedAlgorithm(problem, 103, 4) ;
+
+    algorithm.run();
+
+    assertEquals(103, algorithm.getEvaluations()) ;
+    assertEquals(103, algorithm.getResult().size()) ;
+    assertEquals(103, problem.evaluations.get()) ;
+  }
+
+  @Test
+  public void shouldTheWorkersEvaluateSolutionsConcurrently() {
+    MockedProblem problem = new MockedProblem(false) ;
+    MockedAlgorithm algorithm = new MockedAlgorithm(problem, 40, 4) ;
+
+    algorithm.run();
+
+    assertTrue(problem.maximumConcurrentEvaluations.get() > 1) ;
+    assertTrue(problem.maximumConcurrentEvaluations.get() <= 4) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldAnEvaluationErrorRaiseAnException() {
+    new MockedAlgorithm(new MockedProblem(true), 10, 2).run();
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldRunningOutOfSolutionsBeforeTheMaximumNumberOfEvaluationsRaiseAnException() {
+    new MockedAlgorithm(new MockedProblem(false), 100, 2) {
+      @Override protected DoubleSolution createNewSolution() {
+        return null ;
+      }
+    }.run();
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedAlgorithm extends AsynchronousMultiObjectiveAlgorithm<DoubleSolution, List<DoubleSolution>> {
+    private List<DoubleSolution> computedSolutions = new ArrayList<>() ;
+
+    public MockedAlgorithm(DoubleProblem problem, int maxEvaluations, int numberOfWorkers) {
+      super(problem, maxEvaluations, numberOfWorkers) ;
+    }
+
+    @Override protected List<DoubleSolution> createInitialSolutions() {
+      List<DoubleSolution> solutions = new ArrayList<>() ;
+      for (int i = 0; i < 10; i++) {
+        solutions.add(problem.createSolution()) ;
+      }
+      return solutions ;
+    }
+
+    @Override protected DoubleSolution createNewSolution() {
+      return problem.createSolution() ;
+    }
+
+    @Override protected void processComputedSolution(DoubleSolution solution) {
+      computedSolutions.add(solution) ;
+    }
+
+    @Override public List<DoubleSolution> getResult() {
+      return computedSolutions ;
+    }
+
+    @Override public String getName() {
+      return null;
+    }
+
+    @Override public String getDescription() {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedProblem extends AbstractDoubleProblem {
+    private final boolean fail ;
+    private final AtomicInteger evaluations = new AtomicInteger() ;
+    private final AtomicInteger concurrentEvaluations = new AtomicInteger() ;
+    private final AtomicInteger maximumConcurrentEvaluations = new AtomicInteger() ;
+
+    public MockedProblem(boolean fail) {
+      this.fail = fail ;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(2);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      lowerLimit.add(0.0) ;
+      upperLimit.add(1.0) ;
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      if (fail) {
+        throw new RuntimeException("Evaluation error") ;
+      }
+
+      int running = concurrentEvaluations.incrementAndGet() ;
+      maximumConcurrentEvaluations.accumulateAndGet(running, Math::max) ;
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      solution.setObjective(0, solution.getVariableValue(0));
+      solution.setObjective(1, 1.0 - solution.getVariableValue(0));
+      evaluations.incrementAndGet() ;
+      concurrentEvaluations.decrementAndGet() ;
+    }
+  }
+}
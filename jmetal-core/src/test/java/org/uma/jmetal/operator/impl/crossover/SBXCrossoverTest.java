@@ -250,6 +250,28 @@ public class SBXCrossoverTest {
     verify(randomGenerator, times(6)).getRandomValue();
   }
 
+  @Test
+  public void shouldTheResultsNotDependOnThePreviousCrossoversOfTheSameOperator() {
+    Random random1 = new Random(1) ;
+    Random random2 = new Random(1) ;
+    SBXCrossover reusedCrossover = new SBXCrossover(1.0, 20.0, random1::nextDouble) ;
+
+    for (int numberOfVariables : new int[]{3, 5, 5, 2}) {
+      DoubleProblem problem = new MockDoubleProblem(numberOfVariables) ;
+      List<DoubleSolution> solutions = Arrays.asList(problem.createSolution(), problem.createSolution()) ;
+
+      List<DoubleSolution> reusedOffspring = reusedCrossover.execute(solutions) ;
+      List<DoubleSolution> newOffspring = new SBXCrossover(1.0, 20.0, random2::nextDouble).execute(solutions) ;
+
+      for (int i = 0; i < 2; i++) {
+        assertEquals(numberOfVariables, reusedOffspring.get(i).getNumberOfVariables()) ;
+        for (int j = 0; j < numberOfVariables; j++) {
+          assertEquals(newOffspring.get(i).getVariableValue(j), reusedOffspring.get(i).getVariableValue(j), 0.0) ;
+        }
+      }
+    }
+  }
+
   /**
    * Mock class representing a double problem
    */
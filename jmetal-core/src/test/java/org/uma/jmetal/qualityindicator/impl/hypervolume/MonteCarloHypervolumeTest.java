@@ -0,0 +1,151 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.ExclusiveHypervolumeContribution;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeEstimate;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MonteCarloHypervolumeTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetNumberOfSamplesRaiseAnExceptionIfTheValueIsNotPositive() {
+    new MonteCarloHypervolume<DoubleSolution>().setNumberOfSamples(0);
+  }
+
+  @Test
+  public void shouldEvaluateReturnZeroIfTheListIsEmpty() {
+    MonteCarloHypervolume<DoubleSolution> hypervolume = new MonteCarloHypervolume<>() ;
+
+    assertEquals(0.0, hypervolume.evaluate(new ArrayList<>()), 0.0) ;
+    assertEquals(0.0, hypervolume.getLastEstimate().getStandardError(), 0.0) ;
+  }
+
+  /**
+   * Front composed of the points [0.25, 0.75], [0.75, 0.25] and [0.5, 0.5]. The reference point is
+   * [1.0, 1.0], the maximum values of the reference front
+   */
+  @Test
+  public void shouldEvaluateEstimateTheHypervolumeOfABiObjectiveFront() {
+    DoubleProblem problem = new MockDoubleProblem(2) ;
+    List<DoubleSolution> front = Arrays.asList(
+        createSolution(problem, 0.25, 0.75),
+        createSolution(problem, 0.75, 0.25),
+        createSolution(problem, 0.5, 0.5)) ;
+
+    ArrayFront referenceFront = new ArrayFront(2, 2) ;
+    referenceFront.setPoint(0, new ArrayPoint(new double[]{0.0, 1.0}));
+    referenceFront.setPoint(1, new ArrayPoint(new double[]{1.0, 0.0}));
+
+    MonteCarloHypervolume<DoubleSolution> hypervolume = new MonteCarloHypervolume<>(referenceFront) ;
+    hypervolume.setSeed(1);
+    double result = hypervolume.evaluate(front) ;
+
+    HypervolumeEstimate estimate = hypervolume.getLastEstimate() ;
+    assertEquals(0.25 * 0.75 + 0.25 * 0.5 + 0.25 * 0.25, result, 0.005) ;
+    assertTrue(estimate.getStandardError() > 0.0) ;
+    assertTrue(estimate.getLowerBound() <= result) ;
+    assertTrue(estimate.getUpperBound() >= result) ;
+  }
+
+  @Test
+  public void shouldTheEstimationsDependOnlyOnTheSeed() {
+    List<DoubleSolution> front = createFront(5, 30, new Random(1)) ;
+
+    MonteCarloHypervolume<DoubleSolution> hypervolume = new MonteCarloHypervolume<>() ;
+    hypervolume.setNumberOfSamples(50000);
+    hypervolume.setSeed(2);
+    double parallelValue = hypervolume.evaluate(front) ;
+
+    hypervolume.setParallel(false);
+    assertEquals(parallelValue, hypervolume.evaluate(front), 0.0) ;
+  }
+
+  @Test
+  public void shouldTheContributionsBeCloseToTheExactOnes() {
+    List<DoubleSolution> front = createFront(4, 20, new Random(3)) ;
+    double[] referencePoint = {1.2, 1.2, 1.2, 1.2} ;
+
+    double[] points = new double[front.size() * 4] ;
+    for (int i = 0; i < front.size(); i++) {
+      for (int j = 0; j < 4; j++) {
+        points[i * 4 + j] = front.get(i).getObjective(j) ;
+      }
+    }
+    double[] exactContributions = new double[front.size()] ;
+    new ExclusiveHypervolumeContribution().compute(points, front.size(), referencePoint, exactContributions);
+
+    MonteCarloHypervolume<DoubleSolution> hypervolume = new MonteCarloHypervolume<>() ;
+    hypervolume.setNumberOfSamplesPerContribution(100000);
+    hypervolume.setConfidenceLevel(0.9999);
+    hypervolume.setSeed(4);
+    HypervolumeEstimate[] contributions = hypervolume.estimateHypervolumeContributions(front, referencePoint) ;
+
+    for (int i = 0; i < front.size(); i++) {
+      assertTrue(contributions[i].getLowerBound() <= exactContributions[i] + 0.000000001) ;
+      assertTrue(contributions[i].getUpperBound() >= exactContributions[i] - 0.000000001) ;
+    }
+  }
+
+  private List<DoubleSolution> createFront(int numberOfObjectives, int numberOfPoints, Random random) {
+    DoubleProblem problem = new MockDoubleProblem(numberOfObjectives) ;
+    List<DoubleSolution> front = new ArrayList<>() ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double[] objectives = new double[numberOfObjectives] ;
+      double norm = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] = random.nextDouble() + 0.001 ;
+        norm += objectives[j] * objectives[j] ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[j] /= Math.sqrt(norm) ;
+      }
+      front.add(createSolution(problem, objectives)) ;
+    }
+
+    return front ;
+  }
+
+  private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    public MockDoubleProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      lowerLimit.add(0.0) ;
+      upperLimit.add(1.0) ;
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
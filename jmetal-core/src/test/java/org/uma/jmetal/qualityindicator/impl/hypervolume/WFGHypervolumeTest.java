@@ -10,6 +10,7 @@ import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
@@ -18,6 +19,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Created by ajnebro on 17/12/15.
@@ -165,6 +167,33 @@ public class WFGHypervolumeTest {
     assertEquals(0.6661, result, 0.0001) ;
   }
 
+  /**
+   * The contributions of the points [1.0, 3.0], [2.0, 2.0] and [3.0, 1.0] with the default offset
+   * are 100 * 1, 1 * 1 and 1 * 100. The list is sorted in descending order of contribution
+   */
+  @Test
+  public void shouldComputeHypervolumeContributionWorkProperly() {
+    DoubleProblem problem = new MockDoubleProblem(2) ;
+
+    List<DoubleSolution> frontToEvaluate = new ArrayList<>() ;
+    for (int i = 1; i <= 3; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.setObjective(0, 4.0 - i);
+      solution.setObjective(1, i);
+      frontToEvaluate.add(solution) ;
+    }
+    DoubleSolution middleSolution = frontToEvaluate.get(1) ;
+
+    WFGHypervolume<DoubleSolution> hypervolume = new WFGHypervolume<>() ;
+    hypervolume.computeHypervolumeContribution(frontToEvaluate, frontToEvaluate) ;
+
+    HypervolumeContributionAttribute<DoubleSolution> contribution = new HypervolumeContributionAttribute<>() ;
+    assertEquals(100.0, contribution.getAttribute(frontToEvaluate.get(0)), 0.0001) ;
+    assertEquals(100.0, contribution.getAttribute(frontToEvaluate.get(1)), 0.0001) ;
+    assertEquals(1.0, contribution.getAttribute(frontToEvaluate.get(2)), 0.0001) ;
+    assertSame(middleSolution, frontToEvaluate.get(2)) ;
+  }
+
   /**
    * Mock class representing a binary problem
    */
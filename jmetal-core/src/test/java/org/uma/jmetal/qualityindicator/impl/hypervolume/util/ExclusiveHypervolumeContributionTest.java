@@ -0,0 +1,149 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the contributions computed by {@link ExclusiveHypervolumeContribution} against those
+ * obtained by computing the hypervolume of the set with and without each point
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ExclusiveHypervolumeContributionTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldComputeRaiseAnExceptionIfThereIsOnlyOneObjective() {
+    new ExclusiveHypervolumeContribution().compute(new double[]{1.0}, 1, new double[]{2.0}, new double[1]);
+  }
+
+  @Test
+  public void shouldTheContributionsOfABiObjectiveFrontBeCorrect() {
+    double[] points = {3.0, 1.0, 1.0, 3.0, 2.0, 2.0} ;
+    double[] contributions = new double[3] ;
+
+    new ExclusiveHypervolumeContribution().compute(points, 3, new double[]{5.0, 4.0}, contributions);
+
+    assertEquals(2.0, contributions[0], EPSILON) ;
+    assertEquals(1.0, contributions[1], EPSILON) ;
+    assertEquals(1.0, contributions[2], EPSILON) ;
+  }
+
+  @Test
+  public void shouldDominatedAndRepeatedPointsBeTakenIntoAccount() {
+    double[] points = {1.0, 1.0, 1.0, 2.0, 2.0, 2.0, 1.0, 1.0, 1.0, 3.0, 3.0, 0.5} ;
+    double[] contributions = new double[4] ;
+
+    new ExclusiveHypervolumeContribution().compute(points, 4, new double[]{4.0, 4.0, 4.0}, contributions);
+
+    assertEquals(0.0, contributions[0], EPSILON) ;
+    assertEquals(0.0, contributions[1], EPSILON) ;
+    assertEquals(0.0, contributions[2], EPSILON) ;
+    assertEquals(0.5, contributions[3], EPSILON) ;
+  }
+
+  @Test
+  public void shouldTheContributionsOfRandomSetsBeCorrect() {
+    ExclusiveHypervolumeContribution exclusiveContribution = new ExclusiveHypervolumeContribution() ;
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      for (int run = 0; run < 10; run++) {
+        int numberOfPoints = 1 + random.nextInt(12) ;
+        double[] points = new double[numberOfPoints * numberOfObjectives] ;
+        for (int i = 0; i < numberOfPoints; i++) {
+          if ((i > 0) && (random.nextInt(5) == 0)) {
+            System.arraycopy(points, 0, points, i * numberOfObjectives, numberOfObjectives);
+          } else {
+            createPoint(points, i, numberOfObjectives, run % 2 == 0, random) ;
+          }
+        }
+
+        double[] referencePoint = new double[numberOfObjectives] ;
+        Arrays.fill(referencePoint, 0.8 + 0.4 * random.nextDouble());
+
+        double[] contributions = new double[numberOfPoints] ;
+        exclusiveContribution.compute(points, numberOfPoints, referencePoint, contributions);
+
+        double hypervolume = computeHypervolume(points, numberOfPoints, -1, referencePoint) ;
+        for (int i = 0; i < numberOfPoints; i++) {
+          double expected = hypervolume - computeHypervolume(points, numberOfPoints, i, referencePoint) ;
+          assertEquals(expected, contributions[i], EPSILON) ;
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates a point on the unit sphere if it must be non-dominated, or a point in the unit cube otherwise
+   */
+  private void createPoint(double[] points, int index, int numberOfObjectives, boolean onTheSphere, Random random) {
+    double norm = 0.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      points[index * numberOfObjectives + i] = random.nextDouble() + 0.001 ;
+      norm += points[index * numberOfObjectives + i] * points[index * numberOfObjectives + i] ;
+    }
+    if (onTheSphere) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        points[index * numberOfObjectives + i] /= Math.sqrt(norm) ;
+      }
+    }
+  }
+
+  /**
+   * Computes the hypervolume of the points but the excluded one by splitting the space in the cells
+   * defined by their objective values and adding the volume of the dominated cells
+   */
+  private double computeHypervolume(double[] points, int numberOfPoints, int excludedPoint, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[][] coordinates = new double[numberOfObjectives][] ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      coordinates[i] = new double[numberOfPoints + 1] ;
+      for (int j = 0; j < numberOfPoints; j++) {
+        coordinates[i][j] = Math.min(points[j * numberOfObjectives + i], referencePoint[i]) ;
+      }
+      coordinates[i][numberOfPoints] = referencePoint[i] ;
+      Arrays.sort(coordinates[i]);
+    }
+
+    double hypervolume = 0.0 ;
+    int[] cell = new int[numberOfObjectives] ;
+    while (cell[numberOfObjectives - 1] < numberOfPoints) {
+      double volume = 1.0 ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        volume *= coordinates[i][cell[i] + 1] - coordinates[i][cell[i]] ;
+      }
+      if ((volume > 0.0) && isDominated(cell, coordinates, points, numberOfPoints, excludedPoint)) {
+        hypervolume += volume ;
+      }
+
+      int i = 0 ;
+      while ((i < numberOfObjectives - 1) && (cell[i] == numberOfPoints - 1)) {
+        cell[i++] = 0 ;
+      }
+      cell[i]++ ;
+    }
+
+    return hypervolume ;
+  }
+
+  private boolean isDominated(int[] cell, double[][] coordinates, double[] points, int numberOfPoints,
+      int excludedPoint) {
+    int numberOfObjectives = cell.length ;
+    for (int j = 0; j < numberOfPoints; j++) {
+      boolean dominated = j != excludedPoint ;
+      for (int i = 0; (i < numberOfObjectives) && dominated; i++) {
+        dominated = points[j * numberOfObjectives + i] <= coordinates[i][cell[i]] ;
+      }
+      if (dominated) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+}
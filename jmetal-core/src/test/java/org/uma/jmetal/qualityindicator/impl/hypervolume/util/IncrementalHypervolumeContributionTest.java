@@ -0,0 +1,300 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the contributions kept by {@link IncrementalHypervolumeContribution} against those obtained
+ * by computing the hypervolume of the set with and without each solution
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalHypervolumeContributionTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfObjectivesIsNotSupported() {
+    new IncrementalHypervolumeContribution<DoubleSolution>(4) ;
+  }
+
+  @Test
+  public void shouldTheContributionsOfABiObjectiveFrontBeCorrect() {
+    MockedProblem problem = new MockedProblem(2) ;
+    IncrementalHypervolumeContribution<DoubleSolution> contributions = new IncrementalHypervolumeContribution<>(2) ;
+
+    DoubleSolution solution1 = createSolution(problem, 1.0, 3.0) ;
+    DoubleSolution solution2 = createSolution(problem, 2.0, 2.0) ;
+    DoubleSolution solution3 = createSolution(problem, 3.0, 1.0) ;
+    List<DoubleSolution> front = Arrays.asList(solution1, solution2, solution3) ;
+
+    assertTrue(contributions.update(front, new double[]{4.0, 4.0})) ;
+    assertEquals(1.0, contributions.getContribution(solution1), EPSILON) ;
+    assertEquals(1.0, contributions.getContribution(solution2), EPSILON) ;
+    assertEquals(1.0, contributions.getContribution(solution3), EPSILON) ;
+
+    assertTrue(contributions.update(front, new double[]{5.0, 4.0})) ;
+    assertEquals(2.0, contributions.getContribution(solution3), EPSILON) ;
+    assertSame(solution1, contributions.getLeastContributor()) ;
+
+    assertTrue(contributions.remove(solution2)) ;
+    assertEquals(2.0, contributions.getContribution(solution1), EPSILON) ;
+    assertEquals(4.0, contributions.getContribution(solution3), EPSILON) ;
+  }
+
+  @Test
+  public void shouldUpdateReturnFalseIfTheSolutionsAreNotMutuallyNonDominated() {
+    MockedProblem problem = new MockedProblem(3) ;
+    IncrementalHypervolumeContribution<DoubleSolution> contributions = new IncrementalHypervolumeContribution<>(3) ;
+
+    List<DoubleSolution> front = new ArrayList<>() ;
+    front.add(createSolution(problem, 1.0, 2.0, 3.0)) ;
+    front.add(createSolution(problem, 3.0, 2.0, 1.0)) ;
+    assertTrue(contributions.update(front, new double[]{4.0, 4.0, 4.0})) ;
+
+    front.add(createSolution(problem, 1.0, 2.0, 3.0)) ;
+    assertFalse(contributions.update(front, new double[]{4.0, 4.0, 4.0})) ;
+    assertEquals(0, contributions.size()) ;
+  }
+
+  @Test
+  public void shouldTheBiObjectiveContributionsBeCorrectAfterAddingAndRemovingSolutions() {
+    checkRandomUpdates(2, 1) ;
+  }
+
+  @Test
+  public void shouldTheThreeObjectiveContributionsBeCorrectAfterAddingAndRemovingSolutions() {
+    checkRandomUpdates(3, 2) ;
+  }
+
+  @Test
+  public void shouldAddingAThreeObjectiveSolutionOnlyRecomputeTheContributionsOfItsNeighbours() {
+    Random random = new Random(3) ;
+    MockedProblem problem = new MockedProblem(3) ;
+    IncrementalHypervolumeContribution<DoubleSolution> contributions = new IncrementalHypervolumeContribution<>(3) ;
+
+    List<DoubleSolution> front = new ArrayList<>() ;
+    for (int i = 0; i < 500; i++) {
+      front.add(createSolutionOnTheUnitSphere(problem, random)) ;
+    }
+    double[] referencePoint = {1.1, 1.1, 1.1} ;
+    assertTrue(contributions.update(front, referencePoint)) ;
+
+    for (int i = 0; i < 50; i++) {
+      double[] previousContributions = new double[front.size()] ;
+      for (int j = 0; j < front.size(); j++) {
+        previousContributions[j] = contributions.getContribution(front.get(j)) ;
+      }
+
+      DoubleSolution solution = createSolutionOnTheUnitSphere(problem, random) ;
+      long numberOfComputedContributions = contributions.getNumberOfComputedContributions() ;
+      assertTrue(contributions.add(solution)) ;
+
+      int numberOfChangedContributions = 0 ;
+      for (int j = 0; j < front.size(); j++) {
+        if (contributions.getContribution(front.get(j)) != previousContributions[j]) {
+          numberOfChangedContributions++ ;
+        }
+      }
+      assertEquals(1 + numberOfChangedContributions,
+          contributions.getNumberOfComputedContributions() - numberOfComputedContributions) ;
+      front.add(solution) ;
+    }
+
+    assertContributionsAreCorrect(contributions, front, referencePoint);
+  }
+
+  @Test
+  public void shouldChangingTheReferencePointOnlyRecomputeTheContributionsOfTheBoundingMembers() {
+    Random random = new Random(4) ;
+    MockedProblem problem = new MockedProblem(3) ;
+    IncrementalHypervolumeContribution<DoubleSolution> contributions = new IncrementalHypervolumeContribution<>(3) ;
+
+    List<DoubleSolution> front = new ArrayList<>() ;
+    for (int i = 0; i < 500; i++) {
+      front.add(createSolutionOnTheUnitSphere(problem, random)) ;
+    }
+    assertTrue(contributions.update(front, IncrementalHypervolumeContribution.computeReferencePoint(front, 0.1))) ;
+
+    for (int i = 0; i < 5; i++) {
+      double[] referencePoint = IncrementalHypervolumeContribution.computeReferencePoint(front, random.nextDouble()) ;
+      long numberOfComputedContributions = contributions.getNumberOfComputedContributions() ;
+      assertTrue(contributions.update(front, referencePoint)) ;
+
+      assertTrue(contributions.getNumberOfComputedContributions() - numberOfComputedContributions < front.size() / 10) ;
+      assertContributionsAreCorrect(contributions, front, referencePoint);
+    }
+  }
+
+  private void assertContributionsAreCorrect(IncrementalHypervolumeContribution<DoubleSolution> contributions,
+      List<DoubleSolution> front, double[] referencePoint) {
+    double[] points = new double[front.size() * 3] ;
+    for (int i = 0; i < front.size(); i++) {
+      for (int j = 0; j < 3; j++) {
+        points[i * 3 + j] = front.get(i).getObjective(j) ;
+      }
+    }
+    double[] expectedContributions = new double[front.size()] ;
+    new ExclusiveHypervolumeContribution().compute(points, front.size(), referencePoint, expectedContributions);
+
+    for (int i = 0; i < front.size(); i++) {
+      assertEquals(expectedContributions[i], contributions.getContribution(front.get(i)), EPSILON) ;
+    }
+  }
+
+  /**
+   * Keeps a front of points on the unit sphere, replacing some of them at each step and moving
+   * the reference point from time to time
+   */
+  private void checkRandomUpdates(int numberOfObjectives, long seed) {
+    Random random = new Random(seed) ;
+    MockedProblem problem = new MockedProblem(numberOfObjectives) ;
+    IncrementalHypervolumeContribution<DoubleSolution> contributions =
+        new IncrementalHypervolumeContribution<>(numberOfObjectives) ;
+
+    List<DoubleSolution> front = new ArrayList<>() ;
+    double offset = 0.1 ;
+    for (int step = 0; step < 100; step++) {
+      for (int i = random.nextInt(3); (i >= 0) && (front.size() > 12); i--) {
+        front.remove(random.nextInt(front.size())) ;
+      }
+      for (int i = random.nextInt(3); i >= 0; i--) {
+        front.add(createSolutionOnTheUnitSphere(problem, random)) ;
+      }
+      if (step % 10 == 0) {
+        offset = random.nextDouble() ;
+      }
+
+      double[] referencePoint = IncrementalHypervolumeContribution.computeReferencePoint(front, offset) ;
+      assertTrue(contributions.update(front, referencePoint)) ;
+      assertEquals(front.size(), contributions.size()) ;
+
+      double[] expectedContributions = computeContributions(front, referencePoint) ;
+      int leastContributor = 0 ;
+      for (int i = 0; i < front.size(); i++) {
+        assertEquals(expectedContributions[i], contributions.getContribution(front.get(i)), EPSILON) ;
+        if (expectedContributions[i] < expectedContributions[leastContributor]) {
+          leastContributor = i ;
+        }
+      }
+      assertEquals(expectedContributions[leastContributor],
+          contributions.getContribution(contributions.getLeastContributor()), EPSILON) ;
+    }
+  }
+
+  private double[] computeContributions(List<DoubleSolution> front, double[] referencePoint) {
+    double hypervolume = computeHypervolume(front, referencePoint) ;
+    double[] result = new double[front.size()] ;
+    for (int i = 0; i < front.size(); i++) {
+      List<DoubleSolution> otherSolutions = new ArrayList<>(front) ;
+      otherSolutions.remove(i) ;
+      result[i] = hypervolume - computeHypervolume(otherSolutions, referencePoint) ;
+    }
+
+    return result ;
+  }
+
+  /**
+   * Computes the hypervolume by splitting the space in the cells defined by the objective values
+   * of the solutions and adding the volume of the dominated cells
+   */
+  private double computeHypervolume(List<DoubleSolution> front, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[][] coordinates = new double[numberOfObjectives][] ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      coordinates[i] = new double[front.size() + 1] ;
+      for (int j = 0; j < front.size(); j++) {
+        coordinates[i][j] = front.get(j).getObjective(i) ;
+      }
+      coordinates[i][front.size()] = referencePoint[i] ;
+      Arrays.sort(coordinates[i]);
+    }
+
+    double hypervolume = 0.0 ;
+    int[] cell = new int[numberOfObjectives] ;
+    while (cell[numberOfObjectives - 1] < front.size()) {
+      double volume = 1.0 ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        volume *= coordinates[i][cell[i] + 1] - coordinates[i][cell[i]] ;
+      }
+      if ((volume > 0.0) && isDominated(cell, coordinates, front)) {
+        hypervolume += volume ;
+      }
+
+      int i = 0 ;
+      while ((i < numberOfObjectives - 1) && (cell[i] == front.size() - 1)) {
+        cell[i++] = 0 ;
+      }
+      cell[i]++ ;
+    }
+
+    return hypervolume ;
+  }
+
+  private boolean isDominated(int[] cell, double[][] coordinates, List<DoubleSolution> front) {
+    for (DoubleSolution solution : front) {
+      boolean dominated = true ;
+      for (int i = 0; (i < cell.length) && dominated; i++) {
+        dominated = solution.getObjective(i) <= coordinates[i][cell[i]] ;
+      }
+      if (dominated) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+
+  private DoubleSolution createSolutionOnTheUnitSphere(MockedProblem problem, Random random) {
+    double[] objectives = new double[problem.getNumberOfObjectives()] ;
+    double norm = 0.0 ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = random.nextDouble() + 0.001 ;
+      norm += objectives[i] * objectives[i] ;
+    }
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] /= Math.sqrt(norm) ;
+    }
+
+    return createSolution(problem, objectives) ;
+  }
+
+  private DoubleSolution createSolution(MockedProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedProblem extends AbstractDoubleProblem {
+    public MockedProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      lowerLimit.add(0.0) ;
+      upperLimit.add(1.0) ;
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class DoublePopulationTest {
+  private static final double EPSILON = 0.0000000000001 ;
+  private DoubleProblem problem ;
+
+  @Before
+  public void setup() {
+    problem = new MockedDoubleProblem() ;
+  }
+
+  @Test
+  public void shouldTheConstructorInitializeTheVariablesAsArrayDoubleSolution() {
+    JMetalRandom.getInstance().setSeed(12345);
+    DoublePopulation population = new DoublePopulation(problem, 4) ;
+
+    JMetalRandom.getInstance().setSeed(12345);
+    for (int i = 0; i < population.size(); i++) {
+      DoubleSolution solution = new ArrayDoubleSolution(problem) ;
+      for (int j = 0; j < problem.getNumberOfVariables(); j++) {
+        assertEquals(solution.getVariableValue(j), population.get(i).getVariableValue(j), EPSILON) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheViewsReadAndWriteTheArraysOfThePopulation() {
+    DoublePopulation population = new DoublePopulation(problem, 3) ;
+
+    population.get(1).setVariableValue(2, 1.5);
+    population.get(1).setObjective(1, 2.5);
+
+    assertEquals(1.5, population.getVariables()[population.getVariablesOffset(1) + 2], EPSILON) ;
+    assertEquals(2.5, population.getObjectives()[population.getObjectivesOffset(1) + 1], EPSILON) ;
+    assertSame(population.get(1), population.asList().get(1)) ;
+  }
+
+  @Test
+  public void shouldTheOverallConstraintViolationBeStoredInThePopulation() {
+    DoublePopulation population = new DoublePopulation(problem, 2) ;
+    OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>() ;
+
+    assertNull(violation.getAttribute(population.get(0))) ;
+    violation.setAttribute(population.get(0), -2.0);
+
+    assertEquals(-2.0, population.getOverallConstraintViolations()[0], EPSILON) ;
+    assertEquals(-2.0, violation.getAttribute(population.get(0)), EPSILON) ;
+    assertEquals(Double.NaN, population.getOverallConstraintViolations()[1], EPSILON) ;
+  }
+
+  @Test
+  public void shouldCopyReturnAnIndependentSolution() {
+    DoublePopulation population = new DoublePopulation(problem, 2) ;
+    population.get(0).setObjective(0, 1.0);
+    population.get(0).setAttribute("attribute", "value");
+
+    DoubleSolution copy = (DoubleSolution) population.get(0).copy() ;
+    copy.setVariableValue(0, 0.5);
+
+    assertNotSame(population.get(0), copy) ;
+    assertEquals(1.0, copy.getObjective(0), EPSILON) ;
+    assertEquals("value", copy.getAttribute("attribute")) ;
+    assertEquals(population.get(1).getVariableValue(0), population.getVariables()[3], EPSILON) ;
+    assertEquals(0.5, copy.getVariableValue(0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldThePopulationBeEvaluatedByASolutionListEvaluator() {
+    DoublePopulation population = new DoublePopulation(problem, 5) ;
+
+    new SequentialSolutionListEvaluator<DoubleSolution>().evaluate(population.asList(), problem) ;
+
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.getVariables()[population.getVariablesOffset(i)],
+          population.getObjectives()[population.getObjectivesOffset(i)], EPSILON) ;
+    }
+  }
+
+  @Test
+  public void shouldComputeRanksTakeIntoAccountTheConstraints() {
+    DoublePopulation population = new DoublePopulation(problem, 3) ;
+    double[] objectives = {1.0, 1.0, 2.0, 2.0, 0.0, 0.0} ;
+    System.arraycopy(objectives, 0, population.getObjectives(), 0, objectives.length);
+    population.getOverallConstraintViolations()[2] = -1.0 ;
+
+    assertArrayEquals(new int[]{0, 1, 2}, population.computeRanks()) ;
+  }
+
+  @Test
+  public void shouldTheSBXCrossoverOnArraysProduceTheSameOffspringAsOnSolutions() {
+    SBXCrossover crossover = new SBXCrossover(1.0, 20.0) ;
+    DoublePopulation population = new DoublePopulation(problem, 2) ;
+
+    JMetalRandom.getInstance().setSeed(2);
+    List<DoubleSolution> offspring = crossover.execute(population.asList()) ;
+
+    double[] variables = population.getVariables() ;
+    double[] children = new double[variables.length] ;
+    JMetalRandom.getInstance().setSeed(2);
+    crossover.doCrossover(1.0, variables, 0, variables, 3, children, 0, children, 3,
+        population.getLowerBounds(), population.getUpperBounds()) ;
+
+    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+      assertEquals(offspring.get(0).getVariableValue(i), children[i], EPSILON) ;
+      assertEquals(offspring.get(1).getVariableValue(i), children[3 + i], EPSILON) ;
+    }
+  }
+
+  @Test
+  public void shouldThePolynomialMutationOnArraysProduceTheSameResultAsOnSolutions() {
+    PolynomialMutation mutation = new PolynomialMutation(1.0, 20.0) ;
+    DoublePopulation population = new DoublePopulation(problem, 1) ;
+    double[] variables = Arrays.copyOf(population.getVariables(), 3) ;
+
+    JMetalRandom.getInstance().setSeed(3);
+    mutation.execute(population.get(0)) ;
+    JMetalRandom.getInstance().setSeed(3);
+    mutation.doMutation(1.0, variables, 0, population.getLowerBounds(), population.getUpperBounds());
+
+    assertArrayEquals(population.getVariables(), variables, EPSILON) ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedDoubleProblem extends AbstractDoubleProblem {
+    public MockedDoubleProblem() {
+      setNumberOfVariables(3);
+      setNumberOfObjectives(2);
+      setNumberOfConstraints(0);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables()) ;
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables()) ;
+
+      lowerLimit.add(-4.0);
+      lowerLimit.add(-3.0);
+      lowerLimit.add(-2.0);
+      upperLimit.add(4.0);
+      upperLimit.add(5.0);
+      upperLimit.add(6.0);
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      solution.setObjective(0, solution.getVariableValue(0));
+      solution.setObjective(1, solution.getVariableValue(1));
+    }
+  }
+}
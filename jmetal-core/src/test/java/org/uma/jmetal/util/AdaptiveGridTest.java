@@ -1,7 +1,6 @@
 package org.uma.jmetal.util;
 
 import org.junit.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -40,14 +39,6 @@ public class AdaptiveGridTest {
     int objectives = 2 ;
     adaptiveGrid = new AdaptiveGrid<>(bisections, objectives) ;
 
-    int[] hypercubes = new int[(int)Math.pow(2.0, bisections * objectives)] ;
-    for (int i: hypercubes) {
-      hypercubes[i] = 0 ;
-    }
-
-    ReflectionTestUtils.setField(adaptiveGrid, "hypercubes", hypercubes);
-    adaptiveGrid.calculateOccupied();
-
     assertEquals(0, adaptiveGrid.occupiedHypercubes()) ;
   }
 
@@ -59,17 +50,9 @@ public class AdaptiveGridTest {
     int objectives = 2 ;
     adaptiveGrid = new AdaptiveGrid<>(bisections, objectives) ;
 
-    int[] hypercubes = new int[(int)Math.pow(2.0, bisections * objectives)] ;
-    for (int i: hypercubes) {
-      hypercubes[i] = 0 ;
-    }
-
-    hypercubes[0] = 1 ;
-    hypercubes[1] = 3 ;
-    hypercubes[3] = 5 ;
-
-    ReflectionTestUtils.setField(adaptiveGrid, "hypercubes", hypercubes);
-    adaptiveGrid.calculateOccupied();
+    addSolutions(adaptiveGrid, 0, 1) ;
+    addSolutions(adaptiveGrid, 1, 3) ;
+    addSolutions(adaptiveGrid, 3, 5) ;
 
     assertEquals(3, adaptiveGrid.occupiedHypercubes()) ;
   }
@@ -82,13 +65,6 @@ public class AdaptiveGridTest {
     int objectives = 2 ;
     adaptiveGrid = new AdaptiveGrid<>(bisections, objectives) ;
 
-    int[] hypercubes = new int[(int)Math.pow(2.0, bisections * objectives)] ;
-    for (int i: hypercubes) {
-      hypercubes[i] = 0 ;
-    }
-
-    ReflectionTestUtils.setField(adaptiveGrid, "hypercubes", hypercubes);
-
     assertEquals(0.0, adaptiveGrid.getAverageOccupation(), EPSILON) ;
   }
 
@@ -100,16 +76,9 @@ public class AdaptiveGridTest {
     int objectives = 2 ;
     adaptiveGrid = new AdaptiveGrid<>(bisections, objectives) ;
 
-    int[] hypercubes = new int[(int)Math.pow(2.0, bisections * objectives)] ;
-    for (int i: hypercubes) {
-      hypercubes[i] = 0 ;
-    }
-
-    hypercubes[0] = 1 ;
-    hypercubes[1] = 3 ;
-    hypercubes[3] = 5 ;
-
-    ReflectionTestUtils.setField(adaptiveGrid, "hypercubes", hypercubes);
+    addSolutions(adaptiveGrid, 0, 1) ;
+    addSolutions(adaptiveGrid, 1, 3) ;
+    addSolutions(adaptiveGrid, 3, 5) ;
 
     assertEquals(9.0/3.0, adaptiveGrid.getAverageOccupation(), EPSILON) ;
   }
@@ -144,15 +113,9 @@ public class AdaptiveGridTest {
 	public void shouldJMetalRandomGeneratorNotBeUsedWhenCustomRandomGeneratorProvidedInRandomOccupiedHypercube() {
 		// Configuration
 		AdaptiveGrid<Solution<?>> grid = new AdaptiveGrid<>(5, 2);
-		int[] hypercubes = new int[1024];
-		for (int i : hypercubes) {
-			hypercubes[i] = 0;
-		}
-		hypercubes[0] = 1;
-		hypercubes[1] = 3;
-		hypercubes[3] = 5;
-		ReflectionTestUtils.setField(grid, "hypercubes", hypercubes);
-		grid.calculateOccupied();
+		addSolutions(grid, 0, 1);
+		addSolutions(grid, 1, 3);
+		addSolutions(grid, 3, 5);
 
 		// Check configuration leads to use default generator by default
 		final int[] defaultUses = { 0 };
@@ -174,4 +137,45 @@ public class AdaptiveGridTest {
 		assertTrue("Default random generator used", defaultUses[0] == 0);
 		assertTrue("No use of the custom generator", customUses[0] > 0);
 	}
-}
\ No newline at end of file
+
+  @Test
+  public void shouldTheGridSupportManyObjectives() {
+    AdaptiveGrid<Solution<?>> grid = new AdaptiveGrid<>(5, 12) ;
+
+    long location = 31L << 55 ;
+    addSolutions(grid, location, 2) ;
+    addSolutions(grid, 7, 1) ;
+
+    assertEquals(2, grid.occupiedHypercubes()) ;
+    assertEquals(2, grid.getLocationDensity(location)) ;
+    assertEquals(location, grid.getMostPopulatedHypercube()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheLocationsDoNotFitInALong() {
+    new AdaptiveGrid<>(8, 8) ;
+  }
+
+  @Test
+  public void shouldRemoveSolutionUpdateTheOccupiedHypercubesAndTheMostPopulatedOne() {
+    AdaptiveGrid<Solution<?>> grid = new AdaptiveGrid<>(5, 2) ;
+    addSolutions(grid, 4, 2) ;
+    addSolutions(grid, 9, 3) ;
+    addSolutions(grid, 12, 1) ;
+
+    grid.removeSolution(9) ;
+    grid.removeSolution(9) ;
+    assertEquals(4, grid.getMostPopulatedHypercube()) ;
+
+    grid.removeSolution(12) ;
+    assertEquals(2, grid.occupiedHypercubes()) ;
+    assertEquals(0, grid.getLocationDensity(12)) ;
+    assertEquals((2.0 + 1.0) / 2.0, grid.getAverageOccupation(), EPSILON) ;
+  }
+
+  private void addSolutions(AdaptiveGrid<?> grid, long location, int numberOfSolutions) {
+    for (int i = 0; i < numberOfSolutions; i++) {
+      grid.addSolution(location) ;
+    }
+  }
+}
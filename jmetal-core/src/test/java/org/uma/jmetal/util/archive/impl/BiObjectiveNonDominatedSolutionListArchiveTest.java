@@ -0,0 +1,174 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the archive gives the same results when it uses the index of bi-objective solutions
+ * (default constructor) and when it compares each new solution with all the members
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BiObjectiveNonDominatedSolutionListArchiveTest {
+  private MockedProblem problem = new MockedProblem(2) ;
+
+  @Test
+  public void shouldTheIndexedArchiveContainTheSameSolutionsAsTheLinearOne() {
+    Random random = new Random(1) ;
+    NonDominatedSolutionListArchive<DoubleSolution> indexedArchive = new NonDominatedSolutionListArchive<>() ;
+    NonDominatedSolutionListArchive<DoubleSolution> linearArchive =
+        new NonDominatedSolutionListArchive<>(new DominanceComparator<DoubleSolution>()) ;
+
+    for (int i = 0; i < 5000; i++) {
+      // Few distinct values, so that there are many ties in the objectives
+      double first = random.nextInt(200) ;
+      double second = (200 - first) + random.nextInt(50) ;
+      DoubleSolution solution = createSolution(first, second) ;
+
+      assertEquals(linearArchive.add(solution), indexedArchive.add(solution)) ;
+      assertEquals(linearArchive.getSolutionList(), indexedArchive.getSolutionList()) ;
+    }
+  }
+
+  @Test
+  public void shouldTheIndexBeUpdatedWhenTheSolutionListIsModifiedDirectly() {
+    Random random = new Random(2) ;
+    NonDominatedSolutionListArchive<DoubleSolution> indexedArchive = new NonDominatedSolutionListArchive<>() ;
+    NonDominatedSolutionListArchive<DoubleSolution> linearArchive =
+        new NonDominatedSolutionListArchive<>(new DominanceComparator<DoubleSolution>()) ;
+
+    for (int i = 0; i < 5000; i++) {
+      DoubleSolution solution = createSolution(random.nextDouble(), random.nextDouble()) ;
+
+      assertEquals(linearArchive.add(solution), indexedArchive.add(solution)) ;
+
+      if ((i % 7 == 0) && (indexedArchive.size() > 1)) {
+        int position = random.nextInt(indexedArchive.size()) ;
+        DoubleSolution removedSolution = indexedArchive.getSolutionList().remove(position) ;
+        assertTrue(linearArchive.getSolutionList().remove(removedSolution)) ;
+      }
+      if (i % 11 == 0) {
+        Comparator<DoubleSolution> comparator = Comparator.comparingDouble(s -> s.getObjective(1)) ;
+        indexedArchive.getSolutionList().sort(comparator);
+        linearArchive.getSolutionList().sort(comparator);
+      }
+      if (i % 13 == 0) {
+        DoubleSolution dominatedSolution = createSolution(2.0, 2.0) ;
+        indexedArchive.getSolutionList().add(dominatedSolution) ;
+        indexedArchive.getSolutionList().remove(dominatedSolution) ;
+      }
+
+      assertEquals(linearArchive.getSolutionList(), indexedArchive.getSolutionList()) ;
+    }
+  }
+
+  @Test
+  public void shouldASolutionDominatingAllTheMembersReplaceThem() {
+    NonDominatedSolutionListArchive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>() ;
+    for (int i = 1; i < 10; i++) {
+      archive.add(createSolution(i, 10 - i)) ;
+    }
+    DoubleSolution solution = createSolution(0.0, 0.0) ;
+
+    assertTrue(archive.add(solution)) ;
+    assertEquals(1, archive.size()) ;
+    assertSame(solution, archive.get(0)) ;
+  }
+
+  @Test
+  public void shouldAnEqualSolutionNotBeAdded() {
+    NonDominatedSolutionListArchive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>() ;
+    archive.add(createSolution(1.0, 3.0)) ;
+    archive.add(createSolution(2.0, 2.0)) ;
+    archive.add(createSolution(3.0, 1.0)) ;
+
+    assertFalse(archive.add(createSolution(2.0, 2.0))) ;
+    assertFalse(archive.add(createSolution(2.0, 2.5))) ;
+    assertEquals(3, archive.size()) ;
+  }
+
+  @Test
+  public void shouldUnfeasibleSolutionsBeComparedByTheirConstraintViolation() {
+    NonDominatedSolutionListArchive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>() ;
+    OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>() ;
+
+    DoubleSolution feasibleSolution = createSolution(2.0, 2.0) ;
+    violation.setAttribute(feasibleSolution, 0.0);
+    archive.add(feasibleSolution) ;
+
+    DoubleSolution unfeasibleSolution = createSolution(1.0, 1.0) ;
+    violation.setAttribute(unfeasibleSolution, -1.0);
+    assertFalse(archive.add(unfeasibleSolution)) ;
+
+    DoubleSolution anotherFeasibleSolution = createSolution(1.0, 3.0) ;
+    violation.setAttribute(anotherFeasibleSolution, 0.0);
+    assertTrue(archive.add(anotherFeasibleSolution)) ;
+    assertEquals(2, archive.size()) ;
+  }
+
+  @Test
+  public void shouldTheArchiveWorkWithThreeObjectives() {
+    MockedProblem problem = new MockedProblem(3) ;
+    NonDominatedSolutionListArchive<DoubleSolution> archive = new NonDominatedSolutionListArchive<>() ;
+
+    DoubleSolution solution1 = problem.createSolution() ;
+    solution1.setObjective(0, 1.0);
+    solution1.setObjective(1, 2.0);
+    solution1.setObjective(2, 3.0);
+    DoubleSolution solution2 = problem.createSolution() ;
+    solution2.setObjective(0, 3.0);
+    solution2.setObjective(1, 2.0);
+    solution2.setObjective(2, 1.0);
+    DoubleSolution solution3 = problem.createSolution() ;
+    solution3.setObjective(0, 0.0);
+    solution3.setObjective(1, 2.0);
+    solution3.setObjective(2, 3.0);
+
+    assertTrue(archive.add(solution1)) ;
+    assertTrue(archive.add(solution2)) ;
+    assertTrue(archive.add(solution3)) ;
+    assertEquals(2, archive.size()) ;
+    assertSame(solution2, archive.get(0)) ;
+    assertSame(solution3, archive.get(1)) ;
+  }
+
+  private DoubleSolution createSolution(double first, double second) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, first);
+    solution.setObjective(1, second);
+
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedProblem extends AbstractDoubleProblem {
+    public MockedProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      lowerLimit.add(0.0) ;
+      upperLimit.add(1.0) ;
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
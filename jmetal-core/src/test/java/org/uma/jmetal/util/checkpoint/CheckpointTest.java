@@ -0,0 +1,214 @@
+package org.uma.jmetal.util.checkpoint;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.AuditableRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CheckpointTest {
+  private PseudoRandomGenerator previousRandomGenerator ;
+
+  /**
+   * The checkpoints contain the generator of {@link JMetalRandom}, so a serializable one is
+   * installed instead of the one left by other tests, and the previous one is restored afterwards
+   */
+  @Before
+  public void setup() {
+    previousRandomGenerator = JMetalRandom.getInstance().getRandomGenerator() ;
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator());
+  }
+
+  @After
+  public void tearDown() {
+    JMetalRandom.getInstance().setRandomGenerator(previousRandomGenerator);
+  }
+
+  @Test
+  public void shouldTheResumedRunProduceTheSameResultAsTheUninterruptedOne() throws IOException {
+    JMetalRandom.getInstance().setSeed(7);
+    MockedGeneticAlgorithm algorithm = new MockedGeneticAlgorithm(new MockedProblem(), 20, 400) ;
+    algorithm.run();
+    List<DoubleSolution> result = algorithm.getResult() ;
+
+    Path file = Files.createTempFile("checkpoint", ".bin") ;
+    try {
+      JMetalRandom.getInstance().setSeed(7);
+      MockedGeneticAlgorithm interruptedAlgorithm =
+          new MockedGeneticAlgorithm(new MockedProblem(), 20, 400) ;
+      interruptedAlgorithm.setCheckpoint(new Checkpoint(file));
+      interruptedAlgorithm.setTerminationCondition(new TerminationByEvaluations(200));
+      interruptedAlgorithm.run();
+
+      JMetalRandom.getInstance().setSeed(1);
+      MockedGeneticAlgorithm restoredAlgorithm = Checkpoint.restore(file) ;
+      restoredAlgorithm.setTerminationCondition(null);
+      restoredAlgorithm.resume();
+
+      List<DoubleSolution> restoredResult = restoredAlgorithm.getResult() ;
+      assertEquals(result.size(), restoredResult.size()) ;
+      for (int i = 0; i < result.size(); i++) {
+        for (int j = 0; j < result.get(i).getNumberOfVariables(); j++) {
+          assertEquals(result.get(i).getVariableValue(j), restoredResult.get(i).getVariableValue(j), 0.0) ;
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file) ;
+    }
+  }
+
+  @Test
+  public void shouldTheCheckpointBeSavedEveryGivenNumberOfIterations() throws IOException {
+    Path file = Files.createTempFile("checkpoint", ".bin") ;
+    try {
+      Checkpoint checkpoint = new Checkpoint(file).setIterationsBetweenCheckpoints(3) ;
+      MockedGeneticAlgorithm algorithm = new MockedGeneticAlgorithm(new MockedProblem(), 20, 240) ;
+      algorithm.setCheckpoint(checkpoint);
+      algorithm.run();
+
+      assertEquals(3, checkpoint.getNumberOfCheckpoints()) ;
+    } finally {
+      Files.deleteIfExists(file) ;
+    }
+  }
+
+  @Test
+  public void shouldSaveReportTheRandomGeneratorIfItCannotBeSerialized() throws IOException {
+    AuditableRandomGenerator randomGenerator =
+        new AuditableRandomGenerator(JMetalRandom.getInstance().getRandomGenerator()) ;
+    randomGenerator.addListener(audit -> { });
+    JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+
+    Path file = Files.createTempFile("checkpoint", ".bin") ;
+    try {
+      MockedGeneticAlgorithm algorithm = new MockedGeneticAlgorithm(new MockedProblem(), 20, 40) ;
+      algorithm.setCheckpoint(new Checkpoint(file));
+      algorithm.run();
+      fail("The checkpoint has been saved") ;
+    } catch (JMetalException e) {
+      assertTrue(e.getMessage().startsWith("The random generator of JMetalRandom")) ;
+      assertFalse(e.getMessage().contains("algorithm")) ;
+    } finally {
+      Files.deleteIfExists(file) ;
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldRestoreRaiseAnExceptionIfTheFileIsNotACheckpoint() throws IOException {
+    Path file = Files.createTempFile("checkpoint", ".bin") ;
+    try {
+      Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8}) ;
+      Checkpoint.restore(file) ;
+    } finally {
+      Files.deleteIfExists(file) ;
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldResumeRaiseAnExceptionIfTheAlgorithmHasNotBeenStarted() {
+    new MockedGeneticAlgorithm(new MockedProblem(), 20, 100).resume();
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedGeneticAlgorithm extends AbstractGeneticAlgorithm<DoubleSolution, List<DoubleSolution>> {
+    private final int maxEvaluations ;
+    private int evaluations ;
+
+    public MockedGeneticAlgorithm(DoubleProblem problem, int populationSize, int maxEvaluations) {
+      super(problem) ;
+      this.maxEvaluations = maxEvaluations ;
+      setMaxPopulationSize(populationSize);
+      crossoverOperator = new SBXCrossover(1.0, 20.0) ;
+      mutationOperator = new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0) ;
+      selectionOperator = new BinaryTournamentSelection<DoubleSolution>() ;
+    }
+
+    @Override protected void initProgress() {
+      evaluations = getMaxPopulationSize() ;
+    }
+
+    @Override protected void updateProgress() {
+      evaluations += getMaxPopulationSize() ;
+    }
+
+    @Override protected boolean isStoppingConditionReached() {
+      return evaluations >= maxEvaluations ;
+    }
+
+    @Override protected List<DoubleSolution> evaluatePopulation(List<DoubleSolution> population) {
+      for (DoubleSolution solution : population) {
+        getProblem().evaluate(solution);
+      }
+      return population;
+    }
+
+    @Override protected List<DoubleSolution> replacement(List<DoubleSolution> population,
+        List<DoubleSolution> offspringPopulation) {
+      return offspringPopulation;
+    }
+
+    @Override public List<DoubleSolution> getResult() {
+      return getPopulation();
+    }
+
+    @Override public String getName() {
+      return null;
+    }
+
+    @Override public String getDescription() {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedProblem extends AbstractDoubleProblem {
+    public MockedProblem() {
+      setNumberOfVariables(10);
+      setNumberOfObjectives(2);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(0.0) ;
+        upperLimit.add(1.0) ;
+      }
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      double sum = 0.0 ;
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        sum += solution.getVariableValue(i) ;
+      }
+      solution.setObjective(0, solution.getVariableValue(0));
+      solution.setObjective(1, sum);
+    }
+  }
+}
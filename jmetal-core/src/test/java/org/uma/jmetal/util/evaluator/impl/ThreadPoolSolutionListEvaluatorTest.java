@@ -0,0 +1,106 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ThreadPoolSolutionListEvaluatorTest {
+
+  @Test
+  public void shouldEvaluateEvaluateAllTheSolutions() {
+    MockedProblem problem = new MockedProblem() ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 101) ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator = new ThreadPoolSolutionListEvaluator<>(4, 7) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.shutdown();
+
+    for (DoubleSolution solution : solutionList) {
+      assertEquals(solution.getVariableValue(0), solution.getObjective(0), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldTheEvaluationsRunInThePoolOfTheEvaluator() {
+    MockedProblem problem = new MockedProblem() ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator = new ThreadPoolSolutionListEvaluator<>(3) ;
+
+    evaluator.evaluate(createSolutionList(problem, 30), problem) ;
+    evaluator.shutdown();
+
+    assertTrue(problem.threadNames.size() <= 3) ;
+    for (String name : problem.threadNames) {
+      assertTrue(name.startsWith("jmetal-evaluator-")) ;
+    }
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldEvaluateRaiseAnExceptionAfterShutdown() {
+    MockedProblem problem = new MockedProblem() ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator = new ThreadPoolSolutionListEvaluator<>(2) ;
+    evaluator.shutdown();
+
+    evaluator.evaluate(createSolutionList(problem, 2), problem) ;
+  }
+
+  @Test
+  public void shouldShutdownNotShutDownAnExecutorProvidedByTheUser() {
+    MockedProblem problem = new MockedProblem() ;
+    ExecutorService executor = Executors.newCachedThreadPool() ;
+    ThreadPoolSolutionListEvaluator<DoubleSolution> evaluator =
+        new ThreadPoolSolutionListEvaluator<>(executor, 2, 0) ;
+
+    evaluator.evaluate(createSolutionList(problem, 10), problem) ;
+    evaluator.shutdown();
+
+    assertFalse(executor.isShutdown()) ;
+    executor.shutdown();
+  }
+
+  private List<DoubleSolution> createSolutionList(MockedProblem problem, int size) {
+    List<DoubleSolution> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      solutionList.add(problem.createSolution()) ;
+    }
+
+    return solutionList ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockedProblem extends AbstractDoubleProblem {
+    private Set<String> threadNames = ConcurrentHashMap.newKeySet() ;
+
+    public MockedProblem() {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+
+      List<Double> lowerLimit = new ArrayList<>() ;
+      List<Double> upperLimit = new ArrayList<>() ;
+      lowerLimit.add(0.0) ;
+      upperLimit.add(1.0) ;
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      threadNames.add(Thread.currentThread().getName()) ;
+      solution.setObjective(0, solution.getVariableValue(0));
+    }
+  }
+}
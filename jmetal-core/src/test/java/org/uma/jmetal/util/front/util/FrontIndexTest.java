@@ -0,0 +1,92 @@
+package org.uma.jmetal.util.front.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.point.util.distance.DominanceDistance;
+import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
+import org.uma.jmetal.util.point.util.distance.PointDistance;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class FrontIndexTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheFrontIsEmpty() {
+    new FrontIndex(new ArrayFront(0, 2)) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldDistanceToClosestPointRaiseAnExceptionIfTheDimensionsAreDifferent() {
+    FrontIndex index = new FrontIndex(createRandomFront(10, 2, new Random(1))) ;
+    index.distanceToClosestPoint(new ArrayPoint(3)) ;
+  }
+
+  @Test
+  public void shouldTheEuclideanDistancesBeTheSameAsThoseOfFrontUtils() {
+    checkDistances(new EuclideanDistance()) ;
+  }
+
+  @Test
+  public void shouldTheDominanceDistancesBeTheSameAsThoseOfFrontUtils() {
+    checkDistances(new DominanceDistance()) ;
+  }
+
+  @Test
+  public void shouldContainsFindTheRepeatedPointsOfTheFront() {
+    Random random = new Random(2) ;
+    Front front = createRandomFront(500, 3, random) ;
+    for (int i = 0; i < 100; i++) {
+      front.setPoint(front.getNumberOfPoints() - 1 - i, new ArrayPoint(front.getPoint(i))) ;
+    }
+    FrontIndex index = new FrontIndex(front) ;
+
+    for (int i = 0; i < front.getNumberOfPoints(); i++) {
+      assertTrue(index.contains(new ArrayPoint(front.getPoint(i)))) ;
+    }
+
+    Point point = new ArrayPoint(front.getPoint(0)) ;
+    point.setDimensionValue(2, point.getDimensionValue(2) + 0.000001);
+    assertFalse(index.contains(point)) ;
+  }
+
+  private void checkDistances(PointDistance distance) {
+    Random random = new Random(3) ;
+    for (int dimensions = 2; dimensions <= 8; dimensions += 2) {
+      Front front = createRandomFront(1000, dimensions, random) ;
+      FrontIndex index = new FrontIndex(front) ;
+      for (int i = 0; i < 200; i++) {
+        Point point = new ArrayPoint(dimensions) ;
+        for (int j = 0; j < dimensions; j++) {
+          point.setDimensionValue(j, 1.2 * random.nextDouble() - 0.1);
+        }
+
+        assertEquals(FrontUtils.distanceToClosestPoint(point, front, distance),
+            index.distanceToClosestPoint(point, distance), 0.0) ;
+      }
+    }
+  }
+
+  private Front createRandomFront(int numberOfPoints, int dimensions, Random random) {
+    Front front = new ArrayFront(numberOfPoints, dimensions) ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      Point point = new ArrayPoint(dimensions) ;
+      for (int j = 0; j < dimensions; j++) {
+        point.setDimensionValue(j, random.nextDouble());
+      }
+      front.setPoint(i, point);
+    }
+
+    return front ;
+  }
+}
@@ -0,0 +1,109 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class JMetalRandomTest {
+  @After
+  public void tearDown() {
+    JMetalRandom.getInstance().setThreadRandomGenerator(null);
+  }
+
+  @Test
+  public void shouldTheSameSeedCreateTheSameStreams() {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+
+    random.setSeed(1234);
+    double[] values = drawValues(random.createStreams(3)) ;
+    random.setSeed(1234);
+    double[] otherValues = drawValues(random.createStreams(3)) ;
+
+    assertArrayEquals(values, otherValues, 0.0) ;
+  }
+
+  @Test
+  public void shouldConsecutiveCallsCreateDifferentStreams() {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    random.setSeed(1234);
+
+    double[] values = drawValues(random.createStreams(2)) ;
+    double[] otherValues = drawValues(random.createStreams(2)) ;
+
+    assertFalse(values[0] == otherValues[0]) ;
+    assertFalse(values[0] == values[1]) ;
+  }
+
+  @Test
+  public void shouldTheValuesBeTakenFromTheStreamBoundToTheThread() {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    PseudoRandomGenerator stream = JMetalRandom.createStream(5, 0) ;
+    double expected = JMetalRandom.createStream(5, 0).nextDouble() ;
+
+    random.setThreadRandomGenerator(stream);
+
+    assertSame(stream, random.getThreadRandomGenerator()) ;
+    assertEquals(expected, random.nextDouble(), 0.0) ;
+  }
+
+  @Test
+  public void shouldRunWithRestoreTheMasterGenerator() {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+
+    random.runWith(JMetalRandom.createStream(1, 1), () -> random.nextDouble());
+
+    assertNull(random.getThreadRandomGenerator()) ;
+  }
+
+  @Test
+  public void shouldParallelTasksUsingStreamsBeReproducible() throws Exception {
+    assertArrayEquals(runTasksInParallel(), runTasksInParallel(), 0.0) ;
+  }
+
+  private double[] runTasksInParallel() throws Exception {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    random.setSeed(99);
+    PseudoRandomGenerator[] streams = random.createStreams(8) ;
+
+    ExecutorService executor = Executors.newFixedThreadPool(4) ;
+    double[] results = new double[streams.length] ;
+    Future<?>[] tasks = new Future<?>[streams.length] ;
+    for (int i = 0; i < streams.length; i++) {
+      int task = i ;
+      tasks[i] = executor.submit(() -> random.runWith(streams[task], () -> {
+        for (int j = 0; j < 1000; j++) {
+          results[task] += random.nextDouble() ;
+        }
+      }));
+    }
+    for (Future<?> task : tasks) {
+      task.get() ;
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.SECONDS) ;
+
+    return results ;
+  }
+
+  private double[] drawValues(PseudoRandomGenerator[] streams) {
+    double[] values = new double[streams.length] ;
+    for (int i = 0; i < streams.length; i++) {
+      values[i] = streams[i].nextDouble() ;
+    }
+
+    return values ;
+  }
+}
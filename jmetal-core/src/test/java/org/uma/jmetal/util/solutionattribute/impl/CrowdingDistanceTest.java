@@ -76,4 +76,39 @@ public class CrowdingDistanceTest {
     assertEquals(Double.POSITIVE_INFINITY, (double)crowdingDistance.getAttribute(solutionList.get(1)), EPSILON) ;
     assertEquals(2.0, (double)crowdingDistance.getAttribute(solutionList.get(2)), EPSILON) ;
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldTheCrowdingDistanceOfFiveSolutionsCorrectlyAssigned() {
+    double[][] objectives = {{0.0, 4.0}, {4.0, 0.0}, {1.0, 2.0}, {2.0, 1.0}, {3.0, 0.5}} ;
+
+    double[] distance = CrowdingDistance.computeCrowdingDistances(objectives) ;
+
+    assertEquals(Double.POSITIVE_INFINITY, distance[0], EPSILON) ;
+    assertEquals(Double.POSITIVE_INFINITY, distance[1], EPSILON) ;
+    assertEquals(2.0 / 4.0 + 3.0 / 4.0, distance[2], EPSILON) ;
+    assertEquals(2.0 / 4.0 + 1.5 / 4.0, distance[3], EPSILON) ;
+    assertEquals(2.0 / 4.0 + 1.0 / 4.0, distance[4], EPSILON) ;
+  }
+
+  @Test
+  public void shouldComputeDensityEstimatorNotChangeTheOrderOfTheSolutionList() {
+    CrowdingDistance<PointSolution> crowdingDistance = new CrowdingDistance<>();
+
+    List<PointSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 4; i++) {
+      PointSolution solution = new PointSolution(2) ;
+      solution.setObjective(0, 3.0 - i);
+      solution.setObjective(1, i);
+      solutionList.add(solution) ;
+    }
+    List<PointSolution> copy = new ArrayList<>(solutionList) ;
+
+    crowdingDistance.computeDensityEstimator(solutionList);
+
+    assertEquals(copy, solutionList) ;
+    assertEquals(Double.POSITIVE_INFINITY, (double)crowdingDistance.getAttribute(solutionList.get(0)), EPSILON) ;
+    assertEquals(4.0 / 3.0, (double)crowdingDistance.getAttribute(solutionList.get(1)), EPSILON) ;
+    assertEquals(4.0 / 3.0, (double)crowdingDistance.getAttribute(solutionList.get(2)), EPSILON) ;
+    assertEquals(Double.POSITIVE_INFINITY, (double)crowdingDistance.getAttribute(solutionList.get(3)), EPSILON) ;
+  }
+}
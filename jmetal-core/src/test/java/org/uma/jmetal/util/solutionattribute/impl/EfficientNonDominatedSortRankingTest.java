@@ -0,0 +1,141 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.RankingComparator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class EfficientNonDominatedSortRankingTest {
+
+  @Test
+  public void shouldTheRankingOfAnEmptyPopulationReturnZeroSubfronts() {
+    List<Solution<?>> population = Collections.emptyList() ;
+    Ranking<Solution<?>> ranking = new EfficientNonDominatedSortRanking<Solution<?>>() ;
+    ranking.computeRanking(population) ;
+
+    assertEquals(0, ranking.getNumberOfSubfronts()) ;
+  }
+
+  @Test
+  public void shouldComputeRanksReturnTheExpectedRanksOfABiObjectiveSet() {
+    double[][] points = {
+        {1.0, 4.0}, {2.0, 3.0}, {2.0, 5.0}, {3.0, 3.0}, {1.0, 4.0}, {4.0, 1.0}, {5.0, 5.0}
+    } ;
+
+    int[] ranks = EfficientNonDominatedSortRanking.computeRanks(points) ;
+
+    assertArrayEquals(new int[]{0, 0, 1, 1, 0, 0, 2}, ranks) ;
+  }
+
+  @Test
+  public void shouldComputeRanksRankInfeasiblePointsAfterTheFeasibleOnes() {
+    double[][] points = {{1.0, 1.0}, {2.0, 2.0}, {0.0, 0.0}, {3.0, 0.5}} ;
+    double[] violation = {0.0, 0.0, -1.0, -0.5} ;
+
+    int[] ranks = EfficientNonDominatedSortRanking.computeRanks(points, violation) ;
+
+    assertArrayEquals(new int[]{0, 1, 3, 2}, ranks) ;
+  }
+
+  @Test
+  public void shouldTheRankingBeReadableByTheRankingComparator() {
+    DoubleProblem problem = new DummyProblem(2) ;
+    List<DoubleSolution> population = new ArrayList<>() ;
+    population.add(createSolution(problem, 1.0, 1.0)) ;
+    population.add(createSolution(problem, 2.0, 2.0)) ;
+
+    new EfficientNonDominatedSortRanking<DoubleSolution>().computeRanking(population) ;
+
+    assertEquals(-1, new RankingComparator<DoubleSolution>().compare(population.get(0), population.get(1))) ;
+  }
+
+  @Test
+  public void shouldTheRankingBeEqualToTheDominanceRankingWithTwoObjectives() {
+    compareWithDominanceRanking(2, 500, false) ;
+  }
+
+  @Test
+  public void shouldTheRankingBeEqualToTheDominanceRankingWithThreeObjectives() {
+    compareWithDominanceRanking(3, 500, false) ;
+  }
+
+  @Test
+  public void shouldTheRankingBeEqualToTheDominanceRankingWithFiveObjectives() {
+    compareWithDominanceRanking(5, 300, false) ;
+  }
+
+  @Test
+  public void shouldTheRankingBeEqualToTheDominanceRankingWhenThereAreConstraints() {
+    compareWithDominanceRanking(2, 300, true) ;
+    compareWithDominanceRanking(4, 300, true) ;
+  }
+
+  private void compareWithDominanceRanking(int numberOfObjectives, int populationSize, boolean constrained) {
+    DoubleProblem problem = new DummyProblem(numberOfObjectives) ;
+    Random random = new Random(numberOfObjectives * 31 + populationSize) ;
+
+    List<DoubleSolution> population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // A coarse grid forces duplicated values and duplicated solutions
+        solution.setObjective(j, random.nextInt(10)) ;
+      }
+      if (constrained) {
+        new OverallConstraintViolation<DoubleSolution>().setAttribute(solution,
+            random.nextBoolean() ? 0.0 : -random.nextInt(3)) ;
+      }
+      population.add(solution) ;
+    }
+
+    Ranking<DoubleSolution> expected = new DominanceRanking<DoubleSolution>("expected") ;
+    expected.computeRanking(population) ;
+    Ranking<DoubleSolution> ranking = new EfficientNonDominatedSortRanking<DoubleSolution>() ;
+    ranking.computeRanking(population) ;
+
+    assertEquals(expected.getNumberOfSubfronts(), ranking.getNumberOfSubfronts()) ;
+    for (DoubleSolution solution : population) {
+      assertEquals(expected.getAttribute(solution), ranking.getAttribute(solution)) ;
+    }
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      assertEquals(expected.getSubfront(i).size(), ranking.getSubfront(i).size()) ;
+      assertTrue(ranking.getSubfront(i).containsAll(expected.getSubfront(i))) ;
+    }
+  }
+
+  private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private class DummyProblem extends AbstractDoubleProblem {
+
+    public DummyProblem(int numberOfObjectives) {
+      setNumberOfObjectives(numberOfObjectives);
+    }
+
+    @Override
+    public void evaluate(DoubleSolution solution) {
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SolutionAttributeStoreTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test
+  public void shouldTheRegistryAssignTheSameSlotToTheSameIdentifier() {
+    int slot = SolutionAttributeRegistry.getSlot("storeTestAttribute") ;
+
+    assertEquals(slot, SolutionAttributeRegistry.getSlot("storeTestAttribute")) ;
+    assertEquals("storeTestAttribute", SolutionAttributeRegistry.getIdentifier(slot)) ;
+  }
+
+  @Test
+  public void shouldGetReturnNullIfTheAttributeHasNotBeenSet() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+
+    assertNull(store.get("unsetAttribute")) ;
+    assertFalse(store.contains(SolutionAttributeRegistry.getSlot("unsetAttribute"))) ;
+  }
+
+  @Test
+  public void shouldTypedValuesBeReadableThroughTheGenericMethods() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    int doubleSlot = SolutionAttributeRegistry.getSlot("doubleAttribute") ;
+    int intSlot = SolutionAttributeRegistry.getSlot("intAttribute") ;
+
+    store.setDouble(doubleSlot, 2.5);
+    store.setInt(intSlot, 3);
+
+    assertEquals(2.5, (double) store.get("doubleAttribute"), EPSILON) ;
+    assertEquals(3, (int) store.get("intAttribute")) ;
+    assertEquals(3.0, store.getDouble(intSlot), EPSILON) ;
+  }
+
+  @Test
+  public void shouldGenericValuesBeReadableThroughTheTypedMethods() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    store.set("genericDoubleAttribute", 1.5);
+    store.set("genericIntAttribute", 4);
+
+    assertEquals(1.5, store.getDouble(SolutionAttributeRegistry.getSlot("genericDoubleAttribute")), EPSILON) ;
+    assertEquals(4, store.getInt(SolutionAttributeRegistry.getSlot("genericIntAttribute"))) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGetIntRaiseAnExceptionIfTheValueIsNotAnInteger() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    store.set("stringAttribute", "value");
+
+    store.getInt(SolutionAttributeRegistry.getSlot("stringAttribute")) ;
+  }
+
+  @Test
+  public void shouldSettingANullValueRemoveTheAttribute() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    store.setDouble(SolutionAttributeRegistry.getSlot("removedAttribute"), 1.0);
+    store.set("removedAttribute", null);
+
+    assertFalse(store.contains(SolutionAttributeRegistry.getSlot("removedAttribute"))) ;
+  }
+
+  @Test
+  public void shouldTheCopyConstructorCreateAnIndependentCopy() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    int slot = SolutionAttributeRegistry.getSlot("copiedAttribute") ;
+    store.setDouble(slot, 1.0);
+    store.set("copiedObjectAttribute", "value");
+
+    SolutionAttributeStore copy = new SolutionAttributeStore(store) ;
+    assertEquals(store, copy) ;
+    assertEquals(store.hashCode(), copy.hashCode()) ;
+
+    copy.setDouble(slot, 2.0);
+    assertEquals(1.0, store.getDouble(slot), EPSILON) ;
+    assertFalse(store.equals(copy)) ;
+  }
+
+  @Test
+  public void shouldStoresWithTheSameValuesStoredDifferentlyBeEqual() {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    store.setInt(SolutionAttributeRegistry.getSlot("equalAttribute"), 1);
+    SolutionAttributeStore otherStore = new SolutionAttributeStore() ;
+    otherStore.set("equalAttribute", 1);
+
+    assertEquals(store, otherStore) ;
+    assertEquals(store.hashCode(), otherStore.hashCode()) ;
+  }
+
+  @Test
+  public void shouldTheStoreBeSerializable() throws Exception {
+    SolutionAttributeStore store = new SolutionAttributeStore() ;
+    store.setDouble(SolutionAttributeRegistry.getSlot("serializedDouble"), 0.25);
+    store.setInt(SolutionAttributeRegistry.getSlot("serializedInt"), 7);
+    store.set("serializedObject", "value");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    ObjectOutputStream output = new ObjectOutputStream(bytes) ;
+    output.writeObject(store);
+    output.close();
+
+    ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())) ;
+    SolutionAttributeStore readStore = (SolutionAttributeStore) input.readObject() ;
+
+    assertEquals(store, readStore) ;
+    assertTrue(readStore.toString().contains("serializedObject=value")) ;
+  }
+}
@@ -0,0 +1,51 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.termination.TerminationCondition;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CompositeTerminationConditionTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheListOfConditionsIsEmpty() {
+    new CompositeTerminationCondition(new ArrayList<TerminationCondition>()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfAConditionIsNull() {
+    new CompositeTerminationCondition(new TerminationByEvaluations(10), null) ;
+  }
+
+  @Test
+  public void shouldIsMetReturnTrueIfAnyConditionIsMet() {
+    TerminationByCancellation cancellation = new TerminationByCancellation() ;
+    TerminationCondition condition =
+        new CompositeTerminationCondition(new TerminationByEvaluations(100), cancellation) ;
+    condition.start();
+
+    assertFalse(condition.isMet(null, 50)) ;
+    assertTrue(condition.isMet(null, 100)) ;
+
+    cancellation.cancel();
+    assertTrue(condition.isMet(null, 50)) ;
+  }
+
+  @Test
+  public void shouldStartRestartAllTheConditions() throws InterruptedException {
+    TerminationByComputingTime time = new TerminationByComputingTime(10) ;
+    TerminationCondition condition = new CompositeTerminationCondition(time) ;
+    Thread.sleep(20);
+
+    assertTrue(condition.isMet(null, 0)) ;
+    condition.start();
+    assertTrue(time.getComputingTime() < 20) ;
+  }
+}
@@ -0,0 +1,105 @@
+package org.uma.jmetal.util.termination.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class TerminationByIndicatorStagnationTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheIndicatorIsNull() {
+    new TerminationByIndicatorStagnation<Double>(null, 0.0, 1) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfChecksIsZero() {
+    new TerminationByIndicatorStagnation<Double>(new MockedIndicator(false), 0.0, 0) ;
+  }
+
+  @Test
+  public void shouldTheConditionBeMetWhenTheIndicatorDoesNotImprove() {
+    MockedAlgorithm algorithm = new MockedAlgorithm() ;
+    TerminationByIndicatorStagnation<Double> condition =
+        new TerminationByIndicatorStagnation<>(new MockedIndicator(false), 0.01, 2) ;
+    condition.start();
+
+    algorithm.value = 1.0 ;
+    assertFalse(condition.isMet(algorithm, 0)) ;
+    algorithm.value = 1.5 ;
+    assertFalse(condition.isMet(algorithm, 0)) ;
+    algorithm.value = 1.505 ;
+    assertFalse(condition.isMet(algorithm, 0)) ;
+    algorithm.value = 1.4 ;
+    assertTrue(condition.isMet(algorithm, 0)) ;
+    assertEquals(1.5, condition.getBestValue(), 0.0) ;
+  }
+
+  @Test
+  public void shouldTheConditionTakeIntoAccountIndicatorsToMinimize() {
+    MockedAlgorithm algorithm = new MockedAlgorithm() ;
+    TerminationByIndicatorStagnation<Double> condition =
+        new TerminationByIndicatorStagnation<>(new MockedIndicator(true), 0.0, 1) ;
+    condition.start();
+
+    algorithm.value = 1.0 ;
+    assertFalse(condition.isMet(algorithm, 0)) ;
+    algorithm.value = 0.5 ;
+    assertFalse(condition.isMet(algorithm, 0)) ;
+    algorithm.value = 0.7 ;
+    assertTrue(condition.isMet(algorithm, 0)) ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedIndicator extends GenericIndicator<Double> {
+    private final boolean minimize ;
+
+    MockedIndicator(boolean minimize) {
+      this.minimize = minimize ;
+    }
+
+    @Override public Double evaluate(List<Double> values) {
+      return values.get(0) ;
+    }
+
+    @Override public boolean isTheLowerTheIndicatorValueTheBetter() {
+      return minimize ;
+    }
+
+    @Override public String getName() {
+      return "Mocked" ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockedAlgorithm implements Algorithm<List<Double>> {
+    double value ;
+
+    @Override public void run() {
+    }
+
+    @Override public List<Double> getResult() {
+      List<Double> result = new ArrayList<>() ;
+      result.add(value) ;
+      return result ;
+    }
+
+    @Override public String getName() {
+      return null ;
+    }
+
+    @Override public String getDescription() {
+      return null ;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package org.uma.jmetal.runner.multiobjective;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.AsynchronousNSGAII;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AbstractAlgorithmRunner;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+
+/**
+ * Class for configuring and running the NSGA-II algorithm (asynchronous parallel version)
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+
+public class AsynchronousNSGAIIRunner extends AbstractAlgorithmRunner {
+  /**
+   * @param args Command line arguments.
+   * @throws SecurityException
+   * Invoking command:
+  java org.uma.jmetal.runner.multiobjective.AsynchronousNSGAIIRunner problemName [referenceFront]
+   */
+  public static void main(String[] args) throws JMetalException, FileNotFoundException {
+    DoubleProblem problem;
+    Algorithm<List<DoubleSolution>> algorithm;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+    SelectionOperator<List<DoubleSolution>, DoubleSolution> selection;
+
+    String referenceParetoFront = "" ;
+
+    String problemName ;
+    if (args.length == 1) {
+      problemName = args[0];
+    } else if (args.length == 2) {
+      problemName = args[0] ;
+      referenceParetoFront = args[1] ;
+    } else {
+      problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+      referenceParetoFront = "jmetal-problem/src/test/resources/pareto_fronts/ZDT1.pf" ;
+    }
+
+    problem = (DoubleProblem) ProblemUtils.<DoubleSolution> loadProblem(problemName);
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    selection = new BinaryTournamentSelection<DoubleSolution>(
+        new RankingAndCrowdingDistanceComparator<DoubleSolution>());
+
+    int numberOfWorkers = 8 ;
+    algorithm = new AsynchronousNSGAII<DoubleSolution>(problem, 25000, 100, crossover, mutation,
+        selection, new EfficientNonDominatedSortRanking<DoubleSolution>(), numberOfWorkers) ;
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+            .execute() ;
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+    long computingTime = algorithmRunner.getComputingTime() ;
+
+    JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+
+    printFinalSolutionSet(population);
+    if (!referenceParetoFront.equals("")) {
+      printQualityIndicators(population, referenceParetoFront) ;
+    }
+  }
+}
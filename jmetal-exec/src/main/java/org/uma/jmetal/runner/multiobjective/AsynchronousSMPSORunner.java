@@ -0,0 +1,76 @@
+package org.uma.jmetal.runner.multiobjective;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.smpso.AsynchronousSMPSO;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AbstractAlgorithmRunner;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+
+/**
+ * Class for configuring and running the SMPSO algorithm (asynchronous parallel version)
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+
+public class AsynchronousSMPSORunner extends AbstractAlgorithmRunner {
+  /**
+   * @param args Command line arguments.
+   * @throws SecurityException
+   * Invoking command:
+  java org.uma.jmetal.runner.multiobjective.AsynchronousSMPSORunner problemName [referenceFront]
+   */
+  public static void main(String[] args) throws JMetalException, FileNotFoundException {
+    DoubleProblem problem;
+    Algorithm<List<DoubleSolution>> algorithm;
+    MutationOperator<DoubleSolution> mutation;
+
+    String referenceParetoFront = "" ;
+
+    String problemName ;
+    if (args.length == 1) {
+      problemName = args[0];
+    } else if (args.length == 2) {
+      problemName = args[0] ;
+      referenceParetoFront = args[1] ;
+    } else {
+      problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+      referenceParetoFront = "jmetal-problem/src/test/resources/pareto_fronts/ZDT1.pf" ;
+    }
+
+    problem = (DoubleProblem) ProblemUtils.<DoubleSolution> loadProblem(problemName);
+
+    BoundedArchive<DoubleSolution> archive = new CrowdingDistanceArchive<DoubleSolution>(100) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    int numberOfWorkers = 8 ;
+    algorithm = new AsynchronousSMPSO(problem, 100, archive, mutation, 25000,
+        0.0, 1.0, 0.0, 1.0, 1.5, 2.5, 1.5, 2.5, 0.1, -1.0, -1.0, numberOfWorkers) ;
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+            .execute() ;
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+    long computingTime = algorithmRunner.getComputingTime() ;
+
+    JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+
+    printFinalSolutionSet(population);
+    if (!referenceParetoFront.equals("")) {
+      printQualityIndicators(population, referenceParetoFront) ;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package org.uma.jmetal.runner.singleobjective;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.RestartCovarianceMatrixAdaptationEvolutionStrategy;
+import org.uma.jmetal.algorithm.singleobjective.evolutionstrategy.RestartCovarianceMatrixAdaptationEvolutionStrategy.RestartStrategy;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.singleobjective.Rastrigin;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class to configure and run a BIPOP-CMA-ES algorithm running four restarts concurrently
+ */
+public class RestartCovarianceMatrixAdaptationEvolutionStrategyRunner {
+  /**
+   */
+  public static void main(String[] args) throws Exception {
+
+    Algorithm<DoubleSolution> algorithm;
+    DoubleProblem problem = new Rastrigin(20) ;
+
+    algorithm = new RestartCovarianceMatrixAdaptationEvolutionStrategy.Builder(problem)
+            .setRestartStrategy(RestartStrategy.BIPOP)
+            .setMaxEvaluations(500000)
+            .setNumberOfConcurrentRestarts(4)
+            .build() ;
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+            .execute() ;
+
+    DoubleSolution solution = algorithm.getResult() ;
+    List<DoubleSolution> population = new ArrayList<>(1) ;
+    population.add(solution) ;
+
+    long computingTime = algorithmRunner.getComputingTime() ;
+
+    new SolutionListOutput(population)
+            .setSeparator("\t")
+            .setVarFileOutputContext(new DefaultFileOutputContext("VAR.tsv"))
+            .setFunFileOutputContext(new DefaultFileOutputContext("FUN.tsv"))
+            .print();
+
+    JMetalLogger.logger.info("Total execution time: " + computingTime + "ms");
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.tsv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.tsv");
+
+  }
+}
@@ -14,12 +14,24 @@ import java.util.StringTokenizer;
 
 /**
  * Created by ajnebro on 14/1/15.
+ *
+ * The matrices of the instance are stored in row-major order in arrays of doubles, and each thread
+ * evaluating solutions uses its own buffers, so the evaluation does not allocate memory.
  */
 @SuppressWarnings("serial")
 public class BigOpt2015 extends AbstractDoubleProblem {
-  private List<List<Double>> mixed ;
-  private List<List<Double>> matrixA ;
-  private List<List<Double>> icaComponent ;
+  private double[] mixed ;
+  private double[] matrixA ;
+  private double[] icaComponent ;
+
+  /* Values of the rows of the mixed matrix minus their first one, and standard deviations of the rows */
+  private double[] mixedDifferences ;
+  private double[] mixedStandardDeviations ;
+
+  /* Number of columns of the mixed and ICA component matrices */
+  private int signalLength ;
+
+  private transient volatile ThreadLocal<Workspace> workspace ;
 
   double f1max = -1000000;
   double f2max = -1000000;
@@ -54,31 +66,23 @@ public class BigOpt2015 extends AbstractDoubleProblem {
   /** Evaluate() method */
   @Override
   public void evaluate(DoubleSolution solution) {
-    List<List<Double>> s1 ;
-    List<Double> s1Temp ;
+    Workspace buffers = getWorkspace() ;
+    double[] s1 = buffers.s1 ;
+    double[] x1 = buffers.x1 ;
 
-    s1 = new ArrayList<>() ;
-
-    for (int i = 0 ; i < dTypeG; i++) {
-      s1Temp = new ArrayList<>() ;
-      for (int j = 0 ; j < icaComponent.get(0).size(); j++) {
-        s1Temp.add(solution.getVariableValue(i*(icaComponent.get(0).size())+j)) ;
-      }
-      s1.add(s1Temp) ;
+    for (int i = 0 ; i < s1.length; i++) {
+      s1[i] = solution.getVariableValue(i) ;
     }
 
-    List<List<Double>> x1 = multiplyWithOutAMP(matrixA, s1) ;
-    List<List<Double>> cor1 = correlation(x1, mixed) ;
+    multiplyWithOutAMP(matrixA, s1, x1) ;
 
     double sum = 0.0 ;
-    for (int i = 0 ; i < icaComponent.size(); i++) {
-      for (int j = 0 ; j < icaComponent.get(i).size(); j++) {
-        sum += Math.pow(icaComponent.get(i).get(j) - s1.get(i).get(j), 2) ;
-      }
+    for (int i = 0 ; i < icaComponent.length; i++) {
+      sum += Math.pow(icaComponent[i] - s1[i], 2) ;
     }
 
-    double obj1 = diagonal1(cor1)+diagonal2(cor1) ;
-    double obj2 = sum/(icaComponent.size() * icaComponent.get(0).size()) ;
+    double obj1 = correlationError(x1) ;
+    double obj2 = sum/icaComponent.length ;
 
     if (obj1 > f1max) {
       f1max = obj1 ;
@@ -101,28 +105,39 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     solution.setObjective(1, obj2);
   }
 
-  private void loadData(String problemId, String fName, int dType, int dLength) {
-    List<List<Double>> list ;
+  /**
+   * Reads a matrix of the instance
+   *
+   * @return The matrix in row-major order
+   */
+  private double[] loadData(String problemId, String fName, int dType, int dLength) {
     String fileName = "/cec2015Comp/"+problemId+fName ;
 
     InputStream inputStream = createInputStream(fileName) ;
+    if (inputStream == null) {
+      throw new JMetalException("File not found: " + fileName) ;
+    }
 
     InputStreamReader isr = new InputStreamReader(inputStream);
     BufferedReader br = new BufferedReader(isr);
 
-    list = new ArrayList<>() ;
+    double[] matrix = new double[dType * dLength] ;
+    int rows = 0 ;
     String aux ;
     try {
       aux = br.readLine();
 
       while (aux != null) {
         StringTokenizer tokenizer = new StringTokenizer(aux);
-        List<Double> doubleList = new ArrayList<>();
-        while (tokenizer.hasMoreTokens()) {
-          double value = new Double(tokenizer.nextToken());
-          doubleList.add(value) ;
+        if (tokenizer.hasMoreTokens()) {
+          if ((rows == dType) || (tokenizer.countTokens() != dLength)) {
+            throw new JMetalException("The file " + fileName + " is not a " + dType + "x" + dLength + " matrix") ;
+          }
+          for (int col = 0; col < dLength; col++) {
+            matrix[rows * dLength + col] = Double.parseDouble(tokenizer.nextToken()) ;
+          }
+          rows++ ;
         }
-        list.add(doubleList);
         aux = br.readLine();
       }
       br.close();
@@ -132,15 +147,11 @@ public class BigOpt2015 extends AbstractDoubleProblem {
       throw new JMetalException("Format number exception when reading file", e);
     }
 
-    if (fName.equals("X.txt")) {
-      mixed = list ;
-    } else if (fName.equals("S.txt")) {
-      icaComponent = list ;
-    } else if (fName.equals("A.txt")) {
-      matrixA = list ;
-    } else {
-      throw new JMetalException("Wrong name: " + fName) ;
+    if (rows != dType) {
+      throw new JMetalException("The file " + fileName + " is not a " + dType + "x" + dLength + " matrix") ;
     }
+
+    return matrix ;
   }
 
   private void loadData(String problemId){
@@ -165,10 +176,21 @@ public class BigOpt2015 extends AbstractDoubleProblem {
       dType=19;
     }
     dTypeG = dType;
-
-    loadData(problemId, "X.txt", dType, 256);
-    loadData(problemId, "S.txt", dType, 256);
-    loadData(problemId, "A.txt", dType, dType);
+    signalLength = 256 ;
+
+    mixed = loadData(problemId, "X.txt", dType, signalLength);
+    icaComponent = loadData(problemId, "S.txt", dType, signalLength);
+    matrixA = loadData(problemId, "A.txt", dType, dType);
+
+    mixedDifferences = new double[mixed.length] ;
+    mixedStandardDeviations = new double[dType] ;
+    for (int row = 0; row < dType; row++) {
+      int offset = row * signalLength ;
+      for (int i = 0; i < signalLength; i++) {
+        mixedDifferences[offset + i] = mixed[offset + i] - mixed[offset] ;
+      }
+      mixedStandardDeviations[row] = standardDeviation(mixed, offset, signalLength) ;
+    }
   }
 
   private InputStream createInputStream(String fileName) {
@@ -177,120 +199,119 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     return inputStream ;
   }
 
-  List<Double> newMeanStandardDeviation(List<Double> list) {
-    List<Double> result = new ArrayList<>();
+  private Workspace getWorkspace() {
+    if (workspace == null) {
+      synchronized (this) {
+        if (workspace == null) {
+          workspace = ThreadLocal.withInitial(() -> new Workspace(icaComponent.length)) ;
+        }
+      }
+    }
 
+    return workspace.get() ;
+  }
+
+  /**
+   * Standard deviation of the values in the positions [offset, offset + length) of an array
+   */
+  double standardDeviation(double[] values, int offset, int length) {
     double sum = 0 ;
-    for (double value : list) {
-      sum += value ;
+    for (int i = offset; i < offset + length; i++) {
+      sum += values[i] ;
     }
 
-    double mean = sum / list.size() ;
+    double mean = sum / length ;
 
     double accum = 0 ;
-    for (double value : list) {
-      accum += (value - mean) * (value - mean) ;
+    for (int i = offset; i < offset + length; i++) {
+      accum += (values[i] - mean) * (values[i] - mean) ;
     }
 
-    double stdev = Math.sqrt(accum/(list.size()-1)) ;
-    result.add(mean) ;
-    result.add(stdev) ;
-
-    return result ;
+    return Math.sqrt(accum/(length-1)) ;
   }
 
-  double vectorCorrelation(List<Double> list1, List<Double> list2) {
-    List<Double> a1 = newMeanStandardDeviation(list1) ;
-    List<Double> b1 = newMeanStandardDeviation(list2) ;
-
+  /**
+   * Correlation between a row of a matrix and a row of the mixed matrix
+   *
+   * @param x Matrix in row-major order
+   * @param row Row of the matrix
+   * @param standardDeviation Standard deviation of the row of the matrix
+   * @param mixedRow Row of the mixed matrix
+   */
+  double vectorCorrelation(double[] x, int row, double standardDeviation, int mixedRow) {
     double c1 = 0;
     double temp1, temp2;
 
-    double a = a1.get(1) * b1.get(1) ;
+    double a = standardDeviation * mixedStandardDeviations[mixedRow] ;
     if (Math.abs(a) > 0.00001){
-      for (int i = 0; i < list1.size(); i++){
-        temp1 = ((list1.get(i) - list1.get(0)) );
-        temp2 = ((list2.get(i) - list2.get(0)) );
+      int offset = row * signalLength ;
+      int mixedOffset = mixedRow * signalLength ;
+      for (int i = 0; i < signalLength; i++){
+        temp1 = ((x[offset + i] - x[offset]) );
+        temp2 = mixedDifferences[mixedOffset + i] ;
 
         c1 += temp1*temp2;
 
       }
-      c1 /= (list1.size()*a);
+      c1 /= (signalLength*a);
       return c1;
     }
     else
       return 0;
   }
 
-  List<List<Double>> correlation(List<List<Double>> list1, List<List<Double>> list2) {
-    List<List<Double>> m ;
-    List<Double> temp ;
-
-    m = new ArrayList<>() ;
-
-    for (List<Double> i : list1) {
-      temp = new ArrayList<>() ;
-      for (List<Double> j : list2) {
-        temp.add(vectorCorrelation(i, j)) ;
-      }
-
-      m.add(temp) ;
-    }
-
-    return m ;
-  }
-
-  double diagonal1(List<List<Double>> list){
-    double sum = 0;
-
-    for (int i = 0; i < list.size(); i++){
-      for (int j = 0; j < list.size(); j++){
-        if (i == j){
-          sum += Math.pow(1 - list.get(i).get(j), 2);
+  /**
+   * Sum of the mean squared distance of the diagonal of the matrix of correlations between the
+   * rows of a matrix and those of the mixed matrix to 1, and of the mean squared value of the rest
+   * of the correlations
+   */
+  double correlationError(double[] x) {
+    int size = dTypeG ;
+    double diagonal = 0 ;
+    double nonDiagonal = 0 ;
+
+    for (int i = 0; i < size; i++) {
+      double standardDeviation = standardDeviation(x, i * signalLength, signalLength) ;
+      for (int j = 0; j < size; j++) {
+        double correlation = vectorCorrelation(x, i, standardDeviation, j) ;
+        if (i == j) {
+          diagonal += Math.pow(1 - correlation, 2);
+        } else {
+          nonDiagonal += Math.pow(correlation, 2);
         }
       }
     }
-    return sum/list.size();
-  }
 
-  double diagonal2(List<List<Double>> list){
-    double sum = 0;
-
-    for (int i = 0; i < list.size(); i++){
-      for (int j = 0; j < list.size(); j++){
-        if (i == j){
-
-        }
-        else{
-          sum += Math.pow(list.get(i).get(j), 2);
+    return diagonal/size + nonDiagonal/size/(size-1) ;
+  }
 
+  /**
+   * Computes the product of the dType x dType matrix A by the dType x 256 matrix s, storing it in x
+   */
+  void multiplyWithOutAMP(double[] a, double[] s, double[] x) {
+    int size = dTypeG ;
+
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < signalLength; col++) {
+        double val = 0.0 ;
+        for (int inner = 0; inner < size; inner++) {
+          val = val + a[row * size + inner] * s[inner * signalLength + col] ;
         }
+        x[row * signalLength + col] = val ;
       }
     }
-    return sum/list.size()/(list.size()-1);
   }
 
-  List<List<Double>> multiplyWithOutAMP(List<List<Double>> list1, List<List<Double>> list2) {
-    List<List<Double>> c ;
-    List<Double> cTemp;
+  /**
+   * Buffers used by a thread to evaluate solutions
+   */
+  private static class Workspace {
+    private final double[] s1 ;
+    private final double[] x1 ;
 
-    c = new ArrayList<>() ;
-    for (int row = 0; row < list1.size(); row++) {
-      cTemp = new ArrayList<>() ;
-      for (int col = 0; col < list2.get(0).size(); col++) {
-        cTemp.add(0.0);
-      }
-      c.add(cTemp);
-    }
-
-    for (int row = 0; row < list1.size(); row++) {
-      for (int col = 0; col < list2.get(row).size(); col++) {
-        for (int inner = 0; inner < list1.get(0).size(); inner++) {
-          double val = c.get(row).get(col) ;
-          c.get(row).set(col, val + list1.get(row).get(inner) * list2.get(inner).get(col));
-        }
-      }
+    Workspace(int size) {
+      s1 = new double[size] ;
+      x1 = new double[size] ;
     }
-    return c;
   }
 }
@@ -20,6 +20,7 @@ import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
 
 import java.io.BufferedReader;
@@ -31,6 +32,7 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,7 +41,7 @@ import java.util.logging.Logger;
  * Spatial Bars Structure (Estructuras de Barras Espaciales)
  */
 @SuppressWarnings("serial")
-public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution> {
+public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution>, Cloneable {
   /**
    * Constructor.
    * Creates a default instance of the Ebes problem.
@@ -49,7 +51,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   /**
    * Stores the number of Bar Groups
    */
-  protected int numberOfEval_ ;
+  protected AtomicInteger numberOfEval_ = new AtomicInteger() ;
 
  /*
     protected int maxEvaluations_ ;
@@ -603,6 +605,18 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   double [][]KijSOG = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
   double [][]KjiSOG = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
   double [][]KjjSOG = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  // auxiliary matrices and vectors for the products of the matrices of an element
+  double [][]auxR = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double [][]auxS = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double [][]auxT = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
+  double []auxDi = new double [numberOfLibertyDegree_];
+  double []auxDj = new double [numberOfLibertyDegree_];
+  double []auxEi = new double [numberOfLibertyDegree_];
+  double []auxEj = new double [numberOfLibertyDegree_];
+
+  // copies of the problem used by each thread to evaluate the solutions
+  private transient volatile ThreadLocal<Ebes> workspace ;
+  private transient boolean workspaceInUse ;
 
   // matrix indexes of groups elements
   int INDEX_=0; // index for the asociation with elements group
@@ -748,7 +762,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     // EVITO RECORRER INNECESARIAMENTE TODOS LOS NUDOS
 
     setName("Ebes");
-    numberOfEval_ = 1;
+    numberOfEval_.set(1);
 
     try {
       // read file topology structural
@@ -942,6 +956,8 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     }
     matrixWidthBand_ = (elementsBetweenDiffGreat_ +1) * numberOfLibertyDegree_;
 
+    allocateWorkspace();
+
   } // end InitializeEBEs
 
   @Override
@@ -950,11 +966,165 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   }
 
   /**
-   * Evaluates a solution
+   * Evaluates a solution. The structure is calculated in the workspace of the current thread, so
+   * several threads can evaluate solutions at the same time
    * @param solution The solution to evaluate
    */
   @Override
   public void evaluate(DoubleSolution solution) {
+    getWorkspace().computeObjectives(solution);
+
+    countEvaluation();
+  }
+
+  /**
+   * Evaluates the constraint overhead of a solution, using the results of the last call to
+   * {@link #evaluate(DoubleSolution)} made by the current thread, which must be the one of the
+   * same solution
+   * @param solution The solution
+   * @throws JMetalException
+   */
+  @Override
+  public void evaluateConstraints(DoubleSolution solution) {
+    getWorkspace().computeConstraints(solution);
+  }
+
+  private void countEvaluation() {
+    int evaluations = numberOfEval_.incrementAndGet() ;
+
+    if ((evaluations % 1000) == 0) {
+      JMetalLogger.logger.fine("Evaluations: " + evaluations);
+    }
+  }
+
+  /**
+   * Returns the workspace of the current thread. The first thread evaluating solutions uses the
+   * problem itself, so the getters return the results of its last evaluation as before, and each
+   * other thread gets its own copy of the problem
+   */
+  private Ebes getWorkspace() {
+    if (workspace == null) {
+      synchronized (this) {
+        if (workspace == null) {
+          workspace = ThreadLocal.withInitial(this::claimWorkspace) ;
+        }
+      }
+    }
+
+    return workspace.get() ;
+  }
+
+  private synchronized Ebes claimWorkspace() {
+    if (!workspaceInUse) {
+      workspaceInUse = true ;
+      return this ;
+    }
+
+    return createWorkspace() ;
+  }
+
+  /**
+   * Creates a copy of the problem sharing the data of the structure, which are not modified by the
+   * evaluations, with its own groups (their mechanical characteristics depend on the solution) and
+   * its own matrices and results
+   */
+  private Ebes createWorkspace() {
+    Ebes copy ;
+    try {
+      copy = (Ebes) clone() ;
+    } catch (CloneNotSupportedException e) {
+      throw new JMetalException(e) ;
+    }
+
+    copy.workspace = null ;
+    copy.workspaceInUse = true ;
+    copy.Groups_ = new double[Groups_.length][] ;
+    for (int gr = 0; gr < Groups_.length; gr++) {
+      copy.Groups_[gr] = Groups_[gr].clone() ;
+    }
+
+    int n = numberOfLibertyDegree_ ;
+    copy.Qi = new double [n];
+    copy.Qj = new double [n];
+    copy.pi = new double [n];
+    copy.pj = new double [n];
+    copy.Kii = new double [n][n];
+    copy.Kij = new double [n][n];
+    copy.Kji = new double [n][n];
+    copy.Kjj = new double [n][n];
+    copy.KGii = new double [n][n];
+    copy.KGij = new double [n][n];
+    copy.KGji = new double [n][n];
+    copy.KGjj = new double [n][n];
+    copy.Rij = new double [n][n];
+    copy.Rji = new double [n][n];
+    copy.RTij = new double [n][n];
+    copy.RTji = new double [n][n];
+    copy.Rpij = new double [n][n];
+    copy.Rpji = new double [n][n];
+    copy.RpTij = new double [n][n];
+    copy.RpTji = new double [n][n];
+    copy.KiiSOG = new double [n][n];
+    copy.KijSOG = new double [n][n];
+    copy.KjiSOG = new double [n][n];
+    copy.KjjSOG = new double [n][n];
+    copy.auxR = new double [n][n];
+    copy.auxS = new double [n][n];
+    copy.auxT = new double [n][n];
+    copy.auxDi = new double [n];
+    copy.auxDj = new double [n];
+    copy.auxEi = new double [n];
+    copy.auxEj = new double [n];
+    copy.allocateWorkspace();
+
+    return copy ;
+  }
+
+  /**
+   * Allocates the matrices of the calculus of the structure, which are cleared instead of
+   * allocated again in each evaluation
+   */
+  private void allocateWorkspace() {
+    int nd = numberOfLibertyDegree_ * numberOfNodes;
+
+    Efforti_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    Effortj_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    DisplacementNodes_= new double[nd][numberOfWeigthHypothesis_];
+    Straini_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    Strainj_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
+    StrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    OldStrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    OldStrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainCutMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainResidualMin_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualMax_ = new double[numberOfWeigthHypothesis_];
+    StrainResidualCut_ = new double[numberOfWeigthHypothesis_];
+    MatrixStiffness_ = new double [nd * matrixWidthBand_];
+    WeightElement_ = new double[numberOfElements_][8];
+    cbi= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    cbj= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
+    PQ= new double [nd][numberOfWeigthHypothesis_];
+    Reaction_= new double [nd][numberOfWeigthHypothesis_];
+    AxialForcei_ = new double[numberOfElements_];
+    AxialForcej_ = new double[numberOfElements_];
+
+    omegaMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    NxxMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    NxxMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    MxzMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    MxzMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    MxyMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    MxyMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainNxxMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainNxxMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMxzMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMxzMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMxyMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    StrainMxyMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+  }
+
+  private void computeObjectives(DoubleSolution solution) {
 
     int hi=0;
     double [] fx = new double[getNumberOfObjectives()] ; // functions
@@ -1018,10 +1188,6 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
       }
     }
 
-    numberOfEval_++;
-
-    if((numberOfEval_ % 1000) == 0) System.out.println(numberOfEval_);
-
     //  END OBJETIVES FUNCTION
 
     // maximizing the function objective ------------------------
@@ -1050,15 +1216,9 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 */
     // END NOT USED ------------------------------------------------------------------------------
 
-  } // evaluate
+  } // computeObjectives
 
-  /**
-   * Evaluates the constraint overhead of a solution
-   * @param solution The solution
-   * @throws JMetalException
-   */
-  @Override
-  public void evaluateConstraints(DoubleSolution solution) {
+  private void computeConstraints(DoubleSolution solution) {
     double [] constraint = new double[this.getNumberOfConstraints()];
     double[] x = new double[getNumberOfVariables()] ;
 
@@ -1285,7 +1445,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     //solution.setOverallConstraintViolationDegree(total);
     //solution.setNumberOfViolatedConstraint(number);
 
-  } // evaluateConstraints
+  } // computeConstraints
 
   public void EBEsElementsTopology(DoubleSolution solution) throws JMetalException{
     // asignaciÃƒÂ³n de las variables para cada grupo
@@ -1419,10 +1579,10 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
         WeightElement_[el][Qb_] = 0.0;
       }
 
-      Qi = new double[numberOfLibertyDegree_];
-      Qj = new double[numberOfLibertyDegree_];
-      pi = new double[numberOfLibertyDegree_];
-      pj = new double[numberOfLibertyDegree_];
+      Arrays.fill(Qi, 0.0);
+      Arrays.fill(Qj, 0.0);
+      Arrays.fill(pi, 0.0);
+      Arrays.fill(pj, 0.0);
 
       EBEsWeightDistributedUniformly(el, WeightElement_[el]);
 
@@ -1465,47 +1625,31 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   public void EBEsCalculus() throws JMetalException{
     //  Module de calc
 
-    // Effort in boundary element
-    Efforti_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    Effortj_ = new double[numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-
-    // corrimientos y rotaciones de los nudos por hipÃƒÂ³tesis de cargas
-    DisplacementNodes_= new double[numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
-
-    // Strain in extrem i por hipÃƒÂ³tesis de cargas
-    Straini_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
-    // Strain in extrem j  por hipÃƒÂ³tesis de cargas
-    Strainj_ = new double[3][numberOfElements_][numberOfWeigthHypothesis_];
-    // Strain minimun por hipÃƒÂ³tesis de cargas
-    // StrainMin_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
+    // the matrices are allocated once by allocateWorkspace() and cleared here
+    clear(Efforti_);
+    clear(Effortj_);
+    clear(DisplacementNodes_);
+    clear(Straini_);
+    clear(Strainj_);
+    // the strains of the previous calculus are kept
+    double [][]aux = OldStrainMin_;
     OldStrainMin_ = StrainMin_;
-    StrainMin_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    // Strain maximus  por hipÃƒÂ³tesis de cargas
-    // StrainMax_ = new double[2][numberOfElements_][numberOfWeigthHypothesis_];
+    StrainMin_ = aux;
+    clear(StrainMin_);
+    aux = OldStrainMax_;
     OldStrainMax_ = StrainMax_;
-    StrainMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    // stress tangencial mamimun
-    StrainCutMax_ = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    // Negative Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualMin_ = new double[numberOfWeigthHypothesis_];
-    // Positive Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualMax_ = new double[numberOfWeigthHypothesis_];
-    // Cut Strain residual  por hipÃƒÂ³tesis de cargas
-    StrainResidualCut_ = new double[numberOfWeigthHypothesis_];
-
-    MatrixStiffness_ = new double [numberOfLibertyDegree_* numberOfLibertyDegree_* numberOfNodes *(elementsBetweenDiffGreat_+1)];
-
-    // load inself witch element
-    WeightElement_ = new double[numberOfElements_][8];
-
-    //variables load in extrem of beams
-    cbi= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-    cbj= new double [numberOfLibertyDegree_][numberOfElements_][numberOfWeigthHypothesis_];
-
-    // total equivalent load nodes in all structure witch load on elements and load nodes
-    PQ= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
-
-    Reaction_= new double [numberOfLibertyDegree_* numberOfNodes][numberOfWeigthHypothesis_];
+    StrainMax_ = aux;
+    clear(StrainMax_);
+    clear(StrainCutMax_);
+    Arrays.fill(StrainResidualMin_, 0.0);
+    Arrays.fill(StrainResidualMax_, 0.0);
+    Arrays.fill(StrainResidualCut_, 0.0);
+    Arrays.fill(MatrixStiffness_, 0.0);
+    clear(WeightElement_);
+    clear(cbi);
+    clear(cbj);
+    clear(PQ);
+    clear(Reaction_);
 
     EBEsWeightNodes();
 
@@ -1563,10 +1707,10 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     // cÃƒÂ¡lculo de las tensiones, por barra calculo en los extremos
     // faltarÃƒÂ­a calcular en los tramos y quedarme con el mÃƒÂ¡ximo
     // tensiones en i
-    Straini_=EBEsStrainNode(Efforti_);
+    EBEsStrainNode(Efforti_, Straini_);
 
     // tensiones en extriemo j
-    Strainj_=EBEsStrainNode(Effortj_);
+    EBEsStrainNode(Effortj_, Strainj_);
 
     // tensiones mÃƒÂ¡ximas en cada barra
     // EBEsStrainMaxWhitElement();
@@ -1587,9 +1731,6 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
   public void EBEsAssignAxialForces(int hi){
 
-    AxialForcei_ = new double[numberOfElements_];
-    AxialForcej_ = new double[numberOfElements_];
-
     for(int el=0;el<numberOfElements_;el++){
       AxialForcei_[el] = Efforti_[aX_][el][hi];
       AxialForcej_[el] = Effortj_[aX_][el][hi];
@@ -1599,9 +1740,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   public void EBEsSteelingResults(int hi){
 
     // stiffness matrix steeling
-    for(int m = 0; m<numberOfLibertyDegree_* numberOfLibertyDegree_* numberOfNodes *(elementsBetweenDiffGreat_+1); m++){
-      MatrixStiffness_[m] = 0.0;
-    }
+    Arrays.fill(MatrixStiffness_, 0.0);
 
     // corrimientos y rotaciones de los nudos por hipÃƒÂ³tesis de cargas
     for(int no = 0; no<numberOfLibertyDegree_* numberOfNodes; no++){
@@ -1663,10 +1802,10 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
       if(lSecondOrderGeometric && countIter==1){
         EBEsMat3DL_SOG(el);
-        Kii=EBEsMatrixAdd(Kii, KiiSOG);
-        Kij=EBEsMatrixAdd(Kij, KijSOG);
-        Kji=EBEsMatrixAdd(Kji, KjiSOG);
-        Kjj=EBEsMatrixAdd(Kjj, KjjSOG);
+        addTo(Kii, KiiSOG);
+        addTo(Kij, KijSOG);
+        addTo(Kji, KjiSOG);
+        addTo(Kjj, KjjSOG);
       }
 
       // matriz de rotaciÃƒÂ³n de ejes principales de secciÃƒÂ³n a ejes locales (xp,yp)
@@ -1778,10 +1917,10 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     //bucle para todas las barras cargadas
     for(int i = 0; i< numberOfWeigthsElements_;i++){
 
-      Qi = new double[numberOfLibertyDegree_];
-      Qj = new double[numberOfLibertyDegree_];
-      pi = new double[numberOfLibertyDegree_];
-      pj = new double[numberOfLibertyDegree_];
+      Arrays.fill(Qi, 0.0);
+      Arrays.fill(Qj, 0.0);
+      Arrays.fill(pi, 0.0);
+      Arrays.fill(pj, 0.0);
       //int hi = (int)OverloadInElement_[nQ][QH_];
       // load element
       int el = (int)OverloadInElement_[i][QE_];
@@ -1846,7 +1985,6 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
     int vi, vj;
     double xi, xj, yi, yj, zi, zj;
-    double [][]R = new double [numberOfLibertyDegree_][numberOfLibertyDegree_];
 
     //longitud de la barra en coordenadas locales
     // double lij = Math.sqrt(Math.pow((xj - xi), 2.0) + Math.pow((yj - yi), 2.0) + Math.pow((zj - zi), 2.0));
@@ -2146,13 +2284,13 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
     //para el extremo ii
     //pi = (Rpij * Rij) * Qi
-    R = EBEsMatrizMultiplicar(Rpij, Rij);
-    pi = EBEsMatrizVectorMultiplicar(R, Qi);
+    multiply(Rpij, Rij, auxR);
+    multiply(auxR, Qi, pi);
 
     //para el extremo jj
     //pj = ( Rpji * Rji) * Qj
-    R = EBEsMatrizMultiplicar(Rpji, Rji);
-    pj= EBEsMatrizVectorMultiplicar(R, Qj);
+    multiply(Rpji, Rji, auxR);
+    multiply(auxR, Qj, pj);
   }
 
   public void EBEsMatRot3DLpSaL(int e){
@@ -2209,7 +2347,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     Rpij[5][3] = lz; Rpij[5][4] = mz; Rpij[5][5] = nz;
 
     //trasponer la matriz de rotaciÃƒÂ³n
-    RpTij = EBEsMatrizTraspuesta(Rpij);
+    transpose(Rpij, RpTij);
 
     //para el nudo j de la barra ij
     lx = 1.0;
@@ -2242,7 +2380,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     Rpji[5][3] = lz; Rpji[5][4] = mz; Rpji[5][5] = nz;
 
     //trasponer la matriz de rotaciÃƒÂ³n
-    RpTji = EBEsMatrizTraspuesta(Rpji);
+    transpose(Rpji, RpTji);
 
   }
 
@@ -2296,6 +2434,13 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
           continue; // Salto3;
         }
         t = MatrixStiffness_[l5 - 1] / MatrixStiffness_[s1 - 1];
+        if(t == 0.0){
+          // the band is sparse, as each node is only linked to a few others,
+          // and the rows without coupling are not modified
+          ln = ln + 1;
+          l5 = l5 + 1;
+          continue;
+        }
         l6 = (ln - 1) * matrixWidthBand_ + 1;
         s2 = s1 + j - 1;
         for(r = j; r<matrixWidthBand_+1; r++){
@@ -3291,7 +3436,7 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     Rij[5][3] = lz; Rij[5][4] = mz; Rij[5][5] = nz;
 
     // trasponer la matriz de rotaciÃƒÂ³n
-    RTij = EBEsMatrizTraspuesta(Rij);
+    transpose(Rij, RTij);
 
     // matriz de rotaciÃƒÂ³n de desplazamientos locales a ejes globales XYZ si los ejes principales de la
     // secciÃƒÂ³n "yp,zp" coinciden con los ejes locales "y,z" de la barra
@@ -3314,44 +3459,40 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     Rji[5][3]= lz; Rji[5][4]= mz; Rji[5][5]= nz;
 
     // trasponer la matriz de rotaciÃƒÂ³n
-    RTji=EBEsMatrizTraspuesta(Rji);
+    transpose(Rji, RTji);
 
   }
 
   public void EBEsMat3DGij() throws JMetalException{
     // CONSTRUYE LA MATRIZ DE RIGIDEZ DE UNA BARRA EN COORDENADAS GLOBALES
 
-    double [][]r=new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-    double [][]s=new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-    double [][]t=new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-
     // para el extremo ii
     // KGii = RTij * RpTij * KjjSOGSOGSOG * Rpij * Rij
-    r=EBEsMatrizMultiplicar(Rpij, Rij);
-    s=EBEsMatrizMultiplicar(Kii, r);
-    t=EBEsMatrizMultiplicar(RpTij, s);
-    KGii=EBEsMatrizMultiplicar(RTij, t);
+    multiply(Rpij, Rij, auxR);
+    multiply(Kii, auxR, auxS);
+    multiply(RpTij, auxS, auxT);
+    multiply(RTij, auxT, KGii);
 
     // para el extremo ij
     // KGij = RTij * RpTij * Kij * Rpji * Rji
-    r=EBEsMatrizMultiplicar(Rpji, Rji);
-    s=EBEsMatrizMultiplicar(Kij, r);
-    t=EBEsMatrizMultiplicar(RpTij, s);
-    KGij=EBEsMatrizMultiplicar(RTij, t);
+    multiply(Rpji, Rji, auxR);
+    multiply(Kij, auxR, auxS);
+    multiply(RpTij, auxS, auxT);
+    multiply(RTij, auxT, KGij);
 
     // para el extremo ji
     // KGji = RTji * RpTji * Kji * Rpij * Rij
-    r=EBEsMatrizMultiplicar(Rpij, Rij);
-    s=EBEsMatrizMultiplicar(Kji, r);
-    t=EBEsMatrizMultiplicar(RpTji, s);
-    KGji=EBEsMatrizMultiplicar(RTji, t);
+    multiply(Rpij, Rij, auxR);
+    multiply(Kji, auxR, auxS);
+    multiply(RpTji, auxS, auxT);
+    multiply(RTji, auxT, KGji);
 
     // para el extremo jj
     // KGjj = RTji * RpTji * Kjj* Rpji * Rji
-    r=EBEsMatrizMultiplicar(Rpji, Rji);
-    s=EBEsMatrizMultiplicar(Kjj, r);
-    t=EBEsMatrizMultiplicar(RpTji, s);
-    KGjj=EBEsMatrizMultiplicar(RTji, t);
+    multiply(Rpji, Rji, auxR);
+    multiply(Kjj, auxR, auxS);
+    multiply(RpTji, auxS, auxT);
+    multiply(RTji, auxT, KGjj);
 
   } // end module
 
@@ -3552,6 +3693,59 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
   } // end module
 
+  // products of the matrices of the elements into given matrices, which avoid allocating
+  // new ones for each element
+
+  private static void multiply(double [][]s, double[][]t, double[][]r){
+    for(int f=0; f<s.length; f++){
+      for(int c=0; c<s[f].length; c++){
+        double sum = 0;
+        for(int q=0; q<s[f].length; q++){
+          sum = sum + s[f][q] * t[q][c];
+        }
+        r[f][c] = sum;
+      }
+    }
+  }
+
+  private static void multiply(double [][]s, double[]t, double[]r){
+    for(int f=0; f<s.length; f++){
+      double sum = 0;
+      for(int c=0; c<t.length; c++){
+        sum = sum + s[f][c] * t[c];
+      }
+      r[f] = sum;
+    }
+  }
+
+  private static void transpose(double [][]m, double[][]mt){
+    for(int i = 0; i< m.length; i++){
+      for(int j = 0; j< m[i].length; j++){
+        mt[j][i] = m[i][j];
+      }
+    }
+  }
+
+  private static void addTo(double [][]s, double[][]t){
+    for(int f=0; f<s.length; f++){
+      for(int c=0; c<t.length; c++){
+        s[f][c] = s[f][c] + t[f][c];
+      }
+    }
+  }
+
+  private static void clear(double [][]m){
+    for(double []row : m){
+      Arrays.fill(row, 0.0);
+    }
+  }
+
+  private static void clear(double [][][]m){
+    for(double [][]matrix : m){
+      clear(matrix);
+    }
+  }
+
   public void EBEsNodesEquilibrium3D(int hi) throws JMetalException{
 
     for(int ba=0; ba<Element_.length;ba++){
@@ -3627,20 +3821,14 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
       if(lSecondOrderGeometric && countIter==1){
         EBEsMat3DL_SOG(ba);
-        Kii=EBEsMatrixAdd(Kii, KiiSOG);
-        Kij=EBEsMatrixAdd(Kij, KijSOG);
-        Kji=EBEsMatrixAdd(Kji, KjiSOG);
-        Kjj=EBEsMatrixAdd(Kjj, KjjSOG);
+        addTo(Kii, KiiSOG);
+        addTo(Kij, KijSOG);
+        addTo(Kji, KjiSOG);
+        addTo(Kjj, KjjSOG);
       }
 
-      double [][] r  = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-      double [][] s  = new double[numberOfLibertyDegree_][numberOfLibertyDegree_];
-      double   []di  = new double[numberOfLibertyDegree_];
-      double   []dj  = new double[numberOfLibertyDegree_];
-      double   []eii = new double[numberOfLibertyDegree_];
-      double   []eij = new double[numberOfLibertyDegree_];
-      double   []eji = new double[numberOfLibertyDegree_];
-      double   []ejj = new double[numberOfLibertyDegree_];
+      double   []di  = auxDi;
+      double   []dj  = auxDj;
 
       // matriz de rotaciÃƒÂ³n de la barra del sistema principal al local
       EBEsMatRot3DLpSaL(ba);
@@ -3657,31 +3845,34 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
 
       // para el extremo ii
       // eii = (Kii * Rpij * Rij) * Di
-      r=EBEsMatrizMultiplicar(Rpij, Rij);
-      s=EBEsMatrizMultiplicar(Kii, r);
-      eii=EBEsMatrizVectorMultiplicar(s, di);
+      multiply(Rpij, Rij, auxR);
+      multiply(Kii, auxR, auxS);
+      multiply(auxS, di, auxEi);
 
       // para el extremo ij
       // eij = (Kij * Rpji * Rji) * Dj
-      r=EBEsMatrizMultiplicar(Rpji, Rji);
-      s=EBEsMatrizMultiplicar(Kij, r);
-      eij=EBEsMatrizVectorMultiplicar(s, dj);
+      multiply(Rpji, Rji, auxR);
+      multiply(Kij, auxR, auxS);
+      multiply(auxS, dj, auxEj);
+
+      for(i=0; i<numberOfLibertyDegree_; i++){
+        Efforti_[i][ba][hi] = auxEi[i] + auxEj[i];
+      } //i
 
       // para el extremo ji
       // eji =(Kji * Rpij * Rij) * Di
-      r=EBEsMatrizMultiplicar(Rpij, Rij);
-      s=EBEsMatrizMultiplicar(Kji, r);
-      eji=EBEsMatrizVectorMultiplicar(s, di);
+      multiply(Rpij, Rij, auxR);
+      multiply(Kji, auxR, auxS);
+      multiply(auxS, di, auxEi);
 
       // para el extremo jj
       // ejj= (Kjj * Rpji * Rji) * Dj
-      r=EBEsMatrizMultiplicar(Rpji, Rji);
-      s=EBEsMatrizMultiplicar(Kjj, r);
-      ejj=EBEsMatrizVectorMultiplicar(s, dj);
+      multiply(Rpji, Rji, auxR);
+      multiply(Kjj, auxR, auxS);
+      multiply(auxS, dj, auxEj);
 
       for(i=0; i<numberOfLibertyDegree_; i++){
-        Efforti_[i][ba][hi] = eii[i] + eij[i];
-        Effortj_[i][ba][hi] = eji[i] + ejj[i];
+        Effortj_[i][ba][hi] = auxEi[i] + auxEj[i];
       } //i
     }// ba
   } // end module
@@ -3742,11 +3933,20 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
   }
 
   public double [][][]EBEsStrainNode(double [][][]E) throws JMetalException{
+    return EBEsStrainNode(E, new double [3][numberOfElements_][numberOfWeigthHypothesis_]);
+  }
+
+  /**
+   * Calculates the strains in an extreme of the elements in a given matrix
+   * @param E Efforts in the extreme of the elements
+   * @param Strain Matrix of the strains, which is cleared before the calculus
+   * @return The matrix of the strains
+   */
+  public double [][][]EBEsStrainNode(double [][][]E, double [][][]Strain) throws JMetalException{
 
     // [0]: TensiÃƒÂ³n normal de compresiÃƒÂ³n
     // [1]: TensiÃƒÂ³n normal de tracciÃƒÂ³n
     // [2]: TensiÃƒÂ³n tangencial
-    double [][][]Strain = new double [3][numberOfElements_][numberOfWeigthHypothesis_];
     double z, y;
     //double ez, ey;
     double  A, Iz, Iy, It;
@@ -3759,19 +3959,20 @@ public class Ebes extends AbstractDoubleProblem implements ConstrainedProblem<Do
     double y1, z1, S1, S2, S3, S4;
     double Ay, Az;
 
-    omegaMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    NxxMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    NxxMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    MxzMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    MxzMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    MxyMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    MxyMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    StrainNxxMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    StrainNxxMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    StrainMxzMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    StrainMxzMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    StrainMxyMin_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
-    StrainMxyMax_  = new double[numberOfGroupElements_][numberOfWeigthHypothesis_];
+    clear(Strain);
+    clear(omegaMax_);
+    clear(NxxMin_);
+    clear(NxxMax_);
+    clear(MxzMin_);
+    clear(MxzMax_);
+    clear(MxyMin_);
+    clear(MxyMax_);
+    clear(StrainNxxMin_);
+    clear(StrainNxxMax_);
+    clear(StrainMxzMin_);
+    clear(StrainMxzMax_);
+    clear(StrainMxyMin_);
+    clear(StrainMxyMax_);
 
     // ver CÃƒÂ¡lculo de estructuras VIII.35
     for(int hi=0; hi<numberOfWeigthHypothesis_; hi++){
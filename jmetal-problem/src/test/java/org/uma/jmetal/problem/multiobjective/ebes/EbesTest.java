@@ -0,0 +1,75 @@
+package org.uma.jmetal.problem.multiobjective.ebes;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class EbesTest {
+  private static final String FILE_NAME = "ebes/Mobile_Bridge_25N_35B_8G_16OrdZXY.ebe" ;
+  private static final String[] OBJECTIVES = {"W", "D", "ENS"} ;
+
+  @Test
+  public void shouldTheConcurrentEvaluationsGiveTheSameResultsAsTheSequentialOnes() throws Exception {
+    Ebes sequentialProblem = new Ebes(FILE_NAME, OBJECTIVES) ;
+    Ebes concurrentProblem = new Ebes(FILE_NAME, OBJECTIVES) ;
+
+    int numberOfSolutions = 40 ;
+    List<DoubleSolution> sequentialSolutions = new ArrayList<>(numberOfSolutions) ;
+    List<DoubleSolution> concurrentSolutions = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      DoubleSolution solution = sequentialProblem.createSolution() ;
+      sequentialSolutions.add(solution) ;
+      concurrentSolutions.add((DoubleSolution) solution.copy()) ;
+    }
+
+    for (DoubleSolution solution : sequentialSolutions) {
+      sequentialProblem.evaluate(solution);
+      sequentialProblem.evaluateConstraints(solution);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4) ;
+    List<Future<?>> futures = new ArrayList<>(numberOfSolutions) ;
+    for (DoubleSolution solution : concurrentSolutions) {
+      futures.add(executor.submit(() -> {
+        concurrentProblem.evaluate(solution);
+        concurrentProblem.evaluateConstraints(solution);
+      })) ;
+    }
+    for (Future<?> future : futures) {
+      future.get() ;
+    }
+    executor.shutdown();
+
+    for (int i = 0; i < numberOfSolutions; i++) {
+      for (int j = 0; j < sequentialProblem.getNumberOfObjectives(); j++) {
+        assertEquals(sequentialSolutions.get(i).getObjective(j),
+            concurrentSolutions.get(i).getObjective(j), 0.0) ;
+      }
+      assertEquals(sequentialProblem.overallConstraintViolationDegree.getAttribute(sequentialSolutions.get(i)),
+          concurrentProblem.overallConstraintViolationDegree.getAttribute(concurrentSolutions.get(i)), 0.0) ;
+    }
+
+    assertEquals(numberOfSolutions + 1, concurrentProblem.numberOfEval_.get()) ;
+  }
+
+  @Test
+  public void shouldTheEvaluationsBeCounted() throws FileNotFoundException {
+    Ebes problem = new Ebes(FILE_NAME, OBJECTIVES) ;
+    for (int i = 0; i < 1000; i++) {
+      problem.evaluate(problem.createSolution());
+    }
+
+    assertEquals(1001, problem.numberOfEval_.get()) ;
+  }
+}